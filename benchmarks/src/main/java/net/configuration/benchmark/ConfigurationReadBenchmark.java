@@ -0,0 +1,68 @@
+package net.configuration.benchmark;
+
+import net.configuration.config.Configuration;
+import net.configuration.config.FileConfiguration;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the primitive getters with defaults like {@link Configuration#getInt(String, int)} to the getters that
+ * return an optional. Run with -prof gc: the primitive getters should report a gc.alloc.rate.norm of about 0 B/op for
+ * all configuration types, while the optional getters allocate for the configurations that do not cache their values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigurationReadBenchmark {
+
+    @Param({"properties", "txt", "bin", "data", "json", "xml"})
+    public String extension;
+
+    private Path file;
+    private Configuration config;
+
+    @Setup
+    public void setup() throws IOException {
+        this.file = Files.createTempFile("benchmark", "." + this.extension);
+        if(this.extension.equals("json"))
+            Files.writeString(this.file, "{}", StandardCharsets.UTF_8);
+
+        FileConfiguration config = FileConfiguration.loadConfig(this.file.toFile());
+        config.setInt("port", 25565);
+        config.setLong("seed", 123456789012L);
+        config.setDouble("ratio", 0.75);
+        config.setBoolean("debug", true);
+        config.save();
+        config.reload();
+        this.config = config;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    @Benchmark
+    public long primitive(){
+        long sum = this.config.getInt("port", 0);
+        sum += this.config.getLong("seed", 0L);
+        sum += (long) this.config.getDouble("ratio", 0.0);
+        return this.config.getBoolean("debug", false) ? sum : -sum;
+    }
+
+    @Benchmark
+    public long optional(){
+        long sum = this.config.getInt("port").orElse(0);
+        sum += this.config.getLong("seed").orElse(0L);
+        sum += this.config.getDouble("ratio").orElse(0.0).longValue();
+        return this.config.getBoolean("debug").orElse(false) ? sum : -sum;
+    }
+}
@@ -0,0 +1,47 @@
+package net.configuration.benchmark;
+
+import net.configuration.serializable.api.SerializableType;
+import net.configuration.serializable.api.SerializedObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the unnamed field accessors like {@link SerializedObject#getInt()}, which resolve the field name through the
+ * per-class layout and the positional cursor of the serialized object. Run with -prof gc to see the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldCursorBenchmark {
+
+    @Param({"BINARY", "JSON"})
+    public SerializableType type;
+
+    private Point point;
+    private SerializedObject written;
+
+    @Setup
+    public void setup(){
+        this.point = new Point(42L, 1, -2, 3, 0.5, "point");
+        this.written = this.type.createEmpty(Point.class);
+        this.point.write(this.written);
+        this.written.flush();
+    }
+
+    @Benchmark
+    public SerializedObject write(){
+        SerializedObject obj = this.type.createEmpty(Point.class);
+        this.point.write(obj);
+        return obj;
+    }
+
+    @Benchmark
+    public Point read(){
+        this.written.flush();
+        return new Point().read(this.written);
+    }
+}
@@ -0,0 +1,49 @@
+package net.configuration.benchmark;
+
+import net.configuration.serializable.api.Creator;
+import net.configuration.serializable.api.GenerateSerialization;
+import net.configuration.serializable.api.SerializableObject;
+import net.configuration.serializable.api.SerializationAPI;
+import net.configuration.serializable.api.SerializedObject;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The same fields as {@link Point}, but the write and read code is generated at compile time.
+ */
+@GenerateSerialization
+public class GeneratedPoint implements SerializableObject {
+
+    @SerializationAPI
+    @SuppressWarnings("unused")
+    private static final Creator<GeneratedPoint> CREATOR = GeneratedPointSerialization.CREATOR;
+
+    long id;
+    int x;
+    int y;
+    int z;
+    double weight;
+    boolean visible;
+    String name;
+
+    GeneratedPoint(){}
+
+    public GeneratedPoint(long id, int x, int y, int z, double weight, @NotNull String name){
+        this.id = id;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.weight = weight;
+        this.visible = true;
+        this.name = name;
+    }
+
+    @Override
+    public void write(@NotNull SerializedObject dest) {
+        GeneratedPointSerialization.write(this, dest);
+    }
+
+    @Override
+    public @NotNull GeneratedPoint read(@NotNull SerializedObject src) {
+        return GeneratedPointSerialization.read(this, src);
+    }
+}
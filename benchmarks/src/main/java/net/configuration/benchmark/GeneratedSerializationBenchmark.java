@@ -0,0 +1,68 @@
+package net.configuration.benchmark;
+
+import net.configuration.serializable.api.SerializableType;
+import net.configuration.serializable.api.SerializedObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hand written unnamed accessors of {@link Point} with the named accessors generated for
+ * {@link GeneratedPoint} by the annotation processor.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratedSerializationBenchmark {
+
+    @Param({"BINARY", "JSON"})
+    public SerializableType type;
+
+    private Point point;
+    private GeneratedPoint generated;
+    private SerializedObject writtenPoint;
+    private SerializedObject writtenGenerated;
+
+    @Setup
+    public void setup(){
+        this.point = new Point(42L, 1, -2, 3, 0.5, "point");
+        this.generated = new GeneratedPoint(42L, 1, -2, 3, 0.5, "point");
+
+        this.writtenPoint = this.type.createEmpty(Point.class);
+        this.point.write(this.writtenPoint);
+        this.writtenPoint.flush();
+
+        this.writtenGenerated = this.type.createEmpty(GeneratedPoint.class);
+        this.generated.write(this.writtenGenerated);
+        this.writtenGenerated.flush();
+    }
+
+    @Benchmark
+    public SerializedObject writeHandWritten(){
+        SerializedObject obj = this.type.createEmpty(Point.class);
+        this.point.write(obj);
+        return obj;
+    }
+
+    @Benchmark
+    public SerializedObject writeGenerated(){
+        SerializedObject obj = this.type.createEmpty(GeneratedPoint.class);
+        this.generated.write(obj);
+        return obj;
+    }
+
+    @Benchmark
+    public Point readHandWritten(){
+        this.writtenPoint.flush();
+        return new Point().read(this.writtenPoint);
+    }
+
+    @Benchmark
+    public GeneratedPoint readGenerated(){
+        this.writtenGenerated.flush();
+        return new GeneratedPoint().read(this.writtenGenerated);
+    }
+}
@@ -0,0 +1,60 @@
+package net.configuration.benchmark;
+
+import net.configuration.serializable.api.Creator;
+import net.configuration.serializable.api.SerializableObject;
+import net.configuration.serializable.api.SerializationAPI;
+import net.configuration.serializable.api.SerializedObject;
+import net.configuration.serializable.impl.SimpleCreatorImpl;
+import org.jetbrains.annotations.NotNull;
+
+public class Point implements SerializableObject {
+
+    @SerializationAPI
+    @SuppressWarnings("unused")
+    private static final Creator<Point> CREATOR = new SimpleCreatorImpl<>(Point.class);
+
+    private long id;
+    private int x;
+    private int y;
+    private int z;
+    private double weight;
+    private boolean visible;
+    private String name;
+
+    @SuppressWarnings("unused")
+    Point(){}
+
+    public Point(long id, int x, int y, int z, double weight, @NotNull String name){
+        this.id = id;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.weight = weight;
+        this.visible = true;
+        this.name = name;
+    }
+
+    @Override
+    public void write(@NotNull SerializedObject dest) {
+        dest.setLong(id);
+        dest.setInt(x);
+        dest.setInt(y);
+        dest.setInt(z);
+        dest.setDouble(weight);
+        dest.setBoolean(visible);
+        dest.setString(name);
+    }
+
+    @Override
+    public @NotNull Point read(@NotNull SerializedObject src) {
+        id = src.getLong().orElse(-1L);
+        x = src.getInt().orElse(0);
+        y = src.getInt().orElse(0);
+        z = src.getInt().orElse(0);
+        weight = src.getDouble().orElse(0D);
+        visible = src.getBoolean().orElse(false);
+        name = src.getString().orElse("");
+
+        return this;
+    }
+}
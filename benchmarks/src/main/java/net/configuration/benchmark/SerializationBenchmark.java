@@ -0,0 +1,78 @@
+package net.configuration.benchmark;
+
+import net.configuration.benchmark.fixture.Fixture;
+import net.configuration.serializable.api.Creator;
+import net.configuration.serializable.api.SerializableObject;
+import net.configuration.serializable.api.SerializableType;
+import net.configuration.serializable.api.SerializedObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the round trip of every file based {@link SerializableType} for each {@link Fixture}. The SQL type is not
+ * part of the matrix, because it requires a running database. The encoded bytes are produced and read through the
+ * stream API, because that is what the file configurations use and not every type supports toByteArray(). Run with
+ * -prof gc to see the allocation rate, e.g.
+ * <pre>
+ *     java -jar target/benchmarks.jar SerializationBenchmark -p fixture=NESTED -prof gc
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"BYTE", "BINARY", "JSON", "YAML", "XML", "TEXT", "PROPERTIES"})
+    public SerializableType type;
+
+    @Param({"FLAT", "NESTED", "PRIMITIVE_LISTS", "PRIMITIVE_ARRAYS", "MAP"})
+    public Fixture fixture;
+
+    private SerializableObject value;
+    private Creator<? extends SerializableObject> creator;
+    private SerializedObject written;
+    private ByteArrayOutputStream out;
+    private byte[] data;
+
+    @Setup
+    public void setup(){
+        this.value = this.fixture.create();
+        this.creator = Creator.getCreator(this.fixture.getType());
+        this.written = this.serialize();
+        this.out = new ByteArrayOutputStream();
+        this.data = this.writeToStream();
+    }
+
+    @Benchmark
+    public SerializedObject serialize(){
+        SerializedObject obj = this.type.createEmpty(this.fixture.getType());
+        this.value.write(obj);
+        obj.flush();
+        return obj;
+    }
+
+    @Benchmark
+    public byte[] toByteArray(){
+        return this.written.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeToStream(){
+        this.out.reset();
+        this.written.writeToStream(this.out);
+        return this.out.toByteArray();
+    }
+
+    @Benchmark
+    public SerializableObject deserialize(){
+        ByteArrayInputStream in = new ByteArrayInputStream(this.data);
+        SerializedObject obj = SerializedObject.readFromStream(this.type, this.fixture.getType(), in);
+        return this.creator.read(obj);
+    }
+}
@@ -0,0 +1,43 @@
+package net.configuration.benchmark.fixture;
+
+import net.configuration.benchmark.Point;
+import net.configuration.serializable.api.SerializableObject;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Supplier;
+
+/**
+ * The workloads that are serialized in the benchmarks.
+ */
+public enum Fixture {
+
+    FLAT(Point.class, () -> new Point(42L, 1, -2, 3, 0.5, "point")),
+    NESTED(Nested.class, () -> new Nested(8)),
+    PRIMITIVE_LISTS(PrimitiveLists.class, () -> new PrimitiveLists(10_000)),
+    PRIMITIVE_ARRAYS(PrimitiveArrays.class, () -> new PrimitiveArrays(10_000)),
+    MAP(MapHolder.class, () -> new MapHolder(1_000));
+
+    @NotNull private final Class<? extends SerializableObject> type;
+    @NotNull private final Supplier<SerializableObject> factory;
+
+    Fixture(@NotNull Class<? extends SerializableObject> type, @NotNull Supplier<SerializableObject> factory){
+        this.type = type;
+        this.factory = factory;
+    }
+
+    /**
+     * @return The class of the fixture object.
+     */
+    @NotNull
+    public Class<? extends SerializableObject> getType(){
+        return this.type;
+    }
+
+    /**
+     * @return A new instance of the fixture object.
+     */
+    @NotNull
+    public SerializableObject create(){
+        return this.factory.get();
+    }
+}
@@ -0,0 +1,45 @@
+package net.configuration.benchmark.fixture;
+
+import net.configuration.serializable.api.*;
+import net.configuration.serializable.impl.SimpleCreatorImpl;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A single map with integer keys and string values.
+ */
+public class MapHolder implements SerializableObject {
+
+    @SerializationAPI
+    @SuppressWarnings("unused")
+    private static final Creator<MapHolder> CREATOR = new SimpleCreatorImpl<>(MapHolder.class);
+
+    private Map<Integer, String> map;
+
+    @SuppressWarnings("unused")
+    private MapHolder(){}
+
+    /**
+     * @param size The amount of entries in the map.
+     */
+    public MapHolder(int size){
+        this.map = new HashMap<>(size * 2);
+        for(int i = 0; i < size; i++){
+            this.map.put(i, "value-" + i);
+        }
+    }
+
+    @Override
+    public void write(@NotNull SerializedObject dest) {
+        dest.setMap("map", map);
+    }
+
+    @Override
+    public @NotNull MapHolder read(@NotNull SerializedObject src) {
+        map = src.getMap("map", Integer.class, String.class).orElse(new HashMap<>());
+
+        return this;
+    }
+}
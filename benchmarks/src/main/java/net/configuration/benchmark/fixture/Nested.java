@@ -0,0 +1,70 @@
+package net.configuration.benchmark.fixture;
+
+import net.configuration.serializable.api.*;
+import net.configuration.serializable.impl.SimpleCreatorImpl;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A chain of nested objects, each mixing named and unnamed fields, a string list, an enum and an array like the
+ * complex test object.
+ */
+public class Nested implements SerializableObject {
+
+    @SerializationAPI
+    @SuppressWarnings("unused")
+    private static final Creator<Nested> CREATOR = new SimpleCreatorImpl<>(Nested.class);
+
+    public enum Kind { LEAF, NODE }
+
+    private int intValue;
+    private float e;
+    private boolean boolValue;
+    private Kind kind;
+    private List<String> list;
+    private Nested child;
+    private Byte[] array;
+
+    @SuppressWarnings("unused")
+    private Nested(){}
+
+    /**
+     * @param depth The amount of nested objects including this one.
+     */
+    public Nested(int depth){
+        this.intValue = 9 * depth;
+        this.e = 2.78F;
+        this.boolValue = true;
+        this.kind = depth > 1 ? Kind.NODE : Kind.LEAF;
+        this.list = List.of("I", "am", "a", "list", "of", "strings");
+        this.child = depth > 1 ? new Nested(depth - 1) : null;
+        this.array = new Byte[]{1, 2, 3, 4, 6};
+    }
+
+    @Override
+    public void write(@NotNull SerializedObject dest) {
+        dest.setInt(intValue);
+        dest.setFloat(e);
+        dest.setBoolean("boolValue", boolValue);
+        dest.setEnum(kind);
+        dest.setStringList(list);
+        dest.setObject("child", child);
+        dest.setArray("array", array);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull Nested read(@NotNull SerializedObject src) {
+        intValue = src.getInt().orElse(-1);
+        e = src.getFloat().orElse(-1F);
+        boolValue = src.getBoolean("boolValue").orElse(false);
+        kind = src.<Kind>getEnum(Kind.class).orElse(null);
+        list = (List<String>) src.getStringList().orElse(new ArrayList<>());
+        child = src.getObject("child", Nested.class).orElse(null);
+        array = src.getArray("array", Byte.class).orElse(new Byte[0]);
+
+        return this;
+    }
+}
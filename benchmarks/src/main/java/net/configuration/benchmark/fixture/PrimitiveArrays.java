@@ -0,0 +1,52 @@
+package net.configuration.benchmark.fixture;
+
+import net.configuration.serializable.api.*;
+import net.configuration.serializable.impl.SimpleCreatorImpl;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The same values as {@link PrimitiveLists}, but written through the unboxed primitive array methods.
+ */
+public class PrimitiveArrays implements SerializableObject {
+
+    @SerializationAPI
+    @SuppressWarnings("unused")
+    private static final Creator<PrimitiveArrays> CREATOR = new SimpleCreatorImpl<>(PrimitiveArrays.class);
+
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+
+    @SuppressWarnings("unused")
+    private PrimitiveArrays(){}
+
+    /**
+     * @param size The amount of elements in each array.
+     */
+    public PrimitiveArrays(int size){
+        this.ints = new int[size];
+        this.longs = new long[size];
+        this.doubles = new double[size];
+        for(int i = 0; i < size; i++){
+            this.ints[i] = i * 31 - size;
+            this.longs[i] = (long) i << 33;
+            this.doubles[i] = i / 7D;
+        }
+    }
+
+    @Override
+    public void write(@NotNull SerializedObject dest) {
+        dest.setIntArray("ints", ints);
+        dest.setLongArray("longs", longs);
+        dest.setDoubleArray("doubles", doubles);
+    }
+
+    @Override
+    public @NotNull PrimitiveArrays read(@NotNull SerializedObject src) {
+        ints = src.getIntArray("ints").orElse(new int[0]);
+        longs = src.getLongArray("longs").orElse(new long[0]);
+        doubles = src.getDoubleArray("doubles").orElse(new double[0]);
+
+        return this;
+    }
+}
@@ -0,0 +1,66 @@
+package net.configuration.benchmark.fixture;
+
+import net.configuration.serializable.api.*;
+import net.configuration.serializable.impl.SimpleCreatorImpl;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Large lists of primitive values.
+ */
+public class PrimitiveLists implements SerializableObject {
+
+    @SerializationAPI
+    @SuppressWarnings("unused")
+    private static final Creator<PrimitiveLists> CREATOR = new SimpleCreatorImpl<>(PrimitiveLists.class);
+
+    private Collection<Integer> ints;
+    private Collection<Long> longs;
+    private Collection<Double> doubles;
+    private Collection<String> strings;
+
+    @SuppressWarnings("unused")
+    private PrimitiveLists(){}
+
+    /**
+     * @param size The amount of elements in each list.
+     */
+    public PrimitiveLists(int size){
+        List<Integer> ints = new ArrayList<>(size);
+        List<Long> longs = new ArrayList<>(size);
+        List<Double> doubles = new ArrayList<>(size);
+        List<String> strings = new ArrayList<>(size);
+        for(int i = 0; i < size; i++){
+            ints.add(i * 31 - size);
+            longs.add((long) i << 33);
+            doubles.add(i / 7D);
+            strings.add("element-" + i);
+        }
+
+        this.ints = ints;
+        this.longs = longs;
+        this.doubles = doubles;
+        this.strings = strings;
+    }
+
+    @Override
+    public void write(@NotNull SerializedObject dest) {
+        dest.setIntList("ints", ints);
+        dest.setLongList("longs", longs);
+        dest.setDoubleList("doubles", doubles);
+        dest.setStringList("strings", strings);
+    }
+
+    @Override
+    public @NotNull PrimitiveLists read(@NotNull SerializedObject src) {
+        ints = src.getIntList("ints").orElse(List.of());
+        longs = src.getLongList("longs").orElse(List.of());
+        doubles = src.getDoubleList("doubles").orElse(List.of());
+        strings = src.getStringList("strings").orElse(List.of());
+
+        return this;
+    }
+}
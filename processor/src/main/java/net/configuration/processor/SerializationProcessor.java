@@ -0,0 +1,355 @@
+package net.configuration.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the serialization code for every class annotated with {@code GenerateSerialization}. For a class
+ * {@code MyClass} the class {@code MyClassSerialization} is generated in the same package. It contains a static write
+ * and read method that access every serializable field directly and by its name, and the creator of the class.
+ */
+@SupportedAnnotationTypes(SerializationProcessor.ANNOTATION)
+public class SerializationProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "net.configuration.serializable.api.GenerateSerialization";
+
+    private static final String API = "net.configuration.serializable.api.";
+    private static final String IGNORE = API + "IgnoreSerialization";
+    private static final String SERIALIZABLE = API + "SerializableObject";
+
+    //accessor names of the SerializedObject methods for primitive and wrapper types
+    private static final Map<TypeKind, String> PRIMITIVES = Map.of(
+            TypeKind.BYTE, "Byte", TypeKind.SHORT, "Short", TypeKind.INT, "Int", TypeKind.LONG, "Long",
+            TypeKind.FLOAT, "Float", TypeKind.DOUBLE, "Double", TypeKind.CHAR, "Char", TypeKind.BOOLEAN, "Boolean"
+    );
+
+    private static final Map<String, String> WRAPPERS = Map.of(
+            "java.lang.Byte", "Byte", "java.lang.Short", "Short", "java.lang.Integer", "Int", "java.lang.Long", "Long",
+            "java.lang.Float", "Float", "java.lang.Double", "Double", "java.lang.Character", "Char",
+            "java.lang.Boolean", "Boolean", "java.lang.String", "String"
+    );
+
+    //accessor names of the SerializedObject list methods for their element types
+    private static final Map<String, String> LISTS = Map.of(
+            "java.lang.Integer", "IntList", "java.lang.Long", "LongList", "java.lang.Double", "DoubleList",
+            "java.lang.Byte", "ByteList", "java.lang.String", "StringList"
+    );
+
+    //accessor names of the SerializedObject primitive array methods for their array types
+    private static final Map<String, String> ARRAYS = Map.of(
+            "int[]", "IntArray", "long[]", "LongArray", "double[]", "DoubleArray", "byte[]", "ByteArray"
+    );
+
+    private Types types;
+    private Elements elements;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.types = processingEnv.getTypeUtils();
+        this.elements = processingEnv.getElementUtils();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement annotation = this.elements.getTypeElement(ANNOTATION);
+        if(annotation == null)
+            return false;
+
+        for(TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))){
+            try{
+                this.generate(type);
+            }catch(IOException e){
+                this.error("Could not write serialization code: " + e.getMessage(), type);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Generate the serialization class for the given type. Errors are reported to the compiler and no class is
+     * generated in that case.
+     *
+     * @param type The annotated type.
+     * @throws IOException If the generated source file could not be written.
+     */
+    private void generate(TypeElement type) throws IOException {
+        if(!this.isValidType(type))
+            return;
+
+        String typeName = type.getQualifiedName().toString();
+        String packageName = this.elements.getPackageOf(type).getQualifiedName().toString();
+        String className = this.generatedName(type);
+
+        StringBuilder write = new StringBuilder();
+        StringBuilder read = new StringBuilder();
+        boolean valid = true;
+        for(VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())){
+            Set<Modifier> modifiers = field.getModifiers();
+            if(modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT) || this.isIgnored(field))
+                continue;
+
+            if(modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL)){
+                this.error("Serialized fields must not be private or final", field);
+                valid = false;
+                continue;
+            }
+
+            this.appendField(field, write, read);
+        }
+
+        if(!valid)
+            return;
+
+        JavaFileObject file = this.processingEnv.getFiler().createSourceFile(
+                packageName.isEmpty() ? className : packageName + "." + className, type);
+
+        try(Writer writer = file.openWriter()){
+            if(!packageName.isEmpty())
+                writer.write("package " + packageName + ";\n\n");
+
+            writer.write("import " + API + "Creator;\n");
+            writer.write("import " + API + "SerializedObject;\n\n");
+            writer.write("/**\n * Generated serialization code for {@link " + typeName + "}.\n */\n");
+            writer.write("public final class " + className + " {\n\n");
+            writer.write("    public static final Creator<" + typeName + "> CREATOR = src -> read(new " + typeName + "(), src);\n\n");
+            writer.write("    private " + className + "(){}\n\n");
+
+            writer.write("    /**\n     * Write all serializable fields of the given object into the serialized object.\n");
+            writer.write("     *\n     * @param obj The object to write.\n     * @param dest The serialized object to write to.\n     */\n");
+            writer.write("    public static void write(" + typeName + " obj, SerializedObject dest){\n");
+            writer.write(write.toString());
+            writer.write("    }\n\n");
+
+            writer.write("    /**\n     * Read all serializable fields of the given object from the serialized object.\n");
+            writer.write("     *\n     * @param obj The object to read into.\n     * @param src The serialized object to read from.\n");
+            writer.write("     * @return The given object.\n     */\n");
+            writer.write("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+            writer.write("    public static " + typeName + " read(" + typeName + " obj, SerializedObject src){\n");
+            writer.write(read.toString());
+            writer.write("        return obj;\n");
+            writer.write("    }\n");
+            writer.write("}\n");
+        }
+    }
+
+    /**
+     * Append the write and read statements for the given field.
+     *
+     * @param field The field to serialize.
+     * @param write The statements of the write method.
+     * @param read The statements of the read method.
+     */
+    private void appendField(VariableElement field, StringBuilder write, StringBuilder read){
+        String name = field.getSimpleName().toString();
+        String f = "obj." + name;
+        String n = "\"" + name + "\"";
+        TypeMirror type = field.asType();
+        String erasure = this.erasedName(type);
+
+        //primitives are written directly and keep their value, if nothing was read
+        if(type.getKind().isPrimitive()){
+            String accessor = PRIMITIVES.get(type.getKind());
+            write.append("        dest.set").append(accessor).append("(").append(n).append(", ").append(f).append(");\n");
+            read.append("        ").append(f).append(" = src.get").append(accessor).append("(").append(n).append(").orElse(").append(f).append(");\n");
+            return;
+        }
+
+        String writeValue;
+        String readValue;
+        String accessor = WRAPPERS.get(erasure);
+        TypeMirror element = this.listElement(type);
+        if(accessor != null){
+            writeValue = "dest.set" + accessor + "(" + n + ", " + f + ")";
+            readValue = "src.get" + accessor + "(" + n + ").orElse(null)";
+
+        }else if(ARRAYS.containsKey(erasure)){
+            String array = ARRAYS.get(erasure);
+            writeValue = "dest.set" + array + "(" + n + ", " + f + ")";
+            readValue = "src.get" + array + "(" + n + ").orElse(null)";
+
+        }else if(this.isEnum(type)){
+            writeValue = "dest.setEnum(" + n + ", " + f + ")";
+            readValue = "src.<" + erasure + ">getEnum(" + n + ", " + erasure + ".class).orElse(null)";
+
+        }else if(this.isSerializable(type)){
+            writeValue = "dest.setSerializable(" + n + ", " + f + ")";
+            readValue = "(" + erasure + ") src.getSerializable(" + n + ", " + erasure + ".class).orElse(null)";
+
+        }else if(element != null && LISTS.containsKey(this.erasedName(element))){
+            String list = LISTS.get(this.erasedName(element));
+            writeValue = "dest.set" + list + "(" + n + ", " + f + ")";
+            readValue = "src.get" + list + "(" + n + ").map(java.util.ArrayList::new).orElse(null)";
+
+        }else if(element != null && this.isSerializable(element)){
+            writeValue = "dest.setList(" + n + ", " + f + ")";
+            readValue = "(" + erasure + ") (java.util.Collection) src.getList(" + n + ", " + this.erasedName(element) + ".class).map(java.util.ArrayList::new).orElse(null)";
+
+        }else{
+            //all other types are resolved at runtime
+            writeValue = "dest.setObject(" + n + ", " + f + ")";
+            readValue = "(" + erasure + ") src.getObject(" + n + ", " + erasure + ".class).orElse(null)";
+        }
+
+        write.append("        if(").append(f).append(" == null)\n");
+        write.append("            dest.setNull(").append(n).append(");\n");
+        write.append("        else\n");
+        write.append("            ").append(writeValue).append(";\n\n");
+
+        read.append("        ").append(f).append(" = src.isNextNull(").append(n).append(", ").append(erasure).append(".class) ? null : ")
+                .append(readValue).append(";\n");
+    }
+
+    /**
+     * Check that the given type can be instantiated and accessed by the generated code.
+     *
+     * @param type The annotated type.
+     * @return True iff the type is valid.
+     */
+    private boolean isValidType(TypeElement type){
+        if(type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)){
+            this.error("Only concrete classes can generate serialization code", type);
+            return false;
+        }
+
+        if(type.getModifiers().contains(Modifier.PRIVATE) ||
+                (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC))){
+            this.error("Classes with generated serialization code must not be private or inner classes", type);
+            return false;
+        }
+
+        TypeMirror serializable = this.elements.getTypeElement(SERIALIZABLE).asType();
+        if(!this.types.isAssignable(type.asType(), serializable)){
+            this.error("Classes with generated serialization code must implement " + SERIALIZABLE, type);
+            return false;
+        }
+
+        for(ExecutableElement con : ElementFilter.constructorsIn(type.getEnclosedElements())){
+            if(con.getParameters().isEmpty() && !con.getModifiers().contains(Modifier.PRIVATE))
+                return true;
+        }
+
+        this.error("Classes with generated serialization code need a non private default constructor", type);
+        return false;
+    }
+
+    /**
+     * @param type The annotated type.
+     * @return The simple name of the generated class. Nested classes are prefixed with their enclosing class names.
+     */
+    private String generatedName(TypeElement type){
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while(enclosing instanceof TypeElement outer){
+            name.insert(0, outer.getSimpleName() + "_");
+            enclosing = outer.getEnclosingElement();
+        }
+
+        return name.append("Serialization").toString();
+    }
+
+    /**
+     * @param field The field to check.
+     * @return True iff the field is annotated with {@code IgnoreSerialization}.
+     */
+    private boolean isIgnored(VariableElement field){
+        for(AnnotationMirror mirror : field.getAnnotationMirrors()){
+            if(((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(IGNORE))
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @param type The type to check.
+     * @return True iff the type is an enum.
+     */
+    private boolean isEnum(TypeMirror type){
+        return type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).asElement().getKind() == ElementKind.ENUM;
+    }
+
+    /**
+     * @param type The type to check.
+     * @return True iff the type implements {@code SerializableObject}.
+     */
+    private boolean isSerializable(TypeMirror type){
+        TypeMirror serializable = this.types.erasure(this.elements.getTypeElement(SERIALIZABLE).asType());
+        return type.getKind() == TypeKind.DECLARED && this.types.isAssignable(this.types.erasure(type), serializable);
+    }
+
+    /**
+     * Get the element type of the given type, if it is a {@link List} or {@link java.util.Collection}.
+     *
+     * @param type The type of the field.
+     * @return The element type or null, if the type is not a list or collection with a single type argument.
+     */
+    private TypeMirror listElement(TypeMirror type){
+        if(type.getKind() != TypeKind.DECLARED)
+            return null;
+
+        String erasure = this.erasedName(type);
+        if(!erasure.equals("java.util.List") && !erasure.equals("java.util.Collection"))
+            return null;
+
+        List<? extends TypeMirror> args = ((DeclaredType) type).getTypeArguments();
+        if(args.size() != 1 || args.get(0).getKind() != TypeKind.DECLARED)
+            return null;
+
+        return args.get(0);
+    }
+
+    /**
+     * Get the name of the erasure of the given type as it is written in source code. The name is built from the
+     * elements of the type and not from the mirror's string representation, which includes type annotations like
+     * {@code @NotNull} that are not allowed in class literals.
+     *
+     * @param type The type.
+     * @return The qualified name of the erased type, e.g. {@code java.util.List} or {@code int[]}.
+     */
+    private String erasedName(TypeMirror type){
+        TypeMirror erasure = this.types.erasure(type);
+        if(erasure.getKind().isPrimitive())
+            return erasure.getKind().name().toLowerCase(Locale.ROOT);
+
+        if(erasure.getKind() == TypeKind.ARRAY)
+            return this.erasedName(((ArrayType) erasure).getComponentType()) + "[]";
+
+        return ((TypeElement) this.types.asElement(erasure)).getQualifiedName().toString();
+    }
+
+    /**
+     * Report an error for the given element to the compiler.
+     *
+     * @param msg The error message.
+     * @param element The element that caused the error.
+     */
+    private void error(String msg, Element element){
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, msg, element);
+    }
+}
@@ -0,0 +1,353 @@
+package execute.processor;
+
+import net.configuration.processor.SerializationProcessor;
+import net.configuration.serializable.api.Creator;
+import net.configuration.serializable.api.SerializableObject;
+import net.configuration.serializable.api.SerializableType;
+import net.configuration.serializable.api.SerializedObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import javax.tools.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestSerializationProcessor {
+
+    private static final String MODE = """
+            package fixture;
+
+            public enum Mode { ON, OFF }
+            """;
+
+    private static final String INNER = """
+            package fixture;
+
+            import net.configuration.serializable.api.*;
+
+            @GenerateSerialization
+            public class Inner implements SerializableObject {
+
+                @SerializationAPI
+                private static final Creator<Inner> CREATOR = InnerSerialization.CREATOR;
+
+                String label;
+
+                public Inner(){}
+
+                @Override
+                public void write(SerializedObject dest) { InnerSerialization.write(this, dest); }
+
+                @Override
+                public Inner read(SerializedObject src) { return InnerSerialization.read(this, src); }
+            }
+            """;
+
+    private static final String FIELDS = """
+            package fixture;
+
+            import net.configuration.serializable.api.*;
+            import org.jetbrains.annotations.NotNull;
+            import org.jetbrains.annotations.Nullable;
+            import java.util.List;
+
+            @GenerateSerialization
+            public class Fields implements SerializableObject {
+
+                @SerializationAPI
+                private static final Creator<Fields> CREATOR = FieldsSerialization.CREATOR;
+
+                int intValue;
+                long longValue;
+                double doubleValue;
+                boolean boolValue;
+                char charValue;
+                Integer boxed;
+                Double missing;
+                String text;
+                Mode mode;
+                List<String> names;
+                List<String> empty;
+                Inner inner;
+
+                //type annotations must not end up in the generated class literals
+                @NotNull String annotated = "";
+                @Nullable Integer annotatedBoxed;
+                List<@NotNull String> annotatedNames;
+
+                @IgnoreSerialization
+                int ignored;
+
+                public Fields(){}
+
+                @Override
+                public void write(SerializedObject dest) { FieldsSerialization.write(this, dest); }
+
+                @Override
+                public Fields read(SerializedObject src) { return FieldsSerialization.read(this, src); }
+            }
+            """;
+
+    @Test
+    @DisplayName("Test Generated Source")
+    void testGeneratedSource(@TempDir Path dir) throws IOException {
+        Result result = compile(dir, Map.of("Mode", MODE, "Inner", INNER, "Fields", FIELDS));
+        assertTrue(result.success, result.diagnostics.toString());
+
+        String source = Files.readString(dir.resolve("gen/fixture/FieldsSerialization.java"), StandardCharsets.UTF_8);
+        assertTrue(source.contains("dest.setInt(\"intValue\", obj.intValue);"));
+        assertTrue(source.contains("dest.setLong(\"longValue\", obj.longValue);"));
+        assertTrue(source.contains("dest.setDouble(\"doubleValue\", obj.doubleValue);"));
+        assertTrue(source.contains("dest.setBoolean(\"boolValue\", obj.boolValue);"));
+        assertTrue(source.contains("dest.setChar(\"charValue\", obj.charValue);"));
+        assertTrue(source.contains("dest.setInt(\"boxed\", obj.boxed);"));
+        assertTrue(source.contains("dest.setString(\"text\", obj.text);"));
+        assertTrue(source.contains("dest.setEnum(\"mode\", obj.mode);"));
+        assertTrue(source.contains("dest.setStringList(\"names\", obj.names);"));
+        assertTrue(source.contains("dest.setSerializable(\"inner\", obj.inner);"));
+        assertTrue(source.contains("dest.setString(\"annotated\", obj.annotated);"));
+        assertTrue(source.contains("src.isNextNull(\"annotated\", java.lang.String.class)"));
+        assertTrue(source.contains("dest.setInt(\"annotatedBoxed\", obj.annotatedBoxed);"));
+        assertTrue(source.contains("dest.setStringList(\"annotatedNames\", obj.annotatedNames);"));
+        assertFalse(source.contains("@org.jetbrains"));
+
+        //only null is written as null, empty lists are kept
+        assertTrue(source.contains("if(obj.names == null)"));
+
+        //ignored fields are neither written nor read
+        assertFalse(source.contains("ignored"));
+        assertTrue(Files.exists(dir.resolve("classes/fixture/InnerSerialization.class")));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SerializableType.class, names = {"BYTE", "BINARY", "JSON", "XML", "TEXT", "PROPERTIES"})
+    @DisplayName("Test Generated Round Trip")
+    void testRoundTrip(SerializableType type, @TempDir Path dir) throws Exception {
+        Result result = compile(dir, Map.of("Mode", MODE, "Inner", INNER, "Fields", FIELDS));
+        assertTrue(result.success, result.diagnostics.toString());
+
+        try(URLClassLoader loader = new URLClassLoader(new URL[]{dir.resolve("classes").toUri().toURL()},
+                TestSerializationProcessor.class.getClassLoader())){
+            Class<? extends SerializableObject> fieldsClass = loader.loadClass("fixture.Fields").asSubclass(SerializableObject.class);
+            Class<?> modeClass = loader.loadClass("fixture.Mode");
+            Object on = modeClass.getEnumConstants()[0];
+
+            SerializableObject inner = loader.loadClass("fixture.Inner").asSubclass(SerializableObject.class)
+                    .getConstructor().newInstance();
+            set(inner, "label", "nested");
+
+            SerializableObject fields = fieldsClass.getConstructor().newInstance();
+            set(fields, "intValue", 42);
+            set(fields, "longValue", 123456789012L);
+            set(fields, "doubleValue", 0.75);
+            set(fields, "boolValue", true);
+            set(fields, "charValue", 'x');
+            set(fields, "boxed", 7);
+            set(fields, "text", "Hallo");
+            set(fields, "mode", on);
+            set(fields, "names", new ArrayList<>(List.of("a", "b", "c")));
+            set(fields, "empty", new ArrayList<>());
+            set(fields, "annotated", "tagged");
+            set(fields, "annotatedBoxed", 3);
+            set(fields, "annotatedNames", new ArrayList<>(List.of("x")));
+            set(fields, "inner", inner);
+            set(fields, "ignored", 5);
+
+            SerializedObject obj = type.createEmpty(fieldsClass);
+            fields.write(obj);
+            obj.flush();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            obj.writeToStream(out);
+            SerializedObject readObj = SerializedObject.readFromStream(type, fieldsClass, new ByteArrayInputStream(out.toByteArray()));
+            SerializableObject read = Creator.getCreator(fieldsClass).read(readObj);
+
+            assertEquals(42, get(read, "intValue"));
+            assertEquals(123456789012L, get(read, "longValue"));
+            assertEquals(0.75, get(read, "doubleValue"));
+            assertEquals(true, get(read, "boolValue"));
+            assertEquals('x', get(read, "charValue"));
+            assertEquals(7, get(read, "boxed"));
+            assertNull(get(read, "missing"));
+            assertEquals("Hallo", get(read, "text"));
+            assertEquals(on, get(read, "mode"));
+            assertEquals(List.of("a", "b", "c"), get(read, "names"));
+            assertEquals(List.of(), get(read, "empty"));
+            assertEquals("tagged", get(read, "annotated"));
+            assertEquals(3, get(read, "annotatedBoxed"));
+            assertEquals(List.of("x"), get(read, "annotatedNames"));
+            assertEquals("nested", get(get(read, "inner"), "label"));
+            assertEquals(0, get(read, "ignored"));
+        }
+    }
+
+    @Test
+    @DisplayName("Test Private And Final Fields")
+    void testInvalidFields(@TempDir Path dir) throws IOException {
+        Result result = compile(dir, Map.of("Invalid", """
+                package fixture;
+
+                import net.configuration.serializable.api.*;
+
+                @GenerateSerialization
+                public class Invalid implements SerializableObject {
+
+                    private int hidden;
+                    final int constant = 1;
+
+                    public Invalid(){}
+
+                    @Override
+                    public void write(SerializedObject dest) {}
+
+                    @Override
+                    public Invalid read(SerializedObject src) { return this; }
+                }
+                """));
+
+        assertFalse(result.success);
+        assertEquals(List.of(
+                "private int hidden: Serialized fields must not be private or final",
+                "final int constant = 1: Serialized fields must not be private or final"
+        ), result.errors());
+        assertFalse(Files.exists(dir.resolve("gen/fixture/InvalidSerialization.java")));
+    }
+
+    @Test
+    @DisplayName("Test Missing Default Constructor")
+    void testMissingConstructor(@TempDir Path dir) throws IOException {
+        Result result = compile(dir, Map.of("NoDefault", """
+                package fixture;
+
+                import net.configuration.serializable.api.*;
+
+                @GenerateSerialization
+                public class NoDefault implements SerializableObject {
+
+                    int value;
+
+                    public NoDefault(int value){
+                        this.value = value;
+                    }
+
+                    @Override
+                    public void write(SerializedObject dest) {}
+
+                    @Override
+                    public NoDefault read(SerializedObject src) { return this; }
+                }
+                """));
+
+        assertFalse(result.success);
+        assertEquals(List.of(
+                "@GenerateSerialization public class NoDefault implements SerializableObject: " +
+                        "Classes with generated serialization code need a non private default constructor"
+        ), result.errors());
+        assertFalse(Files.exists(dir.resolve("gen/fixture/NoDefaultSerialization.java")));
+    }
+
+    /**
+     * Compile the given sources with the {@link SerializationProcessor}. The generated sources are written to
+     * {@code dir/gen} and the classes to {@code dir/classes}.
+     *
+     * @param dir The directory to compile in.
+     * @param sources The sources of the package {@code fixture} mapped by their class names.
+     * @return The result of the compilation.
+     * @throws IOException If the sources could not be written.
+     */
+    private static Result compile(Path dir, Map<String, String> sources) throws IOException {
+        Path src = Files.createDirectories(dir.resolve("src/fixture"));
+        Path gen = Files.createDirectories(dir.resolve("gen"));
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+
+        List<Path> files = new ArrayList<>();
+        for(Map.Entry<String, String> entry : sources.entrySet()){
+            Path file = src.resolve(entry.getKey() + ".java");
+            Files.writeString(file, entry.getValue(), StandardCharsets.UTF_8);
+            files.add(file);
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull(compiler, "Tests must run on a JDK");
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try(StandardJavaFileManager manager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)){
+            List<String> options = List.of(
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-s", gen.toString(),
+                    "-d", classes.toString()
+            );
+
+            JavaCompiler.CompilationTask task = compiler.getTask(null, manager, diagnostics, options, null,
+                    manager.getJavaFileObjectsFromPaths(files));
+            task.setProcessors(List.of(new SerializationProcessor()));
+            return new Result(task.call(), diagnostics.getDiagnostics());
+        }
+    }
+
+    private static void set(Object obj, String name, Object value) throws ReflectiveOperationException {
+        Field field = obj.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(obj, value);
+    }
+
+    private static Object get(Object obj, String name) throws ReflectiveOperationException {
+        Field field = obj.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(obj);
+    }
+
+    private record Result(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+
+        /**
+         * @return The errors reported by the compiler as {@code declaration: message}.
+         */
+        List<String> errors(){
+            List<String> errors = new ArrayList<>();
+            for(Diagnostic<? extends JavaFileObject> diagnostic : this.diagnostics){
+                if(diagnostic.getKind() != Diagnostic.Kind.ERROR)
+                    continue;
+
+                String declaration = diagnostic.getSource() == null ? "" : declarationOf(diagnostic);
+                errors.add(declaration + ": " + diagnostic.getMessage(Locale.ROOT));
+            }
+
+            return errors;
+        }
+
+        /**
+         * @param diagnostic The diagnostic of a class or field.
+         * @return The declaration of the element up to its body or semicolon in a single line.
+         */
+        private static String declarationOf(Diagnostic<? extends JavaFileObject> diagnostic){
+            try{
+                String source = diagnostic.getSource().getCharContent(true).toString();
+                int start = (int) diagnostic.getStartPosition();
+                int end = start;
+                while(end < source.length() && source.charAt(end) != ';' && source.charAt(end) != '{')
+                    end++;
+
+                return source.substring(start, end).trim().replaceAll("\\s+", " ");
+            }catch(IOException e){
+                e.printStackTrace();
+                return "";
+            }
+        }
+    }
+}
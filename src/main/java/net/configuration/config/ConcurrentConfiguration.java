@@ -0,0 +1,403 @@
+package net.configuration.config;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A thread-safe view of another configuration for configs that are read much more often than they are written. The
+ * values that were read are kept in a snapshot that is published through a volatile reference, so reading a value
+ * that was read before does not lock. Writes and reloads are serialized and publish a new snapshot: a write copies the
+ * current snapshot without the values of the written path, a reload reads all values of the old snapshot again before
+ * the new one replaces it. A reader that is in the middle of a lookup while a new snapshot is published still gets a
+ * consistent value of the old one.
+ * <pre>{@code
+ * Configuration config = new ConcurrentConfiguration(FileConfiguration.loadConfig(file));
+ * }</pre>
+ * The wrapped configuration must not be used directly anymore. Lists that are read through this view are immutable,
+ * because they are shared between all readers, and arrays are copied on every read. Objects that are read with
+ * {@link #get(String, Class)} are only cached if they are primitives, strings or enums, all other objects are
+ * deserialized on every read.
+ */
+public class ConcurrentConfiguration implements Configuration {
+
+    @NotNull private final Configuration config;
+    @NotNull private final Object lock = new Object();
+    @NotNull private volatile Snapshot snapshot = Snapshot.empty();
+
+    /**
+     * @param config The configuration to read and write through this view.
+     */
+    public ConcurrentConfiguration(@NotNull Configuration config){
+        this.config = config;
+    }
+
+    /**
+     * @return The wrapped configuration.
+     */
+    @NotNull
+    public Configuration getConfiguration() {
+        return config;
+    }
+
+    @Override
+    public boolean save() {
+        synchronized(this.lock){
+            return this.config.save();
+        }
+    }
+
+    @Override
+    public boolean reload() {
+        return this.reload(() -> this.config.reload() ? Optional.of(Set.of()) : Optional.empty()).isPresent();
+    }
+
+    /**
+     * Reload the wrapped file configuration and collect the changed paths, see {@link ConfigurationWatcher}.
+     *
+     * @return The changed paths or an empty optional, if the configuration could not be reloaded.
+     */
+    @NotNull
+    Optional<Set<String>> reloadChanges(){
+        return this.reload(((FileConfiguration) this.config)::reloadChanges);
+    }
+
+    /**
+     * Reload the wrapped configuration with the given function and publish a new snapshot afterwards.
+     *
+     * @param reloader Reloads the wrapped configuration.
+     * @return The result of the reloader, which is empty if the configuration could not be reloaded.
+     */
+    @NotNull
+    private Optional<Set<String>> reload(@NotNull Supplier<Optional<Set<String>>> reloader){
+        synchronized(this.lock){
+            Optional<Set<String>> result = Optional.empty();
+            try{
+                result = reloader.get();
+                return result;
+            }finally{
+                this.snapshot = result.isPresent() ? this.warmUp(this.snapshot.values()) : Snapshot.empty();
+            }
+        }
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return this.config.getName();
+    }
+
+    @Override
+    public boolean hasMember(@NotNull String path) {
+        return this.read(path, Kind.MEMBER);
+    }
+
+    @Override
+    public @NotNull Optional<Byte> getByte(@NotNull String path) {
+        return this.read(path, Byte.class);
+    }
+
+    @Override
+    public void setByte(@NotNull String path, byte value) {
+        this.write(path, () -> this.config.setByte(path, value));
+    }
+
+    @Override
+    public @NotNull Optional<Integer> getInt(@NotNull String path) {
+        return this.read(path, Integer.class);
+    }
+
+    @Override
+    public void setInt(@NotNull String path, int value) {
+        this.write(path, () -> this.config.setInt(path, value));
+    }
+
+    @Override
+    public @NotNull Optional<Long> getLong(@NotNull String path) {
+        return this.read(path, Long.class);
+    }
+
+    @Override
+    public void setLong(@NotNull String path, long value) {
+        this.write(path, () -> this.config.setLong(path, value));
+    }
+
+    @Override
+    public @NotNull Optional<Short> getShort(@NotNull String path) {
+        return this.read(path, Short.class);
+    }
+
+    @Override
+    public void setShort(@NotNull String path, short value) {
+        this.write(path, () -> this.config.setShort(path, value));
+    }
+
+    @Override
+    public @NotNull Optional<Float> getFloat(@NotNull String path) {
+        return this.read(path, Float.class);
+    }
+
+    @Override
+    public void setFloat(@NotNull String path, float value) {
+        this.write(path, () -> this.config.setFloat(path, value));
+    }
+
+    @Override
+    public @NotNull Optional<Double> getDouble(@NotNull String path) {
+        return this.read(path, Double.class);
+    }
+
+    @Override
+    public void setDouble(@NotNull String path, double value) {
+        this.write(path, () -> this.config.setDouble(path, value));
+    }
+
+    @Override
+    public @NotNull Optional<Character> getChar(@NotNull String path) {
+        return this.read(path, Character.class);
+    }
+
+    @Override
+    public void setChar(@NotNull String path, char value) {
+        this.write(path, () -> this.config.setChar(path, value));
+    }
+
+    @Override
+    public @NotNull Optional<Boolean> getBoolean(@NotNull String path) {
+        return this.read(path, Boolean.class);
+    }
+
+    @Override
+    public void setBoolean(@NotNull String path, boolean value) {
+        this.write(path, () -> this.config.setBoolean(path, value));
+    }
+
+    @Override
+    public @NotNull Optional<String> getString(@NotNull String path) {
+        return this.read(path, String.class);
+    }
+
+    @Override
+    public void setString(@NotNull String path, String value) {
+        this.write(path, () -> this.config.setString(path, value));
+    }
+
+    @Override
+    public @NotNull <T> Optional<List<T>> getList(@NotNull String path, @NotNull Class<T> classOfT) {
+        return this.read(path, new Slot(Kind.LIST, classOfT));
+    }
+
+    @Override
+    public <T> void setList(@NotNull String path, List<T> list) {
+        this.write(path, () -> this.config.setList(path, list));
+    }
+
+    @Override
+    public @NotNull <T> Optional<T[]> getArray(@NotNull String path, @NotNull Class<T> classOfT) {
+        Optional<T[]> array = this.read(path, new Slot(Kind.ARRAY, classOfT));
+        return array.map(T[]::clone);
+    }
+
+    @Override
+    public <T> void setArray(@NotNull String path, T[] array) {
+        this.write(path, () -> this.config.setArray(path, array));
+    }
+
+    @Override
+    public @NotNull <T> Optional<T> get(@NotNull String path, @NotNull Class<T> classOfT) {
+        if(!(ClassUtils.isPrimitiveOrWrapper(classOfT) || classOfT == String.class || classOfT.isEnum())){
+            //mutable objects cannot be shared between readers
+            synchronized(this.lock){
+                return this.config.get(path, classOfT);
+            }
+        }
+
+        return this.read(path, new Slot(Kind.OBJECT, classOfT));
+    }
+
+    @Override
+    public <T> void set(@NotNull String path, T value) {
+        this.write(path, () -> this.config.set(path, value));
+    }
+
+    @Override
+    public String toString() {
+        synchronized(this.lock){
+            return this.config.toString();
+        }
+    }
+
+    /**
+     * Read a value from the current snapshot. If the snapshot does not contain the value yet, it is read from the
+     * wrapped configuration and added to the snapshot. Reading a primitive or string value that is in the snapshot
+     * does not allocate, since its slot is the wrapper class itself.
+     *
+     * @param path The path of the value.
+     * @param slot The slot of the value at its path, see {@link Snapshot}.
+     * @return The value.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T read(@NotNull String path, @NotNull Object slot){
+        Map<Object, Object> slots = this.snapshot.values().get(path);
+        Object value = slots != null ? slots.get(slot) : null;
+        if(value != null)
+            return (T) value;
+
+        synchronized(this.lock){
+            //writes publish their snapshot while holding the lock, so this is the latest one
+            slots = this.snapshot.values().computeIfAbsent(path, p -> new ConcurrentHashMap<>(4));
+            value = slots.get(slot);
+            if(value == null){
+                value = this.load(path, slot);
+                slots.put(slot, value);
+            }
+
+            return (T) value;
+        }
+    }
+
+    /**
+     * Read the value of the given slot from the wrapped configuration.
+     *
+     * @param path The path of the value.
+     * @param slot The slot of the value at its path.
+     * @return The value, which is never null.
+     */
+    @NotNull
+    private Object load(@NotNull String path, @NotNull Object slot){
+        if(slot == Kind.MEMBER)
+            return this.config.hasMember(path);
+
+        if(slot instanceof Class<?> type)
+            return this.loadValue(path, type);
+
+        Slot typed = (Slot) slot;
+        return switch(typed.kind()){
+            case LIST -> this.config.getList(path, typed.type()).map(list -> Collections.unmodifiableList(new ArrayList<>(list)));
+            case ARRAY -> this.config.getArray(path, typed.type());
+            default -> this.config.get(path, typed.type());
+        };
+    }
+
+    /**
+     * Read a primitive or string value from the wrapped configuration with the typed getter.
+     *
+     * @param path The path of the value.
+     * @param type The wrapper type of the value.
+     * @return The value or an empty optional.
+     */
+    @NotNull
+    private Optional<?> loadValue(@NotNull String path, @NotNull Class<?> type){
+        if(type == Byte.class){
+            return this.config.getByte(path);
+        }else if(type == Integer.class){
+            return this.config.getInt(path);
+        }else if(type == Long.class){
+            return this.config.getLong(path);
+        }else if(type == Short.class){
+            return this.config.getShort(path);
+        }else if(type == Float.class){
+            return this.config.getFloat(path);
+        }else if(type == Double.class){
+            return this.config.getDouble(path);
+        }else if(type == Character.class){
+            return this.config.getChar(path);
+        }else if(type == Boolean.class){
+            return this.config.getBoolean(path);
+        }else{
+            return this.config.getString(path);
+        }
+    }
+
+    /**
+     * Create a snapshot of the freshly reloaded configuration that already contains the given values, so that the
+     * values that were read before the reload are read without a lock afterwards. Values that cannot be read anymore,
+     * for example because they have a different type now, are left out.
+     *
+     * @param previous The values of the previous snapshot, whose slots are read again.
+     * @return The new snapshot.
+     */
+    @NotNull
+    private Snapshot warmUp(@NotNull Map<String, Map<Object, Object>> previous){
+        Map<String, Map<Object, Object>> values = new ConcurrentHashMap<>();
+        for(Map.Entry<String, Map<Object, Object>> entry : previous.entrySet()){
+            Map<Object, Object> slots = new ConcurrentHashMap<>(4);
+            for(Object slot : entry.getValue().keySet()){
+                try{
+                    slots.put(slot, this.load(entry.getKey(), slot));
+                }catch(RuntimeException e){
+                    //read again on the next access, which reports the error to the reader
+                }
+            }
+
+            values.put(entry.getKey(), slots);
+        }
+
+        return new Snapshot(values);
+    }
+
+    /**
+     * Write a value into the wrapped configuration and publish a new snapshot without the values of the written path,
+     * its parents and its children. The values of all other paths are shared with the previous snapshot.
+     *
+     * @param path The written path.
+     * @param writer Writes the value into the wrapped configuration.
+     */
+    private void write(@NotNull String path, @NotNull Runnable writer){
+        synchronized(this.lock){
+            try{
+                writer.run();
+            }finally{
+                ConfigPath written = ConfigPath.of(path);
+                Map<String, Map<Object, Object>> values = new ConcurrentHashMap<>(this.snapshot.values());
+                values.keySet().removeIf(key -> {
+                    ConfigPath cached = ConfigPath.of(key);
+                    return cached.startsWith(written) || written.startsWith(cached);
+                });
+
+                this.snapshot = new Snapshot(values);
+            }
+        }
+    }
+
+    /**
+     * The kinds of values in a snapshot besides primitives and strings.
+     */
+    private enum Kind {
+        MEMBER, LIST, ARRAY, OBJECT
+    }
+
+    /**
+     * The slot of a list, an array or an object at its path. The same path can be read as different types, so the
+     * type is part of the slot.
+     *
+     * @param kind The kind of the value.
+     * @param type The type of the value or of its elements.
+     */
+    private record Slot(@NotNull Kind kind, @NotNull Class<?> type){ }
+
+    /**
+     * The values that were read since the last write or reload. Each path maps its slots to their values: primitives
+     * and strings use their wrapper class as slot, {@link Kind#MEMBER} holds the result of
+     * {@link #hasMember(String)} and all other values use a {@link Slot}.
+     *
+     * @param values The slots by their paths.
+     */
+    private record Snapshot(@NotNull Map<String, Map<Object, Object>> values){
+
+        /**
+         * @return A new snapshot without any values.
+         */
+        @NotNull
+        private static Snapshot empty(){
+            return new Snapshot(new ConcurrentHashMap<>());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package net.configuration.config;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A dotted configuration path like "server.network.port" that is split into its parts once. Paths are interned, so
+ * {@link #of(String)} returns the same instance for the same string and a config can use paths as cheap keys of a
+ * node cache. Keep the paths of hot lookups in constants:
+ * <pre>{@code
+ * private static final ConfigPath PORT = ConfigPath.of("server.network.port");
+ * int port = config.getInt(PORT).orElse(25565);
+ * }</pre>
+ */
+public final class ConfigPath {
+
+    /**
+     * The maximal number of interned paths. Paths beyond that are still created, but not interned, so that paths built
+     * from user input cannot grow the pool without bound.
+     */
+    private static final int MAX_INTERNED = 8192;
+
+    private static final Map<String, ConfigPath> INTERNED = new ConcurrentHashMap<>();
+
+    @NotNull private final String path;
+    @NotNull private final String[] parts;
+
+    private ConfigPath(@NotNull String path){
+        this.path = path;
+        this.parts = split(path);
+    }
+
+    /**
+     * Get the compiled version of the given path.
+     *
+     * @param path A path whose parts are separated by dots.
+     * @return The compiled path.
+     */
+    @NotNull
+    public static ConfigPath of(@NotNull String path){
+        ConfigPath compiled = INTERNED.get(path);
+        if(compiled != null)
+            return compiled;
+
+        compiled = new ConfigPath(path);
+        if(INTERNED.size() >= MAX_INTERNED)
+            return compiled;
+
+        ConfigPath previous = INTERNED.putIfAbsent(path, compiled);
+        return previous != null ? previous : compiled;
+    }
+
+    /**
+     * @return The number of parts of this path.
+     */
+    public int size() {
+        return this.parts.length;
+    }
+
+    /**
+     * @param index The index of a part.
+     * @return The part of this path at the given index.
+     */
+    @NotNull
+    public String getPart(int index) {
+        return this.parts[index];
+    }
+
+    /**
+     * @return The last part of this path.
+     */
+    @NotNull
+    public String getName() {
+        return this.parts[this.parts.length - 1];
+    }
+
+    /**
+     * @return True iff this path consists of more than one part.
+     */
+    public boolean isNested() {
+        return this.parts.length > 1;
+    }
+
+    /**
+     * Check if this path is the given path or one of its children. Parts are compared as a whole, so "ab.c" is not a
+     * child of "a".
+     *
+     * @param other The possible parent path.
+     * @return True iff this path starts with all parts of the other path.
+     */
+    public boolean startsWith(@NotNull ConfigPath other){
+        if(other.parts.length > this.parts.length)
+            return false;
+
+        for(int i = 0; i < other.parts.length; i++){
+            if(!this.parts[i].equals(other.parts[i]))
+                return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this == o) return true;
+        if(!(o instanceof ConfigPath that)) return false;
+        return this.path.equals(that.path);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.path.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.path;
+    }
+
+    /**
+     * Split the given path at every dot. Like {@link String#split(String)}, trailing empty parts are dropped.
+     *
+     * @param path The path to split.
+     * @return The parts of that path.
+     */
+    @NotNull
+    private static String[] split(@NotNull String path){
+        if(path.indexOf('.') < 0)
+            return new String[]{path};
+
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        for(int i = path.indexOf('.'); i >= 0; i = path.indexOf('.', start)){
+            parts.add(path.substring(start, i));
+            start = i + 1;
+        }
+        parts.add(path.substring(start));
+
+        int size = parts.size();
+        while(size > 1 && parts.get(size - 1).isEmpty())
+            size--;
+
+        return parts.subList(0, size).toArray(new String[0]);
+    }
+}
@@ -4,6 +4,8 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public interface Configuration {
 
@@ -22,6 +24,48 @@ public interface Configuration {
      */
     boolean reload();
 
+    /**
+     * Save the changes made in the configuration in the background, using the default executor of
+     * {@link ConfigurationExecutor}. Saves that are requested while another save of this configuration is running are
+     * merged into one save that runs afterwards. The configuration should not be modified from other threads while it
+     * is saved.
+     *
+     * @return A future that completes with the result of {@link Configuration#save()}.
+     */
+    default @NotNull CompletableFuture<Boolean> saveAsync(){
+        return this.saveAsync(ConfigurationExecutor.getDefaultExecutor());
+    }
+
+    /**
+     * Save the changes made in the configuration in the background, see {@link Configuration#saveAsync()}.
+     *
+     * @param executor The executor to run the save with.
+     * @return A future that completes with the result of {@link Configuration#save()}.
+     */
+    default @NotNull CompletableFuture<Boolean> saveAsync(@NotNull Executor executor){
+        return ConfigurationExecutor.save(this, executor);
+    }
+
+    /**
+     * Reload all the configuration values in the background, using the default executor of
+     * {@link ConfigurationExecutor}. The reload runs after all saves of this configuration that were requested before.
+     *
+     * @return A future that completes with the result of {@link Configuration#reload()}.
+     */
+    default @NotNull CompletableFuture<Boolean> reloadAsync(){
+        return this.reloadAsync(ConfigurationExecutor.getDefaultExecutor());
+    }
+
+    /**
+     * Reload all the configuration values in the background, see {@link Configuration#reloadAsync()}.
+     *
+     * @param executor The executor to run the reload with.
+     * @return A future that completes with the result of {@link Configuration#reload()}.
+     */
+    default @NotNull CompletableFuture<Boolean> reloadAsync(@NotNull Executor executor){
+        return ConfigurationExecutor.reload(this, executor);
+    }
+
     /**
      * Get the name of the resource this config is for.
      *
@@ -61,6 +105,19 @@ public interface Configuration {
      */
     @NotNull Optional<Integer> getInt(@NotNull String path);
 
+    /**
+     * Read the value at the given path and parse it into an integer without boxing it. Configurations that cache their
+     * decoded values return them without allocating, so this method can be used on hot paths.
+     *
+     * @param path The value's path.
+     * @param def The value to return if there is no value at the given path.
+     * @return The integer value at the given path or the given default value.
+     */
+    default int getInt(@NotNull String path, int def){
+        Optional<Integer> value = this.getInt(path);
+        return value.isPresent() ? value.get() : def;
+    }
+
     /**
      * Set the int-value at the given path to the new integer value.
      *
@@ -77,6 +134,19 @@ public interface Configuration {
      */
     @NotNull Optional<Long> getLong(@NotNull String path);
 
+    /**
+     * Read the value at the given path and parse it into a long without boxing it. Configurations that cache their
+     * decoded values return them without allocating, so this method can be used on hot paths.
+     *
+     * @param path The value's path.
+     * @param def The value to return if there is no value at the given path.
+     * @return The long value at the given path or the given default value.
+     */
+    default long getLong(@NotNull String path, long def){
+        Optional<Long> value = this.getLong(path);
+        return value.isPresent() ? value.get() : def;
+    }
+
     /**
      * Set the long-value at the given path to the new long value.
      *
@@ -125,6 +195,19 @@ public interface Configuration {
      */
     @NotNull Optional<Double> getDouble(@NotNull String path);
 
+    /**
+     * Read the value at the given path and parse it into a double without boxing it. Configurations that cache their
+     * decoded values return them without allocating, so this method can be used on hot paths.
+     *
+     * @param path The value's path.
+     * @param def The value to return if there is no value at the given path.
+     * @return The double value at the given path or the given default value.
+     */
+    default double getDouble(@NotNull String path, double def){
+        Optional<Double> value = this.getDouble(path);
+        return value.isPresent() ? value.get() : def;
+    }
+
     /**
      * Set the double-value at the given path to the new double value.
      *
@@ -157,6 +240,19 @@ public interface Configuration {
      */
     @NotNull Optional<Boolean> getBoolean(@NotNull String path);
 
+    /**
+     * Read the value at the given path and parse it into a boolean without boxing it. Configurations that cache their
+     * decoded values return them without allocating, so this method can be used on hot paths.
+     *
+     * @param path The value's path.
+     * @param def The value to return if there is no value at the given path.
+     * @return The boolean value at the given path or the given default value.
+     */
+    default boolean getBoolean(@NotNull String path, boolean def){
+        Optional<Boolean> value = this.getBoolean(path);
+        return value.isPresent() ? value.get() : def;
+    }
+
     /**
      * Set the boolean-value at the given path to the new boolean value.
      *
@@ -234,4 +330,333 @@ public interface Configuration {
      */
     <T> void set(@NotNull String path, T value);
 
+    /**
+     * Check if the configuration contains a value for the given compiled path.
+     *
+     * @param path The path to check for existence.
+     * @return True iff the config contains a value under this path.
+     * @see #hasMember(String)
+     */
+    default boolean hasMember(@NotNull ConfigPath path){
+        return this.hasMember(path.toString());
+    }
+
+    /**
+     * Read the value at the given compiled path and parse it into a byte.
+     *
+     * @param path The value's path.
+     * @return The value at the given path or an empty optional.
+     * @see #getByte(String)
+     */
+    default @NotNull Optional<Byte> getByte(@NotNull ConfigPath path){
+        return this.getByte(path.toString());
+    }
+
+    /**
+     * Set the value at the given compiled path.
+     *
+     * @param path The value's path. Does not necessarily exist before.
+     * @param value The new value.
+     * @see #setByte(String, byte)
+     */
+    default void setByte(@NotNull ConfigPath path, byte value){
+        this.setByte(path.toString(), value);
+    }
+
+    /**
+     * Read the value at the given compiled path and parse it into an integer.
+     *
+     * @param path The value's path.
+     * @return The value at the given path or an empty optional.
+     * @see #getInt(String)
+     */
+    default @NotNull Optional<Integer> getInt(@NotNull ConfigPath path){
+        return this.getInt(path.toString());
+    }
+
+    /**
+     * Read the value at the given compiled path and parse it into an integer without boxing it.
+     *
+     * @param path The value's path.
+     * @param def The value to return if there is no value at the given path.
+     * @return The value at the given path or the given default value.
+     * @see #getInt(String, int)
+     */
+    default int getInt(@NotNull ConfigPath path, int def){
+        Optional<Integer> value = this.getInt(path);
+        return value.isPresent() ? value.get() : def;
+    }
+
+    /**
+     * Set the value at the given compiled path.
+     *
+     * @param path The value's path. Does not necessarily exist before.
+     * @param value The new value.
+     * @see #setInt(String, int)
+     */
+    default void setInt(@NotNull ConfigPath path, int value){
+        this.setInt(path.toString(), value);
+    }
+
+    /**
+     * Read the value at the given compiled path and parse it into a long.
+     *
+     * @param path The value's path.
+     * @return The value at the given path or an empty optional.
+     * @see #getLong(String)
+     */
+    default @NotNull Optional<Long> getLong(@NotNull ConfigPath path){
+        return this.getLong(path.toString());
+    }
+
+    /**
+     * Read the value at the given compiled path and parse it into a long without boxing it.
+     *
+     * @param path The value's path.
+     * @param def The value to return if there is no value at the given path.
+     * @return The value at the given path or the given default value.
+     * @see #getLong(String, long)
+     */
+    default long getLong(@NotNull ConfigPath path, long def){
+        Optional<Long> value = this.getLong(path);
+        return value.isPresent() ? value.get() : def;
+    }
+
+    /**
+     * Set the value at the given compiled path.
+     *
+     * @param path The value's path. Does not necessarily exist before.
+     * @param value The new value.
+     * @see #setLong(String, long)
+     */
+    default void setLong(@NotNull ConfigPath path, long value){
+        this.setLong(path.toString(), value);
+    }
+
+    /**
+     * Read the value at the given compiled path and parse it into a short.
+     *
+     * @param path The value's path.
+     * @return The value at the given path or an empty optional.
+     * @see #getShort(String)
+     */
+    default @NotNull Optional<Short> getShort(@NotNull ConfigPath path){
+        return this.getShort(path.toString());
+    }
+
+    /**
+     * Set the value at the given compiled path.
+     *
+     * @param path The value's path. Does not necessarily exist before.
+     * @param value The new value.
+     * @see #setShort(String, short)
+     */
+    default void setShort(@NotNull ConfigPath path, short value){
+        this.setShort(path.toString(), value);
+    }
+
+    /**
+     * Read the value at the given compiled path and parse it into a float.
+     *
+     * @param path The value's path.
+     * @return The value at the given path or an empty optional.
+     * @see #getFloat(String)
+     */
+    default @NotNull Optional<Float> getFloat(@NotNull ConfigPath path){
+        return this.getFloat(path.toString());
+    }
+
+    /**
+     * Set the value at the given compiled path.
+     *
+     * @param path The value's path. Does not necessarily exist before.
+     * @param value The new value.
+     * @see #setFloat(String, float)
+     */
+    default void setFloat(@NotNull ConfigPath path, float value){
+        this.setFloat(path.toString(), value);
+    }
+
+    /**
+     * Read the value at the given compiled path and parse it into a double.
+     *
+     * @param path The value's path.
+     * @return The value at the given path or an empty optional.
+     * @see #getDouble(String)
+     */
+    default @NotNull Optional<Double> getDouble(@NotNull ConfigPath path){
+        return this.getDouble(path.toString());
+    }
+
+    /**
+     * Read the value at the given compiled path and parse it into a double without boxing it.
+     *
+     * @param path The value's path.
+     * @param def The value to return if there is no value at the given path.
+     * @return The value at the given path or the given default value.
+     * @see #getDouble(String, double)
+     */
+    default double getDouble(@NotNull ConfigPath path, double def){
+        Optional<Double> value = this.getDouble(path);
+        return value.isPresent() ? value.get() : def;
+    }
+
+    /**
+     * Set the value at the given compiled path.
+     *
+     * @param path The value's path. Does not necessarily exist before.
+     * @param value The new value.
+     * @see #setDouble(String, double)
+     */
+    default void setDouble(@NotNull ConfigPath path, double value){
+        this.setDouble(path.toString(), value);
+    }
+
+    /**
+     * Read the value at the given compiled path and parse it into a char.
+     *
+     * @param path The value's path.
+     * @return The value at the given path or an empty optional.
+     * @see #getChar(String)
+     */
+    default @NotNull Optional<Character> getChar(@NotNull ConfigPath path){
+        return this.getChar(path.toString());
+    }
+
+    /**
+     * Set the value at the given compiled path.
+     *
+     * @param path The value's path. Does not necessarily exist before.
+     * @param value The new value.
+     * @see #setChar(String, char)
+     */
+    default void setChar(@NotNull ConfigPath path, char value){
+        this.setChar(path.toString(), value);
+    }
+
+    /**
+     * Read the value at the given compiled path and parse it into a boolean.
+     *
+     * @param path The value's path.
+     * @return The value at the given path or an empty optional.
+     * @see #getBoolean(String)
+     */
+    default @NotNull Optional<Boolean> getBoolean(@NotNull ConfigPath path){
+        return this.getBoolean(path.toString());
+    }
+
+    /**
+     * Read the value at the given compiled path and parse it into a boolean without boxing it.
+     *
+     * @param path The value's path.
+     * @param def The value to return if there is no value at the given path.
+     * @return The value at the given path or the given default value.
+     * @see #getBoolean(String, boolean)
+     */
+    default boolean getBoolean(@NotNull ConfigPath path, boolean def){
+        Optional<Boolean> value = this.getBoolean(path);
+        return value.isPresent() ? value.get() : def;
+    }
+
+    /**
+     * Set the value at the given compiled path.
+     *
+     * @param path The value's path. Does not necessarily exist before.
+     * @param value The new value.
+     * @see #setBoolean(String, boolean)
+     */
+    default void setBoolean(@NotNull ConfigPath path, boolean value){
+        this.setBoolean(path.toString(), value);
+    }
+
+    /**
+     * Read the value at the given compiled path and parse it into a string.
+     *
+     * @param path The value's path.
+     * @return The value at the given path or an empty optional.
+     * @see #getString(String)
+     */
+    default @NotNull Optional<String> getString(@NotNull ConfigPath path){
+        return this.getString(path.toString());
+    }
+
+    /**
+     * Set the value at the given compiled path.
+     *
+     * @param path The value's path. Does not necessarily exist before.
+     * @param value The new value.
+     * @see #setString(String, String)
+     */
+    default void setString(@NotNull ConfigPath path, String value){
+        this.setString(path.toString(), value);
+    }
+
+    /**
+     * Get the list from the given compiled path.
+     *
+     * @param path The value's path.
+     * @param classOfT The type of elements inside the list.
+     * @return The list retrieved from the given path or an empty optional if no list was found.
+     * @see #getList(String, Class)
+     */
+    default @NotNull <T> Optional<List<T>> getList(@NotNull ConfigPath path, @NotNull Class<T> classOfT){
+        return this.getList(path.toString(), classOfT);
+    }
+
+    /**
+     * Set the given list at the given compiled path.
+     *
+     * @param path The path to set the list to. Does not necessarily exist before.
+     * @param list The list to set.
+     * @see #setList(String, List)
+     */
+    default <T> void setList(@NotNull ConfigPath path, List<T> list){
+        this.setList(path.toString(), list);
+    }
+
+    /**
+     * Get the array at the given compiled path.
+     *
+     * @param path The array's path.
+     * @param classOfT The type of the objects inside the array.
+     * @return The array read from the path or an empty optional.
+     * @see #getArray(String, Class)
+     */
+    default @NotNull <T> Optional<T[]> getArray(@NotNull ConfigPath path, @NotNull Class<T> classOfT){
+        return this.getArray(path.toString(), classOfT);
+    }
+
+    /**
+     * Set the given array at the given compiled path.
+     *
+     * @param path The path to set the array to. Does not necessarily exist before.
+     * @param array The array to set.
+     * @see #setArray(String, Object[])
+     */
+    default <T> void setArray(@NotNull ConfigPath path, T[] array){
+        this.setArray(path.toString(), array);
+    }
+
+    /**
+     * Get the object at the given compiled path.
+     *
+     * @param path The path to that object.
+     * @return The object at that path or an empty optional.
+     * @see #get(String, Class)
+     */
+    default @NotNull <T> Optional<T> get(@NotNull ConfigPath path, @NotNull Class<T> classOfT){
+        return this.get(path.toString(), classOfT);
+    }
+
+    /**
+     * Set the given object at the given compiled path.
+     *
+     * @param path The path to that object. Does not necessarily exist before.
+     * @param value The object to set.
+     * @see #set(String, Object)
+     */
+    default <T> void set(@NotNull ConfigPath path, T value){
+        this.set(path.toString(), value);
+    }
+
 }
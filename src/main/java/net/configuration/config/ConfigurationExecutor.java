@@ -0,0 +1,190 @@
+package net.configuration.config;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs the asynchronous saves and reloads of configurations, see {@link Configuration#saveAsync()} and
+ * {@link Configuration#reloadAsync()}. The operations of one configuration run one after another, and an operation
+ * that is requested while the same operation is already waiting is merged into the waiting one. This way a burst of
+ * saves results in at most two writes: the one that is running and one that contains all later changes.
+ */
+public final class ConfigurationExecutor {
+
+    private static volatile Executor defaultExecutor = createDefaultExecutor();
+
+    /**
+     * The executors of the configurations that have a running or queued operation. An executor is removed as soon as
+     * it becomes idle, so that idle configurations are not kept alive by this map. All executors are guarded by the
+     * lock of this map, which makes the lookup of an executor and its removal atomic.
+     */
+    private static final Map<Configuration, ConfigurationExecutor> EXECUTORS = new IdentityHashMap<>();
+
+    @NotNull private final Configuration config;
+    @NotNull private final Deque<Operation> queued = new ArrayDeque<>();
+    private boolean running = false;
+
+    private ConfigurationExecutor(@NotNull Configuration config){
+        this.config = config;
+    }
+
+    /**
+     * @return The executor that runs asynchronous operations if no other executor is given.
+     */
+    @NotNull
+    public static Executor getDefaultExecutor() {
+        return defaultExecutor;
+    }
+
+    /**
+     * Set the executor that runs asynchronous operations if no other executor is given. By default, each operation
+     * runs in its own virtual thread if the JVM supports them, or in a daemon thread of a cached pool otherwise.
+     *
+     * @param executor The new default executor.
+     */
+    public static void setDefaultExecutor(@NotNull Executor executor) {
+        defaultExecutor = executor;
+    }
+
+    /**
+     * Save the given configuration asynchronously.
+     *
+     * @param config The configuration to save.
+     * @param executor The executor to run the save with.
+     * @return A future that completes with the result of {@link Configuration#save()}.
+     */
+    @NotNull
+    static CompletableFuture<Boolean> save(@NotNull Configuration config, @NotNull Executor executor){
+        return submit(config, Kind.SAVE, executor);
+    }
+
+    /**
+     * Reload the given configuration asynchronously.
+     *
+     * @param config The configuration to reload.
+     * @param executor The executor to run the reload with.
+     * @return A future that completes with the result of {@link Configuration#reload()}.
+     */
+    @NotNull
+    static CompletableFuture<Boolean> reload(@NotNull Configuration config, @NotNull Executor executor){
+        return submit(config, Kind.RELOAD, executor);
+    }
+
+    /**
+     * Queue an operation of the given configuration. If the last queued operation is of the same kind and did not
+     * start yet, its future is returned instead.
+     *
+     * @param config The configuration.
+     * @param kind The kind of the operation.
+     * @param executor The executor to run the operation with.
+     * @return The future of the operation.
+     */
+    @NotNull
+    private static CompletableFuture<Boolean> submit(@NotNull Configuration config, @NotNull Kind kind, @NotNull Executor executor){
+        ConfigurationExecutor serializer;
+        Operation operation;
+        synchronized(EXECUTORS){
+            serializer = EXECUTORS.computeIfAbsent(config, ConfigurationExecutor::new);
+            Operation last = serializer.queued.peekLast();
+            if(last != null && last.kind() == kind)
+                return last.future();
+
+            operation = new Operation(kind, executor, new CompletableFuture<>());
+            if(serializer.running){
+                serializer.queued.addLast(operation);
+                return operation.future();
+            }
+
+            serializer.running = true;
+        }
+
+        serializer.start(operation);
+        return operation.future();
+    }
+
+    /**
+     * Run the given operation on its executor and start the next queued operation afterwards.
+     *
+     * @param operation The operation to run.
+     */
+    private void start(@NotNull Operation operation){
+        try{
+            operation.executor().execute(() -> {
+                try{
+                    boolean result = operation.kind() == Kind.SAVE ? this.config.save() : this.config.reload();
+                    operation.future().complete(result);
+
+                }catch(Throwable t){
+                    operation.future().completeExceptionally(t);
+
+                }finally{
+                    this.startNext();
+                }
+            });
+
+        }catch(RejectedExecutionException e){
+            operation.future().completeExceptionally(e);
+            this.startNext();
+        }
+    }
+
+    /**
+     * Start the next queued operation, if there is any. Otherwise, this executor is idle and removed.
+     */
+    private void startNext(){
+        Operation next;
+        synchronized(EXECUTORS){
+            next = this.queued.pollFirst();
+            this.running = next != null;
+            if(!this.running)
+                EXECUTORS.remove(this.config);
+        }
+
+        if(next != null)
+            this.start(next);
+    }
+
+    /**
+     * @return An executor that runs each task in a new virtual thread if available, or a cached pool of daemon threads.
+     */
+    @NotNull
+    private static Executor createDefaultExecutor(){
+        try{
+            //virtual threads are only available on JDK 21+, so they are looked up reflectively
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (Executor) factory.invoke(null);
+
+        }catch(ReflectiveOperationException | UnsupportedOperationException e){
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "configuration-io");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * The kinds of operations.
+     */
+    private enum Kind {
+        SAVE, RELOAD
+    }
+
+    /**
+     * A queued operation.
+     *
+     * @param kind The kind of the operation.
+     * @param executor The executor to run the operation with.
+     * @param future The future that is completed with the result of the operation.
+     */
+    private record Operation(@NotNull Kind kind, @NotNull Executor executor, @NotNull CompletableFuture<Boolean> future){ }
+}
@@ -0,0 +1,24 @@
+package net.configuration.config;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+
+/**
+ * Listens for reloads of configurations that are watched by a {@link ConfigurationWatcher}.
+ */
+@FunctionalInterface
+public interface ConfigurationListener {
+
+    /**
+     * Called on the thread of the watcher after the configuration was reloaded because its file changed. Reloads that
+     * did not change any value are not reported. If the configuration cannot list its values, because it does not
+     * override {@link FileConfiguration#getValues()}, the changed paths are unknown and the set is empty.
+     *
+     * @param config The reloaded configuration.
+     * @param changed The paths whose values were added, removed or changed by the reload, or an empty set if any value
+     *                may have changed.
+     */
+    void onReload(@NotNull Configuration config, @NotNull Set<String> changed);
+
+}
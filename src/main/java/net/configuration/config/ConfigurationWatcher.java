@@ -0,0 +1,365 @@
+package net.configuration.config;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * Reloads file configurations when their files are changed, so that changes can be applied without a restart. The
+ * watcher listens for file system events with a {@link WatchService} in a single daemon thread. Events of the same
+ * file are debounced: a file is only checked after it did not change for the debounce time, so an editor that writes
+ * a file in several steps causes one reload. A file whose size and modification time did not change, or whose content
+ * has the same hash as before, is not reloaded at all.
+ * <pre>{@code
+ * ConfigurationWatcher.getDefault().register(config, (c, changed) -> {
+ *     if(changed.contains("server.motd"))
+ *         server.updateMotd(c.getString("server.motd").orElse(""));
+ * });
+ * }</pre>
+ */
+public final class ConfigurationWatcher implements AutoCloseable {
+
+    /**
+     * The debounce time of the default watcher.
+     */
+    public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(100);
+
+    private static volatile ConfigurationWatcher defaultWatcher;
+
+    private final long debounce;
+    @NotNull private final WatchService service;
+
+    @NotNull private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+    @NotNull private final Map<Path, WatchKey> directories = new HashMap<>();
+    private volatile boolean closed = false;
+
+    /**
+     * Create a new watcher and start its thread.
+     *
+     * @param debounce The time a file has to be left unchanged before it is checked and reloaded.
+     * @throws ConfigurationException If the file system does not support watching files.
+     */
+    public ConfigurationWatcher(@NotNull Duration debounce){
+        this.debounce = debounce.toNanos();
+        try{
+            this.service = FileSystems.getDefault().newWatchService();
+        }catch(IOException e){
+            throw new ConfigurationException(e);
+        }
+
+        Thread thread = new Thread(this::run, "configuration-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * @return The watcher that is used by {@link FileConfiguration#watch(ConfigurationListener)}. It is created on the
+     * first call and runs until the JVM exits.
+     */
+    @NotNull
+    public static ConfigurationWatcher getDefault(){
+        ConfigurationWatcher watcher = defaultWatcher;
+        if(watcher != null)
+            return watcher;
+
+        synchronized(ConfigurationWatcher.class){
+            if(defaultWatcher == null)
+                defaultWatcher = new ConfigurationWatcher(DEFAULT_DEBOUNCE);
+
+            return defaultWatcher;
+        }
+    }
+
+    /**
+     * Reload the given configuration whenever its file changes and notify the given listener afterwards. The
+     * configuration is either a {@link FileConfiguration} or a {@link ConcurrentConfiguration} that wraps one. In the
+     * latter case, the reload is done through the concurrent view, so other threads can keep reading it.
+     *
+     * @param config The configuration to watch.
+     * @param listener The listener to notify after a reload that changed any value.
+     * @throws IllegalArgumentException If the configuration is not backed by a file.
+     * @throws ConfigurationException If the file is already watched for another configuration or cannot be watched.
+     */
+    public void register(@NotNull Configuration config, @NotNull ConfigurationListener listener){
+        FileConfiguration fileConfig;
+        Supplier<Optional<Set<String>>> reloader;
+        if(config instanceof FileConfiguration fc){
+            fileConfig = fc;
+            reloader = fc::reloadChanges;
+
+        }else if(config instanceof ConcurrentConfiguration cc && cc.getConfiguration() instanceof FileConfiguration fc){
+            fileConfig = fc;
+            reloader = cc::reloadChanges;
+
+        }else{
+            throw new IllegalArgumentException("Not backed by a file: " + config.getClass());
+        }
+
+        Path file = fileConfig.file.toPath().toAbsolutePath().normalize();
+        synchronized(this){
+            if(this.closed)
+                throw new IllegalStateException("The watcher is closed");
+
+            Entry entry = this.entries.get(file);
+            if(entry == null){
+                this.watchDirectory(file.getParent());
+                entry = new Entry(config, reloader, fingerprint(file, null));
+                this.entries.put(file, entry);
+
+            }else if(entry.config != config){
+                throw new ConfigurationException("The file " + file + " is already watched for another configuration");
+            }
+
+            entry.listeners.add(listener);
+        }
+    }
+
+    /**
+     * Stop watching the file of the given configuration.
+     *
+     * @param config A configuration that was registered before.
+     */
+    public synchronized void unregister(@NotNull Configuration config){
+        this.entries.values().removeIf(entry -> entry.config == config);
+
+        //stop watching directories without any watched files
+        this.directories.entrySet().removeIf(e -> {
+            boolean used = this.entries.keySet().stream().anyMatch(file -> e.getKey().equals(file.getParent()));
+            if(!used)
+                e.getValue().cancel();
+
+            return !used;
+        });
+    }
+
+    /**
+     * Stop the thread of this watcher. Configurations are not reloaded afterwards.
+     */
+    @Override
+    public void close(){
+        synchronized(this){
+            this.closed = true;
+            this.entries.clear();
+            this.directories.clear();
+        }
+
+        try{
+            this.service.close();
+        }catch(IOException e){
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Register the given directory at the watch service, if it is not watched already.
+     *
+     * @param directory The directory of a watched file.
+     * @throws ConfigurationException If the directory cannot be watched.
+     */
+    private void watchDirectory(@NotNull Path directory){
+        if(this.directories.containsKey(directory))
+            return;
+
+        try{
+            //editors often replace a file instead of writing it, which shows up as a creation
+            WatchKey key = directory.register(this.service, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+            this.directories.put(directory, key);
+
+        }catch(IOException e){
+            throw new ConfigurationException(e);
+        }
+    }
+
+    /**
+     * The loop of the watcher thread. It collects the changed files with the time they have to be checked at, and
+     * checks each file as soon as its time has come.
+     */
+    private void run(){
+        Map<Path, Long> pending = new HashMap<>();
+        while(!this.closed){
+            try{
+                WatchKey key;
+                if(pending.isEmpty()){
+                    key = this.service.take();
+                }else{
+                    long wait = Collections.min(pending.values()) - System.nanoTime();
+                    key = this.service.poll(Math.max(wait, 0), TimeUnit.NANOSECONDS);
+                }
+
+                if(key != null)
+                    this.collect(key, pending);
+
+                long now = System.nanoTime();
+                Iterator<Map.Entry<Path, Long>> it = pending.entrySet().iterator();
+                while(it.hasNext()){
+                    Map.Entry<Path, Long> e = it.next();
+                    if(e.getValue() - now <= 0){
+                        it.remove();
+                        this.check(e.getKey());
+                    }
+                }
+
+            }catch(ClosedWatchServiceException e){
+                return;
+
+            }catch(InterruptedException e){
+                Thread.currentThread().interrupt();
+                return;
+
+            }catch(RuntimeException e){
+                //this thread serves every watched file, so it must survive the failure of a single one
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Add the watched files that are affected by the events of the given key to the pending files. A file that is
+     * already pending is checked later, after it did not change for the debounce time.
+     *
+     * @param key A signalled watch key.
+     * @param pending The pending files with the time they are checked at.
+     */
+    private void collect(@NotNull WatchKey key, @NotNull Map<Path, Long> pending){
+        Path directory = (Path) key.watchable();
+        long deadline = System.nanoTime() + this.debounce;
+        for(WatchEvent<?> event : key.pollEvents()){
+            if(event.kind() == StandardWatchEventKinds.OVERFLOW){
+                //events were lost, so every file in this directory might have changed
+                for(Path file : this.entries.keySet()){
+                    if(directory.equals(file.getParent()))
+                        pending.put(file, deadline);
+                }
+
+            }else{
+                Path file = directory.resolve((Path) event.context());
+                if(this.entries.containsKey(file))
+                    pending.put(file, deadline);
+            }
+        }
+
+        key.reset();
+    }
+
+    /**
+     * Reload the configuration of the given file if the content of the file changed and notify the listeners.
+     *
+     * @param file The file to check.
+     */
+    private void check(@NotNull Path file){
+        Entry entry = this.entries.get(file);
+        if(entry == null)
+            return;
+
+        Fingerprint previous = entry.fingerprint;
+        Fingerprint current = fingerprint(file, previous);
+        if(current == null || current == previous)
+            return; //deleted or unchanged
+
+        entry.fingerprint = current;
+        if(previous != null && previous.hash() == current.hash())
+            return;
+
+        Optional<Set<String>> changed;
+        try{
+            changed = entry.reloader.get();
+        }catch(RuntimeException e){
+            //the file is malformed or only partially written, so keep the old state and retry on the next change
+            e.printStackTrace();
+            entry.fingerprint = previous;
+            return;
+        }
+
+        if(changed.isEmpty() || (changed.get().isEmpty() && changed.get() != FileConfiguration.UNKNOWN_CHANGES))
+            return;
+
+        Set<String> paths = Collections.unmodifiableSet(changed.get());
+        for(ConfigurationListener listener : entry.listeners){
+            try{
+                listener.onReload(entry.config, paths);
+            }catch(RuntimeException e){
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Compute the fingerprint of the given file. The content is only hashed if the size or the modification time
+     * differ from the previous fingerprint.
+     *
+     * @param file The file.
+     * @param previous The previous fingerprint of that file, if there is one.
+     * @return The previous fingerprint if the file is unchanged, a new fingerprint if it changed, or null if the file
+     * cannot be read.
+     */
+    @Nullable
+    private static Fingerprint fingerprint(@NotNull Path file, @Nullable Fingerprint previous){
+        try{
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if(previous != null && previous.size() == attributes.size() && previous.modified().equals(attributes.lastModifiedTime()))
+                return previous;
+
+            CRC32 crc = new CRC32();
+            try(InputStream in = Files.newInputStream(file)){
+                byte[] buffer = new byte[8192];
+                for(int read = in.read(buffer); read >= 0; read = in.read(buffer)){
+                    crc.update(buffer, 0, read);
+                }
+            }
+
+            return new Fingerprint(attributes.size(), attributes.lastModifiedTime(), crc.getValue());
+
+        }catch(NoSuchFileException e){
+            //the file is replaced right now, the creation of the new file triggers another check
+            return null;
+
+        }catch(IOException e){
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * The state of a file at the time it was last checked.
+     *
+     * @param size The size of the file.
+     * @param modified The last modification time of the file.
+     * @param hash The CRC32 checksum of the content.
+     */
+    private record Fingerprint(long size, @NotNull FileTime modified, long hash){ }
+
+    /**
+     * A watched file.
+     */
+    private static final class Entry {
+
+        @NotNull private final Configuration config;
+        @NotNull private final Supplier<Optional<Set<String>>> reloader;
+        @NotNull private final List<ConfigurationListener> listeners = new CopyOnWriteArrayList<>();
+        @Nullable private volatile Fingerprint fingerprint;
+
+        /**
+         * @param config The registered configuration.
+         * @param reloader Reloads the configuration and returns the changed paths.
+         * @param fingerprint The state of the file at registration.
+         */
+        private Entry(@NotNull Configuration config, @NotNull Supplier<Optional<Set<String>>> reloader, @Nullable Fingerprint fingerprint){
+            this.config = config;
+            this.reloader = reloader;
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -3,18 +3,23 @@ package net.configuration.config;
 import net.configuration.serializable.api.SerializableType;
 import net.configuration.serializable.api.SerializedObject;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 public abstract class FileConfiguration implements Configuration{
 
+    /**
+     * The result of {@link #reloadChanges()} if the configuration cannot list its values. It is compared by identity,
+     * because an empty set of changes otherwise means that the reload did not change anything.
+     */
+    static final Set<String> UNKNOWN_CHANGES = Collections.unmodifiableSet(new HashSet<>());
+
     @NotNull protected final File file;
 
     protected FileConfiguration(File file) throws IOException {
@@ -64,6 +69,69 @@ public abstract class FileConfiguration implements Configuration{
         this.setList(path, List.of(array));
     }
 
+    /**
+     * Reload this configuration whenever its file is changed by someone else, using the default
+     * {@link ConfigurationWatcher}. Note that a reload discards all changes that were not saved and runs on the thread
+     * of the watcher, so a configuration that is read by other threads should be wrapped in a
+     * {@link ConcurrentConfiguration} and registered with {@link ConfigurationWatcher#register(Configuration, ConfigurationListener)}.
+     *
+     * @param listener The listener that is notified after each reload.
+     * @throws ConfigurationException If the file could not be watched.
+     */
+    public void watch(@NotNull ConfigurationListener listener){
+        ConfigurationWatcher.getDefault().register(this, listener);
+    }
+
+    /**
+     * Stop reloading this configuration when its file changes.
+     *
+     * @see #watch(ConfigurationListener)
+     */
+    public void unwatch(){
+        ConfigurationWatcher.getDefault().unregister(this);
+    }
+
+    /**
+     * Get all values of this configuration as strings, keyed by their full path. Nested values use the same dotted
+     * paths that the getters accept. The result is used to find out which paths were changed by a reload. The default
+     * implementation returns null, so the changed paths of a configuration that does not override this method are
+     * unknown and its listeners are notified with an empty set, see {@link ConfigurationListener}.
+     *
+     * @return A new map of all values in this configuration or null, if the values cannot be listed.
+     */
+    @Nullable
+    protected Map<String, String> getValues(){
+        return null;
+    }
+
+    /**
+     * Reload this configuration and collect the paths whose values were added, removed or changed by it.
+     *
+     * @return The changed paths, {@link #UNKNOWN_CHANGES} if this configuration cannot list its values, or an empty
+     * optional, if the configuration could not be reloaded.
+     */
+    @NotNull
+    Optional<Set<String>> reloadChanges(){
+        Map<String, String> before = this.getValues();
+        if(!this.reload())
+            return Optional.empty();
+
+        Map<String, String> after = this.getValues();
+        if(before == null || after == null)
+            return Optional.of(UNKNOWN_CHANGES);
+
+        Set<String> changed = new HashSet<>();
+        for(var e : after.entrySet()){
+            if(!e.getValue().equals(before.get(e.getKey())))
+                changed.add(e.getKey());
+        }
+        for(String path : before.keySet()){
+            if(!after.containsKey(path))
+                changed.add(path);
+        }
+
+        return Optional.of(changed);
+    }
 
     /**
      * Fetch the data field of the given serialized object.
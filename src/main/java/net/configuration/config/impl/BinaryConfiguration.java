@@ -0,0 +1,206 @@
+package net.configuration.config.impl;
+
+import net.configuration.config.ConfigurationException;
+import net.configuration.serializable.api.Creator;
+import net.configuration.serializable.api.SerializableObject;
+import net.configuration.serializable.api.SerializableType;
+import net.configuration.serializable.impl.types.BinarySerializedObject;
+import org.apache.commons.lang3.ClassUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.*;
+
+public class BinaryConfiguration extends ByteConfiguration {
+
+    private static final String LIST_NAME = "list";
+
+    @SuppressWarnings("unused") // called via reflection API
+    protected BinaryConfiguration(File file) throws IOException {
+        super(file, false);
+
+        this.load();
+    }
+
+    @Override
+    public boolean save() {
+        BinarySerializedObject obj = (BinarySerializedObject) SerializableType.BINARY.createEmpty();
+        for(var e : this.config.entrySet()){
+            obj.setString(e.getKey(), e.getValue());
+        }
+
+        try(FileOutputStream fout = new FileOutputStream(this.file)){
+            obj.writeToStream(fout);
+            return true;
+        }catch(IOException e){
+            e.printStackTrace();
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean reload() {
+        try {
+            this.load();
+            this.values.clear();
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull <T> Optional<List<T>> getList(@NotNull String path, @NotNull Class<T> classOfT) {
+        if(!(this.hasMember(path)))
+            return Optional.empty();
+
+        String elem = this.getString(path).orElseThrow();
+        if(classOfT == String.class || ClassUtils.isPrimitiveOrWrapper(classOfT)){
+            return this.values.decodeList(path, classOfT, elem);
+
+        }else if(SerializableObject.class.isAssignableFrom(classOfT)){
+            BinarySerializedObject obj = this.decode(elem);
+            Collection<SerializableObject> list = obj.getList(LIST_NAME, (Class<? extends SerializableObject>) classOfT)
+                    .orElseThrow(() -> new ConfigurationException("Could not read list at " + path));
+
+            List<T> res = new ArrayList<>(list.size());
+            for(var e : list){
+                res.add((T) e);
+            }
+
+            return Optional.of(res);
+
+        }else if(classOfT.isEnum()){
+            return this.values.decodeList(path, classOfT, elem);
+
+        }else{
+            throw new ConfigurationException("Could not read list. Invalid element type " + classOfT);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> void setList(@NotNull String path, List<T> list) {
+        if(list == null || list.isEmpty() || list.get(0) == null)
+            throw new ConfigurationException("Cannot write an empty list or a list with null elements");
+
+        Class<T> classOfT = (Class<T>) list.get(0).getClass();
+        if(classOfT == String.class || ClassUtils.isPrimitiveOrWrapper(classOfT)){
+            this.setString(path, this.convertPrimitiveList(list));
+
+        }else if(SerializableObject.class.isAssignableFrom(classOfT)){
+            //all elements are written into one object, so they share a single field table
+            BinarySerializedObject obj = (BinarySerializedObject) SerializableType.BINARY.createEmpty();
+            obj.setList(LIST_NAME, (List<? extends SerializableObject>) list);
+            this.setString(path, obj.toString());
+
+        }else if(classOfT.isEnum()){
+            this.setEnumList(path, list);
+
+        }else{
+            throw new ConfigurationException("Could not set list " + list + ". Invalid element type " + classOfT);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull <T> Optional<T> get(@NotNull String path, @NotNull Class<T> classOfT) {
+        if(!this.hasMember(path))
+            return Optional.empty();
+
+        String elem = this.getString(path).orElseThrow();
+        if(elem.equalsIgnoreCase("null"))
+            return Optional.empty();
+
+        //read a valid object
+        if(ClassUtils.isPrimitiveOrWrapper(classOfT) || classOfT == String.class){
+            return this.values.decodeValue(path, classOfT, elem);
+
+        }else if(List.class.isAssignableFrom(classOfT)){
+            throw new ConfigurationException("Cannot get a list this way. Use getList(..) instead.");
+
+        }else if(SerializableObject.class.isAssignableFrom(classOfT)){
+            BinarySerializedObject obj = BinarySerializedObject.fromString(elem, classOfT);
+            SerializableObject val = Creator.getCreator((Class<? extends SerializableObject>) classOfT).read(obj);
+            return Optional.of((T) val);
+
+        }else if(classOfT.isEnum()){
+            return this.values.decodeValue(path, classOfT, elem);
+
+        }else if(classOfT.isArray()){
+            throw new ConfigurationException("Cannot get an array this way. Use getList(..) instead.");
+
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> void set(@NotNull String path, T value) {
+        if(value == null){
+            this.setString(path, "null");
+            return;
+        }
+
+        Class<T> classOfT = (Class<T>) value.getClass();
+        if(ClassUtils.isPrimitiveOrWrapper(classOfT) || classOfT == String.class){
+            this.setString(path, String.valueOf(value));
+
+
+        }else if(List.class.isAssignableFrom(classOfT)){
+            this.setList(path, (List<?>) value);
+
+        }else if(SerializableObject.class.isAssignableFrom(classOfT)){
+            BinarySerializedObject obj = new BinarySerializedObject(classOfT);
+            ((SerializableObject) value).write(obj);
+            obj.flush();
+
+            this.setString(path, obj.toString());
+
+        }else if(classOfT.isEnum()){
+            this.setString(path, value.toString());
+
+        }else if(classOfT.isArray()){
+            this.setArray(path, (Object[]) value);
+
+        }else{
+            throw new ConfigurationException("Not a serializable object: " + classOfT);
+        }
+    }
+
+    /**
+     * Decode the string representation of a binary object without binding it to a class.
+     *
+     * @param elem The base64 string representation of the object.
+     * @return The decoded binary object.
+     */
+    @NotNull
+    private BinarySerializedObject decode(@NotNull String elem){
+        return new BinarySerializedObject(ByteBuffer.wrap(Base64.getDecoder().decode(elem)));
+    }
+
+    /**
+     * Read the file data from the file that this config is based on and parse it into this config's data map.
+     *
+     * @throws IOException If the file data could not be read,
+     */
+    private void load() throws IOException {
+        byte[] bytes = Files.readAllBytes(this.file.toPath());
+        BinarySerializedObject obj = new BinarySerializedObject(ByteBuffer.wrap(bytes));
+        Map<String, Object> data = this.getDataFieldFromSerializedObject(obj);
+
+        this.config = new HashMap<>();
+        for(var e : data.entrySet()){
+            this.config.put(e.getKey(), String.valueOf(e.getValue()));
+        }
+    }
+}
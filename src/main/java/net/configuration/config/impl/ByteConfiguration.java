@@ -4,6 +4,7 @@ import net.configuration.config.ConfigurationException;
 import net.configuration.config.FileConfiguration;
 import net.configuration.serializable.api.Creator;
 import net.configuration.serializable.api.SerializableObject;
+import net.configuration.serializable.impl.BinaryWriter;
 import net.configuration.serializable.impl.SerializationHelper;
 import net.configuration.serializable.impl.types.ByteSerializedObject;
 import org.apache.commons.lang3.ClassUtils;
@@ -13,13 +14,13 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.*;
 
 public class ByteConfiguration extends FileConfiguration {
 
     protected Map<String, String> config;
+    @NotNull final ValueCache values = new ValueCache(); //the decoded values, shared with the subclasses
 
     @SuppressWarnings("unused") // called via reflection API
     protected ByteConfiguration(File file) throws IOException {
@@ -51,6 +52,7 @@ public class ByteConfiguration extends FileConfiguration {
         try {
             byte[] bytes = Files.readAllBytes(file.toPath());
             this.config = ByteSerializedObject.load(ByteBuffer.wrap(bytes));
+            this.values.clear();
             return true;
         } catch (IOException e) {
             e.printStackTrace();
@@ -59,6 +61,11 @@ public class ByteConfiguration extends FileConfiguration {
         return false;
     }
 
+    @Override
+    protected @NotNull Map<String, String> getValues() {
+        return new HashMap<>(this.config);
+    }
+
     @Override
     public boolean hasMember(@NotNull String path) {
         return config.containsKey(path);
@@ -66,10 +73,7 @@ public class ByteConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Byte> getByte(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Byte.valueOf(this.config.get(path)));
+        return this.values.decode(path, Byte.class, this.config.get(path), Byte::valueOf);
     }
 
     @Override
@@ -79,10 +83,7 @@ public class ByteConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Integer> getInt(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Integer.valueOf(this.config.get(path)));
+        return this.values.decode(path, Integer.class, this.config.get(path), Integer::valueOf);
     }
 
     @Override
@@ -92,10 +93,7 @@ public class ByteConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Long> getLong(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Long.valueOf(this.config.get(path)));
+        return this.values.decode(path, Long.class, this.config.get(path), Long::valueOf);
     }
 
     @Override
@@ -105,10 +103,7 @@ public class ByteConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Short> getShort(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Short.valueOf(this.config.get(path)));
+        return this.values.decode(path, Short.class, this.config.get(path), Short::valueOf);
     }
 
     @Override
@@ -118,10 +113,7 @@ public class ByteConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Float> getFloat(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Float.valueOf(this.config.get(path)));
+        return this.values.decode(path, Float.class, this.config.get(path), Float::valueOf);
     }
 
     @Override
@@ -131,10 +123,7 @@ public class ByteConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Double> getDouble(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Double.valueOf(this.config.get(path)));
+        return this.values.decode(path, Double.class, this.config.get(path), Double::valueOf);
     }
 
     @Override
@@ -144,10 +133,7 @@ public class ByteConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Character> getChar(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(this.config.get(path).charAt(0));
+        return this.values.decode(path, Character.class, this.config.get(path), raw -> raw.charAt(0));
     }
 
     @Override
@@ -157,10 +143,7 @@ public class ByteConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Boolean> getBoolean(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Boolean.valueOf(this.config.get(path)));
+        return this.values.decode(path, Boolean.class, this.config.get(path), Boolean::valueOf);
     }
 
     @Override
@@ -170,10 +153,7 @@ public class ByteConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<String> getString(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(this.config.get(path));
+        return this.values.decode(path, String.class, this.config.get(path), raw -> raw);
     }
 
     @Override
@@ -189,7 +169,7 @@ public class ByteConfiguration extends FileConfiguration {
 
         String elem = this.getString(path).orElseThrow();
         if(classOfT == String.class || ClassUtils.isPrimitiveOrWrapper(classOfT)){
-            return Optional.of(this.getPrimitiveList(elem, classOfT));
+            return this.values.decodeList(path, classOfT, elem);
 
         }else if(SerializableObject.class.isAssignableFrom(classOfT)){
             List<T> res = new ArrayList<>();
@@ -203,8 +183,7 @@ public class ByteConfiguration extends FileConfiguration {
             return Optional.of(res);
 
         }else if(classOfT.isEnum()){
-            List<String> names = this.getPrimitiveList(elem, String.class);
-            return Optional.of(this.getEnumList(names, classOfT));
+            return this.values.decodeList(path, classOfT, elem);
 
         }else{
             throw new ConfigurationException("Could not read list. Invalid element type " + classOfT);
@@ -253,8 +232,7 @@ public class ByteConfiguration extends FileConfiguration {
 
         //read a valid object
         if(ClassUtils.isPrimitiveOrWrapper(classOfT) || classOfT == String.class){
-            Object prim = Objects.requireNonNull(SerializationHelper.extractPrimitive(elem, classOfT));
-            return Optional.of((T) prim);
+            return this.values.decodeValue(path, classOfT, elem);
 
         }else if(List.class.isAssignableFrom(classOfT)){
             throw new ConfigurationException("Cannot get a list this way. Use getList(..) instead.");
@@ -265,7 +243,7 @@ public class ByteConfiguration extends FileConfiguration {
             return Optional.of((T) val);
 
         }else if(classOfT.isEnum()){
-            return Optional.of(this.convertToEnum(elem, classOfT));
+            return this.values.decodeValue(path, classOfT, elem);
 
         }else if(classOfT.isArray()){
             throw new ConfigurationException("Cannot get an array this way. Use getList(..) instead.");
@@ -316,25 +294,10 @@ public class ByteConfiguration extends FileConfiguration {
      * @return The byte[] representation of the current config state.
      */
     private byte[] toByteArray(){
-        ByteBuffer buffer = ByteBuffer.allocate(ByteSerializedObject.BUFFER_SIZE);
-        for(var e : this.config.entrySet()){
-            byte[] entry = (e.getKey() + "{;}" + e.getValue()).getBytes(StandardCharsets.UTF_8);
-            buffer.putInt(entry.length);
-            buffer.put(entry);
-        }
-
-        int pos = buffer.position();
-        if(pos != 0){
-            byte[] flushedData = new byte[pos];
-            for(int i = 0; i < pos; i++){
-                flushedData[i] = buffer.get(i);
-            }
-            buffer = ByteBuffer.wrap(flushedData);
-            return buffer.array();
+        try(BinaryWriter writer = BinaryWriter.acquire()){
+            ByteSerializedObject.writeEntries(writer, this.config);
+            return writer.toByteArray();
         }
-
-        return buffer.array();
-
     }
 
     /**
@@ -1,6 +1,7 @@
 package net.configuration.config.impl;
 
 import com.google.gson.*;
+import net.configuration.config.ConfigPath;
 import net.configuration.config.ConfigurationException;
 import net.configuration.config.FileConfiguration;
 import net.configuration.serializable.api.Creator;
@@ -8,12 +9,15 @@ import net.configuration.serializable.api.SerializableObject;
 import net.configuration.serializable.impl.types.JsonSerializedObject;
 import org.apache.commons.lang3.ClassUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -22,6 +26,17 @@ public class JsonConfiguration extends FileConfiguration {
     protected JsonObject config;
     protected final Gson gson = new GsonBuilder().setPrettyPrinting().create();
 
+    /**
+     * The elements that were already looked up, so that a hot path is resolved without walking the tree. Only elements
+     * that exist in the tree are cached, and writes drop the entries of the written path and its children.
+     */
+    private final Map<ConfigPath, JsonElement> nodes = new HashMap<>();
+
+    /**
+     * The doubles of numbers that are parsed lazily by Gson, which would otherwise be parsed again on every read.
+     */
+    @NotNull private final ValueCache values = new ValueCache();
+
     protected JsonConfiguration(File file) throws IOException {
         super(file);
         this.config = JsonParser.parseReader(new FileReader(this.file)).getAsJsonObject();
@@ -44,6 +59,8 @@ public class JsonConfiguration extends FileConfiguration {
     public boolean reload() {
         try {
             this.config = JsonParser.parseReader(new FileReader(this.file)).getAsJsonObject();
+            this.nodes.clear();
+            this.values.clear();
             return true;
         } catch (FileNotFoundException e) {
             e.printStackTrace();
@@ -51,17 +68,31 @@ public class JsonConfiguration extends FileConfiguration {
         }
     }
 
+    @Override
+    protected @NotNull Map<String, String> getValues() {
+        Map<String, String> values = new HashMap<>();
+        this.collectValues("", this.config, values);
+        return values;
+    }
+
     @Override
     public boolean hasMember(@NotNull String path) {
+        return this.hasMember(ConfigPath.of(path));
+    }
+
+    @Override
+    public boolean hasMember(@NotNull ConfigPath path) {
         return this.getSubMember(path).isPresent();
     }
 
     @Override
     public @NotNull Optional<Byte> getByte(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
+        return this.getByte(ConfigPath.of(path));
+    }
 
-        return Optional.of(this.getSubMember(path).orElseThrow().getAsByte());
+    @Override
+    public @NotNull Optional<Byte> getByte(@NotNull ConfigPath path) {
+        return this.getSubMember(path).map(JsonElement::getAsByte);
     }
 
     @Override
@@ -71,10 +102,23 @@ public class JsonConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Integer> getInt(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
+        return this.getInt(ConfigPath.of(path));
+    }
+
+    @Override
+    public @NotNull Optional<Integer> getInt(@NotNull ConfigPath path) {
+        return this.getSubMember(path).map(JsonElement::getAsInt);
+    }
+
+    @Override
+    public int getInt(@NotNull String path, int def) {
+        return this.getInt(ConfigPath.of(path), def);
+    }
 
-        return Optional.of(this.getSubMember(path).orElseThrow().getAsInt());
+    @Override
+    public int getInt(@NotNull ConfigPath path, int def) {
+        JsonPrimitive primitive = this.getPrimitive(path);
+        return primitive != null ? primitive.getAsInt() : def;
     }
 
     @Override
@@ -84,10 +128,23 @@ public class JsonConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Long> getLong(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
+        return this.getLong(ConfigPath.of(path));
+    }
+
+    @Override
+    public @NotNull Optional<Long> getLong(@NotNull ConfigPath path) {
+        return this.getSubMember(path).map(JsonElement::getAsLong);
+    }
 
-        return Optional.of(this.getSubMember(path).orElseThrow().getAsLong());
+    @Override
+    public long getLong(@NotNull String path, long def) {
+        return this.getLong(ConfigPath.of(path), def);
+    }
+
+    @Override
+    public long getLong(@NotNull ConfigPath path, long def) {
+        JsonPrimitive primitive = this.getPrimitive(path);
+        return primitive != null ? primitive.getAsLong() : def;
     }
 
     @Override
@@ -97,10 +154,12 @@ public class JsonConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Short> getShort(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
+        return this.getShort(ConfigPath.of(path));
+    }
 
-        return Optional.of(this.getSubMember(path).orElseThrow().getAsShort());
+    @Override
+    public @NotNull Optional<Short> getShort(@NotNull ConfigPath path) {
+        return this.getSubMember(path).map(JsonElement::getAsShort);
     }
 
     @Override
@@ -110,10 +169,12 @@ public class JsonConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Float> getFloat(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
+        return this.getFloat(ConfigPath.of(path));
+    }
 
-        return Optional.of(this.getSubMember(path).orElseThrow().getAsFloat());
+    @Override
+    public @NotNull Optional<Float> getFloat(@NotNull ConfigPath path) {
+        return this.getSubMember(path).map(JsonElement::getAsFloat);
     }
 
     @Override
@@ -123,10 +184,30 @@ public class JsonConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Double> getDouble(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
+        return this.getDouble(ConfigPath.of(path));
+    }
+
+    @Override
+    public @NotNull Optional<Double> getDouble(@NotNull ConfigPath path) {
+        return this.getSubMember(path).map(JsonElement::getAsDouble);
+    }
+
+    @Override
+    public double getDouble(@NotNull String path, double def) {
+        return this.getDouble(ConfigPath.of(path), def);
+    }
+
+    @Override
+    public double getDouble(@NotNull ConfigPath path, double def) {
+        JsonPrimitive primitive = this.getPrimitive(path);
+        if(primitive == null)
+            return def;
 
-        return Optional.of(this.getSubMember(path).orElseThrow().getAsDouble());
+        if(!primitive.isNumber())
+            return primitive.getAsDouble();
+
+        //parsed numbers are kept as strings by Gson and the same number instance until the value is written
+        return this.values.decode(path.toString(), Double.class, primitive.getAsNumber(), Number::doubleValue).orElseThrow();
     }
 
     @Override
@@ -136,10 +217,12 @@ public class JsonConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Character> getChar(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
+        return this.getChar(ConfigPath.of(path));
+    }
 
-        return Optional.of(this.getSubMember(path).orElseThrow().getAsString().charAt(0));
+    @Override
+    public @NotNull Optional<Character> getChar(@NotNull ConfigPath path) {
+        return this.getSubMember(path).map(elem -> elem.getAsString().charAt(0));
     }
 
     @Override
@@ -149,10 +232,23 @@ public class JsonConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Boolean> getBoolean(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
+        return this.getBoolean(ConfigPath.of(path));
+    }
 
-        return Optional.of(this.getSubMember(path).orElseThrow().getAsBoolean());
+    @Override
+    public @NotNull Optional<Boolean> getBoolean(@NotNull ConfigPath path) {
+        return this.getSubMember(path).map(JsonElement::getAsBoolean);
+    }
+
+    @Override
+    public boolean getBoolean(@NotNull String path, boolean def) {
+        return this.getBoolean(ConfigPath.of(path), def);
+    }
+
+    @Override
+    public boolean getBoolean(@NotNull ConfigPath path, boolean def) {
+        JsonPrimitive primitive = this.getPrimitive(path);
+        return primitive != null ? primitive.getAsBoolean() : def;
     }
 
     @Override
@@ -162,10 +258,12 @@ public class JsonConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<String> getString(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
+        return this.getString(ConfigPath.of(path));
+    }
 
-        return Optional.of(this.getSubMember(path).orElseThrow().getAsString());
+    @Override
+    public @NotNull Optional<String> getString(@NotNull ConfigPath path) {
+        return this.getSubMember(path).map(JsonElement::getAsString);
     }
 
     @Override
@@ -174,12 +272,18 @@ public class JsonConfiguration extends FileConfiguration {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public @NotNull <T> Optional<List<T>> getList(@NotNull String path, @NotNull Class<T> classOfT) {
-        if(!(this.hasMember(path)))
+        return this.getList(ConfigPath.of(path), classOfT);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull <T> Optional<List<T>> getList(@NotNull ConfigPath path, @NotNull Class<T> classOfT) {
+        Optional<JsonElement> opt = this.getSubMember(path);
+        if(opt.isEmpty())
             return Optional.empty();
 
-        JsonArray elem = this.getSubMember(path).orElseThrow().getAsJsonArray();
+        JsonArray elem = opt.get().getAsJsonArray();
         if(classOfT == String.class || ClassUtils.isPrimitiveOrWrapper(classOfT)){
             return Optional.of(this.getPrimitiveList(elem, classOfT));
 
@@ -207,6 +311,7 @@ public class JsonConfiguration extends FileConfiguration {
         if(list == null || list.isEmpty() || list.get(0) == null)
             throw new ConfigurationException("Cannot write an empty list or a list with null elements");
 
+        this.invalidate(path);
         Class<T> classOfT = (Class<T>) list.get(0).getClass();
         if(classOfT == String.class || ClassUtils.isPrimitiveOrWrapper(classOfT)){
             this.setPrimitiveList(path, list);
@@ -239,12 +344,18 @@ public class JsonConfiguration extends FileConfiguration {
 
 
     @Override
-    @SuppressWarnings("unchecked")
     public @NotNull <T> Optional<T> get(@NotNull String path, @NotNull Class<T> classOfT) {
-        if(!this.hasMember(path))
+        return this.get(ConfigPath.of(path), classOfT);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull <T> Optional<T> get(@NotNull ConfigPath path, @NotNull Class<T> classOfT) {
+        Optional<JsonElement> opt = this.getSubMember(path);
+        if(opt.isEmpty())
             return Optional.empty();
 
-        JsonElement elem = this.getSubMember(path).orElseThrow();
+        JsonElement elem = opt.get();
         if(elem.isJsonNull()){
             return Optional.empty();
         }
@@ -267,6 +378,7 @@ public class JsonConfiguration extends FileConfiguration {
 
     @Override
     public <T> void set(@NotNull String path, T value) {
+        this.invalidate(path);
         Optional<JsonElement> opt = this.getSubMember(path);
         if(opt.isEmpty())
             return; //invalid path
@@ -330,23 +442,29 @@ public class JsonConfiguration extends FileConfiguration {
      * @return The underlying {@link JsonElement} at the given path.
      */
     protected Optional<JsonElement> getSubMember(String path){
-        if(!path.contains(".")){
-            if(this.config.has(path)){
-                return Optional.of(this.config.get(path));
-            }else{
-                //new path
-                return Optional.of(JsonNull.INSTANCE);
-            }
-        }
+        return this.getSubMember(ConfigPath.of(path));
+    }
 
+    /**
+     * Get the {@link JsonElement} that is referenced by the given compiled path. Elements that exist in the tree are
+     * cached, so that the next lookup of the same path does not walk the tree again.
+     *
+     * @param path A path to that object, that may contain child references.
+     * @return The underlying {@link JsonElement} at the given path.
+     */
+    protected Optional<JsonElement> getSubMember(@NotNull ConfigPath path){
+        JsonElement cached = this.nodes.get(path);
+        if(cached != null)
+            return Optional.of(cached);
 
         JsonElement currentObject = this.config;
-        for(String sub : path.split("\\.")){
+        for(int i = 0; i < path.size(); i++){
             if(currentObject.isJsonNull() || currentObject.isJsonPrimitive())
                 return Optional.of(currentObject);
 
+            String sub = path.getPart(i);
             if(!currentObject.getAsJsonObject().has(sub)){
-                if(path.endsWith(sub)){
+                if(i == path.size() - 1){
                     //a new path to add, so return a new json element
                     return Optional.of(JsonNull.INSTANCE);
                 }else{
@@ -354,13 +472,44 @@ public class JsonConfiguration extends FileConfiguration {
                 }
             }
 
-
             currentObject = currentObject.getAsJsonObject().get(sub);
         }
 
+        if(!currentObject.isJsonNull())
+            this.nodes.put(path, currentObject);
+
         return Optional.of(currentObject);
     }
 
+    /**
+     * Get the {@link JsonPrimitive} at the given path without wrapping it, so that reading a cached element does not
+     * allocate.
+     *
+     * @param path A compiled path to that primitive, that may contain child references.
+     * @return The primitive at the given path or null, if there is no primitive.
+     */
+    @Nullable
+    private JsonPrimitive getPrimitive(@NotNull ConfigPath path){
+        JsonElement elem = this.nodes.get(path);
+        if(elem == null)
+            elem = this.getSubMember(path).orElse(null);
+
+        return elem != null && elem.isJsonPrimitive() ? elem.getAsJsonPrimitive() : null;
+    }
+
+    /**
+     * Drop the cached elements of the given path and all its children, because the element at that path is replaced.
+     *
+     * @param path The path that is written.
+     */
+    private void invalidate(@NotNull String path){
+        if(this.nodes.isEmpty())
+            return;
+
+        ConfigPath written = ConfigPath.of(path);
+        this.nodes.keySet().removeIf(cached -> cached.startsWith(written));
+    }
+
     /**
      * Update the value of the given Json primitive to the given value.
      *
@@ -386,6 +535,7 @@ public class JsonConfiguration extends FileConfiguration {
      * @param value The value that should be associated with this path.
      */
     protected void update(@NotNull String path, @NotNull Object value){
+        this.invalidate(path);
         Optional<JsonElement> opt = this.getSubMember(path);
         if(opt.isEmpty())
             return; //invalid path
@@ -497,4 +647,21 @@ public class JsonConfiguration extends FileConfiguration {
         this.config.add(path, data);
     }
 
+    /**
+     * Add the values of all leaves below the given JSON object to the given map. Arrays are leaves as well.
+     *
+     * @param prefix The path of the given object including the trailing dot, or an empty string for the root.
+     * @param object The JSON object to collect the values of.
+     * @param values The map to add the values to.
+     */
+    private void collectValues(@NotNull String prefix, @NotNull JsonObject object, @NotNull Map<String, String> values){
+        for(var e : object.entrySet()){
+            if(e.getValue().isJsonObject()){
+                this.collectValues(prefix + e.getKey() + ".", e.getValue().getAsJsonObject(), values);
+            }else{
+                values.put(prefix + e.getKey(), e.getValue().toString());
+            }
+        }
+    }
+
 }
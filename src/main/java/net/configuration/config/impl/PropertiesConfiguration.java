@@ -18,6 +18,7 @@ import java.util.*;
 public class PropertiesConfiguration extends FileConfiguration {
 
     protected Properties config;
+    @NotNull private final ValueCache values = new ValueCache();
 
     protected PropertiesConfiguration(File file) throws IOException {
         super(file);
@@ -47,6 +48,7 @@ public class PropertiesConfiguration extends FileConfiguration {
         try (FileReader reader = new FileReader(file)){
             this.config = new Properties();
             this.config.load(reader);
+            this.values.clear();
             return true;
 
         } catch (IOException e) {
@@ -55,6 +57,16 @@ public class PropertiesConfiguration extends FileConfiguration {
         }
     }
 
+    @Override
+    protected @NotNull Map<String, String> getValues() {
+        Map<String, String> values = new HashMap<>();
+        for(String name : this.config.stringPropertyNames()){
+            values.put(name, this.config.getProperty(name));
+        }
+
+        return values;
+    }
+
     @Override
     public boolean hasMember(@NotNull String path) {
         return this.config.containsKey(path);
@@ -62,10 +74,7 @@ public class PropertiesConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Byte> getByte(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Byte.parseByte(this.config.getProperty(path)));
+        return this.values.decode(path, Byte.class, this.config.getProperty(path), Byte::parseByte);
     }
 
     @Override
@@ -75,10 +84,7 @@ public class PropertiesConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Integer> getInt(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Integer.parseInt(this.config.getProperty(path)));
+        return this.values.decode(path, Integer.class, this.config.getProperty(path), Integer::parseInt);
     }
 
     @Override
@@ -88,10 +94,7 @@ public class PropertiesConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Long> getLong(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Long.parseLong(this.config.getProperty(path)));
+        return this.values.decode(path, Long.class, this.config.getProperty(path), Long::parseLong);
     }
 
     @Override
@@ -101,10 +104,7 @@ public class PropertiesConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Short> getShort(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Short.parseShort(this.config.getProperty(path)));
+        return this.values.decode(path, Short.class, this.config.getProperty(path), Short::parseShort);
     }
 
     @Override
@@ -114,10 +114,7 @@ public class PropertiesConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Float> getFloat(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Float.parseFloat(this.config.getProperty(path)));
+        return this.values.decode(path, Float.class, this.config.getProperty(path), Float::parseFloat);
     }
 
     @Override
@@ -127,10 +124,7 @@ public class PropertiesConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Double> getDouble(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Double.parseDouble(this.config.getProperty(path)));
+        return this.values.decode(path, Double.class, this.config.getProperty(path), Double::parseDouble);
     }
 
     @Override
@@ -140,10 +134,7 @@ public class PropertiesConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Character> getChar(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(this.config.getProperty(path).charAt(0));
+        return this.values.decode(path, Character.class, this.config.getProperty(path), raw -> raw.charAt(0));
     }
 
     @Override
@@ -153,10 +144,7 @@ public class PropertiesConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Boolean> getBoolean(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Boolean.parseBoolean(this.config.getProperty(path)));
+        return this.values.decode(path, Boolean.class, this.config.getProperty(path), Boolean::parseBoolean);
     }
 
     @Override
@@ -166,10 +154,7 @@ public class PropertiesConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<String> getString(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(this.config.getProperty(path));
+        return this.values.decode(path, String.class, this.config.getProperty(path), raw -> raw);
     }
 
     @Override
@@ -185,7 +170,7 @@ public class PropertiesConfiguration extends FileConfiguration {
 
         String elem = this.config.getProperty(path);
         if(classOfT == String.class || ClassUtils.isPrimitiveOrWrapper(classOfT)){
-            return Optional.of(this.fromStringList(elem, classOfT));
+            return this.values.decodeList(path, classOfT, elem);
 
         }else if(SerializableObject.class.isAssignableFrom(classOfT)){
             try{
@@ -211,8 +196,7 @@ public class PropertiesConfiguration extends FileConfiguration {
             }
 
         }else if(classOfT.isEnum()){
-            List<String> names = this.fromStringList(elem, String.class);
-            return Optional.of(this.getEnumList(names, classOfT));
+            return this.values.decodeList(path, classOfT, elem);
 
         }else{
             throw new ConfigurationException("Could not read list. Invalid element type " + classOfT);
@@ -269,8 +253,7 @@ public class PropertiesConfiguration extends FileConfiguration {
 
         //read a valid object
         if(ClassUtils.isPrimitiveOrWrapper(classOfT) || classOfT == String.class){
-            Object prim = Objects.requireNonNull(SerializationHelper.extractPrimitive(elem, classOfT));
-            return Optional.of((T) prim);
+            return this.values.decodeValue(path, classOfT, elem);
 
         }else if(List.class.isAssignableFrom(classOfT)){
             throw new ConfigurationException("Cannot get a list this way. Use getList(..) instead.");
@@ -286,7 +269,7 @@ public class PropertiesConfiguration extends FileConfiguration {
             }
 
         }else if(classOfT.isEnum()){
-            return Optional.of(this.convertToEnum(elem, classOfT));
+            return this.values.decodeValue(path, classOfT, elem);
 
         }else if(classOfT.isArray()){
             throw new ConfigurationException("Cannot get an array this way. Use getList(..) instead.");
@@ -3,22 +3,24 @@ package net.configuration.config.impl;
 import net.configuration.advanced.Tuple;
 import net.configuration.config.Configuration;
 import net.configuration.config.ConfigurationException;
+import net.configuration.network.SQLBatch;
 import net.configuration.network.SQLConnection;
+import net.configuration.network.SQLTable;
+import net.configuration.network.SQLType;
 import net.configuration.serializable.api.Creator;
 import net.configuration.serializable.api.SerializableObject;
 import net.configuration.serializable.impl.NullSerializable;
-import net.configuration.serializable.impl.SerializationHelper;
 import net.configuration.serializable.impl.types.SQLSerializedObject;
 import org.apache.commons.lang3.ClassUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.InvocationTargetException;
-import java.sql.DatabaseMetaData;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.function.Consumer;
 
 public class SQLConfiguration implements Configuration {
 
@@ -27,6 +29,9 @@ public class SQLConfiguration implements Configuration {
     @NotNull private final UUID key;
 
     @NotNull private final Map<String, String> data = new HashMap<>();
+    @NotNull private final Map<String, SQLType> types = new HashMap<>(); //the column types of the values that were set
+    @NotNull private final Set<String> dirty = new LinkedHashSet<>(); //the values that changed since the last save or read
+    @NotNull private final ValueCache values = new ValueCache(); //the decoded values of data
 
     @NotNull private Map<String, String> foreignKeys;
     @NotNull private final Map<String, Tuple<String, String>> complex = new HashMap<>();
@@ -40,6 +45,127 @@ public class SQLConfiguration implements Configuration {
         this.readFromTable();
     }
 
+    /**
+     * Create a configuration from a row that was fetched by a bulk load.
+     *
+     * @param con The connection to the SQL database.
+     * @param table The linked table.
+     * @param key The primary key of the row.
+     * @param row The column values of the row or an empty map, if there is no such row.
+     * @param foreignKeys The foreign keys of the linked table.
+     */
+    private SQLConfiguration(@NotNull SQLConnection con, @NotNull String table, @NotNull UUID key,
+                             @NotNull Map<String, String> row, @NotNull Map<String, String> foreignKeys){
+        this.connection = con;
+        this.table = table;
+        this.key = key;
+        this.foreignKeys = new HashMap<>(foreignKeys);
+        this.data.putAll(row);
+    }
+
+    /**
+     * Load the configurations with the given keys from one table. The rows are fetched with one query per
+     * {@link SQLTable#MAX_KEYS_PER_SELECT} keys instead of one query per configuration.
+     *
+     * @param con The connection to the SQL database.
+     * @param table The linked table.
+     * @param keys The keys of the configurations.
+     * @return The configurations mapped to their keys in the order of the given keys. A configuration without a row
+     * is empty, just like a configuration created with {@link SQLConfiguration#SQLConfiguration(SQLConnection, String, UUID)}.
+     * @throws ConfigurationException If the rows could not be read.
+     */
+    @NotNull
+    public static Map<UUID, SQLConfiguration> loadAll(@NotNull SQLConnection con, @NotNull String table,
+                                                      @NotNull Collection<UUID> keys){
+        if(!con.isConnected())
+            con.connect();
+
+        Map<String, Map<String, String>> rows = new HashMap<>();
+        List<String> ids = keys.stream().map(UUID::toString).distinct().toList();
+        try{
+            if(con.getSchema().exists(table)){
+                SQLTable statements = SQLTable.of(table);
+                try(Connection c = con.borrow()){
+                    for(int from = 0; from < ids.size(); from += SQLTable.MAX_KEYS_PER_SELECT){
+                        List<String> chunk = ids.subList(from, Math.min(ids.size(), from + SQLTable.MAX_KEYS_PER_SELECT));
+                        int parameters = SQLTable.parameterCount(chunk.size());
+                        try(PreparedStatement pst = c.prepareStatement(statements.selectIn(parameters))){
+                            for(int i = 0; i < parameters; i++)
+                                pst.setString(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+
+                            ResultSet rs = pst.executeQuery();
+                            while(rs.next())
+                                rows.put(rs.getString(1), readRow(rs));
+                        }
+                    }
+                }
+            }
+
+        }catch(SQLException e){
+            throw new ConfigurationException(e);
+        }
+
+        Map<String, String> foreignKeys = fetchForeignKeys(con, table);
+        Map<UUID, SQLConfiguration> configs = new LinkedHashMap<>();
+        for(UUID key : keys)
+            configs.put(key, new SQLConfiguration(con, table, key, rows.getOrDefault(key.toString(), Map.of()), foreignKeys));
+
+        return configs;
+    }
+
+    /**
+     * Load all configurations of a table page by page in the order of their keys. Only one page of rows is held in
+     * memory at a time, so tables of any size can be scanned.
+     *
+     * @param con The connection to the SQL database.
+     * @param table The linked table.
+     * @param pageSize The amount of rows fetched with one query, which is also used as JDBC fetch size.
+     * @param action The action to perform for each configuration.
+     * @throws ConfigurationException If the rows could not be read.
+     */
+    public static void scan(@NotNull SQLConnection con, @NotNull String table, int pageSize,
+                            @NotNull Consumer<SQLConfiguration> action){
+        if(pageSize <= 0)
+            throw new IllegalArgumentException("The page size must be positive");
+
+        if(!con.isConnected())
+            con.connect();
+
+        try{
+            if(!con.getSchema().exists(table))
+                return;
+
+        }catch(SQLException e){
+            throw new ConfigurationException(e);
+        }
+
+        Map<String, String> foreignKeys = fetchForeignKeys(con, table);
+        String after = "";
+        while(true){
+            List<SQLConfiguration> page = new ArrayList<>(pageSize);
+            try(Connection c = con.borrow(); PreparedStatement pst = c.prepareStatement(SQLTable.of(table).page())){
+                pst.setFetchSize(pageSize);
+                pst.setString(1, after);
+                pst.setInt(2, pageSize);
+
+                ResultSet rs = pst.executeQuery();
+                while(rs.next()){
+                    UUID key = UUID.fromString(rs.getString(1));
+                    page.add(new SQLConfiguration(con, table, key, readRow(rs), foreignKeys));
+                }
+
+            }catch(SQLException e){
+                throw new ConfigurationException(e);
+            }
+
+            page.forEach(action);
+            if(page.size() < pageSize)
+                return;
+
+            after = page.get(page.size() - 1).key.toString();
+        }
+    }
+
     /**
      * Delete the table entry that represents the instance of this object.
      *
@@ -47,8 +173,8 @@ public class SQLConfiguration implements Configuration {
      */
     public boolean deleteEntry(){
         try{
-            String sql = "DELETE FROM " + this.table + " WHERE id = '" + this.key + "'";
-            this.connection.update(sql);
+            this.connection.update(SQLTable.of(this.table).delete(), this.key.toString());
+            this.dirty.addAll(this.data.keySet()); //the next save writes the whole row again
             return true;
         }catch(Exception e){
             e.printStackTrace();
@@ -62,8 +188,10 @@ public class SQLConfiguration implements Configuration {
      * @return True iff the table was successfully deleted.
      */
     public boolean deleteTable(){
-        try(PreparedStatement pst = connection.getConnection().prepareStatement("DROP TABLE " + this.table)){
+        try(Connection con = connection.borrow(); PreparedStatement pst = con.prepareStatement("DROP TABLE " + this.table)){
             pst.executeUpdate();
+            connection.getSchema().tableDropped(this.table);
+            this.dirty.addAll(this.data.keySet());
             return true;
         }catch(SQLException e){
             e.printStackTrace();
@@ -80,17 +208,67 @@ public class SQLConfiguration implements Configuration {
         return connection;
     }
 
+    /**
+     * Write the values that changed since the last save or reload into the linked table. The row is inserted or updated
+     * with one statement that only contains the changed columns, so saving an unchanged configuration costs nothing.
+     *
+     * @return True iff the changed values were written.
+     */
     @Override
     public boolean save() {
+        if(this.dirty.isEmpty())
+            return true;
+
         this.createTable();
-        this.writeToTable();
+        if(!this.writeToTable())
+            return false;
+
+        this.dirty.clear();
         return true;
     }
 
+    /**
+     * Add the values that changed since the last save or reload to the given batch, so that they are written together
+     * with the other rows of the batch in one transaction. A missing table or column is created right away, since
+     * schema changes cannot be part of a transaction.
+     *
+     * @param batch The batch to add the row of this configuration to.
+     */
+    public void save(@NotNull SQLBatch batch) {
+        if(this.dirty.isEmpty())
+            return;
+
+        this.createTable();
+
+        List<String> names = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        List<SQLType> columnTypes = new ArrayList<>();
+        this.collectChanges(names, values, columnTypes);
+
+        List<UUID> references = new ArrayList<>();
+        for(var e : this.complex.entrySet()){
+            if(names.contains(e.getKey()))
+                references.add(UUID.fromString(e.getValue().getValue()));
+        }
+
+        batch.addRow(this.key, SQLTable.of(this.table).upsert(names), values, columnTypes, references);
+
+        //values that changed again before the commit stay dirty
+        Map<String, String> written = new HashMap<>();
+        for(String name : names.subList(1, names.size()))
+            written.put(name, this.data.get(name));
+
+        batch.onCommit(() -> written.forEach((name, value) -> {
+            if(Objects.equals(this.data.get(name), value))
+                this.dirty.remove(name);
+        }));
+    }
+
     @Override
     public boolean reload() {
         this.foreignKeys = this.getForeignKeys0();
         this.readFromTable();
+        this.values.clear();
         return true;
     }
 
@@ -107,127 +285,100 @@ public class SQLConfiguration implements Configuration {
     @Override
     public @NotNull Optional<Byte> getByte(@NotNull String path) {
         path = path.replace(".", "-");
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Byte.valueOf(this.data.get(path)));
+        return this.values.decode(path, Byte.class, this.data.get(path), Byte::valueOf);
     }
 
     @Override
     public void setByte(@NotNull String path, byte value) {
-        this.data.put(path.replace(".", "-"), String.valueOf(value));
+        this.put(path, String.valueOf(value), SQLType.TINYINT);
     }
 
     @Override
     public @NotNull Optional<Integer> getInt(@NotNull String path) {
         path = path.replace(".", "-");
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Integer.valueOf(this.data.get(path)));
+        return this.values.decode(path, Integer.class, this.data.get(path), Integer::valueOf);
     }
 
     @Override
     public void setInt(@NotNull String path, int value) {
-        this.data.put(path.replace(".", "-"), String.valueOf(value));
+        this.put(path, String.valueOf(value), SQLType.INT);
     }
 
     @Override
     public @NotNull Optional<Long> getLong(@NotNull String path) {
         path = path.replace(".", "-");
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Long.valueOf(this.data.get(path)));
+        return this.values.decode(path, Long.class, this.data.get(path), Long::valueOf);
     }
 
     @Override
     public void setLong(@NotNull String path, long value) {
-        this.data.put(path.replace(".", "-"), String.valueOf(value));
+        this.put(path, String.valueOf(value), SQLType.BIGINT);
     }
 
     @Override
     public @NotNull Optional<Short> getShort(@NotNull String path) {
         path = path.replace(".", "-");
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Short.valueOf(this.data.get(path)));
+        return this.values.decode(path, Short.class, this.data.get(path), Short::valueOf);
     }
 
     @Override
     public void setShort(@NotNull String path, short value) {
-        this.data.put(path.replace(".", "-"), String.valueOf(value));
+        this.put(path, String.valueOf(value), SQLType.SMALLINT);
     }
 
     @Override
     public @NotNull Optional<Float> getFloat(@NotNull String path) {
         path = path.replace(".", "-");
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Float.valueOf(this.data.get(path)));
+        return this.values.decode(path, Float.class, this.data.get(path), Float::valueOf);
     }
 
     @Override
     public void setFloat(@NotNull String path, float value) {
-        this.data.put(path.replace(".", "-"), String.valueOf(value));
+        this.put(path, String.valueOf(value), SQLType.FLOAT);
     }
 
     @Override
     public @NotNull Optional<Double> getDouble(@NotNull String path) {
         path = path.replace(".", "-");
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Double.valueOf(this.data.get(path)));
+        return this.values.decode(path, Double.class, this.data.get(path), Double::valueOf);
     }
 
     @Override
     public void setDouble(@NotNull String path, double value) {
-        this.data.put(path.replace(".", "-"), String.valueOf(value));
+        this.put(path, String.valueOf(value), SQLType.DOUBLE);
     }
 
     @Override
     public @NotNull Optional<Character> getChar(@NotNull String path) {
         path = path.replace(".", "-");
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(this.data.get(path).charAt(0));
+        return this.values.decode(path, Character.class, this.data.get(path), raw -> raw.charAt(0));
     }
 
     @Override
     public void setChar(@NotNull String path, char value) {
-        this.data.put(path.replace(".", "-"), String.valueOf(value));
+        this.put(path, String.valueOf(value), SQLType.CHAR);
     }
 
     @Override
     public @NotNull Optional<Boolean> getBoolean(@NotNull String path) {
         path = path.replace(".", "-");
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(Boolean.valueOf(this.data.get(path)));
+        return this.values.decode(path, Boolean.class, this.data.get(path), Boolean::valueOf);
     }
 
     @Override
     public void setBoolean(@NotNull String path, boolean value) {
-        this.data.put(path.replace(".", "-"), String.valueOf(value));
+        this.put(path, String.valueOf(value), SQLType.BOOLEAN);
     }
 
     @Override
     public @NotNull Optional<String> getString(@NotNull String path) {
         path = path.replace(".", "-");
-        if(!this.hasMember(path))
-            return Optional.empty();
-
-        return Optional.of(this.data.get(path));
+        return this.values.decode(path, String.class, this.data.get(path), raw -> raw);
     }
 
     @Override
     public void setString(@NotNull String path, String value) {
-        this.data.put(path.replace(".", "-"), value);
+        this.put(path, value, SQLType.TEXT);
     }
 
     @Override
@@ -240,17 +391,11 @@ public class SQLConfiguration implements Configuration {
 
         String elem = this.getString(path).orElseThrow();
         if(classOfT == String.class || ClassUtils.isPrimitiveOrWrapper(classOfT)){
-            return Optional.of(this.getPrimitiveList(elem, classOfT));
+            return this.values.decodeList(path, classOfT, elem);
 
         }else if(SerializableObject.class.isAssignableFrom(classOfT)){
             List<T> res = new ArrayList<>();
-            String[] d = elem.split(",");
-            for(String e : d){
-                String[] da = e.split(":");
-                String keyData = da[0];
-                String tableData = da[1];
-
-                SQLSerializedObject nested = new SQLSerializedObject(this.connection, keyData, tableData, classOfT);
+            for(SQLSerializedObject nested : SQLSerializedObject.readList(this.connection, elem)){
                 SerializableObject val = Creator.getCreator((Class<? extends SerializableObject>) classOfT).read(nested);
                 res.add((T) val);
             }
@@ -258,8 +403,7 @@ public class SQLConfiguration implements Configuration {
             return Optional.of(res);
 
         }else if(classOfT.isEnum()){
-            List<String> names = this.getPrimitiveList(elem, String.class);
-            return Optional.of(this.getEnumList(names, classOfT));
+            return this.values.decodeList(path, classOfT, elem);
 
         }else{
             throw new ConfigurationException("Could not read list. Invalid element type " + classOfT);
@@ -279,15 +423,25 @@ public class SQLConfiguration implements Configuration {
             this.setString(path, this.convertPrimitiveList(list));
 
         }else if(SerializableObject.class.isAssignableFrom(classOfT)){
+            SQLBatch batch = this.connection.isWriteBehind() ? new SQLBatch() : null;
             StringBuilder str = new StringBuilder();
             for(var e : list){
-                SQLSerializedObject nested = new SQLSerializedObject(this.connection, e.getClass());
+                SQLSerializedObject nested = batch != null ? new SQLSerializedObject(this.connection, e.getClass(), batch)
+                        : new SQLSerializedObject(this.connection, e.getClass());
                 ((SerializableObject) e).write(nested);
                 nested.flush();
 
                 str.append(",").append(nested.getPrimaryKey()).append(":").append(nested.getTableName());
             }
             str = new StringBuilder(str.substring(1));
+
+            if(batch != null){
+                try{
+                    batch.execute(this.connection);
+                }catch(SQLException e){
+                    throw new ConfigurationException(e);
+                }
+            }
             this.setString(path, str.toString());
 
         }else if(classOfT.isEnum()){
@@ -329,8 +483,7 @@ public class SQLConfiguration implements Configuration {
 
         //read a valid object
         if(ClassUtils.isPrimitiveOrWrapper(classOfT) || classOfT == String.class){
-            Object prim = Objects.requireNonNull(SerializationHelper.extractPrimitive(elem, classOfT));
-            return Optional.of((T) prim);
+            return this.values.decodeValue(path, classOfT, elem);
 
         }else if(List.class.isAssignableFrom(classOfT)){
             throw new ConfigurationException("Cannot get a list this way. Use getList(..) instead.");
@@ -341,7 +494,7 @@ public class SQLConfiguration implements Configuration {
             return Optional.of((T) val);
 
         }else if(classOfT.isEnum()){
-            return Optional.of(this.convertToEnum(elem, classOfT));
+            return this.values.decodeValue(path, classOfT, elem);
 
         }else if(classOfT.isArray()){
             throw new ConfigurationException("Cannot get an array this way. Use getList(..) instead.");
@@ -363,7 +516,7 @@ public class SQLConfiguration implements Configuration {
 
         Class<T> classOfT = (Class<T>) value.getClass();
         if(ClassUtils.isPrimitiveOrWrapper(classOfT) || classOfT == String.class){
-            this.setString(path, String.valueOf(value));
+            this.put(path, String.valueOf(value), SQLType.of(classOfT).orElse(SQLType.TEXT));
 
 
         }else if(List.class.isAssignableFrom(classOfT)){
@@ -375,10 +528,10 @@ public class SQLConfiguration implements Configuration {
             obj.flush();
 
             this.complex.put(path, new Tuple<>(obj.getTableName(), obj.getPrimaryKey().toString()));
-            this.setString(path, obj.getPrimaryKey().toString());
+            this.put(path, obj.getPrimaryKey().toString(), SQLType.KEY);
 
         }else if(classOfT.isEnum()){
-            this.setString(path, value.toString());
+            this.put(path, value.toString(), SQLType.VARCHAR);
 
         }else if(classOfT.isArray()){
             this.setArray(path, (Object[]) value);
@@ -405,25 +558,6 @@ public class SQLConfiguration implements Configuration {
         return entry.toString();
     }
 
-    /**
-     * Retrieve the primitive list from its string representation. The string "1, 2, 3, 4" is converted to the
-     * integer list [1, 2, 3, 4].
-     *
-     * @param elem The string representation of a primitive list.
-     * @param classOfT The type of elements in the list.
-     * @return The actual java representation of the list.
-     */
-    @SuppressWarnings("unchecked")
-    protected <T> List<T> getPrimitiveList(@NotNull String elem, @NotNull Class<T> classOfT){
-        String[] d = elem.split(", ");
-        List<T> res = new ArrayList<>();
-        for(String e : d){
-            res.add((T) SerializationHelper.extractPrimitive(e, classOfT));
-        }
-
-        return res;
-    }
-
     /**
      * Insert the given enum value list into this object by creating a unique string representation of the enum
      * name list. For example, the list of colors [RED, GREEN, BLUE] is converted to "RED, GREEN, BLUE".
@@ -440,63 +574,35 @@ public class SQLConfiguration implements Configuration {
     }
 
     /**
-     * Retrieve the enum list from the list of enum value names. For example the string list ["RED", "BLUE", "GREEN"] is
-     * converted to the actual enum list [RED, BLUE, GREEN].
-     *
-     * @param names The list of enum names.
-     * @param classOfT The enum class to convert to.
-     * @return The list of actual enums represented by the given names list.
-     */
-    @SuppressWarnings("unchecked")
-    private <T> List<T> getEnumList(@NotNull List<String> names, @NotNull Class<T> classOfT){
-        List<T> res = new ArrayList<>(names.size());
-        for(var e : names){
-            try {
-                T val = (T) classOfT.getMethod("valueOf", String.class).invoke(null, e);
-                res.add(val);
-            } catch (Exception ex) {
-                throw new ConfigurationException(ex);
-            }
-        }
-
-        return res;
-    }
-
-    /**
-     * Convert the given string to the actual enum value with that given name.
-     *
-     * @param elem The name of the enum value.
-     * @param classOfT The enum type represented by the name.
-     * @return The actual enum value of given type with that name.
-     */
-    @NotNull
-    @SuppressWarnings("unchecked")
-    private <T> T convertToEnum(@NotNull String elem, @NotNull Class<T> classOfT){
-        try {
-            return (T) classOfT.getMethod("valueOf", String.class).invoke(null, elem);
-        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new ConfigurationException(e);
-        }
-    }
-
-    /**
-     * Create the SQL table based on the names and values provided by the underlying data map.
+     * Create the SQL table based on the names and values provided by the underlying data map. If the table exists
+     * already, the columns of new values are added to it.
      */
     private void createTable(){
         if(!this.connection.isConnected())
             this.connection.connect();
 
+        try{
+            if(this.connection.getSchema().exists(this.table)){
+                this.addColumns();
+                return;
+            }
+
+        }catch(SQLException e){
+            //try to create the table anyway
+        }
+
         StringBuilder sql = new StringBuilder("CREATE TABLE IF NOT EXISTS " + table + "(id CHAR(36) NOT NULL");
         List<String> fkeys = new ArrayList<>();
         for(var e : this.data.keySet()){
-            String sqlType = "LONGTEXT";
             if(this.complex.containsKey(e)){
                 var value = this.complex.get(e);
                 fkeys.add("FOREIGN KEY (" + e + ") REFERENCES " + value.getKey() + "(id)");
-                sqlType = "CHAR(36)";
             }
 
-            sql.append(",").append(e).append(" ").append(sqlType);
+            SQLType type = this.getColumnType(e);
+            sql.append(",").append(e).append(" ").append(type.getDefinition());
+            if(type.hasNonFiniteColumn())
+                sql.append(",").append(SQLType.nonFiniteColumn(e)).append(" ").append(SQLType.VARCHAR.getDefinition());
         }
 
         sql.append(", PRIMARY KEY(id)");
@@ -506,34 +612,141 @@ public class SQLConfiguration implements Configuration {
         sql.append(")");
 
         this.connection.update(sql.toString());
+        this.connection.getSchema().tableCreated(this.table);
     }
 
     /**
-     * Insert the current configuration data into the linked SQL table.
+     * Add a column for every changed value that has no column in the linked table yet, together with the companion
+     * column of FLOAT and DOUBLE columns.
      */
-    private void writeToTable(){
-        String sql = "INSERT INTO " + this.table + "(types) VALUES (values)";
-
-        StringBuilder names = new StringBuilder();
-        StringBuilder values = new StringBuilder();
-        names.append(", id");
-        values.append(", '").append(this.key).append("'");
-
-        for(var entry : this.data.entrySet()){
-            String name = entry.getKey();
-            String value = entry.getValue();
-            if(value != null && !value.equals(NullSerializable.CODON)){
-                names.append(", ").append(name);
-                values.append(", '").append(value).append("'");
+    private void addColumns(){
+        Set<String> columns = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        columns.addAll(this.getColumns().keySet());
+
+        boolean changed = false;
+        for(String name : this.dirty){
+            if(!this.data.containsKey(name))
+                continue;
+
+            SQLType type = this.getColumnType(name);
+            if(!columns.contains(name)){
+                this.connection.update("ALTER TABLE " + this.table + " ADD COLUMN " + name + " " + type.getDefinition());
+                if(this.complex.containsKey(name)){
+                    this.connection.update("ALTER TABLE " + this.table + " ADD FOREIGN KEY (" + name + ") REFERENCES " +
+                            this.complex.get(name).getKey() + "(id)");
+                }
+
+                changed = true;
+            }
+
+            String companion = SQLType.nonFiniteColumn(name);
+            if(type.hasNonFiniteColumn() && !columns.contains(companion)){
+                this.connection.update("ALTER TABLE " + this.table + " ADD COLUMN " + companion + " " + SQLType.VARCHAR.getDefinition());
+                changed = true;
             }
         }
 
+        if(changed)
+            this.connection.getSchema().tableCreated(this.table);
+    }
 
-        names = new StringBuilder(names.substring(2));
-        values = new StringBuilder(values.substring(2));
+    /**
+     * Insert the row of this configuration into the linked SQL table or update only the changed columns, if the row
+     * exists already.
+     *
+     * @return True iff the row was written.
+     */
+    private boolean writeToTable(){
+        List<String> names = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        List<SQLType> columnTypes = new ArrayList<>();
+        this.collectChanges(names, values, columnTypes);
 
-        sql = sql.replace("types", names.toString()).replace("values", values.toString());
-        this.connection.update(sql);
+        return this.connection.update(SQLTable.of(this.table).upsert(names), values, columnTypes);
+    }
+
+    /**
+     * Collect the columns of the upsert statement, i.e. the id followed by all changed values. A changed FLOAT or DOUBLE
+     * value also writes its companion column, which holds the value iff it is NaN or infinite.
+     *
+     * @param names The list to add the column names to.
+     * @param values The list to add the values to.
+     * @param columnTypes The list to add the column types to.
+     */
+    private void collectChanges(@NotNull List<String> names, @NotNull List<String> values, @NotNull List<SQLType> columnTypes){
+        names.add("id");
+        values.add(this.key.toString());
+        columnTypes.add(SQLType.KEY);
+
+        for(String name : this.dirty){
+            if(!this.data.containsKey(name))
+                continue;
+
+            String value = this.data.get(name);
+            if(value != null && value.equals(NullSerializable.CODON))
+                value = null;
+
+            SQLType type = this.getColumnType(name);
+            boolean finite = value == null || type.accepts(value);
+            names.add(name);
+            values.add(finite ? value : null);
+            columnTypes.add(type);
+
+            if(type.hasNonFiniteColumn()){
+                names.add(SQLType.nonFiniteColumn(name));
+                values.add(finite ? null : value);
+                columnTypes.add(SQLType.VARCHAR);
+            }
+        }
+    }
+
+    /**
+     * Get the type of the column of a value. Values that were read from the table are bound with the type of their
+     * column.
+     *
+     * @param name The name of the value.
+     * @return The column type.
+     */
+    @NotNull
+    private SQLType getColumnType(@NotNull String name){
+        if(this.complex.containsKey(name))
+            return SQLType.KEY;
+
+        SQLType type = this.types.get(name);
+        if(type != null)
+            return type;
+
+        Integer column = this.getColumns().get(name);
+        return column == null ? SQLType.TEXT : SQLType.ofColumn(column);
+    }
+
+    /**
+     * Store a value together with the type of the column it is written to.
+     *
+     * @param path The path of the value.
+     * @param value The value as string.
+     * @param type The column type of the value.
+     */
+    private void put(@NotNull String path, String value, @NotNull SQLType type){
+        path = path.replace(".", "-");
+        this.types.put(path, type);
+
+        boolean present = this.data.containsKey(path);
+        String previous = this.data.put(path, value);
+        if(!present || !Objects.equals(previous, value))
+            this.dirty.add(path);
+    }
+
+    /**
+     * @return The column names of the linked table mapped to their JDBC types, or an empty map if they are unknown.
+     */
+    @NotNull
+    private Map<String, Integer> getColumns(){
+        try{
+            return this.connection.getSchema().getColumns(this.table);
+        }catch(SQLException e){
+            return Map.of();
+        }
     }
 
     /**
@@ -544,18 +757,14 @@ public class SQLConfiguration implements Configuration {
         if(!this.connection.isConnected())
             this.connection.connect();
 
-        try(PreparedStatement pst = this.connection.getConnection().prepareStatement("SELECT * FROM " + this.table
-                + " WHERE id = '" + this.key + "'")){
+        try(Connection con = this.connection.borrow(); PreparedStatement pst = con.prepareStatement(SQLTable.of(this.table).select())){
+            pst.setString(1, this.key.toString());
 
             ResultSet rs = pst.executeQuery();
             while(rs.next()){
-                int coulmnCnt = rs.getMetaData().getColumnCount();
-                for(int i = 2; i <= coulmnCnt; i++){
-                    String name = rs.getMetaData().getColumnName(i);
-                    String value = rs.getString(i);
-
-                    this.data.put(name, value);
-                }
+                Map<String, String> row = readRow(rs);
+                this.data.putAll(row);
+                this.dirty.removeAll(row.keySet());
             }
 
         }catch(SQLException e){
@@ -563,6 +772,26 @@ public class SQLConfiguration implements Configuration {
         }
     }
 
+    /**
+     * Read the values of the current row of a result set, i.e. all columns except the id. NaN and infinite values are
+     * moved back from their companion columns.
+     *
+     * @param rs The result set of a statement that selects all columns.
+     * @return The values of the row mapped to their column names.
+     * @throws SQLException If the row could not be read.
+     */
+    @NotNull
+    private static Map<String, String> readRow(@NotNull ResultSet rs) throws SQLException {
+        Map<String, String> row = new HashMap<>();
+        int coulmnCnt = rs.getMetaData().getColumnCount();
+        for(int i = 2; i <= coulmnCnt; i++){
+            Object value = SQLType.read(rs, i);
+            row.put(rs.getMetaData().getColumnName(i), value == null ? null : value.toString());
+        }
+
+        return SQLType.restoreNonFinite(row);
+    }
+
     /**
      * Fetch all the foreign key constraints from the linked table.
      *
@@ -570,18 +799,24 @@ public class SQLConfiguration implements Configuration {
      */
     @NotNull
     private Map<String, String> getForeignKeys0() {
+        return fetchForeignKeys(this.connection, this.table);
+    }
+
+    /**
+     * Fetch all the foreign key constraints of a table from the schema cache of the connection.
+     *
+     * @param con The connection to the SQL database.
+     * @param table The name of the table.
+     * @return A map containing the found foreign keys mapped to the table the key is pointing to.
+     */
+    @NotNull
+    private static Map<String, String> fetchForeignKeys(@NotNull SQLConnection con, @NotNull String table) {
         Map<String, String> map = new HashMap<>();
-        if(!this.connection.isConnected())
+        if(!con.isConnected())
             return map;
 
         try{
-            DatabaseMetaData meta = this.connection.getConnection().getMetaData();
-            ResultSet rs = meta.getImportedKeys(this.connection.getConnection().getCatalog(), null, this.table);
-            while(rs.next()){
-                String tableName = rs.getString("PKTABLE_NAME");
-                String name = rs.getString("FKCOLUMN_NAME");
-                map.put(name, tableName);
-            }
+            map.putAll(con.getSchema().getForeignKeys(table));
 
         }catch(SQLException e){
             e.printStackTrace();
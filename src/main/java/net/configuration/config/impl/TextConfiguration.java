@@ -3,7 +3,6 @@ package net.configuration.config.impl;
 import net.configuration.config.ConfigurationException;
 import net.configuration.serializable.api.Creator;
 import net.configuration.serializable.api.SerializableObject;
-import net.configuration.serializable.impl.SerializationHelper;
 import net.configuration.serializable.impl.types.TextSerializedObject;
 import org.apache.commons.lang3.ClassUtils;
 import org.jetbrains.annotations.NotNull;
@@ -15,7 +14,6 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 
 public class TextConfiguration extends ByteConfiguration {
@@ -42,6 +40,7 @@ public class TextConfiguration extends ByteConfiguration {
     public boolean reload() {
         try {
             this.load();
+            this.values.clear();
             return true;
         } catch (IOException e) {
             e.printStackTrace();
@@ -58,7 +57,7 @@ public class TextConfiguration extends ByteConfiguration {
 
         String elem = this.getString(path).orElseThrow();
         if(classOfT == String.class || ClassUtils.isPrimitiveOrWrapper(classOfT)){
-            return Optional.of(this.getPrimitiveList(elem, classOfT));
+            return this.values.decodeList(path, classOfT, elem);
 
         }else if(SerializableObject.class.isAssignableFrom(classOfT)){
             List<T> res = new ArrayList<>();
@@ -72,8 +71,7 @@ public class TextConfiguration extends ByteConfiguration {
             return Optional.of(res);
 
         }else if(classOfT.isEnum()){
-            List<String> names = this.getPrimitiveList(elem, String.class);
-            return Optional.of(this.getEnumList(names, classOfT));
+            return this.values.decodeList(path, classOfT, elem);
 
         }else{
             throw new ConfigurationException("Could not read list. Invalid element type " + classOfT);
@@ -122,8 +120,7 @@ public class TextConfiguration extends ByteConfiguration {
 
         //read a valid object
         if(ClassUtils.isPrimitiveOrWrapper(classOfT) || classOfT == String.class){
-            Object prim = Objects.requireNonNull(SerializationHelper.extractPrimitive(elem, classOfT));
-            return Optional.of((T) prim);
+            return this.values.decodeValue(path, classOfT, elem);
 
         }else if(List.class.isAssignableFrom(classOfT)){
             throw new ConfigurationException("Cannot get a list this way. Use getList(..) instead.");
@@ -134,7 +131,7 @@ public class TextConfiguration extends ByteConfiguration {
             return Optional.of((T) val);
 
         }else if(classOfT.isEnum()){
-            return Optional.of(this.convertToEnum(elem, classOfT));
+            return this.values.decodeValue(path, classOfT, elem);
 
         }else if(classOfT.isArray()){
             throw new ConfigurationException("Cannot get an array this way. Use getList(..) instead.");
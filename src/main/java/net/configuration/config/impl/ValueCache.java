@@ -0,0 +1,179 @@
+package net.configuration.config.impl;
+
+import net.configuration.config.ConfigurationException;
+import net.configuration.serializable.impl.SerializationHelper;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Caches the decoded values of configurations that store their values as strings or other raw objects. Each entry
+ * remembers the raw object it was decoded from and is only used while the configuration still holds that same
+ * instance. That way, any write to a path invalidates its decoded values, no matter which method wrote the new raw
+ * object. Reading a cached value is two map lookups and allocates nothing, since the cached optional itself is returned.
+ */
+final class ValueCache {
+
+    @NotNull private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Get the decoded value of the given path, decoding and caching it if it is not cached yet.
+     *
+     * @param path The path of the value.
+     * @param type The type the value is decoded to.
+     * @param raw The raw object that is currently stored at the path, or null if there is none.
+     * @param decoder Decodes the raw object. It should not capture any state, so that it is not allocated per call.
+     * @return The decoded value or an empty optional if there is no value at the path.
+     */
+    @NotNull
+    <R, T> Optional<T> decode(@NotNull String path, @NotNull Class<?> type, @Nullable R raw, @NotNull Function<R, T> decoder){
+        if(raw == null)
+            return Optional.empty();
+
+        Optional<T> cached = this.get(path, type, raw);
+        return cached != null ? cached : this.put(path, type, raw, Optional.of(decoder.apply(raw)));
+    }
+
+    /**
+     * Get a primitive, string or enum value that is read with {@code get(path, classOfT)}, decoding and caching it if
+     * it is not cached yet.
+     *
+     * @param path The path of the value.
+     * @param classOfT The type of the value.
+     * @param raw The raw string that is currently stored at the path.
+     * @return The decoded value.
+     * @throws ConfigurationException If the raw string is not a constant of the given enum.
+     */
+    @NotNull
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    <T> Optional<T> decodeValue(@NotNull String path, @NotNull Class<T> classOfT, @NotNull String raw){
+        Optional<T> cached = this.get(path, classOfT, raw);
+        if(cached != null)
+            return cached;
+
+        T value;
+        if(classOfT.isEnum()){
+            value = (T) decodeEnum((Class) classOfT, raw);
+        }else{
+            value = (T) Objects.requireNonNull(SerializationHelper.extractPrimitive(raw, classOfT));
+        }
+
+        return this.put(path, classOfT, raw, Optional.of(value));
+    }
+
+    /**
+     * Get a list of primitives, strings or enums that is stored in the form "1, 2, 3", decoding and caching it if it
+     * is not cached yet. The returned list is immutable, since it is shared between all callers.
+     *
+     * @param path The path of the list.
+     * @param classOfT The type of the list elements.
+     * @param raw The raw string that is currently stored at the path.
+     * @return The decoded list.
+     * @throws ConfigurationException If an element is not a constant of the given enum.
+     */
+    @NotNull
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    <T> Optional<List<T>> decodeList(@NotNull String path, @NotNull Class<T> classOfT, @NotNull String raw){
+        Entry entry = this.entries.get(path);
+        if(entry != null && entry.raw == raw){
+            Optional<List<T>> cached = (Optional<List<T>>) entry.lists.get(classOfT);
+            if(cached != null)
+                return cached;
+        }
+
+        String[] elements = raw.split(", ");
+        List<T> list = new ArrayList<>(elements.length);
+        for(String e : elements){
+            list.add(classOfT.isEnum() ? (T) decodeEnum((Class) classOfT, e) : (T) SerializationHelper.extractPrimitive(e, classOfT));
+        }
+
+        Optional<List<T>> decoded = Optional.of(Collections.unmodifiableList(list));
+        this.entry(path, raw).lists.put(classOfT, decoded);
+        return decoded;
+    }
+
+    /**
+     * @param path The path of the value.
+     * @param type The type the value was decoded to.
+     * @param raw The raw object that is currently stored at the path.
+     * @return The cached value or null if the value is not cached for this raw object.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    <T> Optional<T> get(@NotNull String path, @NotNull Class<?> type, @NotNull Object raw){
+        Entry entry = this.entries.get(path);
+        return entry != null && entry.raw == raw ? (Optional<T>) entry.values.get(type) : null;
+    }
+
+    /**
+     * Cache the decoded value of the given path. Values of another raw object are dropped.
+     *
+     * @param path The path of the value.
+     * @param type The type the value was decoded to.
+     * @param raw The raw object the value was decoded from.
+     * @param value The decoded value.
+     * @return The given value.
+     */
+    @NotNull
+    <T> Optional<T> put(@NotNull String path, @NotNull Class<?> type, @NotNull Object raw, @NotNull Optional<T> value){
+        this.entry(path, raw).values.put(type, value);
+        return value;
+    }
+
+    /**
+     * Drop all cached values, for example after a reload.
+     */
+    void clear(){
+        this.entries.clear();
+    }
+
+    /**
+     * @param classOfT An enum type.
+     * @param name The name of a constant.
+     * @return The constant with the given name.
+     * @throws ConfigurationException If the enum has no constant with that name.
+     */
+    @NotNull
+    private static <E extends Enum<E>> E decodeEnum(@NotNull Class<E> classOfT, @NotNull String name){
+        try{
+            return Enum.valueOf(classOfT, name);
+        }catch(IllegalArgumentException e){
+            throw new ConfigurationException(e);
+        }
+    }
+
+    /**
+     * @param path A path.
+     * @param raw The raw object that is currently stored at the path.
+     * @return The entry of the path for the given raw object.
+     */
+    @NotNull
+    private Entry entry(@NotNull String path, @NotNull Object raw){
+        Entry entry = this.entries.get(path);
+        if(entry == null || entry.raw != raw){
+            entry = new Entry(raw);
+            this.entries.put(path, entry);
+        }
+
+        return entry;
+    }
+
+    /**
+     * The decoded values of one raw object.
+     */
+    private static final class Entry {
+
+        @NotNull private final Object raw;
+        @NotNull private final Map<Class<?>, Optional<?>> values = new HashMap<>(4);
+        @NotNull private final Map<Class<?>, Optional<?>> lists = new HashMap<>(4);
+
+        /**
+         * @param raw The raw object the values are decoded from.
+         */
+        private Entry(@NotNull Object raw){
+            this.raw = raw;
+        }
+    }
+}
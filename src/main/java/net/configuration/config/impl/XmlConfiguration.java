@@ -1,5 +1,6 @@
 package net.configuration.config.impl;
 
+import net.configuration.config.ConfigPath;
 import net.configuration.config.ConfigurationException;
 import net.configuration.config.FileConfiguration;
 import net.configuration.serializable.api.Creator;
@@ -13,6 +14,7 @@ import org.jdom2.input.DOMBuilder;
 import org.jdom2.output.Format;
 import org.jdom2.output.XMLOutputter;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.xml.sax.SAXException;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -25,7 +27,9 @@ import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -33,6 +37,17 @@ public class XmlConfiguration extends FileConfiguration {
 
     private Element config;
 
+    /**
+     * The elements that were already looked up, so that a hot path is resolved without walking the tree. Writes drop
+     * the entries of the written path and its children, because the content of the written element is replaced.
+     */
+    private final Map<ConfigPath, Element> nodes = new HashMap<>();
+
+    /**
+     * The decoded values of the elements, which are valid as long as the text of their element is the same string.
+     */
+    @NotNull private final ValueCache values = new ValueCache();
+
     protected XmlConfiguration(File file) throws IOException {
         super(file);
 
@@ -66,6 +81,8 @@ public class XmlConfiguration extends FileConfiguration {
     public boolean reload() {
         try{
             this.config = this.loadDocument();
+            this.nodes.clear();
+            this.values.clear();
             return true;
 
         }catch(ConfigurationException e){
@@ -76,28 +93,30 @@ public class XmlConfiguration extends FileConfiguration {
     }
 
     @Override
-    public boolean hasMember(@NotNull String path) {
-        if(!path.contains(".")){
-            return this.config.getChild(path) != null;
-        }
+    protected @NotNull Map<String, String> getValues() {
+        Map<String, String> values = new HashMap<>();
+        this.collectValues("", this.config, values);
+        return values;
+    }
 
-        String[] d = path.split("\\.");
-        Element current = this.config.getChild(d[0]);
-        for(int i = 1; i < d.length; i++){
-            current = current.getChild(d[i]);
-            if(current == null)
-                return false;
-        }
+    @Override
+    public boolean hasMember(@NotNull String path) {
+        return this.hasMember(ConfigPath.of(path));
+    }
 
-        return current != null;
+    @Override
+    public boolean hasMember(@NotNull ConfigPath path) {
+        return this.findElement(path).isPresent();
     }
 
     @Override
     public @NotNull Optional<Byte> getByte(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
+        return this.getByte(ConfigPath.of(path));
+    }
 
-        return Optional.of(Byte.valueOf(this.getElement0(path).getText()));
+    @Override
+    public @NotNull Optional<Byte> getByte(@NotNull ConfigPath path) {
+        return this.values.decode(path.toString(), Byte.class, this.getText(path), Byte::valueOf);
     }
 
     @Override
@@ -107,10 +126,12 @@ public class XmlConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Integer> getInt(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
+        return this.getInt(ConfigPath.of(path));
+    }
 
-        return Optional.of(Integer.valueOf(this.getElement0(path).getText()));
+    @Override
+    public @NotNull Optional<Integer> getInt(@NotNull ConfigPath path) {
+        return this.values.decode(path.toString(), Integer.class, this.getText(path), Integer::valueOf);
     }
 
     @Override
@@ -120,10 +141,12 @@ public class XmlConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Long> getLong(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
+        return this.getLong(ConfigPath.of(path));
+    }
 
-        return Optional.of(Long.valueOf(this.getElement0(path).getText()));
+    @Override
+    public @NotNull Optional<Long> getLong(@NotNull ConfigPath path) {
+        return this.values.decode(path.toString(), Long.class, this.getText(path), Long::valueOf);
     }
 
     @Override
@@ -133,10 +156,12 @@ public class XmlConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Short> getShort(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
+        return this.getShort(ConfigPath.of(path));
+    }
 
-        return Optional.of(Short.valueOf(this.getElement0(path).getText()));
+    @Override
+    public @NotNull Optional<Short> getShort(@NotNull ConfigPath path) {
+        return this.values.decode(path.toString(), Short.class, this.getText(path), Short::valueOf);
     }
 
     @Override
@@ -146,10 +171,12 @@ public class XmlConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Float> getFloat(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
+        return this.getFloat(ConfigPath.of(path));
+    }
 
-        return Optional.of(Float.valueOf(this.getElement0(path).getText()));
+    @Override
+    public @NotNull Optional<Float> getFloat(@NotNull ConfigPath path) {
+        return this.values.decode(path.toString(), Float.class, this.getText(path), Float::valueOf);
     }
 
     @Override
@@ -159,10 +186,12 @@ public class XmlConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Double> getDouble(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
+        return this.getDouble(ConfigPath.of(path));
+    }
 
-        return Optional.of(Double.valueOf(this.getElement0(path).getText()));
+    @Override
+    public @NotNull Optional<Double> getDouble(@NotNull ConfigPath path) {
+        return this.values.decode(path.toString(), Double.class, this.getText(path), Double::valueOf);
     }
 
     @Override
@@ -172,10 +201,12 @@ public class XmlConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Character> getChar(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
+        return this.getChar(ConfigPath.of(path));
+    }
 
-        return Optional.of(this.getElement0(path).getText().charAt(0));
+    @Override
+    public @NotNull Optional<Character> getChar(@NotNull ConfigPath path) {
+        return this.values.decode(path.toString(), Character.class, this.getText(path), text -> text.charAt(0));
     }
 
     @Override
@@ -185,10 +216,12 @@ public class XmlConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<Boolean> getBoolean(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
+        return this.getBoolean(ConfigPath.of(path));
+    }
 
-        return Optional.of(Boolean.valueOf(this.getElement0(path).getText()));
+    @Override
+    public @NotNull Optional<Boolean> getBoolean(@NotNull ConfigPath path) {
+        return this.values.decode(path.toString(), Boolean.class, this.getText(path), Boolean::valueOf);
     }
 
     @Override
@@ -198,10 +231,12 @@ public class XmlConfiguration extends FileConfiguration {
 
     @Override
     public @NotNull Optional<String> getString(@NotNull String path) {
-        if(!this.hasMember(path))
-            return Optional.empty();
+        return this.getString(ConfigPath.of(path));
+    }
 
-        return Optional.of(this.getElement0(path).getText());
+    @Override
+    public @NotNull Optional<String> getString(@NotNull ConfigPath path) {
+        return this.findElement(path).map(Element::getText);
     }
 
     @Override
@@ -210,12 +245,18 @@ public class XmlConfiguration extends FileConfiguration {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public @NotNull <T> Optional<List<T>> getList(@NotNull String path, @NotNull Class<T> classOfT) {
-        if(!(this.hasMember(path)))
+        return this.getList(ConfigPath.of(path), classOfT);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull <T> Optional<List<T>> getList(@NotNull ConfigPath path, @NotNull Class<T> classOfT) {
+        Optional<Element> opt = this.findElement(path);
+        if(opt.isEmpty())
             return Optional.empty();
 
-        Element elem = this.getElement0(path);
+        Element elem = opt.get();
         if(classOfT == String.class || ClassUtils.isPrimitiveOrWrapper(classOfT)){
             return Optional.of(this.getPrimitiveList(elem, classOfT));
 
@@ -277,12 +318,18 @@ public class XmlConfiguration extends FileConfiguration {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public @NotNull <T> Optional<T> get(@NotNull String path, @NotNull Class<T> classOfT) {
-        if(!this.hasMember(path))
+        return this.get(ConfigPath.of(path), classOfT);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull <T> Optional<T> get(@NotNull ConfigPath path, @NotNull Class<T> classOfT) {
+        Optional<Element> opt = this.findElement(path);
+        if(opt.isEmpty())
             return Optional.empty();
 
-        Element elem = this.getElement0(path);
+        Element elem = opt.get();
         if(elem.getText().equalsIgnoreCase("null"))
             return Optional.empty();
 
@@ -358,7 +405,7 @@ public class XmlConfiguration extends FileConfiguration {
     }
 
     /**
-     * Get the XML element associated with the given path. If there is no element mapped to the given path
+     * Get the XML element associated with the given path to write it. If there is no element mapped to the given path
      * then a new one is created and linked to the provided path.
      *
      * @param path The path to the XML element.
@@ -366,7 +413,12 @@ public class XmlConfiguration extends FileConfiguration {
      */
     @NotNull
     protected Element getElement(@NotNull String path){
-        return this.hasMember(path) ? this.getElement0(path) : this.createNewElement(path);
+        ConfigPath compiled = ConfigPath.of(path);
+        Optional<Element> elem = this.findElement(compiled);
+        if(!this.nodes.isEmpty())
+            this.nodes.keySet().removeIf(cached -> cached.startsWith(compiled));
+
+        return elem.orElseGet(() -> this.createNewElement(compiled));
     }
 
     /**
@@ -392,25 +444,62 @@ public class XmlConfiguration extends FileConfiguration {
      * is the child with the name "three" from the element "two" that itself is a child of the element "one".
      *
      * @param path The path to the element.
-     * @return The element at the end of the given path.
+     * @return The element at the end of the given path or an empty optional, if there is no such element.
      */
     @NotNull
-    private Element getElement0(@NotNull String path){
-        if(!path.contains(".")){
-            return this.config.getChild(path);
-        }
+    private Optional<Element> findElement(@NotNull String path){
+        return this.findElement(ConfigPath.of(path));
+    }
 
-        String[] d = path.split("\\.");
-        Element current = this.config.getChild(d[0]);
-        for(int i = 1; i < d.length; i++){
-            current = current.getChild(d[i]);
-            if(current == null)
-                throw new ConfigurationException("Invalid path: " + path);
+    /**
+     * Get the deepest element of the given compiled path. Found elements are cached, so that the next lookup of the
+     * same path does not walk the tree again.
+     *
+     * @param path The path to the element.
+     * @return The element at the end of the given path or an empty optional, if there is no such element.
+     */
+    @NotNull
+    private Optional<Element> findElement(@NotNull ConfigPath path){
+        return Optional.ofNullable(this.findNode(path));
+    }
+
+    /**
+     * Get the deepest element of the given compiled path without wrapping it, so that reading a cached element does
+     * not allocate. Found elements are cached, so that the next lookup of the same path does not walk the tree again.
+     *
+     * @param path The path to the element.
+     * @return The element at the end of the given path or null, if there is no such element.
+     */
+    @Nullable
+    private Element findNode(@NotNull ConfigPath path){
+        Element current = this.nodes.get(path);
+        if(current != null)
+            return current;
+
+        current = this.config;
+        for(int i = 0; i < path.size() && current != null; i++){
+            current = current.getChild(path.getPart(i));
         }
 
+        if(current != null)
+            this.nodes.put(path, current);
+
         return current;
     }
 
+    /**
+     * Get the text of the element at the given path. The text of an element is the same string instance until the
+     * element is written, so it identifies the decoded values in the {@link ValueCache}.
+     *
+     * @param path The compiled path to the element.
+     * @return The text of the element or null, if there is no such element.
+     */
+    @Nullable
+    private String getText(@NotNull ConfigPath path){
+        Element elem = this.findNode(path);
+        return elem != null ? elem.getText() : null;
+    }
+
     /**
      * Create a new element under the given path. If the path contains parent dependencies (indicated with .) then the parent
      * at the second to last index has to exist. For example, if the element at "one.two.three.four" is created, then
@@ -420,25 +509,15 @@ public class XmlConfiguration extends FileConfiguration {
      * @return The newly created element.
      */
     @NotNull
-    private Element createNewElement(@NotNull String path){
-        Element parent;
-        String name;
-        if(!path.contains(".")){
-            parent = this.config;
-            name = path;
-
-        }else{
-            String[] d = path.split("\\.");
-            parent = this.config.getChild(d[0]);
-            for(int i = 1; i < d.length; i++){
-                parent = parent.getChild(d[i]);
-                if(parent == null)
-                    throw new ConfigurationException("Invalid path: " + path);
-            }
-            name = d[d.length - 1];
+    private Element createNewElement(@NotNull ConfigPath path){
+        Element parent = this.config;
+        for(int i = 0; i < path.size() - 1; i++){
+            parent = parent.getChild(path.getPart(i));
+            if(parent == null)
+                throw new ConfigurationException("Invalid path: " + path);
         }
 
-        Element newElem = new Element(name);
+        Element newElem = new Element(path.getName());
         parent.addContent(newElem);
 
         return newElem;
@@ -522,4 +601,21 @@ public class XmlConfiguration extends FileConfiguration {
         return res;
     }
 
+    /**
+     * Add the text of all leaves below the given element to the given map.
+     *
+     * @param prefix The path of the given element including the trailing dot, or an empty string for the root.
+     * @param elem The element to collect the values of.
+     * @param values The map to add the values to.
+     */
+    private void collectValues(@NotNull String prefix, @NotNull Element elem, @NotNull Map<String, String> values){
+        for(Element child : elem.getChildren()){
+            if(child.getChildren().isEmpty()){
+                values.put(prefix + child.getName(), child.getText());
+            }else{
+                this.collectValues(prefix + child.getName() + ".", child, values);
+            }
+        }
+    }
+
 }
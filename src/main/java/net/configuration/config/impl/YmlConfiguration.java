@@ -14,7 +14,9 @@ import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class YmlConfiguration extends FileConfiguration {
@@ -50,6 +52,17 @@ public class YmlConfiguration extends FileConfiguration {
         }
     }
 
+    @Override
+    protected @NotNull Map<String, String> getValues() {
+        Map<String, String> values = new HashMap<>();
+        for(String key : this.config.getKeys(true)){
+            if(!this.config.isConfigurationSection(key))
+                values.put(key, String.valueOf(this.config.get(key)));
+        }
+
+        return values;
+    }
+
     @Override
     public boolean hasMember(@NotNull String path) {
         return this.config.contains(path);
@@ -76,6 +89,11 @@ public class YmlConfiguration extends FileConfiguration {
         return Optional.of(this.config.getInt(path));
     }
 
+    @Override
+    public int getInt(@NotNull String path, int def) {
+        return this.hasMember(path) ? this.config.getInt(path) : def;
+    }
+
     @Override
     public void setInt(@NotNull String path, int value) {
         this.config.set(path, value);
@@ -89,6 +107,11 @@ public class YmlConfiguration extends FileConfiguration {
         return Optional.of(this.config.getLong(path));
     }
 
+    @Override
+    public long getLong(@NotNull String path, long def) {
+        return this.hasMember(path) ? this.config.getLong(path) : def;
+    }
+
     @Override
     public void setLong(@NotNull String path, long value) {
         this.config.set(path, value);
@@ -128,6 +151,11 @@ public class YmlConfiguration extends FileConfiguration {
         return Optional.of(this.config.getDouble(path));
     }
 
+    @Override
+    public double getDouble(@NotNull String path, double def) {
+        return this.hasMember(path) ? this.config.getDouble(path) : def;
+    }
+
     @Override
     public void setDouble(@NotNull String path, double value) {
         this.config.set(path, value);
@@ -154,6 +182,11 @@ public class YmlConfiguration extends FileConfiguration {
         return Optional.of(this.config.getBoolean(path));
     }
 
+    @Override
+    public boolean getBoolean(@NotNull String path, boolean def) {
+        return this.hasMember(path) ? this.config.getBoolean(path) : def;
+    }
+
     @Override
     public void setBoolean(@NotNull String path, boolean value) {
         this.config.set(path, value);
@@ -0,0 +1,184 @@
+package net.configuration.network;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Collects the tables and rows of an object graph and writes them at once. The tables are created first, then all rows
+ * are inserted in one transaction, with one JDBC batch per insert statement. A row is always inserted after the rows
+ * it references, so that foreign key constraints hold at any time.
+ */
+public class SQLBatch {
+
+    @NotNull private final Map<String, String> tables = new LinkedHashMap<>();
+    @NotNull private final Map<UUID, Integer> levels = new HashMap<>();
+    @NotNull private final List<Row> rows = new ArrayList<>();
+    @NotNull private final List<Runnable> commitActions = new ArrayList<>();
+
+    /**
+     * Add a statement that creates a table. Only the first statement for each table is executed.
+     *
+     * @param table The name of the table.
+     * @param sql The CREATE TABLE statement.
+     */
+    public void addTable(@NotNull String table, @NotNull String sql){
+        this.tables.putIfAbsent(table, sql);
+    }
+
+    /**
+     * Add a row to insert.
+     *
+     * @param id The primary key of the row.
+     * @param sql The parameterized insert statement.
+     * @param values The values of the statement parameters in order.
+     * @param types The column types of the statement parameters in order.
+     * @param references The primary keys of the rows this row references.
+     */
+    public void addRow(@NotNull UUID id, @NotNull String sql, @NotNull List<String> values, @NotNull List<SQLType> types,
+                       @NotNull Collection<UUID> references){
+        int level = 0;
+        for(UUID ref : references){
+            Integer refLevel = this.levels.get(ref);
+            if(refLevel != null)
+                level = Math.max(level, refLevel + 1);
+        }
+
+        this.levels.put(id, level);
+        this.rows.add(new Row(sql, values.toArray(new String[0]), types.toArray(new SQLType[0]), level));
+    }
+
+    /**
+     * Add an action that runs after all rows of this batch were committed. The action is discarded if the batch fails.
+     *
+     * @param action The action to run.
+     */
+    public void onCommit(@NotNull Runnable action){
+        this.commitActions.add(action);
+    }
+
+    /**
+     * Discard everything that was added to this batch.
+     */
+    public void clear(){
+        this.tables.clear();
+        this.levels.clear();
+        this.rows.clear();
+        this.commitActions.clear();
+    }
+
+    /**
+     * @param id The primary key of a row.
+     * @return True iff a row with the given primary key was added to this batch.
+     */
+    public boolean contains(@NotNull UUID id){
+        return this.levels.containsKey(id);
+    }
+
+    /**
+     * @return True iff there is nothing to write.
+     */
+    public boolean isEmpty(){
+        return this.tables.isEmpty() && this.rows.isEmpty() && this.commitActions.isEmpty();
+    }
+
+    /**
+     * Create all tables and insert all rows of this batch. The batch is empty afterwards, even if an error occurred.
+     *
+     * @param connection The connection to the SQL database.
+     * @throws SQLException If a table could not be created or a row could not be inserted. In that case no row was
+     *                      inserted.
+     */
+    public void execute(@NotNull SQLConnection connection) throws SQLException {
+        try(Connection con = connection.borrow()){
+            //DDL commits implicitly on most databases, so it cannot be part of the transaction
+            try(Statement st = con.createStatement()){
+                for(var entry : this.tables.entrySet()){
+                    st.executeUpdate(entry.getValue());
+                    connection.getSchema().tableCreated(entry.getKey());
+                }
+            }
+
+            if(!this.rows.isEmpty())
+                this.insertRows(con);
+
+            this.commitActions.forEach(Runnable::run);
+
+        }finally{
+            this.clear();
+        }
+    }
+
+    /**
+     * Insert all rows in one transaction.
+     *
+     * @param con The connection to use.
+     * @throws SQLException If a row could not be inserted. In that case the transaction was rolled back.
+     */
+    private void insertRows(@NotNull Connection con) throws SQLException {
+        boolean autoCommit = con.getAutoCommit();
+        con.setAutoCommit(false);
+        try{
+            for(Map<String, List<Row>> statements : this.groupRows().values()){
+                for(var entry : statements.entrySet()){
+                    try(PreparedStatement pst = con.prepareStatement(entry.getKey())){
+                        for(Row row : entry.getValue()){
+                            SQLType.bindAll(pst, row.values(), row.types());
+                            pst.addBatch();
+                        }
+
+                        pst.executeBatch();
+                    }
+                }
+            }
+
+            con.commit();
+
+        }catch(SQLException e){
+            con.rollback();
+            throw e;
+
+        }finally{
+            con.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * Group the rows by their level first and by their insert statement second, keeping the order in which they
+     * were added.
+     *
+     * @return The rows grouped by level and statement.
+     */
+    @NotNull
+    private Map<Integer, Map<String, List<Row>>> groupRows(){
+        Map<Integer, Map<String, List<Row>>> grouped = new TreeMap<>();
+        for(Row row : this.rows){
+            grouped.computeIfAbsent(row.level(), l -> new LinkedHashMap<>())
+                    .computeIfAbsent(row.sql(), s -> new ArrayList<>())
+                    .add(row);
+        }
+
+        return grouped;
+    }
+
+    /**
+     * A row to insert.
+     *
+     * @param sql The parameterized insert statement.
+     * @param values The values of the statement parameters.
+     * @param types The column types of the statement parameters.
+     * @param level The length of the longest chain of references from this row to other rows in this batch.
+     */
+    private record Row(@NotNull String sql, @NotNull String[] values, @NotNull SQLType[] types, int level){ }
+}
@@ -8,6 +8,8 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
 
 public class SQLConnection implements SerializableObject {
 
@@ -20,10 +22,23 @@ public class SQLConnection implements SerializableObject {
     private String username;
     private String password;
     private String database;
+    private String url;
 
     @IgnoreSerialization
     private transient Connection connection;
 
+    @IgnoreSerialization
+    private transient StatementCache statements;
+
+    @IgnoreSerialization
+    private transient SQLConnectionPool pool;
+
+    @IgnoreSerialization
+    private transient boolean writeBehind;
+
+    @IgnoreSerialization
+    private final transient SQLSchema schema = new SQLSchema(this);
+
     /**
      * Create a new connection instance containing the relevant information to connect to a SQL server.
      *
@@ -39,11 +54,63 @@ public class SQLConnection implements SerializableObject {
         this.username = username;
         this.password = password;
         this.database = database;
+        this.url = "";
+    }
+
+    /**
+     * Create a new connection instance for the given JDBC url. This allows using any database with a JDBC driver,
+     * e.g. an embedded database for testing.
+     *
+     * @param url The full JDBC url including the database.
+     * @param username The SQL username.
+     * @param password The user's password.
+     */
+    public SQLConnection(@NotNull String url, @NotNull String username, @NotNull String password) {
+        this.host = "";
+        this.port = -1;
+        this.username = username;
+        this.password = password;
+        this.database = "";
+        this.url = url;
     }
 
     @SuppressWarnings("unused")
     private SQLConnection(){} //Hide implicit
 
+    /**
+     * Use a pool of connections instead of a single shared connection. The pool keeps at least minSize and at most
+     * maxSize connections open. Must be called before {@link SQLConnection#connect()}.
+     *
+     * @param minSize The amount of connections that are kept open, even if they are idle.
+     * @param maxSize The maximal amount of connections that are open at the same time.
+     * @param borrowTimeoutMillis The time to wait for a free connection, if all connections are in use.
+     * @param idleTimeoutMillis The time after which an idle connection above minSize is closed.
+     * @throws IllegalStateException If this instance is already connected.
+     */
+    public void enablePooling(int minSize, int maxSize, long borrowTimeoutMillis, long idleTimeoutMillis){
+        if(this.isConnected())
+            throw new IllegalStateException("Pooling has to be enabled before connecting");
+
+        this.pool = new SQLConnectionPool(this::openConnection, minSize, maxSize, borrowTimeoutMillis, idleTimeoutMillis);
+    }
+
+    /**
+     * Enable or disable write-behind. If enabled, the rows of a serialized object graph are not written one by one,
+     * but collected in a {@link SQLBatch} and written at once when the root object is flushed.
+     *
+     * @param writeBehind True to collect the writes of an object graph.
+     */
+    public void setWriteBehind(boolean writeBehind) {
+        this.writeBehind = writeBehind;
+    }
+
+    /**
+     * @return True iff the writes of an object graph are collected and written at once.
+     */
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
     /**
      * Connect the current {@link SQLConnection} instance to the given server.
      *
@@ -51,9 +118,11 @@ public class SQLConnection implements SerializableObject {
      */
     public boolean connect(){
         try {
-            //Class.forName(this.driverClass); //load the driver and then connect to the given sql server.
-            this.connection = DriverManager.getConnection("jdbc:mysql://" + this.host + ":" + this.port + "/" +
-                    this.database + "", this.username, this.password); //?serverTimezone=Europe/Rome?autoReconnect=true
+            if(this.pool != null){
+                this.pool.open();
+            }else{
+                this.openShared();
+            }
             return true;
         } catch (SQLException e) {
             e.printStackTrace();
@@ -63,10 +132,18 @@ public class SQLConnection implements SerializableObject {
     }
 
     /**
-     * Close the active sql connection. May throw a {@link NullPointerException} if the connection is closed.
+     * Close the active sql connection. If pooling is enabled, all idle connections of the pool are closed and borrowed
+     * connections are closed as soon as they are returned. May throw a {@link NullPointerException} if the
+     * connection is closed.
      */
     public void disconnect(){
+        if(this.pool != null){
+            this.pool.close();
+            return;
+        }
+
         try {
+            this.statements.close();
             this.connection.close();
             this.connection = null;
         } catch (SQLException e) {
@@ -75,36 +152,156 @@ public class SQLConnection implements SerializableObject {
     }
 
     /**
-     * Get the current connection to a SQL server.
+     * Get the current connection to a SQL server. This is only available if pooling is disabled, use
+     * {@link SQLConnection#borrow()} instead.
      *
      * @return The current connection to the SQL server, possibly null if not connected.
+     * @throws IllegalStateException If pooling is enabled.
      */
     public Connection getConnection() {
+        if(this.pool != null)
+            throw new IllegalStateException("There is no shared connection if pooling is enabled");
+
         return connection;
     }
 
+    /**
+     * Borrow a connection to the SQL server. The returned connection has to be closed after use, which returns it to
+     * the pool. If pooling is disabled, the shared connection is returned and closing it has no effect. A shared
+     * connection that was closed by the server is opened again.
+     *
+     * @return A connection to the SQL server.
+     * @throws SQLException If no connection is available.
+     */
+    @NotNull
+    public Connection borrow() throws SQLException {
+        if(this.pool != null){
+            if(!this.pool.isOpen())
+                this.pool.open();
+
+            return this.pool.borrow();
+        }
+
+        if(this.connection == null || this.connection.isClosed())
+            this.openShared();
+
+        return SQLConnectionPool.unclosable(this.connection, this.statements);
+    }
+
+    /**
+     * Open a session that writes many objects and configurations in one transaction.
+     *
+     * @return A new session, which has to be committed to write anything.
+     */
+    @NotNull
+    public SQLSession openSession(){
+        if(!this.isConnected())
+            this.connect();
+
+        return new SQLSession(this);
+    }
+
     /**
      * Check if the current sql connection is active.
      *
      * @return True, iff the connection is active, false otherwise.
      */
     public boolean isConnected(){
+        if(this.pool != null)
+            return this.pool.isOpen();
+
         return this.connection != null;
     }
 
     /**
-     * Executes a SQL-Command on the current connection.
+     * @return The cached schema metadata of the database.
+     */
+    @NotNull
+    public SQLSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Get the state of the connection pool.
+     *
+     * @return The current pool metrics or an empty optional, if pooling is disabled.
+     */
+    @NotNull
+    public Optional<SQLConnectionPool.Metrics> getPoolMetrics(){
+        if(this.pool == null)
+            return Optional.empty();
+
+        return Optional.of(this.pool.getMetrics());
+    }
+
+    /**
+     * Executes a SQL-Command on the current connection. Values should be passed as parameters instead of being
+     * concatenated into the command, so that the prepared statement can be reused and the values are escaped.
+     *
+     * @param sqlCommand The SQL-Statement, possibly containing '?' placeholders.
+     * @param parameters The values of the placeholders in order.
+     */
+    public void update(@NotNull String sqlCommand, String... parameters){
+        try (Connection con = this.borrow(); PreparedStatement pst = con.prepareStatement(sqlCommand)){
+            for(int i = 0; i < parameters.length; i++)
+                pst.setString(i + 1, parameters[i]);
+
+            pst.executeUpdate();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Executes a SQL-Command on the current connection and binds each parameter with the JDBC method of its column
+     * type.
      *
-     * @param sqlCommand The SQL-Statement
+     * @param sqlCommand The SQL-Statement, containing '?' placeholders.
+     * @param parameters The values of the placeholders in order.
+     * @param types The column types of the placeholders in order.
+     * @return True iff the command was executed successfully.
      */
-    public void update(@NotNull String sqlCommand){
-        try (PreparedStatement pst = connection.prepareStatement(sqlCommand)){
+    public boolean update(@NotNull String sqlCommand, @NotNull List<String> parameters, @NotNull List<SQLType> types){
+        try (Connection con = this.borrow(); PreparedStatement pst = con.prepareStatement(sqlCommand)){
+            SQLType.bindAll(pst, parameters.toArray(new String[0]), types.toArray(new SQLType[0]));
             pst.executeUpdate();
+            return true;
         } catch (SQLException e) {
             e.printStackTrace();
+            return false;
         }
     }
 
+    /**
+     * Open the shared connection that is used if pooling is disabled.
+     *
+     * @throws SQLException If the connection could not be opened.
+     */
+    private void openShared() throws SQLException {
+        if(this.statements != null)
+            this.statements.close();
+
+        this.connection = this.openConnection();
+        this.statements = new StatementCache(this.connection, StatementCache.DEFAULT_SIZE);
+    }
+
+    /**
+     * Open a new physical connection to the SQL server.
+     *
+     * @return The new connection.
+     * @throws SQLException If the connection could not be opened.
+     */
+    @NotNull
+    private Connection openConnection() throws SQLException {
+        //Class.forName(this.driverClass); //load the driver and then connect to the given sql server.
+        //statements are cached per connection, so let the server prepare them once as well and send batches as one
+        //multi row insert
+        String jdbcUrl = this.url == null || this.url.isEmpty() ? "jdbc:mysql://" + this.host + ":" + this.port + "/" +
+                this.database + "?useServerPrepStmts=true&rewriteBatchedStatements=true" : this.url; //?serverTimezone=Europe/Rome?autoReconnect=true
+
+        return DriverManager.getConnection(jdbcUrl, this.username, this.password);
+    }
+
     @Override
     public void write(@NotNull SerializedObject dest) {
         dest.setString(this.host);
@@ -112,6 +309,7 @@ public class SQLConnection implements SerializableObject {
         dest.setString(this.username);
         dest.setString(this.password);
         dest.setString(this.database);
+        dest.setString(this.url);
     }
 
     @Override
@@ -121,6 +319,7 @@ public class SQLConnection implements SerializableObject {
         this.username = src.getString().orElse("");
         this.password = src.getString().orElse("");
         this.database = src.getString().orElse("");
+        this.url = src.getString().orElse("");
 
         return this;
     }
@@ -0,0 +1,557 @@
+package net.configuration.network;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded pool of physical SQL connections. Borrowed connections are handles to a pooled connection and return it to
+ * the pool when they are closed, so they should always be used in a try-with-resources block. Each connection is
+ * validated before it is handed out and connections that were idle for too long are closed, as long as the pool
+ * keeps at least its minimum size.
+ */
+public class SQLConnectionPool implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT = 2; //seconds
+    private static final String CONNECTION_ERROR_STATE = "08"; //SQL state class of connection exceptions
+
+    @NotNull private final ConnectionFactory factory;
+    private final int minSize;
+    private final int maxSize;
+    private final long borrowTimeout;
+    private final long idleTimeout;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = this.lock.newCondition();
+
+    //the most recently returned connection is always at the head
+    @NotNull private final Deque<PooledConnection> idle = new ArrayDeque<>();
+    private boolean open = false;
+    private int total;
+    private int waiting;
+
+    private long borrowed;
+    private long created;
+    private long destroyed;
+    private long timeouts;
+    private long validationFailures;
+
+    /**
+     * Create a new pool. The pool does not open any connection until {@link SQLConnectionPool#open()} is called.
+     *
+     * @param factory The factory to open new physical connections with.
+     * @param minSize The amount of connections that are kept open, even if they are idle.
+     * @param maxSize The maximal amount of connections that are open at the same time.
+     * @param borrowTimeoutMillis The time to wait for a free connection, if all connections are in use.
+     * @param idleTimeoutMillis The time after which an idle connection is closed, if there are more than minSize
+     *                          connections.
+     * @throws IllegalArgumentException If the sizes or timeouts are invalid.
+     */
+    public SQLConnectionPool(@NotNull ConnectionFactory factory, int minSize, int maxSize, long borrowTimeoutMillis,
+                             long idleTimeoutMillis){
+
+        if(minSize < 0 || maxSize < 1 || minSize > maxSize)
+            throw new IllegalArgumentException("Invalid pool size [" + minSize + ", " + maxSize + "]");
+
+        if(borrowTimeoutMillis < 0 || idleTimeoutMillis < 0)
+            throw new IllegalArgumentException("Timeouts must not be negative");
+
+        this.factory = factory;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.borrowTimeout = TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMillis);
+        this.idleTimeout = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+    }
+
+    /**
+     * Open the pool and fill it up to its minimum size. Opening an already open pool has no effect.
+     *
+     * @throws SQLException If a connection could not be opened.
+     */
+    public void open() throws SQLException {
+        this.lock.lock();
+        try{
+            this.open = true;
+        }finally{
+            this.lock.unlock();
+        }
+
+        while(true){
+            this.lock.lock();
+            try{
+                if(!this.open || this.total >= this.minSize)
+                    return;
+
+                this.total++;
+            }finally{
+                this.lock.unlock();
+            }
+
+            this.release(this.create());
+        }
+    }
+
+    /**
+     * @return True iff the pool is open and connections can be borrowed.
+     */
+    public boolean isOpen(){
+        this.lock.lock();
+        try{
+            return this.open;
+        }finally{
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Borrow a validated connection from this pool. If all connections are in use and the pool has reached its
+     * maximum size, this method waits until a connection is returned. Closing the returned connection returns it to
+     * the pool.
+     *
+     * @return A handle to the borrowed connection.
+     * @throws SQLTimeoutException If no connection became available in time.
+     * @throws SQLException If the pool is closed or a new connection could not be opened.
+     */
+    @NotNull
+    public Connection borrow() throws SQLException {
+        long deadline = System.nanoTime() + this.borrowTimeout;
+        while(true){
+            PooledConnection con = this.acquire(deadline);
+            if(con == null){
+                //a slot for a new connection was reserved
+                con = this.create();
+
+            }else if(!con.isValid()){
+                this.lock.lock();
+                try{
+                    this.validationFailures++;
+                }finally{
+                    this.lock.unlock();
+                }
+
+                this.destroy(con);
+                continue;
+            }
+
+            this.lock.lock();
+            try{
+                this.borrowed++;
+            }finally{
+                this.lock.unlock();
+            }
+
+            return con.handle();
+        }
+    }
+
+    /**
+     * Close all idle connections that exceeded the idle timeout, as long as the pool keeps its minimum size. This is
+     * done automatically whenever a connection is borrowed or returned.
+     */
+    public void evictIdle(){
+        List<PooledConnection> evicted;
+        this.lock.lock();
+        try{
+            evicted = this.collectExpired(System.nanoTime());
+        }finally{
+            this.lock.unlock();
+        }
+
+        evicted.forEach(this::closePhysical);
+    }
+
+    /**
+     * Close this pool and all idle connections. Borrowed connections are closed as soon as they are returned.
+     */
+    @Override
+    public void close(){
+        List<PooledConnection> closed;
+        this.lock.lock();
+        try{
+            this.open = false;
+            closed = new ArrayList<>(this.idle);
+            this.total -= closed.size();
+            this.destroyed += closed.size();
+            this.idle.clear();
+            this.available.signalAll();
+        }finally{
+            this.lock.unlock();
+        }
+
+        closed.forEach(this::closePhysical);
+    }
+
+    /**
+     * @return A snapshot of the current state and the counters of this pool.
+     */
+    @NotNull
+    public Metrics getMetrics(){
+        this.lock.lock();
+        try{
+            return new Metrics(this.total, this.idle.size(), this.total - this.idle.size(), this.waiting,
+                    this.borrowed, this.created, this.destroyed, this.timeouts, this.validationFailures);
+        }finally{
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Take an idle connection or reserve a slot for a new connection. Waits until the deadline, if neither is possible.
+     *
+     * @param deadline The deadline in nanoseconds of {@link System#nanoTime()}.
+     * @return An idle connection or null, if a slot for a new connection was reserved.
+     * @throws SQLException If the pool is closed or the deadline passed.
+     */
+    private PooledConnection acquire(long deadline) throws SQLException {
+        List<PooledConnection> evicted = List.of();
+        this.lock.lock();
+        try{
+            evicted = this.collectExpired(System.nanoTime());
+            while(true){
+                if(!this.open)
+                    throw new SQLException("Connection pool is closed");
+
+                PooledConnection con = this.idle.pollFirst();
+                if(con != null)
+                    return con;
+
+                if(this.total < this.maxSize){
+                    this.total++;
+                    return null;
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if(remaining <= 0){
+                    this.timeouts++;
+                    throw new SQLTimeoutException("Timed out after " + TimeUnit.NANOSECONDS.toMillis(this.borrowTimeout)
+                            + "ms waiting for a connection");
+                }
+
+                this.waiting++;
+                try{
+                    this.available.awaitNanos(remaining);
+                }catch(InterruptedException e){
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("Interrupted while waiting for a connection", e);
+                }finally{
+                    this.waiting--;
+                }
+            }
+        }finally{
+            this.lock.unlock();
+            evicted.forEach(this::closePhysical);
+        }
+    }
+
+    /**
+     * Open a new physical connection for a reserved slot. The slot is freed, if the connection could not be opened.
+     *
+     * @return The new pooled connection.
+     * @throws SQLException If the connection could not be opened.
+     */
+    @NotNull
+    private PooledConnection create() throws SQLException {
+        try{
+            PooledConnection con = new PooledConnection(this.factory.open());
+            this.lock.lock();
+            try{
+                this.created++;
+            }finally{
+                this.lock.unlock();
+            }
+
+            return con;
+
+        }catch(SQLException | RuntimeException e){
+            this.lock.lock();
+            try{
+                this.total--;
+                this.available.signal();
+            }finally{
+                this.lock.unlock();
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Return the given connection to the pool. Broken connections and connections returned to a closed pool are
+     * closed instead.
+     *
+     * @param con The connection to return.
+     */
+    private void release(@NotNull PooledConnection con){
+        if(con.broken){
+            this.destroy(con);
+            return;
+        }
+
+        try{
+            //do not leak an open transaction to the next borrower
+            if(!con.physical.getAutoCommit()){
+                con.physical.rollback();
+                con.physical.setAutoCommit(true);
+            }
+        }catch(SQLException e){
+            this.destroy(con);
+            return;
+        }
+
+        List<PooledConnection> evicted;
+        this.lock.lock();
+        try{
+            if(!this.open){
+                this.total--;
+                this.destroyed++;
+                evicted = List.of(con);
+
+            }else{
+                con.lastUsed = System.nanoTime();
+                this.idle.addFirst(con);
+                this.available.signal();
+                evicted = this.collectExpired(con.lastUsed);
+            }
+        }finally{
+            this.lock.unlock();
+        }
+
+        evicted.forEach(this::closePhysical);
+    }
+
+    /**
+     * Remove the given connection from the pool and close it.
+     *
+     * @param con The connection to destroy.
+     */
+    private void destroy(@NotNull PooledConnection con){
+        this.lock.lock();
+        try{
+            this.total--;
+            this.destroyed++;
+            this.available.signal();
+        }finally{
+            this.lock.unlock();
+        }
+
+        this.closePhysical(con);
+    }
+
+    /**
+     * Remove all idle connections that exceeded the idle timeout from the pool, but keep at least minSize connections.
+     * Must be called while holding the lock.
+     *
+     * @param now The current time in nanoseconds of {@link System#nanoTime()}.
+     * @return The removed connections, which have to be closed after releasing the lock.
+     */
+    @NotNull
+    private List<PooledConnection> collectExpired(long now){
+        List<PooledConnection> expired = new ArrayList<>(0);
+
+        //the least recently used connections are at the tail
+        Iterator<PooledConnection> it = this.idle.descendingIterator();
+        while(it.hasNext() && this.total > this.minSize){
+            PooledConnection con = it.next();
+            if(now - con.lastUsed < this.idleTimeout)
+                break;
+
+            it.remove();
+            this.total--;
+            this.destroyed++;
+            expired.add(con);
+        }
+
+        return expired;
+    }
+
+    /**
+     * Close the physical connection of the given pooled connection and ignore any error.
+     *
+     * @param con The connection to close.
+     */
+    private void closePhysical(@NotNull PooledConnection con){
+        con.statements.close();
+        try{
+            con.physical.close();
+        }catch(SQLException ignored){
+            //the connection is discarded anyway
+        }
+    }
+
+    /**
+     * Wrap the given connection, so that closing the returned connection has no effect. This is used to hand out
+     * a single shared connection through the same API as pooled connections.
+     *
+     * @param con The connection to wrap.
+     * @param statements The statement cache of the connection.
+     * @return A connection that delegates everything except {@link Connection#close()} to the given connection.
+     */
+    @NotNull
+    static Connection unclosable(@NotNull Connection con, @NotNull StatementCache statements){
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if(method.getName().equals("close"))
+                        return null;
+
+                    if(isPrepare(method, args))
+                        return statements.prepare((String) args[0]);
+
+                    return invoke(con, method, args);
+                });
+    }
+
+    /**
+     * @param method The invoked connection method.
+     * @param args The arguments of the method.
+     * @return True iff the method is {@link Connection#prepareStatement(String)}, which is served by the statement cache.
+     */
+    private static boolean isPrepare(@NotNull Method method, Object[] args){
+        return method.getName().equals("prepareStatement") && args != null && args.length == 1;
+    }
+
+    /**
+     * Invoke the given method on the target and unwrap the exception thrown by the method.
+     *
+     * @param target The object to invoke the method on.
+     * @param method The method to invoke.
+     * @param args The arguments of the method.
+     * @return The result of the method.
+     * @throws Throwable The exception thrown by the method.
+     */
+    private static Object invoke(@NotNull Object target, @NotNull Method method, Object[] args) throws Throwable {
+        try{
+            return method.invoke(target, args);
+        }catch(InvocationTargetException e){
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Opens new physical connections for a pool.
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+
+        /**
+         * @return A new connection to the database.
+         * @throws SQLException If the connection could not be opened.
+         */
+        @NotNull
+        Connection open() throws SQLException;
+    }
+
+    /**
+     * A snapshot of the pool state.
+     *
+     * @param total The amount of open connections.
+     * @param idle The amount of connections that are not borrowed.
+     * @param active The amount of borrowed connections.
+     * @param waiting The amount of threads waiting for a connection.
+     * @param borrowed The amount of connections handed out since the pool was created.
+     * @param created The amount of connections opened since the pool was created.
+     * @param destroyed The amount of connections closed since the pool was created.
+     * @param timeouts The amount of borrow calls that timed out.
+     * @param validationFailures The amount of connections that were discarded, because they were no longer valid.
+     */
+    public record Metrics(int total, int idle, int active, int waiting, long borrowed, long created, long destroyed,
+                          long timeouts, long validationFailures){ }
+
+    /**
+     * A physical connection owned by the pool.
+     */
+    private final class PooledConnection {
+
+        @NotNull private final Connection physical;
+        @NotNull private final StatementCache statements;
+        private long lastUsed = System.nanoTime();
+        private boolean broken = false;
+
+        private PooledConnection(@NotNull Connection physical){
+            this.physical = physical;
+            this.statements = new StatementCache(physical, StatementCache.DEFAULT_SIZE);
+        }
+
+        /**
+         * @return True iff the connection is still usable.
+         */
+        private boolean isValid(){
+            try{
+                return this.physical.isValid(VALIDATION_TIMEOUT);
+            }catch(SQLException e){
+                return false;
+            }
+        }
+
+        /**
+         * @return A new handle to this connection that returns it to the pool when it is closed.
+         */
+        @NotNull
+        private Connection handle(){
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    new Handle());
+        }
+
+        /**
+         * Delegates all calls to the physical connection until the handle is closed.
+         */
+        private final class Handle implements InvocationHandler {
+
+            private boolean closed = false;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch(method.getName()){
+                    case "close" -> {
+                        if(!this.closed){
+                            this.closed = true;
+                            release(PooledConnection.this);
+                        }
+                        return null;
+                    }
+                    case "isClosed" -> {
+                        return this.closed || physical.isClosed();
+                    }
+                    case "equals" -> {
+                        return proxy == args[0];
+                    }
+                    case "hashCode" -> {
+                        return System.identityHashCode(proxy);
+                    }
+                    case "toString" -> {
+                        return "Pooled" + physical;
+                    }
+                }
+
+                if(this.closed)
+                    throw new SQLException("Connection is already returned to the pool");
+
+                try{
+                    if(isPrepare(method, args))
+                        return statements.prepare((String) args[0]);
+
+                    return SQLConnectionPool.invoke(physical, method, args);
+                }catch(SQLException e){
+                    String state = e.getSQLState();
+                    if(state != null && state.startsWith(CONNECTION_ERROR_STATE))
+                        broken = true;
+
+                    throw e;
+                }
+            }
+        }
+    }
+}
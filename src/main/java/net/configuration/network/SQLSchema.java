@@ -0,0 +1,166 @@
+package net.configuration.network;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the schema metadata of a {@link SQLConnection}, i.e. the existing tables and the columns and foreign keys
+ * of each table. Metadata calls are slow, so every table is only looked up once. The library updates the cache
+ * whenever it creates or drops a table, changes made by others are only seen after {@link SQLSchema#clear()}.
+ */
+public class SQLSchema {
+
+    @NotNull private final SQLConnection connection;
+
+    private Set<String> tables; //case-insensitive, since some servers change the case of table names
+    @NotNull private final Map<String, Map<String, Integer>> columns = new ConcurrentHashMap<>();
+    @NotNull private final Map<String, Map<String, String>> foreignKeys = new ConcurrentHashMap<>();
+
+    SQLSchema(@NotNull SQLConnection connection){
+        this.connection = connection;
+    }
+
+    /**
+     * Check if a table exists. All table names are fetched with the first call.
+     *
+     * @param table The name of the table.
+     * @return True iff the table exists.
+     * @throws SQLException If the table names could not be fetched.
+     */
+    public boolean exists(@NotNull String table) throws SQLException {
+        synchronized(this){
+            return this.getTables().contains(table);
+        }
+    }
+
+    /**
+     * Get the columns of a table. The columns are fetched once per table.
+     *
+     * @param table The name of the table.
+     * @return The column names mapped to their {@link java.sql.Types} in the order of the table. The map is empty, if
+     * the table does not exist.
+     * @throws SQLException If the columns could not be fetched.
+     */
+    @NotNull
+    public Map<String, Integer> getColumns(@NotNull String table) throws SQLException {
+        Map<String, Integer> cached = this.columns.get(table);
+        if(cached != null)
+            return cached;
+
+        Map<String, Integer> map = new LinkedHashMap<>();
+        try(Connection con = this.connection.borrow()){
+            ResultSet rs = con.getMetaData().getColumns(con.getCatalog(), con.getSchema(), table, null);
+            while(rs.next()){
+                map.put(rs.getString("COLUMN_NAME"), rs.getInt("DATA_TYPE"));
+            }
+        }
+
+        map = Collections.unmodifiableMap(map);
+        this.columns.put(table, map);
+        return map;
+    }
+
+    /**
+     * Get the foreign keys of a table. The foreign keys are fetched once per table.
+     *
+     * @param table The name of the table.
+     * @return The foreign key column names mapped to the referenced tables.
+     * @throws SQLException If the foreign keys could not be fetched.
+     */
+    @NotNull
+    public Map<String, String> getForeignKeys(@NotNull String table) throws SQLException {
+        Map<String, String> cached = this.foreignKeys.get(table);
+        if(cached != null)
+            return cached;
+
+        Map<String, String> map = new HashMap<>();
+        try(Connection con = this.connection.borrow()){
+            ResultSet rs = con.getMetaData().getImportedKeys(con.getCatalog(), con.getSchema(), table);
+            while(rs.next()){
+                map.put(rs.getString("FKCOLUMN_NAME"), rs.getString("PKTABLE_NAME"));
+            }
+        }
+
+        map = Map.copyOf(map);
+        this.foreignKeys.put(table, map);
+        return map;
+    }
+
+    /**
+     * Record that a table was created or changed. Its columns and foreign keys are fetched again on the next access.
+     *
+     * @param table The name of the table.
+     */
+    public void tableCreated(@NotNull String table){
+        synchronized(this){
+            if(this.tables != null)
+                this.tables.add(table);
+        }
+
+        this.columns.remove(table);
+        this.foreignKeys.remove(table);
+    }
+
+    /**
+     * Record that a table was dropped.
+     *
+     * @param table The name of the table.
+     */
+    public void tableDropped(@NotNull String table){
+        synchronized(this){
+            if(this.tables != null)
+                this.tables.remove(table);
+        }
+
+        this.columns.remove(table);
+        this.foreignKeys.remove(table);
+    }
+
+    /**
+     * Forget everything known about the schema.
+     */
+    public void clear(){
+        synchronized(this){
+            this.tables = null;
+        }
+
+        this.columns.clear();
+        this.foreignKeys.clear();
+    }
+
+    /**
+     * Must be called while holding the lock of this schema.
+     *
+     * @return The names of all tables in the current database.
+     * @throws SQLException If the table names could not be fetched.
+     */
+    @NotNull
+    private Set<String> getTables() throws SQLException {
+        if(this.tables != null)
+            return this.tables;
+
+        Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        try(Connection con = this.connection.borrow()){
+            DatabaseMetaData meta = con.getMetaData();
+            //only the tables of the current schema, since the system tables may have the same names
+            ResultSet rs = meta.getTables(con.getCatalog(), con.getSchema(), "%", new String[]{"TABLE"});
+            while(rs.next()){
+                names.add(rs.getString("TABLE_NAME"));
+            }
+        }
+
+        this.tables = names;
+        return this.tables;
+    }
+}
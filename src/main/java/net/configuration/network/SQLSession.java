@@ -0,0 +1,109 @@
+package net.configuration.network;
+
+import net.configuration.config.impl.SQLConfiguration;
+import net.configuration.serializable.api.SerializableObject;
+import net.configuration.serializable.api.SerializationException;
+import net.configuration.serializable.impl.types.SQLSerializedObject;
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.SQLException;
+
+/**
+ * A unit of work that collects the rows of many serialized objects and configurations and writes them in one
+ * transaction. Missing tables are created before the transaction starts, then all rows are inserted with one JDBC
+ * batch per statement, so either all registered objects are stored or none of them. Closing a session without
+ * committing discards everything that was registered.
+ * <pre>{@code
+ * try(SQLSession session = connection.openSession()){
+ *     session.persist(player);
+ *     session.save(config);
+ *     session.commit();
+ * }
+ * }</pre>
+ */
+public class SQLSession implements AutoCloseable {
+
+    @NotNull private final SQLConnection connection;
+    @NotNull private final SQLBatch batch = new SQLBatch();
+    private boolean closed = false;
+
+    SQLSession(@NotNull SQLConnection connection){
+        this.connection = connection;
+    }
+
+    /**
+     * Register an object to be written with this session. The object and all its nested objects are written when
+     * the session is committed.
+     *
+     * @param value The object to write.
+     * @return The serialized object, which already knows its primary key.
+     * @throws IllegalStateException If the session is closed.
+     */
+    @NotNull
+    public SQLSerializedObject persist(@NotNull SerializableObject value){
+        this.checkOpen();
+        SQLSerializedObject obj = new SQLSerializedObject(this.connection, value.getClass(), this.batch);
+        value.write(obj);
+        obj.flush();
+        return obj;
+    }
+
+    /**
+     * Register the changed values of a configuration to be written with this session.
+     *
+     * @param config The configuration to save.
+     * @throws IllegalStateException If the session is closed.
+     */
+    public void save(@NotNull SQLConfiguration config){
+        this.checkOpen();
+        config.save(this.batch);
+    }
+
+    /**
+     * @return The batch that collects the rows of this session, to register rows of other types.
+     */
+    @NotNull
+    public SQLBatch getBatch() {
+        return batch;
+    }
+
+    /**
+     * Write everything that was registered since the last commit in one transaction.
+     *
+     * @throws SerializationException If the rows could not be written. In that case no row was written and the
+     *                                registered objects are discarded.
+     * @throws IllegalStateException If the session is closed.
+     */
+    public void commit(){
+        this.checkOpen();
+        try{
+            this.batch.execute(this.connection);
+        }catch(SQLException e){
+            throw new SerializationException(e);
+        }
+    }
+
+    /**
+     * Discard everything that was registered since the last commit.
+     */
+    public void rollback(){
+        this.batch.clear();
+    }
+
+    /**
+     * Close this session and discard everything that was not committed.
+     */
+    @Override
+    public void close(){
+        this.rollback();
+        this.closed = true;
+    }
+
+    /**
+     * @throws IllegalStateException If the session is closed.
+     */
+    private void checkOpen(){
+        if(this.closed)
+            throw new IllegalStateException("The session is closed");
+    }
+}
@@ -0,0 +1,176 @@
+package net.configuration.network;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The parameterized SQL statements of one table. All statements use the primary key column 'id' and bind every value
+ * as a parameter, so the same SQL text is produced for every row and the prepared statements can be cached. The
+ * statements are created once per table and column list.
+ */
+public final class SQLTable {
+
+    /**
+     * The maximal amount of ids selected by one statement of {@link SQLTable#selectIn(int)}.
+     */
+    public static final int MAX_KEYS_PER_SELECT = 512;
+
+    private static final Map<String, SQLTable> TABLES = new ConcurrentHashMap<>();
+
+    @NotNull private final String name;
+    @NotNull private final String select;
+    @NotNull private final String count;
+    @NotNull private final String delete;
+    @NotNull private final String page;
+
+    @NotNull private final Map<List<String>, String> inserts = new ConcurrentHashMap<>();
+    @NotNull private final Map<List<String>, String> upserts = new ConcurrentHashMap<>();
+    @NotNull private final Map<Integer, String> selectsIn = new ConcurrentHashMap<>();
+
+    private SQLTable(@NotNull String name){
+        this.name = name;
+        this.select = "SELECT * FROM " + name + " WHERE id = ?";
+        this.count = "SELECT COUNT(*) FROM " + name + " WHERE id = ?";
+        this.delete = "DELETE FROM " + name + " WHERE id = ?";
+        this.page = "SELECT * FROM " + name + " WHERE id > ? ORDER BY id LIMIT ?";
+    }
+
+    /**
+     * Get the statements of the table with the given name.
+     *
+     * @param name The name of the SQL table.
+     * @return The statements of that table.
+     */
+    @NotNull
+    public static SQLTable of(@NotNull String name){
+        return TABLES.computeIfAbsent(name, SQLTable::new);
+    }
+
+    /**
+     * @return The name of the table.
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return A statement that selects all columns of a row. The only parameter is the id.
+     */
+    @NotNull
+    public String select() {
+        return select;
+    }
+
+    /**
+     * Get a statement that selects the given columns of a row. The only parameter is the id.
+     *
+     * @param columns The columns to select.
+     * @return The select statement.
+     */
+    @NotNull
+    public String select(@NotNull String columns) {
+        return "SELECT " + columns + " FROM " + this.name + " WHERE id = ?";
+    }
+
+    /**
+     * Get a statement that selects all columns of several rows. The parameters are the ids of the rows.
+     *
+     * @param amount The amount of ids.
+     * @return The select statement.
+     */
+    @NotNull
+    public String selectIn(int amount) {
+        return this.selectsIn.computeIfAbsent(amount, a -> "SELECT * FROM " + this.name + " WHERE id IN (" +
+                placeholders(a) + ")");
+    }
+
+    /**
+     * Get the amount of parameters to use for selecting the given amount of ids. The amount is rounded up to a power
+     * of two, so that only a few distinct statements are prepared. The remaining parameters repeat one of the ids.
+     *
+     * @param amount The amount of ids, at most {@link SQLTable#MAX_KEYS_PER_SELECT}.
+     * @return The amount of parameters.
+     */
+    public static int parameterCount(int amount) {
+        int parameters = Integer.highestOneBit(amount);
+        return parameters < amount ? parameters << 1 : parameters;
+    }
+
+    /**
+     * @return A statement that selects all columns of the next rows ordered by id. The parameters are the id after
+     * which the page starts, or an empty string for the first page, and the maximal amount of rows.
+     */
+    @NotNull
+    public String page() {
+        return page;
+    }
+
+    /**
+     * @return A statement that counts the rows with a given id. The only parameter is the id.
+     */
+    @NotNull
+    public String count() {
+        return count;
+    }
+
+    /**
+     * @return A statement that deletes a row. The only parameter is the id.
+     */
+    @NotNull
+    public String delete() {
+        return delete;
+    }
+
+    /**
+     * Get a statement that inserts a row with the given columns. The parameters are the column values in the given
+     * order.
+     *
+     * @param columns The columns to insert.
+     * @return The insert statement.
+     */
+    @NotNull
+    public String insert(@NotNull List<String> columns) {
+        return this.inserts.computeIfAbsent(List.copyOf(columns), c -> "INSERT INTO " + this.name + "(" +
+                String.join(", ", c) + ") VALUES (" + placeholders(c.size()) + ")");
+    }
+
+    /**
+     * Get a statement that inserts a row with the given columns or updates the row, if a row with the same primary
+     * key exists. The parameters are the column values in the given order. The first column has to be the id.
+     *
+     * @param columns The columns to insert or update.
+     * @return The upsert statement.
+     */
+    @NotNull
+    public String upsert(@NotNull List<String> columns) {
+        return this.upserts.computeIfAbsent(List.copyOf(columns), c -> {
+            StringBuilder sql = new StringBuilder(this.insert(c)).append(" ON DUPLICATE KEY UPDATE ");
+            for(int i = 1; i < c.size(); i++){
+                if(i > 1)
+                    sql.append(", ");
+
+                sql.append(c.get(i)).append(" = VALUES(").append(c.get(i)).append(")");
+            }
+
+            //a row without any values besides the id has nothing to update
+            if(c.size() == 1)
+                sql.append("id = id");
+
+            return sql.toString();
+        });
+    }
+
+    /**
+     * @param amount The amount of parameters.
+     * @return A comma separated list of the given amount of placeholders.
+     */
+    @NotNull
+    private static String placeholders(int amount){
+        return String.join(", ", Collections.nCopies(amount, "?"));
+    }
+}
@@ -0,0 +1,239 @@
+package net.configuration.network;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The SQL column types used to store values. Values are kept as strings in memory, but they are bound to and read from
+ * the statements with the typed JDBC methods, so that numbers are stored as numbers and not as text. Most databases
+ * cannot store NaN or an infinite value in a FLOAT or DOUBLE column, so these values are written as SQL NULL and kept in
+ * a companion text column instead, see {@link #nonFiniteColumn(String)}.
+ */
+public enum SQLType {
+
+    BOOLEAN("BOOLEAN", Types.BOOLEAN),
+    TINYINT("TINYINT", Types.TINYINT),
+    SMALLINT("SMALLINT", Types.SMALLINT),
+    INT("INT", Types.INTEGER),
+    BIGINT("BIGINT", Types.BIGINT),
+    FLOAT("FLOAT", Types.REAL),
+    DOUBLE("DOUBLE", Types.DOUBLE),
+    CHAR("VARCHAR(1)", Types.VARCHAR),
+    VARCHAR("VARCHAR(255)", Types.VARCHAR),
+    KEY("CHAR(36)", Types.CHAR),
+    TEXT("LONGTEXT", Types.LONGVARCHAR);
+
+    /**
+     * The suffix of the companion columns that store NaN and infinite values of FLOAT and DOUBLE columns.
+     */
+    public static final String NON_FINITE_SUFFIX = "__nonfinite";
+
+    private static final Map<Class<?>, SQLType> JAVA_TYPES = Map.ofEntries(
+            Map.entry(boolean.class, BOOLEAN), Map.entry(Boolean.class, BOOLEAN),
+            Map.entry(byte.class, TINYINT), Map.entry(Byte.class, TINYINT),
+            Map.entry(short.class, SMALLINT), Map.entry(Short.class, SMALLINT),
+            Map.entry(int.class, INT), Map.entry(Integer.class, INT),
+            Map.entry(long.class, BIGINT), Map.entry(Long.class, BIGINT),
+            Map.entry(float.class, FLOAT), Map.entry(Float.class, FLOAT),
+            Map.entry(double.class, DOUBLE), Map.entry(Double.class, DOUBLE),
+            Map.entry(char.class, CHAR), Map.entry(Character.class, CHAR),
+            Map.entry(String.class, TEXT), Map.entry(Enum.class, VARCHAR)
+    );
+
+    @NotNull private final String definition;
+    private final int jdbcType;
+
+    SQLType(@NotNull String definition, int jdbcType){
+        this.definition = definition;
+        this.jdbcType = jdbcType;
+    }
+
+    /**
+     * Get the column type that stores values of the given java type.
+     *
+     * @param type The java type.
+     * @return The column type or an empty optional, if the type is not a primitive, a wrapper or a string. The names
+     * of enum constants are stored with the type of {@link Enum}.
+     */
+    @NotNull
+    public static Optional<SQLType> of(@NotNull Class<?> type){
+        return Optional.ofNullable(JAVA_TYPES.get(type));
+    }
+
+    /**
+     * Get the type that binds values to a column of the given JDBC type.
+     *
+     * @param jdbcType The {@link Types} constant of the column, as reported by the metadata of the database.
+     * @return The matching type. Columns that do not store numbers or booleans are bound as {@link SQLType#TEXT}.
+     */
+    @NotNull
+    public static SQLType ofColumn(int jdbcType){
+        return switch(jdbcType){
+            case Types.BIT, Types.BOOLEAN -> BOOLEAN;
+            case Types.TINYINT -> TINYINT;
+            case Types.SMALLINT -> SMALLINT;
+            case Types.INTEGER -> INT;
+            case Types.BIGINT -> BIGINT;
+            case Types.REAL -> FLOAT;
+            case Types.FLOAT, Types.DOUBLE -> DOUBLE;
+            default -> TEXT;
+        };
+    }
+
+    /**
+     * @return The type as it is written in a CREATE TABLE statement.
+     */
+    @NotNull
+    public String getDefinition() {
+        return definition;
+    }
+
+    /**
+     * @return The {@link Types} constant of this type.
+     */
+    public int getJdbcType() {
+        return jdbcType;
+    }
+
+    /**
+     * @return True iff columns of this type have a companion column for NaN and infinite values, i.e. this is FLOAT or
+     * DOUBLE.
+     */
+    public boolean hasNonFiniteColumn(){
+        return this == FLOAT || this == DOUBLE;
+    }
+
+    /**
+     * Get the name of the companion column of a FLOAT or DOUBLE column. A NaN or infinite value is written as SQL NULL
+     * into the column itself and as text into its companion column, which is of type {@link SQLType#VARCHAR}.
+     *
+     * @param column The name of the FLOAT or DOUBLE column.
+     * @return The name of the companion column.
+     */
+    @NotNull
+    public static String nonFiniteColumn(@NotNull String column){
+        return column + NON_FINITE_SUFFIX;
+    }
+
+    /**
+     * Move the values of the companion columns of a read row back to their FLOAT or DOUBLE columns. The companion
+     * columns are removed from the row.
+     *
+     * @param row The values of the row mapped to their column names.
+     * @return The given row.
+     * @see #nonFiniteColumn(String)
+     */
+    @NotNull
+    public static Map<String, String> restoreNonFinite(@NotNull Map<String, String> row){
+        List<String> companions = new ArrayList<>();
+        for(String name : row.keySet()){
+            if(name.endsWith(NON_FINITE_SUFFIX))
+                companions.add(name);
+        }
+
+        for(String name : companions){
+            String value = row.remove(name);
+            if(value != null)
+                row.put(name.substring(0, name.length() - NON_FINITE_SUFFIX.length()), value);
+        }
+
+        return row;
+    }
+
+    /**
+     * Check whether a value can be stored in a column of this type. FLOAT and DOUBLE columns do not accept NaN or an
+     * infinite value, these values are stored in the companion column, see {@link #nonFiniteColumn(String)}.
+     *
+     * @param value The value.
+     * @return True iff the value can be bound to a column of this type.
+     */
+    public boolean accepts(@NotNull String value){
+        if(!this.hasNonFiniteColumn())
+            return true;
+
+        try{
+            return Double.isFinite(Double.parseDouble(value));
+        }catch(NumberFormatException e){
+            return true;
+        }
+    }
+
+    /**
+     * Bind a value to a statement parameter with the JDBC method that matches this type. A value that cannot be parsed
+     * as this type is bound as string and left to the conversion of the database.
+     *
+     * @param pst The statement.
+     * @param index The index of the parameter, starting at 1.
+     * @param value The value or null, to bind SQL NULL.
+     * @throws SQLException If the value could not be bound.
+     */
+    public void bind(@NotNull PreparedStatement pst, int index, String value) throws SQLException {
+        if(value == null){
+            pst.setNull(index, this.jdbcType);
+            return;
+        }
+
+        try{
+            switch(this){
+                case BOOLEAN -> pst.setBoolean(index, value.equals("1") || Boolean.parseBoolean(value));
+                case TINYINT -> pst.setByte(index, Byte.parseByte(value));
+                case SMALLINT -> pst.setShort(index, Short.parseShort(value));
+                case INT -> pst.setInt(index, Integer.parseInt(value));
+                case BIGINT -> pst.setLong(index, Long.parseLong(value));
+                case FLOAT -> pst.setFloat(index, Float.parseFloat(value));
+                case DOUBLE -> pst.setDouble(index, Double.parseDouble(value));
+                default -> pst.setString(index, value);
+            }
+
+        }catch(NumberFormatException e){
+            pst.setString(index, value);
+        }
+    }
+
+    /**
+     * Bind the given values to the parameters of a statement.
+     *
+     * @param pst The statement.
+     * @param values The values of the parameters in order.
+     * @param types The types of the parameters in order. Parameters without a type are bound as strings.
+     * @throws SQLException If a value could not be bound.
+     */
+    public static void bindAll(@NotNull PreparedStatement pst, String @NotNull [] values, SQLType @NotNull [] types) throws SQLException {
+        for(int i = 0; i < values.length; i++){
+            SQLType type = i < types.length && types[i] != null ? types[i] : TEXT;
+            type.bind(pst, i + 1, values[i]);
+        }
+    }
+
+    /**
+     * Read a column of the current row with the JDBC method that matches the type of the column.
+     *
+     * @param rs The result set.
+     * @param index The index of the column, starting at 1.
+     * @return The value of the column as {@link Boolean}, {@link Number} or {@link String}, or null if the value is
+     * SQL NULL.
+     * @throws SQLException If the column could not be read.
+     */
+    public static Object read(@NotNull ResultSet rs, int index) throws SQLException {
+        Object value = switch(rs.getMetaData().getColumnType(index)){
+            case Types.BIT, Types.BOOLEAN -> rs.getBoolean(index);
+            case Types.TINYINT -> rs.getByte(index);
+            case Types.SMALLINT -> rs.getShort(index);
+            case Types.INTEGER -> rs.getInt(index);
+            case Types.BIGINT -> rs.getLong(index);
+            case Types.REAL -> rs.getFloat(index);
+            case Types.FLOAT, Types.DOUBLE -> rs.getDouble(index);
+            default -> rs.getString(index);
+        };
+
+        return rs.wasNull() ? null : value;
+    }
+}
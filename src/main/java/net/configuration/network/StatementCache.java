@@ -0,0 +1,165 @@
+package net.configuration.network;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A least recently used cache of prepared statements for one physical connection. Only parameterized statements,
+ * i.e. statements that contain a '?', are cached, since statements with inlined values are unlikely to be reused.
+ * A cached statement is handed out to one user at a time and closing it returns it to the cache.
+ */
+final class StatementCache {
+
+    static final int DEFAULT_SIZE = 64;
+
+    @NotNull private final Connection physical;
+    private final int maxSize;
+
+    @NotNull private final LinkedHashMap<String, PreparedStatement> idle;
+    private boolean closed = false;
+
+    /**
+     * @param physical The connection to prepare the statements on.
+     * @param maxSize The maximal amount of idle statements to keep.
+     */
+    StatementCache(@NotNull Connection physical, int maxSize){
+        this.physical = physical;
+        this.maxSize = maxSize;
+        this.idle = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Get a prepared statement for the given SQL. If the statement is parameterized, a cached statement is reused if
+     * possible and closing the returned statement returns it to this cache.
+     *
+     * @param sql The SQL statement.
+     * @return A prepared statement for the given SQL.
+     * @throws SQLException If the statement could not be prepared.
+     */
+    @NotNull
+    PreparedStatement prepare(@NotNull String sql) throws SQLException {
+        if(sql.indexOf('?') < 0)
+            return this.physical.prepareStatement(sql);
+
+        PreparedStatement pst;
+        synchronized(this){
+            pst = this.idle.remove(sql);
+        }
+
+        if(pst == null)
+            pst = this.physical.prepareStatement(sql);
+
+        return this.lease(sql, pst);
+    }
+
+    /**
+     * Close all idle statements. Statements that are in use are closed when they are returned.
+     */
+    void close(){
+        List<PreparedStatement> statements;
+        synchronized(this){
+            this.closed = true;
+            statements = new ArrayList<>(this.idle.values());
+            this.idle.clear();
+        }
+
+        statements.forEach(StatementCache::closeQuietly);
+    }
+
+    /**
+     * Put the given statement back into the cache. The least recently used statement is closed, if the cache is full.
+     *
+     * @param sql The SQL of the statement.
+     * @param pst The returned statement.
+     */
+    private void giveBack(@NotNull String sql, @NotNull PreparedStatement pst){
+        try{
+            pst.clearParameters();
+        }catch(SQLException e){
+            closeQuietly(pst);
+            return;
+        }
+
+        PreparedStatement discarded = null;
+        synchronized(this){
+            if(this.closed || this.idle.containsKey(sql)){
+                discarded = pst;
+
+            }else{
+                this.idle.put(sql, pst);
+                if(this.idle.size() > this.maxSize){
+                    Map.Entry<String, PreparedStatement> eldest = this.idle.entrySet().iterator().next();
+                    discarded = eldest.getValue();
+                    this.idle.remove(eldest.getKey());
+                }
+            }
+        }
+
+        if(discarded != null)
+            closeQuietly(discarded);
+    }
+
+    /**
+     * Wrap the given cached statement, so that closing it returns it to the cache.
+     *
+     * @param sql The SQL of the statement.
+     * @param pst The cached statement.
+     * @return The wrapped statement.
+     */
+    @NotNull
+    private PreparedStatement lease(@NotNull String sql, @NotNull PreparedStatement pst){
+        boolean[] returned = {false};
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    switch(method.getName()){
+                        case "close" -> {
+                            if(!returned[0]){
+                                returned[0] = true;
+                                this.giveBack(sql, pst);
+                            }
+                            return null;
+                        }
+                        case "isClosed" -> {
+                            return returned[0] || pst.isClosed();
+                        }
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                    }
+
+                    if(returned[0])
+                        throw new SQLException("Statement is already closed");
+
+                    try{
+                        return method.invoke(pst, args);
+                    }catch(InvocationTargetException e){
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    /**
+     * Close the given statement and ignore any error.
+     *
+     * @param pst The statement to close.
+     */
+    private static void closeQuietly(@NotNull PreparedStatement pst){
+        try{
+            pst.close();
+        }catch(SQLException ignored){
+            //the statement is discarded anyway
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package net.configuration.serializable.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Classes annotated with this annotation get their serialization code generated at compile time by the annotation
+ * processor of the Configurations-processor module. For a class {@code MyClass} the processor generates the class
+ * {@code MyClassSerialization} in the same package, that writes and reads every field by its name and provides the
+ * creator of the class. Fields that are static, transient or annotated with {@link IgnoreSerialization} are skipped,
+ * all other fields must not be private or final. For example:<br>
+ * <pre>
+ * {@code
+ *      @GenerateSerialization
+ *      class MyClass implements SerializableObject {
+ *
+ *          @SerializationAPI
+ *          private static final Creator< MyClass> CREATOR = MyClassSerialization.CREATOR;
+ *
+ *          int value;
+ *
+ *          public void write(SerializedObject dest) { MyClassSerialization.write(this, dest); }
+ *
+ *          public MyClass read(SerializedObject src) { return MyClassSerialization.read(this, src); }
+ *
+ *      }
+ * }
+ * </pre>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface GenerateSerialization {
+}
@@ -14,6 +14,7 @@ import java.lang.reflect.InvocationTargetException;
 public enum SerializableType {
 
     BYTE(ByteSerializedObject.class, ByteConfiguration.class, ".data"),
+    BINARY(BinarySerializedObject.class, BinaryConfiguration.class, ".bin"),
     JSON(JsonSerializedObject.class, JsonConfiguration.class, ".json"),
     YAML(YamlSerializedObject.class, YmlConfiguration.class, ".yml"),
     XML(XmlSerializedObject.class, XmlConfiguration.class, ".xml"),
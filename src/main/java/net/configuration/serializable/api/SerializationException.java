@@ -20,4 +20,14 @@ public class SerializationException extends RuntimeException{
         super(other);
     }
 
+    /**
+     * Create a new instance of an error explaining what went wrong during serialization and the error that caused it.
+     *
+     * @param msg The detailed error message.
+     * @param cause The thrown error.
+     */
+    public SerializationException(String msg, Throwable cause){
+        super(msg, cause);
+    }
+
 }
@@ -2,10 +2,10 @@ package net.configuration.serializable.api;
 
 import com.google.gson.JsonParser;
 import net.configuration.main.Main;
+import net.configuration.serializable.impl.BinaryWriter;
 import net.configuration.serializable.impl.MapSerializable;
 import net.configuration.serializable.impl.SerializationHelper;
 import net.configuration.serializable.impl.types.*;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ClassUtils;
 import org.jdom2.input.DOMBuilder;
 import org.jetbrains.annotations.NotNull;
@@ -14,12 +14,11 @@ import org.xml.sax.InputSource;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.io.StringReader;
+import java.io.*;
 import java.lang.reflect.Array;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 
@@ -866,6 +865,140 @@ public interface SerializedObject extends ObjectSerializer{
      */
     <K,V> void setMap(@NotNull Map<K, V> value);
 
+    //############################## Primitive array values ################################
+
+    /**
+     * Read the int array mapped to the given name from this object. In contrast to {@link #getIntList(String)} the
+     * values are not boxed.
+     *
+     * @param name The name of the field this array is mapped to.
+     * @return The array mapped to this field name or an empty optional, if no array was found.
+     */
+    Optional<int[]> getIntArray(@NotNull String name);
+
+    /**
+     * Read the int array mapped to the next given field name from this object.
+     *
+     * @return The array mapped to the next field name or an empty optional, if no array was found.
+     */
+    Optional<int[]> getIntArray();
+
+    /**
+     * Write the given int array mapped to the given name into this object. The values are stored packed and are
+     * not boxed.
+     *
+     * @param name The field name this array is mapped to.
+     * @param value The array to write.
+     */
+    void setIntArray(@NotNull String name, int @NotNull [] value);
+
+    /**
+     * Write the given int array into this object. Since there is no field name given, this method creates a dummy
+     * name like "intArray-{id}" where id is the next free id for int array names in this object.
+     *
+     * @param value The array to write.
+     */
+    void setIntArray(int @NotNull [] value);
+
+    /**
+     * Read the long array mapped to the given name from this object. In contrast to {@link #getLongList(String)} the
+     * values are not boxed.
+     *
+     * @param name The name of the field this array is mapped to.
+     * @return The array mapped to this field name or an empty optional, if no array was found.
+     */
+    Optional<long[]> getLongArray(@NotNull String name);
+
+    /**
+     * Read the long array mapped to the next given field name from this object.
+     *
+     * @return The array mapped to the next field name or an empty optional, if no array was found.
+     */
+    Optional<long[]> getLongArray();
+
+    /**
+     * Write the given long array mapped to the given name into this object. The values are stored packed and are
+     * not boxed.
+     *
+     * @param name The field name this array is mapped to.
+     * @param value The array to write.
+     */
+    void setLongArray(@NotNull String name, long @NotNull [] value);
+
+    /**
+     * Write the given long array into this object. Since there is no field name given, this method creates a dummy
+     * name like "longArray-{id}" where id is the next free id for long array names in this object.
+     *
+     * @param value The array to write.
+     */
+    void setLongArray(long @NotNull [] value);
+
+    /**
+     * Read the double array mapped to the given name from this object. In contrast to {@link #getDoubleList(String)} the
+     * values are not boxed.
+     *
+     * @param name The name of the field this array is mapped to.
+     * @return The array mapped to this field name or an empty optional, if no array was found.
+     */
+    Optional<double[]> getDoubleArray(@NotNull String name);
+
+    /**
+     * Read the double array mapped to the next given field name from this object.
+     *
+     * @return The array mapped to the next field name or an empty optional, if no array was found.
+     */
+    Optional<double[]> getDoubleArray();
+
+    /**
+     * Write the given double array mapped to the given name into this object. The values are stored packed and are
+     * not boxed.
+     *
+     * @param name The field name this array is mapped to.
+     * @param value The array to write.
+     */
+    void setDoubleArray(@NotNull String name, double @NotNull [] value);
+
+    /**
+     * Write the given double array into this object. Since there is no field name given, this method creates a dummy
+     * name like "doubleArray-{id}" where id is the next free id for double array names in this object.
+     *
+     * @param value The array to write.
+     */
+    void setDoubleArray(double @NotNull [] value);
+
+    /**
+     * Read the byte array mapped to the given name from this object. In contrast to {@link #getByteList(String)} the
+     * values are not boxed.
+     *
+     * @param name The name of the field this array is mapped to.
+     * @return The array mapped to this field name or an empty optional, if no array was found.
+     */
+    Optional<byte[]> getByteArray(@NotNull String name);
+
+    /**
+     * Read the byte array mapped to the next given field name from this object.
+     *
+     * @return The array mapped to the next field name or an empty optional, if no array was found.
+     */
+    Optional<byte[]> getByteArray();
+
+    /**
+     * Write the given byte array mapped to the given name into this object. The values are stored packed and are
+     * not boxed.
+     *
+     * @param name The field name this array is mapped to.
+     * @param value The array to write.
+     */
+    void setByteArray(@NotNull String name, byte @NotNull [] value);
+
+    /**
+     * Write the given byte array into this object. Since there is no field name given, this method creates a dummy
+     * name like "byteArray-{id}" where id is the next free id for byte array names in this object.
+     *
+     * @param value The array to write.
+     */
+    void setByteArray(byte @NotNull [] value);
+
     //############################## void/static methods ################################
 
     /**
@@ -899,42 +1032,27 @@ public interface SerializedObject extends ObjectSerializer{
      */
     @NotNull static SerializedObject createFromByteArray(@NotNull SerializableType type, @NotNull Class<?> forClass, byte @NotNull[] array){
         try{
-            String strData = new String(array, StandardCharsets.UTF_8);
             SerializedObject obj = null;
             switch(type){
-                case BYTE -> obj = new ByteSerializedObject(ByteBuffer.wrap(array), forClass);
-                case JSON -> obj = new JsonSerializedObject(JsonParser.parseString(strData).getAsJsonObject(), forClass);
-                case YAML -> obj = new YamlSerializedObject(YamlConfiguration.loadConfigurationFromString(strData), forClass);
-                case TEXT -> obj = new TextSerializedObject(strData.substring(1, strData.length() - 1), forClass);
-                case SQL -> obj = new SQLSerializedObject(Main.getDefaultConnection(), strData, forClass);
-
-                case PROPERTIES -> {
-                    Properties prop = new Properties();
-                    prop.load(new StringReader(strData));
-                    obj = new PropertiesSerializedObject("", prop, forClass);
-                }
-
-                case XML -> {
-                    DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-                    factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-                    DocumentBuilder documentBuilder = factory.newDocumentBuilder();
-                    org.w3c.dom.Document w3cDocument = documentBuilder.parse(new InputSource(new StringReader(strData)));
-
-                    obj = new XmlSerializedObject(new DOMBuilder().build(w3cDocument), forClass);
-                }
+                case BYTE, BINARY -> obj = createFromBuffer(type, forClass, ByteBuffer.wrap(array));
+                default -> obj = createFromString(type, forClass, new String(array, StandardCharsets.UTF_8));
             }
 
             if(obj == null)
                 throw new SerializationException("Could not read the given data");
 
             return obj;
+        }catch(SerializationException e){
+            throw e;
         }catch(Exception e){
             throw new SerializationException(e);
         }
     }
 
     /**
-     * Create an instance of {@link SerializedObject} based on data read from the given stream.
+     * Create an instance of {@link SerializedObject} based on data read from the given stream. The stream is read until
+     * its end. JSON, XML and properties data is parsed directly from the stream, byte based types are read into a buffer
+     * that grows with the data, such that there is no limit on the size of the data.
      *
      * @param type The type of the serialized object.
      * @param forClass The type of the object that is serialized in the given stream.
@@ -943,17 +1061,119 @@ public interface SerializedObject extends ObjectSerializer{
      */
     @NotNull static SerializedObject readFromStream(@NotNull SerializableType type, @NotNull Class<?> forClass, @NotNull InputStream stream){
         try {
-            byte[] buffer = new byte[ByteSerializedObject.BUFFER_SIZE];
-            int read = IOUtils.read(stream, buffer);
-            if(read <= 0)
+            PushbackInputStream input = new PushbackInputStream(stream, 1);
+            int first = input.read();
+            if(first < 0)
                 throw new SerializationException("Read empty stream");
 
-            byte[] data = new byte[read];
-            System.arraycopy(buffer, 0, data, 0, read);
-            return createFromByteArray(type, forClass, data);
+            input.unread(first);
+
+            SerializedObject obj;
+            switch(type){
+                case BYTE, BINARY -> {
+                    //decode from the buffer of an unpooled writer, since the object keeps views of the read bytes
+                    BinaryWriter writer = new BinaryWriter();
+                    writer.readFrom(input);
+                    obj = createFromBuffer(type, forClass, writer.asByteBuffer());
+                }
+
+                case JSON -> {
+                    Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8);
+                    obj = new JsonSerializedObject(JsonParser.parseReader(reader).getAsJsonObject(), forClass);
+                }
+
+                case PROPERTIES -> {
+                    Properties prop = new Properties();
+                    prop.load(new InputStreamReader(input, StandardCharsets.UTF_8));
+                    obj = new PropertiesSerializedObject("", prop, forClass);
+                }
+
+                case XML -> obj = new XmlSerializedObject(new DOMBuilder().build(parseXml(new InputSource(input))), forClass);
+
+                //these formats need the whole data at once
+                default -> obj = createFromString(type, forClass, new String(input.readAllBytes(), StandardCharsets.UTF_8));
+            }
+
+            return obj;
 
-        } catch (IOException e) {
+        } catch (SerializationException e) {
+            throw e;
+        } catch (Exception e) {
             throw new SerializationException(e);
         }
     }
+
+    /**
+     * Create an instance of {@link SerializedObject} based on data read from the given channel. See
+     * {@link SerializedObject#readFromStream(SerializableType, Class, InputStream)}.
+     *
+     * @param type The type of the serialized object.
+     * @param forClass The type of the object that is serialized in the given channel.
+     * @param channel The channel to read the data from.
+     * @return An instance of {@link SerializedObject} containing all the read data from the channel.
+     */
+    @NotNull static SerializedObject readFromChannel(@NotNull SerializableType type, @NotNull Class<?> forClass, @NotNull ReadableByteChannel channel){
+        return readFromStream(type, forClass, Channels.newInputStream(channel));
+    }
+
+    /**
+     * Create an instance of {@link SerializedObject} of a byte based type from the remaining bytes of the given buffer.
+     * The bytes are not copied.
+     *
+     * @param type The type of the serialized object. Must be {@link SerializableType#BYTE} or {@link SerializableType#BINARY}.
+     * @param forClass The type of the object that is serialized in the given buffer.
+     * @param buffer The buffer to read.
+     * @return An instance of {@link SerializedObject} containing all the data from the buffer.
+     */
+    private static SerializedObject createFromBuffer(@NotNull SerializableType type, @NotNull Class<?> forClass, @NotNull ByteBuffer buffer){
+        if(type == SerializableType.BYTE)
+            return new ByteSerializedObject(buffer, forClass);
+
+        return new BinarySerializedObject(buffer, forClass);
+    }
+
+    /**
+     * Create an instance of {@link SerializedObject} of a text based type from the given string data.
+     *
+     * @param type The type of the serialized object. Must not be a byte based type.
+     * @param forClass The type of the object that is serialized in the given string.
+     * @param strData The string data to read.
+     * @return An instance of {@link SerializedObject} containing all the data from the string.
+     * @throws Exception If the data could not be parsed.
+     */
+    private static SerializedObject createFromString(@NotNull SerializableType type, @NotNull Class<?> forClass, @NotNull String strData) throws Exception {
+        SerializedObject obj = null;
+        switch(type){
+            case JSON -> obj = new JsonSerializedObject(JsonParser.parseString(strData).getAsJsonObject(), forClass);
+            case YAML -> obj = new YamlSerializedObject(YamlConfiguration.loadConfigurationFromString(strData), forClass);
+            case TEXT -> obj = new TextSerializedObject(strData.substring(1, strData.length() - 1), forClass);
+            case SQL -> obj = new SQLSerializedObject(Main.getDefaultConnection(), strData, forClass);
+
+            case PROPERTIES -> {
+                Properties prop = new Properties();
+                prop.load(new StringReader(strData));
+                obj = new PropertiesSerializedObject("", prop, forClass);
+            }
+
+            case XML -> obj = new XmlSerializedObject(new DOMBuilder().build(parseXml(new InputSource(new StringReader(strData)))), forClass);
+
+            default -> throw new SerializationException("Not a text based type: " + type);
+        }
+
+        return obj;
+    }
+
+    /**
+     * Parse the given xml source into a document. Doctype declarations are not allowed.
+     *
+     * @param source The xml source.
+     * @return The parsed document.
+     * @throws Exception If the source could not be parsed.
+     */
+    private static org.w3c.dom.Document parseXml(@NotNull InputSource source) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        DocumentBuilder documentBuilder = factory.newDocumentBuilder();
+        return documentBuilder.parse(source);
+    }
 }
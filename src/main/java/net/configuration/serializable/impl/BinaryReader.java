@@ -0,0 +1,174 @@
+package net.configuration.serializable.impl;
+
+import net.configuration.serializable.api.SerializationException;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+public class BinaryReader {
+
+    @NotNull private final ByteBuffer buffer;
+
+    public BinaryReader(@NotNull ByteBuffer buffer){
+        this.buffer = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * @return True iff there are still bytes left to read.
+     */
+    public boolean hasRemaining(){
+        return this.buffer.hasRemaining();
+    }
+
+    /**
+     * @return The next byte in the buffer.
+     */
+    public byte readByte(){
+        try{
+            return this.buffer.get();
+        }catch(BufferUnderflowException e){
+            throw new SerializationException("Unexpected end of binary data");
+        }
+    }
+
+    /**
+     * Read an unsigned variable length integer written by {@link BinaryWriter#writeVarInt(int)}.
+     *
+     * @return The decoded value.
+     */
+    public int readVarInt(){
+        int value = 0;
+        for(int shift = 0; shift < 32; shift += 7){
+            byte b = this.readByte();
+            value |= (b & 0x7F) << shift;
+            if((b & 0x80) == 0)
+                return value;
+        }
+
+        throw new SerializationException("Malformed varint");
+    }
+
+    /**
+     * Read an unsigned variable length long written by {@link BinaryWriter#writeVarLong(long)}.
+     *
+     * @return The decoded value.
+     */
+    public long readVarLong(){
+        long value = 0;
+        for(int shift = 0; shift < 64; shift += 7){
+            byte b = this.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if((b & 0x80) == 0)
+                return value;
+        }
+
+        throw new SerializationException("Malformed varlong");
+    }
+
+    /**
+     * @return The next zigzag encoded int.
+     */
+    public int readZigZagInt(){
+        int raw = this.readVarInt();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    /**
+     * @return The next zigzag encoded long.
+     */
+    public long readZigZagLong(){
+        long raw = this.readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    /**
+     * @return The next float stored as raw IEEE 754 bits.
+     */
+    public float readFloat(){
+        this.require(Float.BYTES);
+        return this.buffer.getFloat();
+    }
+
+    /**
+     * @return The next double stored as raw IEEE 754 bits.
+     */
+    public double readDouble(){
+        this.require(Double.BYTES);
+        return this.buffer.getDouble();
+    }
+
+    /**
+     * @return The next length prefixed UTF-8 string.
+     */
+    @NotNull
+    public String readString(){
+        int length = this.readVarInt();
+        this.require(length);
+
+        String value;
+        if(this.buffer.hasArray()){
+            int offset = this.buffer.arrayOffset() + this.buffer.position();
+            value = new String(this.buffer.array(), offset, length, StandardCharsets.UTF_8);
+        }else{
+            byte[] bytes = new byte[length];
+            this.buffer.get(this.buffer.position(), bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        this.buffer.position(this.buffer.position() + length);
+        return value;
+    }
+
+    /**
+     * Read the next bytes into a new array.
+     *
+     * @param length The amount of bytes to read.
+     * @return The read bytes.
+     */
+    public byte @NotNull [] readBytes(int length){
+        this.require(length);
+        byte[] bytes = new byte[length];
+        this.buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Get a view on the next bytes of the underlying buffer without copying them. The read position is moved
+     * behind the returned region.
+     *
+     * @param length The size of the region.
+     * @return A buffer sharing its content with the underlying buffer.
+     */
+    @NotNull
+    public ByteBuffer readSlice(int length){
+        this.require(length);
+        ByteBuffer slice = this.buffer.slice(this.buffer.position(), length);
+        this.buffer.position(this.buffer.position() + length);
+        return slice;
+    }
+
+    /**
+     * Ensure that the remaining bytes can hold the given amount of elements. Length prefixes are read from
+     * untrusted input, so they have to be validated before an array is allocated for them.
+     *
+     * @param count The amount of elements.
+     * @param minSize The smallest encoded size of a single element in bytes.
+     */
+    public void requireElements(int count, int minSize){
+        if(count < 0 || this.buffer.remaining() / minSize < count)
+            throw new SerializationException("Invalid element count " + count + " for " + this.buffer.remaining() + " remaining bytes");
+    }
+
+    /**
+     * Ensure that there are at least the given amount of bytes left to read.
+     *
+     * @param length The amount of bytes needed.
+     */
+    private void require(int length){
+        if(length < 0 || this.buffer.remaining() < length)
+            throw new SerializationException("Unexpected end of binary data");
+    }
+}
@@ -0,0 +1,284 @@
+package net.configuration.serializable.impl;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class BinaryWriter implements AutoCloseable {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int READ_CHUNK_SIZE = 8192;
+    private static final int MAX_POOLED_CAPACITY = 1 << 20; //pooled writers keep at most 1MB per thread
+    private static final ThreadLocal<BinaryWriter> POOL = ThreadLocal.withInitial(BinaryWriter::new);
+
+    private byte[] buffer;
+    private int position;
+    private boolean acquired;
+
+    public BinaryWriter(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    public BinaryWriter(int initialCapacity){
+        this.buffer = new byte[Math.max(initialCapacity, 1)];
+        this.position = 0;
+    }
+
+    /**
+     * Get an empty writer from the pool of the current thread. The writer keeps its allocated memory between uses,
+     * so repeated writes of similar size do not allocate new memory. If the pooled writer is already in use, a new
+     * writer is returned instead. The writer must be closed after use to return it to the pool.
+     *
+     * @return An empty writer.
+     */
+    @NotNull
+    public static BinaryWriter acquire(){
+        BinaryWriter writer = POOL.get();
+        if(writer.acquired)
+            return new BinaryWriter();
+
+        writer.acquired = true;
+        writer.reset();
+        return writer;
+    }
+
+    /**
+     * Return this writer to the pool of the current thread, if it was acquired from it. Writers that grew too large
+     * are dropped, so that a single large object does not keep its memory alive.
+     */
+    @Override
+    public void close(){
+        if(!this.acquired)
+            return;
+
+        this.acquired = false;
+        if(this.buffer.length > MAX_POOLED_CAPACITY)
+            POOL.remove();
+    }
+
+    /**
+     * Write a single byte into this writer.
+     *
+     * @param value The byte to write. Only the lowest 8 bits are used.
+     */
+    public void writeByte(int value){
+        this.ensureCapacity(1);
+        this.buffer[this.position++] = (byte) value;
+    }
+
+    /**
+     * Write all bytes of the given array into this writer.
+     *
+     * @param bytes The bytes to write.
+     */
+    public void writeBytes(byte @NotNull [] bytes){
+        this.writeBytes(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Write a region of the given array into this writer.
+     *
+     * @param bytes The array to copy the bytes from.
+     * @param offset The index of the first byte to copy.
+     * @param length The amount of bytes to copy.
+     */
+    public void writeBytes(byte @NotNull [] bytes, int offset, int length){
+        this.ensureCapacity(length);
+        System.arraycopy(bytes, offset, this.buffer, this.position, length);
+        this.position += length;
+    }
+
+    /**
+     * Write all remaining bytes of the given buffer into this writer. The position of the given buffer is not changed.
+     *
+     * @param bytes The buffer to copy the bytes from.
+     */
+    public void writeBytes(@NotNull ByteBuffer bytes){
+        int length = bytes.remaining();
+        this.ensureCapacity(length);
+        bytes.get(bytes.position(), this.buffer, this.position, length);
+        this.position += length;
+    }
+
+    /**
+     * Write an unsigned variable length integer. Each byte holds 7 bits of the value, the highest bit marks that
+     * another byte follows. Small values therefore only need a single byte.
+     *
+     * @param value The value to write, interpreted as unsigned.
+     */
+    public void writeVarInt(int value){
+        this.ensureCapacity(5);
+        while((value & ~0x7F) != 0){
+            this.buffer[this.position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.buffer[this.position++] = (byte) value;
+    }
+
+    /**
+     * Write an unsigned variable length long. See {@link BinaryWriter#writeVarInt(int)} for the encoding.
+     *
+     * @param value The value to write, interpreted as unsigned.
+     */
+    public void writeVarLong(long value){
+        this.ensureCapacity(10);
+        while((value & ~0x7FL) != 0){
+            this.buffer[this.position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.buffer[this.position++] = (byte) value;
+    }
+
+    /**
+     * Write a signed int as zigzag encoded varint, such that values with a small absolute value use few bytes.
+     *
+     * @param value The signed value to write.
+     */
+    public void writeZigZagInt(int value){
+        this.writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Write a signed long as zigzag encoded varint, such that values with a small absolute value use few bytes.
+     *
+     * @param value The signed value to write.
+     */
+    public void writeZigZagLong(long value){
+        this.writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Write a fixed size 4 byte int in big endian order.
+     *
+     * @param value The int to write.
+     */
+    public void writeInt(int value){
+        this.ensureCapacity(4);
+        this.buffer[this.position++] = (byte) (value >>> 24);
+        this.buffer[this.position++] = (byte) (value >>> 16);
+        this.buffer[this.position++] = (byte) (value >>> 8);
+        this.buffer[this.position++] = (byte) value;
+    }
+
+    /**
+     * Write the raw IEEE 754 bits of the given float in big endian order.
+     *
+     * @param value The float to write.
+     */
+    public void writeFloat(float value){
+        this.writeInt(Float.floatToRawIntBits(value));
+    }
+
+    /**
+     * Write the raw IEEE 754 bits of the given double in big endian order.
+     *
+     * @param value The double to write.
+     */
+    public void writeDouble(double value){
+        long bits = Double.doubleToRawLongBits(value);
+        this.writeInt((int) (bits >>> 32));
+        this.writeInt((int) bits);
+    }
+
+    /**
+     * Write the given string as length prefixed UTF-8 bytes.
+     *
+     * @param value The string to write.
+     */
+    public void writeString(@NotNull String value){
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        this.writeVarInt(bytes.length);
+        this.writeBytes(bytes);
+    }
+
+    /**
+     * @return The amount of bytes written into this writer.
+     */
+    public int size(){
+        return this.position;
+    }
+
+    /**
+     * Discard all written bytes, but keep the allocated memory for the next use.
+     */
+    public void reset(){
+        this.position = 0;
+    }
+
+    /**
+     * Write all bytes of the given writer into this writer.
+     *
+     * @param other The writer to copy the bytes from.
+     */
+    public void writeBytes(@NotNull BinaryWriter other){
+        this.writeBytes(other.buffer, 0, other.position);
+    }
+
+    /**
+     * Append all remaining bytes of the given stream to this writer. The bytes are read directly into the internal
+     * buffer, which grows as needed.
+     *
+     * @param stream The stream to read from.
+     * @return The amount of bytes that were read.
+     * @throws IOException If the stream could not be read.
+     */
+    public int readFrom(@NotNull InputStream stream) throws IOException {
+        int total = 0;
+        while(true){
+            this.ensureCapacity(READ_CHUNK_SIZE);
+            int read = stream.read(this.buffer, this.position, this.buffer.length - this.position);
+            if(read < 0)
+                return total;
+
+            this.position += read;
+            total += read;
+        }
+    }
+
+    /**
+     * Copy all written bytes into a new array with the exact size of the written data.
+     *
+     * @return The written bytes.
+     */
+    public byte @NotNull [] toByteArray(){
+        return Arrays.copyOf(this.buffer, this.position);
+    }
+
+    /**
+     * Wrap the written bytes without copying them. The buffer shares the internal array of this writer, so the writer
+     * must not be written to, reset or returned to the pool while the buffer is in use.
+     *
+     * @return A buffer from the first to the last written byte.
+     */
+    public @NotNull ByteBuffer asByteBuffer(){
+        return ByteBuffer.wrap(this.buffer, 0, this.position);
+    }
+
+    /**
+     * Write all bytes of this writer into the given stream without copying them first.
+     *
+     * @param stream The stream to write to.
+     * @throws IOException If the stream could not be written.
+     */
+    public void writeTo(@NotNull OutputStream stream) throws IOException {
+        stream.write(this.buffer, 0, this.position);
+    }
+
+    /**
+     * Grow the internal buffer such that at least the given amount of bytes can be written.
+     *
+     * @param additional The amount of bytes that are written next.
+     */
+    private void ensureCapacity(int additional){
+        int required = this.position + additional;
+        if(required > this.buffer.length){
+            int newCapacity = Math.max(this.buffer.length << 1, required);
+            this.buffer = Arrays.copyOf(this.buffer, newCapacity);
+        }
+    }
+}
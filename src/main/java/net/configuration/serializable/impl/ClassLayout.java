@@ -0,0 +1,225 @@
+package net.configuration.serializable.impl;
+
+import net.configuration.serializable.api.IgnoreSerialization;
+import net.configuration.serializable.api.SerializableObject;
+import net.configuration.serializable.api.SerializationException;
+import net.configuration.serializable.api.SerializedObject;
+import org.apache.commons.lang3.ClassUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+public final class ClassLayout {
+
+    private static final ClassValue<ClassLayout> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected ClassLayout computeValue(@NotNull Class<?> type) {
+            return new ClassLayout(type);
+        }
+    };
+
+    //slots reserved for the types that are accessed without a name in every serialized object
+    public static final int SLOT_BYTE = 0;
+    public static final int SLOT_SHORT = 1;
+    public static final int SLOT_INT = 2;
+    public static final int SLOT_LONG = 3;
+    public static final int SLOT_FLOAT = 4;
+    public static final int SLOT_DOUBLE = 5;
+    public static final int SLOT_CHAR = 6;
+    public static final int SLOT_STRING = 7;
+    public static final int SLOT_BOOLEAN = 8;
+    public static final int SLOT_COLLECTION = 9;
+    public static final int SLOT_NULL = 10;
+    public static final int SLOT_SERIALIZED_OBJECT = 11;
+
+    private static final Class<?>[] FIXED_TYPES = {
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, Character.class,
+            String.class, Boolean.class, Collection.class, Class.class, SerializedObject.class
+    };
+
+    private static final String[] NO_FIELDS = new String[0];
+
+    public static final ClassLayout EMPTY = new ClassLayout();
+
+    //the slot of each field type, the slot is the index into fieldNames
+    @NotNull private final Map<Class<?>, Integer> slots;
+
+    //the ordered field names for each slot
+    @NotNull private final String[][] fieldNames;
+
+    //the names of all ignored fields mapped to the reason they are ignored
+    @NotNull private final Map<String, String> ignoredFields;
+
+    //the wrapped type of each field
+    @NotNull private final Map<String, Class<?>> fieldTypes;
+
+    private ClassLayout(){
+        this(new LinkedHashMap<>(), Map.of());
+    }
+
+    private ClassLayout(@NotNull Class<?> clazz){
+        this(collectFields(clazz), collectIgnoredFields(clazz));
+    }
+
+    private ClassLayout(@NotNull Map<Class<?>, List<String>> fields, @NotNull Map<String, String> ignoredFields){
+        Map<Class<?>, Integer> slotMap = new HashMap<>();
+        Map<String, Class<?>> typeMap = new HashMap<>();
+        fields.forEach((type, fieldsOfType) -> fieldsOfType.forEach(name -> typeMap.put(name, type)));
+
+        List<String[]> names = new ArrayList<>(FIXED_TYPES.length + fields.size());
+        for(Class<?> type : FIXED_TYPES){
+            List<String> fieldsOfType = fields.get(type);
+            slotMap.put(type, names.size());
+            names.add(fieldsOfType == null ? NO_FIELDS : fieldsOfType.toArray(new String[0]));
+        }
+
+        for(var e : fields.entrySet()){
+            if(!slotMap.containsKey(e.getKey())){
+                slotMap.put(e.getKey(), names.size());
+                names.add(e.getValue().toArray(new String[0]));
+            }
+        }
+
+        this.slots = Map.copyOf(slotMap);
+        this.fieldNames = names.toArray(new String[0][]);
+        this.ignoredFields = Collections.unmodifiableMap(ignoredFields);
+        this.fieldTypes = Map.copyOf(typeMap);
+    }
+
+    /**
+     * Collect the names of all serializable fields of the given class grouped by their wrapped type in declaration order.
+     *
+     * @param clazz The class to collect the fields of.
+     * @return The field names mapped to their type.
+     */
+    @NotNull
+    private static Map<Class<?>, List<String>> collectFields(@NotNull Class<?> clazz){
+        Map<Class<?>, List<String>> fields = new LinkedHashMap<>();
+        for(Field field : clazz.getDeclaredFields()){
+            String name = field.getName();
+            Class<?> type = field.getType();
+
+            //ignore static, transient or annotated fields
+            IgnoreSerialization ignore = field.getAnnotation(IgnoreSerialization.class);
+            int modifiers = field.getModifiers();
+            if(ignore != null || Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers))
+                continue;
+
+            //convert primitive to Wrapper objects
+            if(type.isPrimitive()){
+                type = ClassUtils.primitiveToWrapper(type);
+            }
+
+            //check if the field type is valid: PrimitiveWrapper, String, Enum, Collection or a serializable object
+            if(!(ClassUtils.isPrimitiveWrapper(type) || type == String.class || type.isEnum() ||
+                    Collection.class.isAssignableFrom(type) || SerializableObject.class.isAssignableFrom(type) ||
+                    SerializedObject.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) || type == Object.class
+                    || type.isArray())){
+
+                throw new SerializationException("Cannot serialize field {" + name + ", type: " + type.getName() + "} " +
+                        "in class " + clazz.getName());
+            }
+
+            fields.computeIfAbsent(type, t -> new ArrayList<>(1)).add(name);
+        }
+
+        return fields;
+    }
+
+    /**
+     * Collect the names of all fields of the given class that are annotated with {@link IgnoreSerialization}.
+     *
+     * @param clazz The class to collect the fields of.
+     * @return The field names mapped to the reason they are ignored.
+     */
+    @NotNull
+    private static Map<String, String> collectIgnoredFields(@NotNull Class<?> clazz){
+        Map<String, String> ignored = new LinkedHashMap<>();
+        for(Field field : clazz.getDeclaredFields()){
+            IgnoreSerialization ignore = field.getAnnotation(IgnoreSerialization.class);
+            if(ignore != null)
+                ignored.put(field.getName(), ignore.value());
+        }
+
+        return ignored;
+    }
+
+    /**
+     * Get the layout of the given class. The layout is computed once per class and shared by all serialized objects
+     * of that class. By default, all fields that are not static, transient or annotated with {@link IgnoreSerialization}
+     * are considered serializable and therefore part of the layout.
+     *
+     * @param clazz The class to get the layout of.
+     * @return The layout of the class.
+     * @throws SerializationException If the class contains a field that cannot be serialized.
+     */
+    @NotNull
+    public static ClassLayout of(@NotNull Class<?> clazz){
+        return LAYOUTS.get(clazz);
+    }
+
+    /**
+     * @return The amount of slots in this layout. The first slots are always reserved for the SLOT_* constants.
+     */
+    public int size(){
+        return this.fieldNames.length;
+    }
+
+    /**
+     * Get the slot of the given field type. The slot identifies the ordered field names of that type. The types of the
+     * SLOT_* constants always have a slot, even if there is no field of that type.
+     *
+     * @param type The wrapper type of the fields.
+     * @return The slot of the type or -1, if there is no field of that type.
+     */
+    public int getSlot(@NotNull Class<?> type){
+        Integer slot = this.slots.get(type);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * @param slot The slot of the field type.
+     * @return True iff there is at least one field in the given slot.
+     */
+    public boolean hasFields(int slot){
+        return this.fieldNames[slot].length > 0;
+    }
+
+    /**
+     * Get the name of a field of given slot in declaration order.
+     *
+     * @param slot The slot of the field type.
+     * @param index The index of the field among all fields of that type.
+     * @return The name of the field.
+     * @throws SerializationException If there is no field at the given index.
+     */
+    @NotNull
+    public String getFieldName(int slot, int index){
+        String[] names = this.fieldNames[slot];
+        if(index >= names.length)
+            throw new SerializationException("No more fields of that type. Read " + index + " of " + names.length);
+
+        return names[index];
+    }
+
+    /**
+     * Get the declared type of a serializable field. Primitive types are converted to their wrapper types.
+     *
+     * @param name The name of the field.
+     * @return The type of the field or an empty optional, if there is no serializable field with that name.
+     */
+    @NotNull
+    public Optional<Class<?>> getFieldType(@NotNull String name){
+        return Optional.ofNullable(this.fieldTypes.get(name));
+    }
+
+    /**
+     * @return All field names that are ignored due to {@link IgnoreSerialization} mapped to the reason they are ignored.
+     */
+    @NotNull
+    public Map<String, String> getIgnoredFields(){
+        return this.ignoredFields;
+    }
+}
@@ -0,0 +1,194 @@
+package net.configuration.serializable.impl;
+
+import net.configuration.serializable.api.*;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+public final class CreatorRegistry {
+
+    private static final MethodType DEFAULT_CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType SERIALIZED_CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, SerializedObject.class);
+
+    private static final ClassValue<Entry> ENTRIES = new ClassValue<>() {
+        @Override
+        protected Entry computeValue(@NotNull Class<?> type) {
+            return new Entry(type);
+        }
+    };
+
+    private CreatorRegistry(){}
+
+    /**
+     * Get the instance of the {@link Creator} field from the given class. The field is only looked up once per class.
+     *
+     * @param classOfT The class to extract the creator field value from.
+     * @return The instance of the creator for the given class.
+     * @throws IllegalArgumentException If the class has no static final creator field annotated with {@link SerializationAPI}.
+     * @see Creator#getCreator(Class)
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <T extends SerializableObject> Creator<T> getCreator(@NotNull Class<T> classOfT){
+        Entry entry = ENTRIES.get(classOfT);
+        if(entry.creatorError != null)
+            throw new IllegalArgumentException(entry.creatorError);
+
+        return (Creator<T>) entry.creator;
+    }
+
+    /**
+     * Check if the superclass of the given class declares a method annotated with {@link SerializationAPI}.
+     *
+     * @param clazz The class to check.
+     * @return True iff there is such a read method.
+     * @see Creator#read(SerializedObject, Class)
+     */
+    public static boolean hasSerializationAPIMethod(@NotNull Class<?> clazz){
+        return ENTRIES.get(clazz).apiMethod;
+    }
+
+    /**
+     * Create a new instance of the given class by invoking its default constructor.
+     *
+     * @param classOfT The class to instantiate.
+     * @return A new instance of the class.
+     * @throws SerializationException If the class has no default constructor or the constructor failed.
+     */
+    @NotNull
+    public static <T> T newInstance(@NotNull Class<T> classOfT){
+        MethodHandle handle = ENTRIES.get(classOfT).defaultConstructor;
+        if(handle == null)
+            throw new SerializationException("Could not find default constructor in " + classOfT);
+
+        try{
+            return classOfT.cast(handle.invokeExact());
+        }catch(SerializationException | Error e){
+            throw e;
+        }catch(Throwable e){
+            throw new SerializationException("Could not create instance of " + classOfT, e);
+        }
+    }
+
+    /**
+     * Read an instance of the given class from the serialized object. If the class has a default constructor, a new
+     * instance is created with it and then {@link SerializableObject#read(SerializedObject)} is invoked. Otherwise, the
+     * constructor with only a {@link SerializedObject} as parameter is invoked.
+     *
+     * @param classOfT The class to instantiate.
+     * @param src The serialized version of the object.
+     * @return The deserialized object.
+     * @throws SerializationException If the class has no matching constructor or reading the object failed.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <T extends SerializableObject> T read(@NotNull Class<T> classOfT, @NotNull SerializedObject src){
+        Entry entry = ENTRIES.get(classOfT);
+        try{
+            if(entry.defaultConstructor != null){
+                T instance = classOfT.cast(entry.defaultConstructor.invokeExact());
+                return (T) instance.read(src);
+            }
+
+            if(entry.serializedConstructor != null){
+                //if the constructor already reads from the serialized object, then the read method is not invoked
+                return classOfT.cast(entry.serializedConstructor.invokeExact(src));
+            }
+
+        }catch(SerializationException | Error e){
+            throw e;
+        }catch(Throwable e){
+            throw new SerializationException("Could not read instance of " + classOfT, e);
+        }
+
+        throw new SerializationException("Could not find matching constructor in " + classOfT);
+    }
+
+    /**
+     * The resolved creator, constructors and read method of a single class.
+     */
+    private static final class Entry {
+
+        private Creator<?> creator;
+        private Throwable creatorError;
+        private final boolean apiMethod;
+        private final MethodHandle defaultConstructor;
+        private final MethodHandle serializedConstructor;
+
+        private Entry(@NotNull Class<?> clazz){
+            this.resolveCreator(clazz);
+            this.apiMethod = hasAPIMethod(clazz);
+            this.defaultConstructor = findConstructor(clazz, DEFAULT_CONSTRUCTOR_TYPE);
+            this.serializedConstructor = findConstructor(clazz, SERIALIZED_CONSTRUCTOR_TYPE, SerializedObject.class);
+        }
+
+        /**
+         * Look up the static final creator field annotated with {@link SerializationAPI} and store its value. If there
+         * is no such field, the error is stored instead and thrown as the cause on every lookup.
+         *
+         * @param clazz The class to look up the field in.
+         */
+        private void resolveCreator(@NotNull Class<?> clazz){
+            try{
+                for(Field field : clazz.getDeclaredFields()){
+                    if(field.getAnnotation(SerializationAPI.class) != null && field.getType() == Creator.class){ //field is correctly annotated and a creator
+                        int modifiers = field.getModifiers();
+                        if(Modifier.isFinal(modifiers) && Modifier.isStatic(modifiers)){ //field is static final
+                            field.setAccessible(true);
+                            this.creator = (Creator<?>) field.get(null);
+                            return;
+                        }
+                    }
+                }
+                throw new IllegalAccessException("Could not find creator field in class " + clazz.getName());
+
+            }catch(IllegalAccessException e){
+                this.creatorError = e; //cannot init creator in the given class
+            }
+        }
+
+        /**
+         * @param clazz The class to check.
+         * @return True iff the superclass of the given class declares a method annotated with {@link SerializationAPI}.
+         */
+        private static boolean hasAPIMethod(@NotNull Class<?> clazz){
+            Class<?> superclass = clazz.getSuperclass();
+            if(superclass == null)
+                return false;
+
+            for(Method method : superclass.getDeclaredMethods()){
+                if(method.getAnnotation(SerializationAPI.class) != null)
+                    return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * Get a method handle for the declared constructor with the given parameters, adapted to the given type.
+         *
+         * @param clazz The class to find the constructor in.
+         * @param type The type the handle is adapted to.
+         * @param params The parameters of the constructor.
+         * @return The handle for the constructor or null, if there is no such constructor.
+         */
+        private static MethodHandle findConstructor(@NotNull Class<?> clazz, @NotNull MethodType type, Class<?>... params){
+            if(Modifier.isAbstract(clazz.getModifiers()) || clazz.isInterface())
+                return null;
+
+            try{
+                Constructor<?> con = clazz.getDeclaredConstructor(params);
+                con.setAccessible(true);
+                return MethodHandles.lookup().unreflectConstructor(con).asType(type);
+            }catch(NoSuchMethodException | IllegalAccessException | RuntimeException e){
+                return null;
+            }
+        }
+    }
+}
@@ -2,13 +2,9 @@ package net.configuration.serializable.impl;
 
 import net.configuration.serializable.api.Creator;
 import net.configuration.serializable.api.SerializableObject;
-import net.configuration.serializable.api.SerializationException;
 import net.configuration.serializable.api.SerializedObject;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-
 public record SimpleCreatorImpl<T extends SerializableObject>(Class<T> classOfT) implements Creator<T> {
 
     @Override
@@ -25,17 +21,11 @@ public record SimpleCreatorImpl<T extends SerializableObject>(Class<T> classOfT)
 
     /**
      * Create an instance of the serializable object from the generic type T by invoking the classes default constructor.
+     * The constructor is resolved only once per class, see {@link CreatorRegistry}.
      *
      * @return A new instance of the generic type T.
      */
     private T createInstance() {
-        try {
-            Constructor<T> con = classOfT.getDeclaredConstructor();
-            con.setAccessible(true);
-            return con.newInstance();
-
-        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            throw new SerializationException(e);
-        }
+        return CreatorRegistry.newInstance(classOfT);
     }
 }
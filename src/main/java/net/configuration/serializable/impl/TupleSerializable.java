@@ -204,6 +204,10 @@ public class TupleSerializable implements SerializableObject {
                 return new ByteSerializedObject(ByteBuffer.wrap(ByteSerializedObject.createArrayFromString(data)), clazz);
             }
 
+            case BINARY -> {
+                return BinarySerializedObject.fromString(data, clazz);
+            }
+
             case TEXT -> {
                 return new TextSerializedObject(data.substring(1, data.length() - 1), clazz);
             }
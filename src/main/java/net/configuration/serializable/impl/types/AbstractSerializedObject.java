@@ -1,17 +1,15 @@
 package net.configuration.serializable.impl.types;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
 import net.configuration.serializable.api.*;
+import net.configuration.serializable.impl.ClassLayout;
 import net.configuration.serializable.impl.TupleSerializable;
 import org.apache.commons.lang3.ClassUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -26,11 +24,11 @@ public abstract class AbstractSerializedObject implements SerializedObject {
     protected String ymlPrefix;
     protected String xmlPrefix;
 
-    //store all field names for a given type in the class
-    @NotNull protected final BiMap<Class<?>, List<String>> classFields = HashBiMap.create();
+    //the field names for each type in the class, shared by all objects of the same class
+    @NotNull protected ClassLayout layout = ClassLayout.EMPTY;
 
-    //store a pointer to the next field name in classFields for a given type
-    @NotNull protected final Map<Class<?>, Integer> fieldPointer = new ConcurrentHashMap<>();
+    //store a pointer to the next field name in the layout for each slot
+    protected int @NotNull [] fieldPointer = new int[ClassLayout.EMPTY.size()];
 
     protected AbstractSerializedObject(@NotNull Class<?> clazz){
         this.clazz = clazz;
@@ -66,7 +64,7 @@ public abstract class AbstractSerializedObject implements SerializedObject {
     @Override
     public void flush() {
         //reset field pointers
-        this.fieldPointer.replaceAll((k, v) -> 0);
+        Arrays.fill(this.fieldPointer, 0);
         this.counter = 0;
     }
 
@@ -75,109 +73,109 @@ public abstract class AbstractSerializedObject implements SerializedObject {
 
     @Override
     public Optional<Byte> getByte() {
-        String name = this.getFieldName(Byte.class);
+        String name = this.getFieldName(ClassLayout.SLOT_BYTE);
         return this.getByte(name);
     }
 
     @Override
     public void setByte(byte value) {
-        String name = this.getFieldName(Byte.class);
+        String name = this.getFieldName(ClassLayout.SLOT_BYTE);
         this.setByte(name, value);
     }
 
     @Override
     public Optional<Short> getShort() {
-        String name = this.getFieldName(Short.class);
+        String name = this.getFieldName(ClassLayout.SLOT_SHORT);
         return this.getShort(name);
     }
 
     @Override
     public void setShort(short value) {
-        String name = this.getFieldName(Short.class);
+        String name = this.getFieldName(ClassLayout.SLOT_SHORT);
         this.setShort(name, value);
     }
 
     @Override
     public Optional<Integer> getInt() {
-        String name = this.getFieldName(Integer.class);
+        String name = this.getFieldName(ClassLayout.SLOT_INT);
         return this.getInt(name);
     }
 
     @Override
     public void setInt(int value) {
-        String name = this.getFieldName(Integer.class);
+        String name = this.getFieldName(ClassLayout.SLOT_INT);
         this.setInt(name, value);
     }
 
     @Override
     public Optional<Long> getLong() {
-        String name = this.getFieldName(Long.class);
+        String name = this.getFieldName(ClassLayout.SLOT_LONG);
         return this.getLong(name);
     }
 
     @Override
     public void setLong(long value) {
-        String name = this.getFieldName(Long.class);
+        String name = this.getFieldName(ClassLayout.SLOT_LONG);
         this.setLong(name, value);
     }
 
     @Override
     public Optional<Float> getFloat() {
-        String name = this.getFieldName(Float.class);
+        String name = this.getFieldName(ClassLayout.SLOT_FLOAT);
         return this.getFloat(name);
     }
 
     @Override
     public void setFloat(float value) {
-        String name = this.getFieldName(Float.class);
+        String name = this.getFieldName(ClassLayout.SLOT_FLOAT);
         this.setFloat(name, value);
     }
 
     @Override
     public Optional<Double> getDouble() {
-        String name = this.getFieldName(Double.class);
+        String name = this.getFieldName(ClassLayout.SLOT_DOUBLE);
         return this.getDouble(name);
     }
 
     @Override
     public void setDouble(double value) {
-        String name = this.getFieldName(Double.class);
+        String name = this.getFieldName(ClassLayout.SLOT_DOUBLE);
         this.setDouble(name, value);
     }
 
     @Override
     public Optional<Character> getChar() {
-        String name = this.getFieldName(Character.class);
+        String name = this.getFieldName(ClassLayout.SLOT_CHAR);
         return this.getChar(name);
     }
 
     @Override
     public void setChar(char value) {
-        String name = this.getFieldName(Character.class);
+        String name = this.getFieldName(ClassLayout.SLOT_CHAR);
         this.setChar(name, value);
     }
 
     @Override
     public Optional<String> getString() {
-        String name = this.getFieldName(String.class);
+        String name = this.getFieldName(ClassLayout.SLOT_STRING);
         return this.getString(name);
     }
 
     @Override
     public void setString(@NotNull String value) {
-        String name = this.getFieldName(String.class);
+        String name = this.getFieldName(ClassLayout.SLOT_STRING);
         this.setString(name, value);
     }
 
     @Override
     public Optional<Boolean> getBoolean() {
-        String name = this.getFieldName(Boolean.class);
+        String name = this.getFieldName(ClassLayout.SLOT_BOOLEAN);
         return this.getBoolean(name);
     }
 
     @Override
     public void setBoolean(boolean value) {
-        String name = this.getFieldName(Boolean.class);
+        String name = this.getFieldName(ClassLayout.SLOT_BOOLEAN);
         this.setBoolean(name, value);
     }
 
@@ -219,85 +217,85 @@ public abstract class AbstractSerializedObject implements SerializedObject {
 
     @Override
     public Optional<SerializableObject> getNull() {
-        String name = this.getFieldName(Class.class);
+        String name = this.getFieldName(ClassLayout.SLOT_NULL);
         return this.getNull(name);
     }
 
     @Override
     public void setNull() {
-        this.setNull(this.getFieldName(Class.class));
+        this.setNull(this.getFieldName(ClassLayout.SLOT_NULL));
     }
 
 
     @Override
     public Optional<SerializedObject> get() {
-        String name = this.getFieldName(SerializedObject.class);
+        String name = this.getFieldName(ClassLayout.SLOT_SERIALIZED_OBJECT);
         return this.get(name);
     }
 
     @Override
     public void set(@NotNull SerializedObject value) {
-        String name = this.getFieldName(SerializedObject.class);
+        String name = this.getFieldName(ClassLayout.SLOT_SERIALIZED_OBJECT);
         this.set(name, value);
     }
 
     @Override
     public Optional<Collection<Integer>> getIntList() {
-        String name = this.getFieldName(Collection.class);
+        String name = this.getFieldName(ClassLayout.SLOT_COLLECTION);
         return this.getIntList(name);
     }
 
     @Override
     public void setIntList(@NotNull Collection<Integer> value) {
-        String name = this.getFieldName(Collection.class);
+        String name = this.getFieldName(ClassLayout.SLOT_COLLECTION);
         this.setIntList(name, value);
     }
 
     @Override
     public Optional<Collection<Long>> getLongList() {
-        String name = this.getFieldName(Collection.class);
+        String name = this.getFieldName(ClassLayout.SLOT_COLLECTION);
         return this.getLongList(name);
     }
 
     @Override
     public void setLongList(@NotNull Collection<Long> value) {
-        String name = this.getFieldName(Collection.class);
+        String name = this.getFieldName(ClassLayout.SLOT_COLLECTION);
         this.setLongList(name, value);
     }
 
     @Override
     public Optional<Collection<Double>> getDoubleList() {
-        String name = this.getFieldName(Collection.class);
+        String name = this.getFieldName(ClassLayout.SLOT_COLLECTION);
         return this.getDoubleList(name);
     }
 
     @Override
     public void setDoubleList(@NotNull Collection<Double> value) {
-        String name = this.getFieldName(Collection.class);
+        String name = this.getFieldName(ClassLayout.SLOT_COLLECTION);
         this.setDoubleList(name, value);
     }
 
     @Override
     public Optional<Collection<Byte>> getByteList() {
-        String name = this.getFieldName(Collection.class);
+        String name = this.getFieldName(ClassLayout.SLOT_COLLECTION);
         return this.getByteList(name);
     }
 
     @Override
     public void setByteList(@NotNull Collection<Byte> value) {
-        String name = this.getFieldName(Collection.class);
+        String name = this.getFieldName(ClassLayout.SLOT_COLLECTION);
         this.setByteList(name, value);
     }
 
     @Override
     public Optional<Collection<String>> getStringList() {
-        String name = this.getFieldName(Collection.class);
+        String name = this.getFieldName(ClassLayout.SLOT_COLLECTION);
         return this.getStringList(name);
     }
 
     @Override
     public void setStringList(@NotNull Collection<String> value) {
-        String name = this.getFieldName(Collection.class);
+        String name = this.getFieldName(ClassLayout.SLOT_COLLECTION);
         this.setStringList(name, value);
     }
 
@@ -319,28 +317,76 @@ public abstract class AbstractSerializedObject implements SerializedObject {
 
     @Override
     public Optional<Collection<SerializableObject>> getList(Class<? extends SerializableObject> clazz) {
-        String name = this.getFieldName(Collection.class);
+        String name = this.getFieldName(ClassLayout.SLOT_COLLECTION);
         return this.getList(name, clazz);
     }
 
     @Override
     public void setList(@NotNull Collection<? extends SerializableObject> value) {
-        String name = this.getFieldName(Collection.class);
+        String name = this.getFieldName(ClassLayout.SLOT_COLLECTION);
         this.setList(name, value);
     }
 
     @Override
     public <K, V> Optional<Map<K, V>> getMap(@NotNull Class<K> keyClass, @NotNull Class<V> valueClass) {
-        String name = this.getFieldName(Collection.class);
+        String name = this.getFieldName(ClassLayout.SLOT_COLLECTION);
         return this.getMap(name, keyClass, valueClass);
     }
 
     @Override
     public <K, V> void setMap(@NotNull Map<K, V> value) {
-        String name = this.getFieldName(Collection.class);
+        String name = this.getFieldName(ClassLayout.SLOT_COLLECTION);
         this.setMap(name, value);
     }
 
+    @Override
+    public Optional<int[]> getIntArray() {
+        String name = this.getFieldName(int[].class);
+        return this.getIntArray(name);
+    }
+
+    @Override
+    public void setIntArray(int @NotNull [] value) {
+        String name = this.getFieldName(int[].class);
+        this.setIntArray(name, value);
+    }
+
+    @Override
+    public Optional<long[]> getLongArray() {
+        String name = this.getFieldName(long[].class);
+        return this.getLongArray(name);
+    }
+
+    @Override
+    public void setLongArray(long @NotNull [] value) {
+        String name = this.getFieldName(long[].class);
+        this.setLongArray(name, value);
+    }
+
+    @Override
+    public Optional<double[]> getDoubleArray() {
+        String name = this.getFieldName(double[].class);
+        return this.getDoubleArray(name);
+    }
+
+    @Override
+    public void setDoubleArray(double @NotNull [] value) {
+        String name = this.getFieldName(double[].class);
+        this.setDoubleArray(name, value);
+    }
+
+    @Override
+    public Optional<byte[]> getByteArray() {
+        String name = this.getFieldName(byte[].class);
+        return this.getByteArray(name);
+    }
+
+    @Override
+    public void setByteArray(byte @NotNull [] value) {
+        String name = this.getFieldName(byte[].class);
+        this.setByteArray(name, value);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <K, V> Optional<Map<K, V>> getMap(@NotNull String name, @NotNull Class<K> keyClass, @NotNull Class<V> valueClass) {
@@ -367,7 +413,7 @@ public abstract class AbstractSerializedObject implements SerializedObject {
     public Optional<Collection<Integer>> getIntList(@NotNull String name) {
         List<Integer> list = new ArrayList<>();
         String listStr = this.getString(name).orElse("");
-        for(String elem : listStr.split(", ")){
+        for(String elem : splitList(listStr)){
             int e = Integer.parseInt(elem);
             list.add(e);
         }
@@ -381,7 +427,9 @@ public abstract class AbstractSerializedObject implements SerializedObject {
         for(int v : value){
             listStr.append(", ").append(v);
         }
-        listStr = new StringBuilder(listStr.substring(2));
+        if(!listStr.isEmpty())
+            listStr.delete(0, 2);
+
         this.setString(name, listStr.toString());
     }
 
@@ -389,7 +437,7 @@ public abstract class AbstractSerializedObject implements SerializedObject {
     public Optional<Collection<Long>> getLongList(@NotNull String name) {
         List<Long> list = new ArrayList<>();
         String listStr = this.getString(name).orElse("");
-        for(String elem : listStr.split(", ")){
+        for(String elem : splitList(listStr)){
             long e = Long.parseLong(elem);
             list.add(e);
         }
@@ -403,7 +451,9 @@ public abstract class AbstractSerializedObject implements SerializedObject {
         for(long v : value){
             listStr.append(", ").append(v);
         }
-        listStr = new StringBuilder(listStr.substring(2));
+        if(!listStr.isEmpty())
+            listStr.delete(0, 2);
+
         this.setString(name, listStr.toString());
     }
 
@@ -411,7 +461,7 @@ public abstract class AbstractSerializedObject implements SerializedObject {
     public Optional<Collection<Double>> getDoubleList(@NotNull String name) {
         List<Double> list = new ArrayList<>();
         String listStr = this.getString(name).orElse("");
-        for(String elem : listStr.split(", ")){
+        for(String elem : splitList(listStr)){
             double e = Double.parseDouble(elem);
             list.add(e);
         }
@@ -425,7 +475,9 @@ public abstract class AbstractSerializedObject implements SerializedObject {
         for(double v : value){
             listStr.append(", ").append(v);
         }
-        listStr = new StringBuilder(listStr.substring(2));
+        if(!listStr.isEmpty())
+            listStr.delete(0, 2);
+
         this.setString(name, listStr.toString());
     }
 
@@ -433,7 +485,7 @@ public abstract class AbstractSerializedObject implements SerializedObject {
     public Optional<Collection<Byte>> getByteList(@NotNull String name) {
         List<Byte> list = new ArrayList<>();
         String listStr = this.getString(name).orElse("");
-        for(String elem : listStr.split(", ")){
+        for(String elem : splitList(listStr)){
             byte e = Byte.parseByte(elem);
             list.add(e);
         }
@@ -447,14 +499,16 @@ public abstract class AbstractSerializedObject implements SerializedObject {
         for(byte v : value){
             listStr.append(", ").append(v);
         }
-        listStr = new StringBuilder(listStr.substring(2));
+        if(!listStr.isEmpty())
+            listStr.delete(0, 2);
+
         this.setString(name, listStr.toString());
     }
 
     @Override
     public Optional<Collection<String>> getStringList(@NotNull String name) {
         String listStr = this.getString(name).orElse("");
-        List<String> list = new ArrayList<>(Arrays.asList(listStr.split(", ")));
+        List<String> list = new ArrayList<>(Arrays.asList(splitList(listStr)));
 
         return Optional.of(list);
     }
@@ -465,7 +519,9 @@ public abstract class AbstractSerializedObject implements SerializedObject {
         for(String v : value){
             listStr.append(", ").append(v);
         }
-        listStr = new StringBuilder(listStr.substring(2));
+        if(!listStr.isEmpty())
+            listStr.delete(0, 2);
+
         this.setString(name, listStr.toString());
     }
 
@@ -481,55 +537,84 @@ public abstract class AbstractSerializedObject implements SerializedObject {
         this.setList(name, list);
     }
 
+    @Override
+    public Optional<int[]> getIntArray(@NotNull String name) {
+        return this.getPackedArray(name).map(packed -> {
+            int[] array = new int[elementCount(packed, Integer.BYTES)];
+            packed.asIntBuffer().get(array);
+            return array;
+        });
+    }
 
+    @Override
+    public void setIntArray(@NotNull String name, int @NotNull [] value) {
+        ByteBuffer packed = ByteBuffer.allocate(value.length * Integer.BYTES);
+        packed.asIntBuffer().put(value);
+        this.setPackedArray(name, packed.array());
+    }
 
-    /**
-     * Load all fields that should be serialized from the given class. By default, all fields that are not static,
-     * transient or annotated with {@link IgnoreSerialization} are considered serializable and therefore loaded by this
-     * method.
-     */
-    protected final void loadClassFields(){
-        for(Field field : this.clazz.getDeclaredFields()){
-            String name = field.getName();
-            Class<?> type = field.getType();
-
-            //ignore static, transient or annotated fields
-            IgnoreSerialization ignore = field.getAnnotation(IgnoreSerialization.class);
-            int modifiers = field.getModifiers();
-            if(ignore != null || Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)){
-                //print warn for ignore message if enabled
-                if(ignore != null && this.logger != null && this.printWarnings){
-                    logger.log(Level.WARNING, () ->
-                            "Ignore serialization of field " + name + ". Reason: " + ignore.value());
-                }
+    @Override
+    public Optional<long[]> getLongArray(@NotNull String name) {
+        return this.getPackedArray(name).map(packed -> {
+            long[] array = new long[elementCount(packed, Long.BYTES)];
+            packed.asLongBuffer().get(array);
+            return array;
+        });
+    }
 
-                continue;
-            }
+    @Override
+    public void setLongArray(@NotNull String name, long @NotNull [] value) {
+        ByteBuffer packed = ByteBuffer.allocate(value.length * Long.BYTES);
+        packed.asLongBuffer().put(value);
+        this.setPackedArray(name, packed.array());
+    }
 
-            //convert primitive to Wrapper objects
-            if(type.isPrimitive()){
-                type = ClassUtils.primitiveToWrapper(type);
-            }
+    @Override
+    public Optional<double[]> getDoubleArray(@NotNull String name) {
+        return this.getPackedArray(name).map(packed -> {
+            double[] array = new double[elementCount(packed, Double.BYTES)];
+            packed.asDoubleBuffer().get(array);
+            return array;
+        });
+    }
 
-            //check if the field type is valid: PrimitiveWrapper, String, Enum, Collection or a serializable object
-            if(!(ClassUtils.isPrimitiveWrapper(type) || type == String.class || type.isEnum() ||
-                    Collection.class.isAssignableFrom(type) || SerializableObject.class.isAssignableFrom(type) ||
-                    SerializedObject.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) || type == Object.class
-            || type.isArray())){
+    @Override
+    public void setDoubleArray(@NotNull String name, double @NotNull [] value) {
+        ByteBuffer packed = ByteBuffer.allocate(value.length * Double.BYTES);
+        packed.asDoubleBuffer().put(value);
+        this.setPackedArray(name, packed.array());
+    }
 
-                throw new SerializationException("Cannot serialize field {" + name + ", type: " + type.getName() + "} " +
-                        "in class " + this.clazz.getName());
-            }
+    @Override
+    public Optional<byte[]> getByteArray(@NotNull String name) {
+        return this.getPackedArray(name).map(packed -> {
+            byte[] array = new byte[packed.remaining()];
+            packed.duplicate().get(array);
+            return array;
+        });
+    }
 
+    @Override
+    public void setByteArray(@NotNull String name, byte @NotNull [] value) {
+        this.setPackedArray(name, value.clone());
+    }
 
-            //add an empty list, if the current type is not already present in the map
-            this.classFields.computeIfAbsent(type, t ->{
-                this.fieldPointer.put(t, 0);
-                return new ArrayList<>(0);
-            });
 
-            this.classFields.get(type).add(name);
 
+    /**
+     * Load all fields that should be serialized from the given class. The fields of a class are only collected once and
+     * then shared by all objects of that class, see {@link ClassLayout}.
+     */
+    protected final void loadClassFields(){
+        this.layout = ClassLayout.of(this.clazz);
+        this.fieldPointer = new int[this.layout.size()];
+
+        //print warn for ignore message if enabled
+        if(this.logger != null && this.printWarnings){
+            for(var e : this.layout.getIgnoredFields().entrySet()){
+                logger.log(Level.WARNING, () ->
+                        "Ignore serialization of field " + e.getKey() + ". Reason: " + e.getValue());
+            }
         }
     }
 
@@ -562,16 +647,109 @@ public abstract class AbstractSerializedObject implements SerializedObject {
             forType = ClassUtils.primitiveToWrapper(forType);
         }
 
-        if(!this.classFields.containsKey(forType) || !this.fieldPointer.containsKey(forType)){
+        int slot = this.layout.getSlot(forType);
+        if(slot < 0){
             //add a dummy id
             int id = counter++;
             return String.valueOf(id);
         }
 
-        int ptr = this.fieldPointer.remove(forType);
-        String fieldName = this.classFields.get(forType).get(ptr);
-        this.fieldPointer.put(forType, ptr+1);
-        return fieldName;
+        return this.getFieldName(slot);
+    }
+
+    /**
+     * Get the name of the field in the given slot of the current class the current pointer points to. This is the
+     * allocation free variant of {@link AbstractSerializedObject#getFieldName(Class)} for the slots reserved in
+     * {@link ClassLayout}.
+     *
+     * @param slot The slot of the field type.
+     * @return The name of the field in the given slot the current pointer points to.
+     */
+    @NotNull
+    protected String getFieldName(int slot){
+        if(!this.layout.hasFields(slot)){
+            //add a dummy id
+            int id = counter++;
+            return String.valueOf(id);
+        }
+
+        return this.layout.getFieldName(slot, this.fieldPointer[slot]++);
+    }
+
+
+    /**
+     * Write the packed bytes of a primitive array mapped to the given name into this object. By default, the bytes are
+     * stored as base64 string, so every type that supports strings supports primitive arrays.
+     *
+     * @param name The name the array is mapped to.
+     * @param packed The big-endian bytes of the array elements.
+     */
+    protected void setPackedArray(@NotNull String name, byte @NotNull [] packed){
+        this.setPackedString(name, packed);
+    }
+
+    /**
+     * Get the packed bytes of the primitive array mapped to the given name.
+     *
+     * @param name The name the array is mapped to.
+     * @return The big-endian bytes of the array elements or an empty optional, if there is no array mapped to the name.
+     * @see #setPackedArray(String, byte[])
+     */
+    protected Optional<ByteBuffer> getPackedArray(@NotNull String name){
+        return this.getPackedString(name);
+    }
+
+    /**
+     * Write the packed bytes of a primitive array as base64 string mapped to the given name into this object.
+     *
+     * @param name The name the array is mapped to.
+     * @param packed The big-endian bytes of the array elements.
+     */
+    protected final void setPackedString(@NotNull String name, byte @NotNull [] packed){
+        this.setString(name, Base64.getEncoder().encodeToString(packed));
+    }
+
+    /**
+     * Get the packed bytes of the primitive array that is stored as base64 string mapped to the given name.
+     *
+     * @param name The name the array is mapped to.
+     * @return The big-endian bytes of the array elements or an empty optional, if there is no array mapped to the name.
+     * @throws SerializationException If the value mapped to the name is not a base64 string.
+     */
+    protected final Optional<ByteBuffer> getPackedString(@NotNull String name){
+        Optional<String> str = this.getString(name);
+        if(str.isEmpty())
+            return Optional.empty();
+
+        try{
+            return Optional.of(ByteBuffer.wrap(Base64.getDecoder().decode(str.get())));
+        }catch(IllegalArgumentException e){
+            throw new SerializationException("Invalid packed array mapped to " + name);
+        }
+    }
+
+    /**
+     * @param packed The big-endian bytes of the array elements.
+     * @param width The size of a single element in bytes.
+     * @return The amount of elements in the packed array.
+     * @throws SerializationException If the size of the packed array is not a multiple of the element size.
+     */
+    private static int elementCount(@NotNull ByteBuffer packed, int width){
+        if(packed.remaining() % width != 0)
+            throw new SerializationException("Invalid packed array of size " + packed.remaining());
+
+        return packed.remaining() / width;
+    }
+
+    /**
+     * Split the string representation of a primitive list, e.g. "1, 2, 3", into its elements. An empty list is
+     * represented by the empty string.
+     *
+     * @param listStr The string representation of the list.
+     * @return The string representation of each element.
+     */
+    protected static String @NotNull [] splitList(@NotNull String listStr){
+        return listStr.isEmpty() ? new String[0] : listStr.split(", ");
     }
 
 
@@ -794,39 +972,42 @@ public abstract class AbstractSerializedObject implements SerializedObject {
      * @param array The primitive array to set.
      * @param classOfT A primitive/wrapper class or a string class.
      */
+    @SuppressWarnings("unchecked")
     private <T> void setPrimitiveArray(@NotNull String name, T @NotNull[] array, @NotNull Class<T> classOfT){
-        if(classOfT == Byte.class || classOfT == Boolean.class){
+        //the elements of the list types are written through a list view without copying them
+        Collection<?> view = Arrays.asList(array);
+        if(classOfT == Byte.class){
+            this.setByteList(name, (Collection<Byte>) view);
+
+        }else if(classOfT == Integer.class){
+            this.setIntList(name, (Collection<Integer>) view);
+
+        }else if(classOfT == Long.class){
+            this.setLongList(name, (Collection<Long>) view);
+
+        }else if(classOfT == Double.class){
+            this.setDoubleList(name, (Collection<Double>) view);
+
+        }else if(classOfT == Boolean.class){
             List<Byte> list = new ArrayList<>(array.length);
             for(T val : array){
-                if(classOfT == Boolean.class){
-                    list.add((boolean) val ? (byte) 1 : (byte) 0);
-                }else{
-                    list.add((byte) val);
-                }
+                list.add((boolean) val ? (byte) 1 : (byte) 0);
             }
 
             this.setByteList(name, list);
 
-        }else if(classOfT == Short.class || classOfT == Integer.class){
+        }else if(classOfT == Short.class){
             List<Integer> list = new ArrayList<>(array.length);
             for(T val : array){
-                list.add((int) val);
+                list.add((int) (short) val);
             }
 
             this.setIntList(name, list);
 
-        }else if(classOfT == Long.class){
-            List<Long> list = new ArrayList<>(array.length);
-            for(T val : array){
-                list.add((long) val);
-            }
-
-            this.setLongList(name, list);
-
-        }else if(classOfT == Float.class || classOfT == Double.class){
+        }else if(classOfT == Float.class){
             List<Double> list = new ArrayList<>(array.length);
             for(T val : array){
-                list.add((double) val);
+                list.add((double) (float) val);
             }
 
             this.setDoubleList(name, list);
@@ -0,0 +1,863 @@
+package net.configuration.serializable.impl.types;
+
+import net.configuration.serializable.api.Creator;
+import net.configuration.serializable.api.SerializableObject;
+import net.configuration.serializable.api.SerializationException;
+import net.configuration.serializable.api.SerializedObject;
+import net.configuration.serializable.impl.BinaryReader;
+import net.configuration.serializable.impl.BinaryWriter;
+import net.configuration.serializable.impl.NullSerializable;
+import net.configuration.serializable.impl.SerializationHelper;
+import org.apache.commons.lang3.ClassUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * Compact binary representation of a serialized object. The encoded data starts with a table of all field names
+ * followed by the entries, where each entry references its name by the index inside that table and stores its value
+ * with a one byte type tag:
+ * <pre>
+ *     varint fieldCount, fieldCount * (varint length, UTF-8 name)
+ *     varint entryCount, entryCount * (varint fieldId, byte tag, value)
+ * </pre>
+ * Integer types are written as zigzag varints, floating point values as raw IEEE 754 bits and nested objects as
+ * length prefixed byte regions. All elements of an object list share one field table, so the field names of equal
+ * classes are only written once per list.
+ */
+public class BinarySerializedObject extends AbstractSerializedObject {
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_BYTE = 1;
+    private static final byte TAG_SHORT = 2;
+    private static final byte TAG_INT = 3;
+    private static final byte TAG_LONG = 4;
+    private static final byte TAG_FLOAT = 5;
+    private static final byte TAG_DOUBLE = 6;
+    private static final byte TAG_CHAR = 7;
+    private static final byte TAG_BOOLEAN = 8;
+    private static final byte TAG_STRING = 9;
+    private static final byte TAG_NESTED = 10;
+    private static final byte TAG_INT_LIST = 11;
+    private static final byte TAG_LONG_LIST = 12;
+    private static final byte TAG_DOUBLE_LIST = 13;
+    private static final byte TAG_BYTE_LIST = 14;
+    private static final byte TAG_STRING_LIST = 15;
+    private static final byte TAG_OBJECT_LIST = 16;
+
+    private static final Object NULL_VALUE = new Object();
+
+    protected Map<String, Object> data = new LinkedHashMap<>();
+
+    public BinarySerializedObject(@NotNull Class<?> clazz) {
+        super(clazz);
+    }
+
+    public BinarySerializedObject(@NotNull ByteBuffer buffer) {
+        this.load(buffer);
+    }
+
+    public BinarySerializedObject(@NotNull ByteBuffer buffer, @NotNull Class<?> clazz){
+        super(clazz);
+        this.load(buffer);
+    }
+
+    @SuppressWarnings("unused")
+    public BinarySerializedObject(@NotNull Class<?> clazz, @NotNull Logger warnLog, boolean printWarnings) {
+        super(clazz, warnLog, printWarnings);
+    }
+
+    @SuppressWarnings("unused")
+    protected BinarySerializedObject(){
+        super();
+    }
+
+    private BinarySerializedObject(@NotNull BinaryReader body, @NotNull String[] fieldTable){
+        super();
+        this.readEntries(body, fieldTable);
+    }
+
+    @Override
+    public Optional<Byte> getByte(@NotNull String name) {
+        return this.getNumber(name).map(Number::byteValue);
+    }
+
+    @Override
+    public void setByte(@NotNull String name, byte value) {
+        this.data.put(name, value);
+    }
+
+    @Override
+    public Optional<Short> getShort(@NotNull String name) {
+        return this.getNumber(name).map(Number::shortValue);
+    }
+
+    @Override
+    public void setShort(@NotNull String name, short value) {
+        this.data.put(name, value);
+    }
+
+    @Override
+    public Optional<Integer> getInt(@NotNull String name) {
+        return this.getNumber(name).map(Number::intValue);
+    }
+
+    @Override
+    public void setInt(@NotNull String name, int value) {
+        this.data.put(name, value);
+    }
+
+    @Override
+    public Optional<Long> getLong(@NotNull String name) {
+        return this.getNumber(name).map(Number::longValue);
+    }
+
+    @Override
+    public void setLong(@NotNull String name, long value) {
+        this.data.put(name, value);
+    }
+
+    @Override
+    public Optional<Float> getFloat(@NotNull String name) {
+        return this.getNumber(name).map(Number::floatValue);
+    }
+
+    @Override
+    public void setFloat(@NotNull String name, float value) {
+        this.data.put(name, value);
+    }
+
+    @Override
+    public Optional<Double> getDouble(@NotNull String name) {
+        return this.getNumber(name).map(Number::doubleValue);
+    }
+
+    @Override
+    public void setDouble(@NotNull String name, double value) {
+        this.data.put(name, value);
+    }
+
+    @Override
+    public Optional<Character> getChar(@NotNull String name) {
+        Object val = this.data.get(name);
+        if(val instanceof Character c)
+            return Optional.of(c);
+
+        if(val instanceof String s && !s.isEmpty())
+            return Optional.of(s.charAt(0));
+
+        return Optional.empty();
+    }
+
+    @Override
+    public void setChar(@NotNull String name, char value) {
+        this.data.put(name, value);
+    }
+
+    @Override
+    public Optional<String> getString(@NotNull String name) {
+        Object val = this.data.get(name);
+        if(val == null || val == NULL_VALUE)
+            return Optional.empty();
+
+        if(val instanceof String s)
+            return Optional.of(s);
+
+        if(ClassUtils.isPrimitiveWrapper(val.getClass()))
+            return Optional.of(String.valueOf(val));
+
+        return Optional.empty();
+    }
+
+    @Override
+    public void setString(@NotNull String name, @NotNull String value) {
+        this.data.put(name, value);
+    }
+
+    @Override
+    public Optional<Boolean> getBoolean(@NotNull String name) {
+        Object val = this.data.get(name);
+        if(val instanceof Boolean b)
+            return Optional.of(b);
+
+        if(val instanceof Number n)
+            return Optional.of(n.intValue() == 1);
+
+        return Optional.empty();
+    }
+
+    @Override
+    public void setBoolean(@NotNull String name, boolean value) {
+        this.data.put(name, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Enum<T>> Optional<T> getEnum(@NotNull String name, @NotNull Class<? extends Enum<?>> classOfT) {
+        Optional<String> opt = this.getString(name);
+        if(opt.isEmpty())
+            return Optional.empty();
+
+        try {
+            T val = (T) classOfT.getMethod("valueOf", String.class).invoke(null, opt.get());
+            return Optional.of(val);
+        } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            e.printStackTrace();
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public <T extends Enum<T>> void setEnum(@NotNull String name, @NotNull T value) {
+        this.data.put(name, value.name());
+    }
+
+    @Override
+    public <T extends SerializableObject> Optional<T> getSerializable(@NotNull String name, @NotNull Class<T> classOfT) {
+        Optional<BinarySerializedObject> opt = this.getNested(name);
+        if(opt.isEmpty())
+            return Optional.empty();
+
+        T val = Creator.getCreator(classOfT).read(opt.get());
+        return Optional.of(val);
+    }
+
+    @Override
+    public void setSerializable(@NotNull String name, @NotNull SerializableObject value) {
+        BinarySerializedObject nested = new BinarySerializedObject(value.getClass());
+        value.write(nested);
+        nested.flush();
+
+        this.data.put(name, new Encoded(TAG_NESTED, ByteBuffer.wrap(nested.toByteArray())));
+    }
+
+    @Override
+    public Optional<SerializedObject> get(@NotNull String name) {
+        return this.getNested(name).map(SerializedObject.class::cast);
+    }
+
+    @Override
+    public void set(@NotNull String name, @NotNull SerializedObject value) {
+        if(!(value instanceof BinarySerializedObject))
+            throw new SerializationException("Cannot write a non-binary object into a binary object");
+
+        this.data.put(name, new Encoded(TAG_NESTED, ByteBuffer.wrap(value.toByteArray())));
+    }
+
+    @Override
+    public Optional<SerializableObject> getNull(@NotNull String name) {
+        if(this.data.get(name) == NULL_VALUE)
+            return Optional.of(new NullSerializable(name));
+
+        return Optional.empty();
+    }
+
+    @Override
+    public void setNull(@NotNull String name) {
+        this.data.put(name, NULL_VALUE);
+    }
+
+    @Override
+    public boolean isNextNull(@NotNull String name, @NotNull Class<?> type) {
+        Object read = this.data.get(name);
+        boolean nullValue = read == null || read == NULL_VALUE;
+        return nullValue;
+    }
+
+    @Override
+    public Optional<Collection<Integer>> getIntList(@NotNull String name) {
+        if(!(this.data.get(name) instanceof int[] array))
+            return Optional.empty();
+
+        List<Integer> list = new ArrayList<>(array.length);
+        for(int v : array){
+            list.add(v);
+        }
+
+        return Optional.of(list);
+    }
+
+    @Override
+    public void setIntList(@NotNull String name, @NotNull Collection<Integer> value) {
+        int[] array = new int[value.size()];
+        int i = 0;
+        for(int v : value){
+            array[i++] = v;
+        }
+
+        this.data.put(name, array);
+    }
+
+    @Override
+    public Optional<Collection<Long>> getLongList(@NotNull String name) {
+        if(!(this.data.get(name) instanceof long[] array))
+            return Optional.empty();
+
+        List<Long> list = new ArrayList<>(array.length);
+        for(long v : array){
+            list.add(v);
+        }
+
+        return Optional.of(list);
+    }
+
+    @Override
+    public void setLongList(@NotNull String name, @NotNull Collection<Long> value) {
+        long[] array = new long[value.size()];
+        int i = 0;
+        for(long v : value){
+            array[i++] = v;
+        }
+
+        this.data.put(name, array);
+    }
+
+    @Override
+    public Optional<Collection<Double>> getDoubleList(@NotNull String name) {
+        if(!(this.data.get(name) instanceof double[] array))
+            return Optional.empty();
+
+        List<Double> list = new ArrayList<>(array.length);
+        for(double v : array){
+            list.add(v);
+        }
+
+        return Optional.of(list);
+    }
+
+    @Override
+    public void setDoubleList(@NotNull String name, @NotNull Collection<Double> value) {
+        double[] array = new double[value.size()];
+        int i = 0;
+        for(double v : value){
+            array[i++] = v;
+        }
+
+        this.data.put(name, array);
+    }
+
+    @Override
+    public Optional<Collection<Byte>> getByteList(@NotNull String name) {
+        if(!(this.data.get(name) instanceof byte[] array))
+            return Optional.empty();
+
+        List<Byte> list = new ArrayList<>(array.length);
+        for(byte v : array){
+            list.add(v);
+        }
+
+        return Optional.of(list);
+    }
+
+    @Override
+    public void setByteList(@NotNull String name, @NotNull Collection<Byte> value) {
+        byte[] array = new byte[value.size()];
+        int i = 0;
+        for(byte v : value){
+            array[i++] = v;
+        }
+
+        this.data.put(name, array);
+    }
+
+    @Override
+    public Optional<int[]> getIntArray(@NotNull String name) {
+        if(!(this.data.get(name) instanceof int[] array))
+            return Optional.empty();
+
+        return Optional.of(array.clone());
+    }
+
+    @Override
+    public void setIntArray(@NotNull String name, int @NotNull [] value) {
+        //stored like the int list, so both can be read as the other
+        this.data.put(name, value.clone());
+    }
+
+    @Override
+    public Optional<long[]> getLongArray(@NotNull String name) {
+        if(!(this.data.get(name) instanceof long[] array))
+            return Optional.empty();
+
+        return Optional.of(array.clone());
+    }
+
+    @Override
+    public void setLongArray(@NotNull String name, long @NotNull [] value) {
+        this.data.put(name, value.clone());
+    }
+
+    @Override
+    public Optional<double[]> getDoubleArray(@NotNull String name) {
+        if(!(this.data.get(name) instanceof double[] array))
+            return Optional.empty();
+
+        return Optional.of(array.clone());
+    }
+
+    @Override
+    public void setDoubleArray(@NotNull String name, double @NotNull [] value) {
+        this.data.put(name, value.clone());
+    }
+
+    @Override
+    public Optional<byte[]> getByteArray(@NotNull String name) {
+        if(!(this.data.get(name) instanceof byte[] array))
+            return Optional.empty();
+
+        return Optional.of(array.clone());
+    }
+
+    @Override
+    public void setByteArray(@NotNull String name, byte @NotNull [] value) {
+        this.data.put(name, value.clone());
+    }
+
+    @Override
+    public Optional<Collection<String>> getStringList(@NotNull String name) {
+        if(!(this.data.get(name) instanceof String[] array))
+            return Optional.empty();
+
+        return Optional.of(new ArrayList<>(Arrays.asList(array)));
+    }
+
+    @Override
+    public void setStringList(@NotNull String name, @NotNull Collection<String> value) {
+        this.data.put(name, value.toArray(new String[0]));
+    }
+
+    @Override
+    public Optional<Collection<SerializableObject>> getList(@NotNull String name, Class<? extends SerializableObject> clazz) {
+        if(!(this.data.get(name) instanceof Encoded encoded) || encoded.tag() != TAG_OBJECT_LIST)
+            return Optional.empty();
+
+        BinaryReader reader = new BinaryReader(encoded.payload());
+        int size = reader.readVarInt();
+        String[] fieldTable = readFieldTable(reader);
+        reader.requireElements(size, 1);
+
+        Creator<? extends SerializableObject> creator = Creator.getCreator(clazz);
+        List<SerializableObject> list = new ArrayList<>(size);
+        for(int i = 0; i < size; i++){
+            int length = reader.readVarInt();
+            BinarySerializedObject nested = new BinarySerializedObject(new BinaryReader(reader.readSlice(length)), fieldTable);
+            list.add(creator.read(nested));
+        }
+
+        return Optional.of(list);
+    }
+
+    @Override
+    public void setList(@NotNull String name, @NotNull Collection<? extends SerializableObject> value) {
+        //serialize all elements first to collect the shared field table
+        List<BinarySerializedObject> elements = new ArrayList<>(value.size());
+        Map<String, Integer> fieldTable = new LinkedHashMap<>();
+        for(SerializableObject elem : value){
+            if(elem == null)
+                throw new SerializationException("Cannot write null elements in list " + name);
+
+            BinarySerializedObject nested = new BinarySerializedObject(elem.getClass());
+            elem.write(nested);
+            nested.flush();
+
+            for(String key : nested.data.keySet()){
+                fieldTable.putIfAbsent(key, fieldTable.size());
+            }
+            elements.add(nested);
+        }
+
+        BinaryWriter writer = new BinaryWriter();
+        writer.writeVarInt(elements.size());
+        writeFieldTable(writer, fieldTable);
+
+        try(BinaryWriter body = BinaryWriter.acquire()){
+            for(BinarySerializedObject nested : elements){
+                body.reset();
+                nested.writeEntries(body, fieldTable);
+
+                writer.writeVarInt(body.size());
+                writer.writeBytes(body);
+            }
+        }
+
+        this.data.put(name, new Encoded(TAG_OBJECT_LIST, ByteBuffer.wrap(writer.toByteArray())));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Object> getRawObject(@NotNull String name, @NotNull Class<?> classOfT) {
+        Object val = this.data.get(name);
+        if(val == null || val == NULL_VALUE)
+            return Optional.empty();
+
+        if(val instanceof Encoded encoded){
+            //object lists and nested objects without a target type cannot be decoded into a single value
+            if(encoded.tag() != TAG_NESTED || !SerializableObject.class.isAssignableFrom(classOfT))
+                return Optional.empty();
+
+            Optional<?> o = this.getSerializable(name, (Class<? extends SerializableObject>) classOfT);
+            return o.map(Object.class::cast);
+
+        }else if(classOfT == Object.class || classOfT.isInstance(val)){
+            return Optional.of(val);
+
+        }else{
+            return Optional.ofNullable(SerializationHelper.extractPrimitive(String.valueOf(val), classOfT));
+        }
+    }
+
+    @Override
+    public byte @NotNull [] toByteArray() {
+        try(BinaryWriter writer = this.encode()){
+            return writer.toByteArray();
+        }
+    }
+
+    @Override
+    public void writeToStream(@NotNull OutputStream stream) {
+        try(BinaryWriter writer = this.encode()) {
+            writer.writeTo(stream);
+        } catch (IOException e) {
+            throw new SerializationException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Base64.getEncoder().encodeToString(this.toByteArray());
+    }
+
+    /**
+     * Restore a binary serialized object from its string representation created by {@link BinarySerializedObject#toString()}.
+     *
+     * @param str The base64 string representation of the binary data.
+     * @param forClass The type of the object stored in the string.
+     * @return The binary serialized object stored in the given string.
+     */
+    @NotNull
+    public static BinarySerializedObject fromString(@NotNull String str, @NotNull Class<?> forClass){
+        return new BinarySerializedObject(ByteBuffer.wrap(Base64.getDecoder().decode(str)), forClass);
+    }
+
+    /**
+     * Get the nested object mapped to the given name. The returned object reads directly from the bytes stored in
+     * this object.
+     *
+     * @param name The name the nested object is mapped to.
+     * @return An optional containing the nested object or an empty optional, if there is no object mapped to the name.
+     */
+    private Optional<BinarySerializedObject> getNested(@NotNull String name){
+        if(!(this.data.get(name) instanceof Encoded encoded) || encoded.tag() != TAG_NESTED)
+            return Optional.empty();
+
+        return Optional.of(new BinarySerializedObject(encoded.payload()));
+    }
+
+    /**
+     * Get the numeric value mapped to the given name.
+     *
+     * @param name The name the number is mapped to.
+     * @return An optional containing the number or an empty optional, if there is no number mapped to the name.
+     */
+    private Optional<Number> getNumber(@NotNull String name){
+        Object val = this.data.get(name);
+        if(val instanceof Number n)
+            return Optional.of(n);
+
+        if(val instanceof Character c)
+            return Optional.of((int) c);
+
+        return Optional.empty();
+    }
+
+    /**
+     * Encode the current data of this object into the binary format. The returned writer is taken from the pool of the
+     * current thread and must be closed after use.
+     *
+     * @return A writer containing the encoded data.
+     */
+    @NotNull
+    private BinaryWriter encode(){
+        Map<String, Integer> fieldTable = new LinkedHashMap<>();
+        for(String key : this.data.keySet()){
+            fieldTable.put(key, fieldTable.size());
+        }
+
+        BinaryWriter writer = BinaryWriter.acquire();
+        writeFieldTable(writer, fieldTable);
+        this.writeEntries(writer, fieldTable);
+        return writer;
+    }
+
+    /**
+     * Write all entries of this object into the given writer. The names of the entries are not written but replaced by
+     * their index inside the provided field table.
+     *
+     * @param writer The writer to write to.
+     * @param fieldTable The field table that contains all names of this object.
+     */
+    private void writeEntries(@NotNull BinaryWriter writer, @NotNull Map<String, Integer> fieldTable){
+        writer.writeVarInt(this.data.size());
+        for(var e : this.data.entrySet()){
+            writer.writeVarInt(fieldTable.get(e.getKey()));
+            writeValue(writer, e.getValue());
+        }
+    }
+
+    /**
+     * Load the data stored in the given buffer into this object. The buffer is expected to start with the field table.
+     *
+     * @param buffer The buffer to read.
+     */
+    private void load(@NotNull ByteBuffer buffer){
+        this.data.clear();
+        BinaryReader reader = new BinaryReader(buffer);
+        if(!reader.hasRemaining())
+            return;
+
+        String[] fieldTable = readFieldTable(reader);
+        this.readEntries(reader, fieldTable);
+    }
+
+    /**
+     * Read all entries from the given reader into this object.
+     *
+     * @param reader The reader positioned at the entry count.
+     * @param fieldTable The names of all fields referenced by the entries.
+     */
+    private void readEntries(@NotNull BinaryReader reader, @NotNull String[] fieldTable){
+        int size = reader.readVarInt();
+        for(int i = 0; i < size; i++){
+            int id = reader.readVarInt();
+            if(id < 0 || id >= fieldTable.length)
+                throw new SerializationException("Invalid field id " + id);
+
+            this.data.put(fieldTable[id], readValue(reader));
+        }
+    }
+
+    /**
+     * Write the given field table as a list of names ordered by their id.
+     *
+     * @param writer The writer to write to.
+     * @param fieldTable The mapping from names to ids.
+     */
+    private static void writeFieldTable(@NotNull BinaryWriter writer, @NotNull Map<String, Integer> fieldTable){
+        writer.writeVarInt(fieldTable.size());
+        for(String name : fieldTable.keySet()){
+            writer.writeString(name);
+        }
+    }
+
+    /**
+     * Read a field table written by {@link BinarySerializedObject#writeFieldTable(BinaryWriter, Map)}.
+     *
+     * @param reader The reader to read from.
+     * @return All field names indexed by their id.
+     */
+    @NotNull
+    private static String[] readFieldTable(@NotNull BinaryReader reader){
+        int size = reader.readVarInt();
+        reader.requireElements(size, 1);
+
+        String[] fieldTable = new String[size];
+        for(int i = 0; i < fieldTable.length; i++){
+            fieldTable[i] = reader.readString();
+        }
+
+        return fieldTable;
+    }
+
+    /**
+     * Write the type tag and the value of one entry.
+     *
+     * @param writer The writer to write to.
+     * @param value The value to write.
+     */
+    private static void writeValue(@NotNull BinaryWriter writer, @NotNull Object value){
+        if(value == NULL_VALUE){
+            writer.writeByte(TAG_NULL);
+
+        }else if(value instanceof Byte b){
+            writer.writeByte(TAG_BYTE);
+            writer.writeByte(b);
+
+        }else if(value instanceof Short s){
+            writer.writeByte(TAG_SHORT);
+            writer.writeZigZagInt(s);
+
+        }else if(value instanceof Integer i){
+            writer.writeByte(TAG_INT);
+            writer.writeZigZagInt(i);
+
+        }else if(value instanceof Long l){
+            writer.writeByte(TAG_LONG);
+            writer.writeZigZagLong(l);
+
+        }else if(value instanceof Float f){
+            writer.writeByte(TAG_FLOAT);
+            writer.writeFloat(f);
+
+        }else if(value instanceof Double d){
+            writer.writeByte(TAG_DOUBLE);
+            writer.writeDouble(d);
+
+        }else if(value instanceof Character c){
+            writer.writeByte(TAG_CHAR);
+            writer.writeVarInt(c);
+
+        }else if(value instanceof Boolean b){
+            writer.writeByte(TAG_BOOLEAN);
+            writer.writeByte(b ? 1 : 0);
+
+        }else if(value instanceof String s){
+            writer.writeByte(TAG_STRING);
+            writer.writeString(s);
+
+        }else if(value instanceof Encoded encoded){
+            writer.writeByte(encoded.tag());
+            writer.writeVarInt(encoded.payload().remaining());
+            writer.writeBytes(encoded.payload());
+
+        }else{
+            writeList(writer, value);
+        }
+    }
+
+    /**
+     * Write the type tag and the elements of a primitive list.
+     *
+     * @param writer The writer to write to.
+     * @param value The array holding the list elements.
+     */
+    private static void writeList(@NotNull BinaryWriter writer, @NotNull Object value){
+        if(value instanceof int[] array){
+            writer.writeByte(TAG_INT_LIST);
+            writer.writeVarInt(array.length);
+            for(int v : array){
+                writer.writeZigZagInt(v);
+            }
+
+        }else if(value instanceof long[] array){
+            writer.writeByte(TAG_LONG_LIST);
+            writer.writeVarInt(array.length);
+            for(long v : array){
+                writer.writeZigZagLong(v);
+            }
+
+        }else if(value instanceof double[] array){
+            writer.writeByte(TAG_DOUBLE_LIST);
+            writer.writeVarInt(array.length);
+            for(double v : array){
+                writer.writeDouble(v);
+            }
+
+        }else if(value instanceof byte[] array){
+            writer.writeByte(TAG_BYTE_LIST);
+            writer.writeVarInt(array.length);
+            writer.writeBytes(array);
+
+        }else if(value instanceof String[] array){
+            writer.writeByte(TAG_STRING_LIST);
+            writer.writeVarInt(array.length);
+            for(String v : array){
+                writer.writeString(v);
+            }
+
+        }else{
+            throw new SerializationException("Cannot write value of type " + value.getClass());
+        }
+    }
+
+    /**
+     * Read the type tag and the value of one entry.
+     *
+     * @param reader The reader to read from.
+     * @return The decoded value.
+     */
+    @NotNull
+    private static Object readValue(@NotNull BinaryReader reader){
+        byte tag = reader.readByte();
+        switch(tag){
+            case TAG_NULL -> { return NULL_VALUE; }
+            case TAG_BYTE -> { return reader.readByte(); }
+            case TAG_SHORT -> { return (short) reader.readZigZagInt(); }
+            case TAG_INT -> { return reader.readZigZagInt(); }
+            case TAG_LONG -> { return reader.readZigZagLong(); }
+            case TAG_FLOAT -> { return reader.readFloat(); }
+            case TAG_DOUBLE -> { return reader.readDouble(); }
+            case TAG_CHAR -> { return (char) reader.readVarInt(); }
+            case TAG_BOOLEAN -> { return reader.readByte() == 1; }
+            case TAG_STRING -> { return reader.readString(); }
+            case TAG_NESTED, TAG_OBJECT_LIST -> {
+                int length = reader.readVarInt();
+                return new Encoded(tag, reader.readSlice(length));
+            }
+            default -> { return readList(reader, tag); }
+        }
+    }
+
+    /**
+     * Read the elements of a primitive list.
+     *
+     * @param reader The reader to read from.
+     * @param tag The type tag of the list.
+     * @return An array holding the list elements.
+     */
+    @NotNull
+    private static Object readList(@NotNull BinaryReader reader, byte tag){
+        int size = reader.readVarInt();
+        reader.requireElements(size, tag == TAG_DOUBLE_LIST ? Double.BYTES : 1);
+
+        switch(tag){
+            case TAG_INT_LIST -> {
+                int[] array = new int[size];
+                for(int i = 0; i < size; i++){
+                    array[i] = reader.readZigZagInt();
+                }
+                return array;
+            }
+
+            case TAG_LONG_LIST -> {
+                long[] array = new long[size];
+                for(int i = 0; i < size; i++){
+                    array[i] = reader.readZigZagLong();
+                }
+                return array;
+            }
+
+            case TAG_DOUBLE_LIST -> {
+                double[] array = new double[size];
+                for(int i = 0; i < size; i++){
+                    array[i] = reader.readDouble();
+                }
+                return array;
+            }
+
+            case TAG_BYTE_LIST -> {
+                return reader.readBytes(size);
+            }
+
+            case TAG_STRING_LIST -> {
+                String[] array = new String[size];
+                for(int i = 0; i < size; i++){
+                    array[i] = reader.readString();
+                }
+                return array;
+            }
+
+            default -> throw new SerializationException("Unknown binary type tag " + tag);
+        }
+    }
+
+    /**
+     * Helper record for nested objects and object lists that are kept in their encoded form until they are read.
+     * The payload never contains the type tag or the length prefix.
+     */
+    private record Encoded(byte tag, @NotNull ByteBuffer payload){ }
+}
@@ -4,9 +4,9 @@ import net.configuration.serializable.api.Creator;
 import net.configuration.serializable.api.SerializableObject;
 import net.configuration.serializable.api.SerializationException;
 import net.configuration.serializable.api.SerializedObject;
+import net.configuration.serializable.impl.BinaryWriter;
 import net.configuration.serializable.impl.NullSerializable;
 import net.configuration.serializable.impl.SerializationHelper;
-import org.apache.commons.lang3.ClassUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
@@ -20,7 +20,10 @@ import java.util.logging.Logger;
 public class ByteSerializedObject extends AbstractSerializedObject {
 
     public static final int BUFFER_SIZE = (int) Math.pow(2, 20); //max read 1MB
+    private static final int NESTED_ENTRY = -1; //marks an entry whose value is stored as raw bytes
+
     protected Map<String, String> data = new HashMap<>();
+    protected Map<String, ByteBuffer> nestedData = new HashMap<>();
     private ByteBuffer buffer;
     private boolean flushed = false;
 
@@ -30,13 +33,13 @@ public class ByteSerializedObject extends AbstractSerializedObject {
 
     public ByteSerializedObject(@NotNull ByteBuffer buffer) {
         this.data.clear();
-        this.data = load(buffer);
+        load(buffer, this.data, this.nestedData);
     }
 
     public ByteSerializedObject(@NotNull ByteBuffer buffer, @NotNull Class<?> clazz){
         super(clazz);
         this.data.clear();
-        this.data = load(buffer);
+        load(buffer, this.data, this.nestedData);
     }
 
     @SuppressWarnings("unused")
@@ -59,7 +62,7 @@ public class ByteSerializedObject extends AbstractSerializedObject {
 
     @Override
     public void setByte(@NotNull String name, byte value) {
-        this.data.put(name, String.valueOf(value));
+        this.setValue(name, String.valueOf(value));
     }
 
     @Override
@@ -72,7 +75,7 @@ public class ByteSerializedObject extends AbstractSerializedObject {
 
     @Override
     public void setShort(@NotNull String name, short value) {
-        this.data.put(name, String.valueOf(value));
+        this.setValue(name, String.valueOf(value));
     }
 
     @Override
@@ -85,7 +88,7 @@ public class ByteSerializedObject extends AbstractSerializedObject {
 
     @Override
     public void setInt(@NotNull String name, int value) {
-        this.data.put(name, String.valueOf(value));
+        this.setValue(name, String.valueOf(value));
     }
 
     @Override
@@ -98,7 +101,7 @@ public class ByteSerializedObject extends AbstractSerializedObject {
 
     @Override
     public void setLong(@NotNull String name, long value) {
-        this.data.put(name, String.valueOf(value));
+        this.setValue(name, String.valueOf(value));
     }
 
     @Override
@@ -111,7 +114,7 @@ public class ByteSerializedObject extends AbstractSerializedObject {
 
     @Override
     public void setFloat(@NotNull String name, float value) {
-        this.data.put(name, String.valueOf(value));
+        this.setValue(name, String.valueOf(value));
     }
 
     @Override
@@ -124,7 +127,7 @@ public class ByteSerializedObject extends AbstractSerializedObject {
 
     @Override
     public void setDouble(@NotNull String name, double value) {
-        this.data.put(name, String.valueOf(value));
+        this.setValue(name, String.valueOf(value));
     }
 
     @Override
@@ -137,7 +140,7 @@ public class ByteSerializedObject extends AbstractSerializedObject {
 
     @Override
     public void setChar(@NotNull String name, char value) {
-        this.data.put(name, String.valueOf(value));
+        this.setValue(name, String.valueOf(value));
     }
 
     @Override
@@ -150,7 +153,7 @@ public class ByteSerializedObject extends AbstractSerializedObject {
 
     @Override
     public void setString(@NotNull String name, @NotNull String value) {
-        this.data.put(name, value);
+        this.setValue(name, value);
     }
 
     @Override
@@ -163,7 +166,7 @@ public class ByteSerializedObject extends AbstractSerializedObject {
 
     @Override
     public void setBoolean(@NotNull String name, boolean value) {
-        this.data.put(name, value ? "1" : "0");
+        this.setValue(name, value ? "1" : "0");
     }
 
     @Override
@@ -180,15 +183,12 @@ public class ByteSerializedObject extends AbstractSerializedObject {
 
     @Override
     public <T extends Enum<T>> void setEnum(@NotNull String name, @NotNull T value) {
-        this.data.put(name, value.name());
+        this.setValue(name, value.name());
     }
 
     @Override
     public <T extends SerializableObject> Optional<T> getSerializable(@NotNull String name, @NotNull Class<T> classOfT) {
-        if(!this.data.containsKey(name))
-            return Optional.empty();
-
-        Optional<ByteSerializedObject> opt = createFromStr(this.getString(name).orElse(""));
+        Optional<ByteSerializedObject> opt = this.getNested(name);
         if(opt.isEmpty())
             return Optional.empty();
 
@@ -203,19 +203,13 @@ public class ByteSerializedObject extends AbstractSerializedObject {
         ByteSerializedObject nested = new ByteSerializedObject(value.getClass());
         value.write(nested);
         nested.flush();
-        String str = this.arrayToStr(nested.toByteArray());
-
-        this.setString(name, str);
 
+        this.setNested(name, ByteBuffer.wrap(nested.toByteArray()));
     }
 
     @Override
     public Optional<SerializedObject> get(@NotNull String name) {
-        if(!this.data.containsKey(name)){
-            return Optional.empty();
-        }
-
-        Optional<ByteSerializedObject> opt = createFromStr(this.getString(name).orElse(""));
+        Optional<ByteSerializedObject> opt = this.getNested(name);
         if(opt.isEmpty())
             return Optional.empty();
 
@@ -227,8 +221,7 @@ public class ByteSerializedObject extends AbstractSerializedObject {
         if(!(value instanceof ByteSerializedObject))
             throw new SerializationException("Cannot write a non-byte object into a byte[]");
 
-        String str = this.arrayToStr(value.toByteArray());
-        this.setString(name, str);
+        this.setNested(name, ByteBuffer.wrap(value.toByteArray()));
     }
 
     @Override
@@ -246,29 +239,35 @@ public class ByteSerializedObject extends AbstractSerializedObject {
 
     @Override
     public void setNull(@NotNull String name) {
-        this.data.put(name, NullSerializable.CODON);
+        this.setValue(name, NullSerializable.CODON);
     }
 
     @Override
     public boolean isNextNull(@NotNull String name, @NotNull Class<?> type) {
-        if(type.isPrimitive())
-            type = ClassUtils.primitiveToWrapper(type);
-
-        Object read = this.data.get(name);
+        Object read = this.nestedData.containsKey(name) ? this.nestedData.get(name) : this.data.get(name);
         boolean nullValue = read == null || read.toString().equals(NullSerializable.CODON);
-
-        if(!nullValue){ //if not-null reset pointer
-            this.fieldPointer.computeIfPresent(type, (key, value) -> fieldPointer.put(key, value-1));
-        }
-
         return nullValue;
     }
 
     @Override
     public Optional<Collection<SerializableObject>> getList(@NotNull String name, Class<? extends SerializableObject> clazz) {
+        ByteBuffer raw = this.nestedData.get(name);
+        if(raw != null){
+            ByteBuffer buffer = raw.duplicate();
+            int size = buffer.getInt();
+            List<SerializableObject> list = new ArrayList<>(size);
+            for(int i = 0; i < size; i++){
+                ByteSerializedObject nested = new ByteSerializedObject(slice(buffer, buffer.getInt()));
+                list.add(Creator.getCreator(clazz).read(nested));
+            }
+
+            return Optional.of(list);
+        }
+
         if(!this.data.containsKey(name))
             return Optional.empty();
 
+        //legacy format: each element is stored as string representation of its byte array
         List<SerializableObject> list = new ArrayList<>();
         String array = this.getString(name).orElse("");
         if(array.isBlank())
@@ -291,23 +290,40 @@ public class ByteSerializedObject extends AbstractSerializedObject {
 
     @Override
     public void setList(@NotNull String name, @NotNull Collection<? extends SerializableObject> value) {
-        StringBuilder s = new StringBuilder("{");
+        List<byte[]> elements = new ArrayList<>(value.size());
+        int size = Integer.BYTES;
         for(var e : value){
             ByteSerializedObject nested = new ByteSerializedObject(e.getClass());
             e.write(nested);
             nested.flush();
 
-            String str = this.arrayToStr(nested.toByteArray());
-            s.append(str).append(";");
+            byte[] bytes = nested.toByteArray();
+            elements.add(bytes);
+            size += Integer.BYTES + bytes.length;
+        }
+
+        //element count followed by each element as length prefixed byte array
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(elements.size());
+        for(byte[] bytes : elements){
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
         }
-        s = new StringBuilder(s.substring(0, s.length() - 1) + "}");
 
-        this.setString(name, s.toString());
+        this.setNested(name, buffer.flip());
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public Optional<Object> getRawObject(@NotNull String name, @NotNull Class<?> classOfT) {
+        if(this.nestedData.containsKey(name)){
+            if(!SerializableObject.class.isAssignableFrom(classOfT))
+                return Optional.empty();
+
+            Optional<?> o = this.getSerializable(name, (Class<? extends SerializableObject>) classOfT);
+            return o.map(Object.class::cast);
+        }
+
         if(!this.data.containsKey(name))
             return Optional.empty();
 
@@ -332,28 +348,41 @@ public class ByteSerializedObject extends AbstractSerializedObject {
         return Optional.empty();
     }
 
+    @Override
+    protected void setPackedArray(@NotNull String name, byte @NotNull [] packed) {
+        //packed arrays are written as raw entries, so they are neither converted to strings nor copied on load
+        this.setNested(name, ByteBuffer.wrap(packed));
+    }
+
+    @Override
+    protected Optional<ByteBuffer> getPackedArray(@NotNull String name) {
+        ByteBuffer raw = this.nestedData.get(name);
+        if(raw == null)
+            return Optional.empty();
+
+        return Optional.of(raw.duplicate());
+    }
+
     @Override
     public void flush() {
         super.flush();
 
-        this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
-        for(var e : this.data.entrySet()){
-            byte[] entry = (e.getKey() + "{;}" + e.getValue()).getBytes(StandardCharsets.UTF_8);
-            buffer.putInt(entry.length);
-            buffer.put(entry);
-        }
-
-        //Trim the byte array to the current size to avoid unused memory
-        int pos = this.buffer.position();
-        if(pos != 0){
-            byte[] flushedData = new byte[pos];
-            for(int i = 0; i < pos; i++){
-                flushedData[i] = this.buffer.get(i);
+        try(BinaryWriter writer = BinaryWriter.acquire()){
+            writeEntries(writer, this.data);
+            for(var e : this.nestedData.entrySet()){
+                byte[] key = e.getKey().getBytes(StandardCharsets.UTF_8);
+                ByteBuffer value = e.getValue();
+                writer.writeInt(NESTED_ENTRY);
+                writer.writeInt(key.length);
+                writer.writeBytes(key);
+                writer.writeInt(value.remaining());
+                writer.writeBytes(value);
             }
-            this.buffer = ByteBuffer.wrap(flushedData);
+
+            //Copy only the written bytes to avoid unused memory
+            this.buffer = ByteBuffer.wrap(writer.toByteArray());
             this.flushed = true;
         }
-
     }
 
     @Override
@@ -394,33 +423,136 @@ public class ByteSerializedObject extends AbstractSerializedObject {
         return Arrays.toString(data);
     }
 
+    /**
+     * Write the given name - value pairs as "lengthOfEntry + name + {;} + value" for each map entry into the given writer.
+     *
+     * @param writer The writer to write to.
+     * @param map The name - value pairs to write.
+     */
+    public static void writeEntries(@NotNull BinaryWriter writer, @NotNull Map<String, String> map){
+        for(var e : map.entrySet()){
+            byte[] entry = (e.getKey() + "{;}" + e.getValue()).getBytes(StandardCharsets.UTF_8);
+            writer.writeInt(entry.length);
+            writer.writeBytes(entry);
+        }
+    }
+
     /**
      * Load the data stored inside the given byte buffer. The buffer must contain pairs of name <-> value that are separated
      * with {;}. The buffer contains then the data as "lengthOfEntry + name + {;} + value" for each map entry.
      *
      * @param data The byte representation of the map.
      * @return The name - value pairs stored inside the given buffer.
+     * @throws SerializationException If the buffer contains nested objects.
      */
     public static Map<String, String> load(ByteBuffer data){
         Map<String, String> map = new HashMap<>();
+        load(data, map, null);
+        return map;
+    }
 
-        while(data.position() < data.array().length){
-            int length = data.getInt();
-            byte[] mapEntry = new byte[length];
-            for(int i = 0; i < length; i++){
-                mapEntry[i] = data.get();
+    /**
+     * Load the data stored inside the given byte buffer into the given maps. Besides the "lengthOfEntry + name + {;} + value"
+     * entries, the buffer may contain nested objects stored as "-1 + lengthOfName + name + lengthOfValue + value". The
+     * values of nested entries are not copied, but mapped as slices of the given buffer.
+     *
+     * @param data The byte representation of the maps.
+     * @param map The map to store the name - value pairs in.
+     * @param nested The map to store the nested entries in or null, if the buffer must not contain nested entries.
+     */
+    private static void load(@NotNull ByteBuffer data, @NotNull Map<String, String> map, Map<String, ByteBuffer> nested){
+        ByteBuffer buffer = data.duplicate();
+        while(buffer.hasRemaining()){
+            int length = buffer.getInt();
+            if(length == NESTED_ENTRY){
+                if(nested == null)
+                    throw new SerializationException("Unexpected nested entry");
+
+                String key = new String(readBytes(buffer, buffer.getInt()), StandardCharsets.UTF_8);
+                nested.put(key, slice(buffer, buffer.getInt()));
+                continue;
             }
 
-            String[] e = new String(mapEntry, StandardCharsets.UTF_8).split("\\{;}");
-            if(e.length != 2)
+            //split at the first separator only, so that empty values are kept
+            String entry = new String(readBytes(buffer, length), StandardCharsets.UTF_8);
+            int separator = entry.indexOf("{;}");
+            if(separator < 0)
                 throw new SerializationException("Invalid map entry");
 
-            String key = e[0];
-            String value = e[1];
-            map.put(key, value);
+            map.put(entry.substring(0, separator), entry.substring(separator + 3));
         }
+    }
 
-        return map;
+    /**
+     * Read the next bytes of the given buffer into a new array.
+     *
+     * @param buffer The buffer to read from.
+     * @param length The amount of bytes to read.
+     * @return The read bytes.
+     */
+    private static byte[] readBytes(@NotNull ByteBuffer buffer, int length){
+        if(length < 0 || length > buffer.remaining())
+            throw new SerializationException("Invalid map entry");
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Get a view on the next bytes of the given buffer without copying them and move the buffer's position behind them.
+     *
+     * @param buffer The buffer to read from.
+     * @param length The size of the view.
+     * @return A buffer sharing the next bytes with the given buffer.
+     */
+    private static ByteBuffer slice(@NotNull ByteBuffer buffer, int length){
+        if(length < 0 || length > buffer.remaining())
+            throw new SerializationException("Invalid nested entry");
+
+        ByteBuffer slice = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        return slice;
+    }
+
+    /**
+     * Map the encoded scalar value to the given name and drop a nested object previously mapped to that name.
+     *
+     * @param name The name the value is mapped to.
+     * @param value The encoded value.
+     */
+    private void setValue(@NotNull String name, @NotNull String value){
+        this.nestedData.remove(name);
+        this.data.put(name, value);
+    }
+
+    /**
+     * Map the raw bytes of a nested object or object list to the given name.
+     *
+     * @param name The name the bytes are mapped to.
+     * @param value The raw bytes.
+     */
+    private void setNested(@NotNull String name, @NotNull ByteBuffer value){
+        this.data.remove(name);
+        this.nestedData.put(name, value);
+    }
+
+    /**
+     * Get the nested object mapped to the given name. Nested objects read directly from the bytes of this object.
+     * Objects written in the former string representation are still supported.
+     *
+     * @param name The name the nested object is mapped to.
+     * @return An optional containing the nested object or an empty optional, if there is no object mapped to the name.
+     */
+    private Optional<ByteSerializedObject> getNested(@NotNull String name){
+        ByteBuffer raw = this.nestedData.get(name);
+        if(raw != null)
+            return Optional.of(new ByteSerializedObject(raw));
+
+        if(!this.data.containsKey(name))
+            return Optional.empty();
+
+        return createFromStr(this.getString(name).orElse(""));
     }
 
     /**
@@ -2,8 +2,8 @@ package net.configuration.serializable.impl.types;
 
 import com.google.gson.*;
 import net.configuration.serializable.api.*;
+import net.configuration.serializable.impl.ClassLayout;
 import net.configuration.serializable.impl.NullSerializable;
-import org.apache.commons.lang3.ClassUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
@@ -281,7 +281,7 @@ public class JsonSerializedObject extends AbstractSerializedObject{
 
     @Override
     public Optional<SerializableObject> getNull() {
-        String name = this.getFieldName(Class.class);
+        String name = this.getFieldName(ClassLayout.SLOT_NULL);
         return this.getNull(name);
     }
 
@@ -292,14 +292,11 @@ public class JsonSerializedObject extends AbstractSerializedObject{
 
     @Override
     public void setNull() {
-        this.setNull(this.getFieldName(Class.class));
+        this.setNull(this.getFieldName(ClassLayout.SLOT_NULL));
     }
 
     @Override
     public boolean isNextNull(@NotNull String name, @NotNull Class<?> type) {
-        if(type.isPrimitive())
-            type = ClassUtils.primitiveToWrapper(type);
-
         JsonElement read = this.data.get(name);
 
         boolean nullValue;
@@ -311,10 +308,6 @@ public class JsonSerializedObject extends AbstractSerializedObject{
             nullValue = false;
         }
 
-        if(!nullValue){ //if not-null reset pointer
-            this.fieldPointer.computeIfPresent(type, (key, value) -> fieldPointer.put(key, value-1));
-        }
-
         return nullValue;
     }
 
@@ -339,7 +332,8 @@ public class JsonSerializedObject extends AbstractSerializedObject{
     @Override
     public void setIntList(@NotNull String name, @NotNull Collection<Integer> value) {
         Optional<Field> fieldOpt = this.getField(name);
-        if(fieldOpt.isPresent()){
+        if(fieldOpt.isPresent() && !Map.class.isAssignableFrom(fieldOpt.get().getType())){
+            //maps are written as a list of key - value tuples, see setMap(..)
             Field field = fieldOpt.get();
             ParameterizedType stringListType = (ParameterizedType) field.getGenericType();
             Class<?> listType = (Class<?>) stringListType.getActualTypeArguments()[0];
@@ -376,7 +370,8 @@ public class JsonSerializedObject extends AbstractSerializedObject{
     @Override
     public void setLongList(@NotNull String name, @NotNull Collection<Long> value) {
         Optional<Field> fieldOpt = this.getField(name);
-        if(fieldOpt.isPresent()){
+        if(fieldOpt.isPresent() && !Map.class.isAssignableFrom(fieldOpt.get().getType())){
+            //maps are written as a list of key - value tuples, see setMap(..)
             Field field = fieldOpt.get();
             ParameterizedType stringListType = (ParameterizedType) field.getGenericType();
             Class<?> listType = (Class<?>) stringListType.getActualTypeArguments()[0];
@@ -413,7 +408,8 @@ public class JsonSerializedObject extends AbstractSerializedObject{
     @Override
     public void setDoubleList(@NotNull String name, @NotNull Collection<Double> value) {
         Optional<Field> fieldOpt = this.getField(name);
-        if(fieldOpt.isPresent()){
+        if(fieldOpt.isPresent() && !Map.class.isAssignableFrom(fieldOpt.get().getType())){
+            //maps are written as a list of key - value tuples, see setMap(..)
             Field field = fieldOpt.get();
             ParameterizedType stringListType = (ParameterizedType) field.getGenericType();
             Class<?> listType = (Class<?>) stringListType.getActualTypeArguments()[0];
@@ -495,7 +491,8 @@ public class JsonSerializedObject extends AbstractSerializedObject{
     @Override
     public void setStringList(@NotNull String name, @NotNull Collection<String> value) {
         Optional<Field> fieldOpt = this.getField(name);
-        if(fieldOpt.isPresent()){
+        if(fieldOpt.isPresent() && !Map.class.isAssignableFrom(fieldOpt.get().getType())){
+            //maps are written as a list of key - value tuples, see setMap(..)
             Field field = fieldOpt.get();
             ParameterizedType stringListType = (ParameterizedType) field.getGenericType();
             Class<?> listType = (Class<?>) stringListType.getActualTypeArguments()[0];
@@ -542,7 +539,8 @@ public class JsonSerializedObject extends AbstractSerializedObject{
     @Override
     public void setList(@NotNull String name, @NotNull Collection<? extends SerializableObject> value) {
         Optional<Field> fieldOpt = this.getField(name);
-        if(fieldOpt.isPresent()){
+        if(fieldOpt.isPresent() && !Map.class.isAssignableFrom(fieldOpt.get().getType())){
+            //maps are written as a list of key - value tuples, see setMap(..)
             Field field = fieldOpt.get();
             ParameterizedType stringListType = (ParameterizedType) field.getGenericType();
             Class<?> listType = (Class<?>) stringListType.getActualTypeArguments()[0];
@@ -5,7 +5,6 @@ import net.configuration.serializable.api.SerializableObject;
 import net.configuration.serializable.api.SerializationException;
 import net.configuration.serializable.api.SerializedObject;
 import net.configuration.serializable.impl.NullSerializable;
-import org.apache.commons.lang3.ClassUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
@@ -19,6 +18,7 @@ public class PropertiesSerializedObject extends AbstractSerializedObject{
     private final Properties data;
     private static final char NESTED_BEGIN = '{';
     private static final char NESTED_END = '}';
+    private static final String ENTRY_SEPARATOR = "<br>";
 
     @SuppressWarnings("unused") //called via reflection API
     public PropertiesSerializedObject(@NotNull Class<?> clazz){
@@ -139,7 +139,7 @@ public class PropertiesSerializedObject extends AbstractSerializedObject{
 
     @Override
     public Optional<String> getString(@NotNull String name) {
-        return Optional.of(this.data.getProperty(this.xmlPrefix + name));
+        return Optional.ofNullable(this.data.getProperty(this.xmlPrefix + name));
     }
 
     @Override
@@ -200,17 +200,11 @@ public class PropertiesSerializedObject extends AbstractSerializedObject{
 
     @Override
     public Optional<SerializedObject> get(@NotNull String name) {
-        try {
-            Properties prop = new Properties();
-            String serializedData = this.data.getProperty(this.xmlPrefix + name).substring(1);
-            this.deserializeStringToProperties(serializedData.substring(0, serializedData.length() - 1), prop);
-
-            return Optional.of(new PropertiesSerializedObject(this.xmlPrefix, prop));
+        Properties prop = new Properties();
+        String serializedData = this.data.getProperty(this.xmlPrefix + name).substring(1);
+        this.deserializeStringToProperties(serializedData.substring(0, serializedData.length() - 1), prop);
 
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return Optional.empty();
+        return Optional.of(new PropertiesSerializedObject(this.xmlPrefix, prop));
     }
 
     @Override
@@ -242,16 +236,8 @@ public class PropertiesSerializedObject extends AbstractSerializedObject{
 
     @Override
     public boolean isNextNull(@NotNull String name, @NotNull Class<?> type) {
-        if(type.isPrimitive())
-            type = ClassUtils.primitiveToWrapper(type);
-
         Object read = this.data.get(this.xmlPrefix + name);
         boolean nullValue = read == null || read.toString().equals(NullSerializable.CODON);
-
-        if(!nullValue){ //if not-null reset pointer
-            this.fieldPointer.computeIfPresent(type, (key, value) -> fieldPointer.put(key, value-1));
-        }
-
         return nullValue;
     }
 
@@ -341,52 +327,46 @@ public class PropertiesSerializedObject extends AbstractSerializedObject{
     }
 
     /**
-     * Convert the raw string representation to its deserialized properties representation.
+     * Convert the raw string representation to its deserialized properties representation. The entries are separated
+     * by &lt;br&gt;, but only outside of nested objects, whose values are stored with their braces and separators.
      *
      * @param data The raw string to convert.
      * @param prop The properties object in which the string data should be written.
-     * @throws IOException If the properties could not be loaded from the string representation.
      */
-    private void deserializeStringToProperties(@NotNull String data, @NotNull Properties prop) throws IOException {
-        List<String> nestedStrings = new LinkedList<>();
-        int l = 0;
-        int id = 0;
-        int nestedIdx = data.indexOf(String.valueOf(NESTED_BEGIN), l);
-        while(l < data.length() && nestedIdx != -1){
-            String nested = this.readNested(data.substring(nestedIdx));
-            l += nested.length();
-            nestedIdx = data.indexOf(String.valueOf(NESTED_BEGIN), l);
-            nestedStrings.add(nested);
-            data = data.replace(nested, String.valueOf(id++));
-            nestedIdx -= nested.length();
-        }
+    private void deserializeStringToProperties(@NotNull String data, @NotNull Properties prop) {
+        int depth = 0;
+        int start = 0;
+        int i = 0;
+        while(i < data.length()){
+            char c = data.charAt(i);
+            if(c == NESTED_BEGIN){
+                depth++;
+            }else if(c == NESTED_END){
+                depth--;
+            }else if(depth == 0 && data.startsWith(ENTRY_SEPARATOR, i)){
+                putEntry(data.substring(start, i), prop);
+                i += ENTRY_SEPARATOR.length();
+                start = i;
+                continue;
+            }
 
-        data = data.replace("<br>", "\n");
-        for(int i = 0; i < nestedStrings.size(); i++){
-            data = data.replace(String.valueOf(NESTED_BEGIN) + i + NESTED_END, NESTED_BEGIN + nestedStrings.get(i) + NESTED_END);
+            i++;
         }
 
-        prop.load(new StringReader(data));
-
+        putEntry(data.substring(start), prop);
     }
 
     /**
-     * Read a nested properties string from the given data and return the first nested string that was found.
+     * Add an entry of the form key=value to the given properties.
      *
-     * @param data The string to read.
-     * @return The first found nested string.
+     * @param entry The entry to add. Empty entries are skipped.
+     * @param prop The properties to add the entry to.
      */
-    private String readNested(@NotNull String data){
-        StringBuilder s = new StringBuilder();
-        for(int i = 0; i < data.length(); i++){
-            char c = data.charAt(i);
-            if(c == NESTED_BEGIN)
-                return readNested(data.substring(i+1));
-            else if(c == NESTED_END)
-                return s.toString();
-            else s.append(c);
-        }
+    private static void putEntry(@NotNull String entry, @NotNull Properties prop){
+        int separator = entry.indexOf('=');
+        if(separator < 0)
+            return;
 
-        return s.toString();
+        prop.setProperty(entry.substring(0, separator), entry.substring(separator + 1));
     }
 }
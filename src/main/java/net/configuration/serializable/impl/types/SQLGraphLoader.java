@@ -0,0 +1,204 @@
+package net.configuration.serializable.impl.types;
+
+import net.configuration.network.SQLConnection;
+import net.configuration.network.SQLTable;
+import net.configuration.serializable.api.SerializationException;
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Loads the rows of a nested {@link SQLSerializedObject} graph. The keys referenced by a loaded row are only
+ * registered, and when the first of them is needed, all registered keys of the same table are fetched with one query.
+ * This way reading a list of n objects costs one query per table instead of several queries per object.
+ */
+final class SQLGraphLoader {
+
+    @NotNull private final SQLConnection connection;
+
+    @NotNull private final Map<String, Set<String>> pending = new HashMap<>();
+    @NotNull private final Map<String, Map<String, Row>> rows = new HashMap<>();
+
+    SQLGraphLoader(@NotNull SQLConnection connection){
+        this.connection = connection;
+    }
+
+    /**
+     * Register a key that will probably be loaded later, so that it is fetched together with the other keys of its
+     * table.
+     *
+     * @param table The table of the row.
+     * @param key The primary key of the row.
+     */
+    void register(@NotNull String table, @NotNull String key){
+        Map<String, Row> loaded = this.rows.get(table);
+        if(loaded != null && loaded.containsKey(key))
+            return;
+
+        this.pending.computeIfAbsent(table, t -> new LinkedHashSet<>()).add(key);
+    }
+
+    /**
+     * Create the object stored in the given table with the given key. If the row was not fetched yet, all registered
+     * keys of that table are fetched at once.
+     *
+     * @param table The table of the row.
+     * @param key The primary key of the row.
+     * @return The object stored in that row.
+     * @throws SerializationException If there is no such row or the row could not be read.
+     */
+    @NotNull
+    SQLSerializedObject load(@NotNull String table, @NotNull String key){
+        return this.find(table, key).orElseThrow(() ->
+                new SerializationException("No class found in table " + table + " for key " + key));
+    }
+
+    /**
+     * Create the object stored in the given table with the given key, if there is such a row. If the row was not
+     * fetched yet, all registered keys of that table are fetched at once.
+     *
+     * @param table The table of the row.
+     * @param key The primary key of the row.
+     * @return The object stored in that row or an empty optional, if there is no such row.
+     * @throws SerializationException If the row could not be read.
+     */
+    @NotNull
+    Optional<SQLSerializedObject> find(@NotNull String table, @NotNull String key){
+        Row row = this.rows.getOrDefault(table, Map.of()).get(key);
+        if(row == null){
+            this.register(table, key);
+            this.fetch(table);
+            row = this.rows.getOrDefault(table, Map.of()).get(key);
+        }
+
+        if(row == null)
+            return Optional.empty();
+
+        return Optional.of(this.create(table, key, row));
+    }
+
+    /**
+     * Fetch the next rows of a table ordered by their primary key and create their objects. Keys referenced by these
+     * rows are fetched together when they are accessed.
+     *
+     * @param table The name of the table.
+     * @param after The primary key after which the page starts or an empty string, to start with the first row.
+     * @param limit The maximal amount of rows.
+     * @return The objects of the page in order. The list is empty if there are no more rows.
+     * @throws SerializationException If the rows could not be read.
+     */
+    @NotNull
+    List<SQLSerializedObject> loadPage(@NotNull String table, @NotNull String after, int limit){
+        Map<String, Row> page = new LinkedHashMap<>();
+        try(Connection con = this.connection.borrow(); PreparedStatement pst = con.prepareStatement(SQLTable.of(table).page())){
+            pst.setFetchSize(limit);
+            pst.setString(1, after);
+            pst.setInt(2, limit);
+            this.readRows(pst.executeQuery(), page);
+
+        }catch(SQLException e){
+            throw new SerializationException(e);
+        }
+
+        this.rows.computeIfAbsent(table, t -> new HashMap<>()).putAll(page);
+
+        List<SQLSerializedObject> objects = new ArrayList<>(page.size());
+        for(var entry : page.entrySet())
+            objects.add(this.create(table, entry.getKey(), entry.getValue()));
+
+        return objects;
+    }
+
+    /**
+     * Create the object of a fetched row.
+     *
+     * @param table The table of the row.
+     * @param key The primary key of the row.
+     * @param row The fetched row.
+     * @return The object stored in the row.
+     * @throws SerializationException If the class of the row does not exist.
+     */
+    @NotNull
+    private SQLSerializedObject create(@NotNull String table, @NotNull String key, @NotNull Row row){
+        try{
+            Class<?> clazz = Class.forName(row.className());
+            return new SQLSerializedObject(this.connection, key, table, clazz, new HashMap<>(row.values()), this);
+
+        }catch(ClassNotFoundException e){
+            throw new SerializationException(e);
+        }
+    }
+
+    /**
+     * Fetch all registered rows of the given table.
+     *
+     * @param table The name of the table.
+     * @throws SerializationException If the rows could not be read.
+     */
+    private void fetch(@NotNull String table){
+        Set<String> keys = this.pending.remove(table);
+        if(keys == null || keys.isEmpty())
+            return;
+
+        Map<String, Row> loaded = this.rows.computeIfAbsent(table, t -> new HashMap<>());
+        SQLTable statements = SQLTable.of(table);
+        try(Connection con = this.connection.borrow()){
+            Iterator<String> it = keys.iterator();
+            while(it.hasNext()){
+                List<String> chunk = new ArrayList<>();
+                while(it.hasNext() && chunk.size() < SQLTable.MAX_KEYS_PER_SELECT)
+                    chunk.add(it.next());
+
+                int parameters = SQLTable.parameterCount(chunk.size());
+                try(PreparedStatement pst = con.prepareStatement(statements.selectIn(parameters))){
+                    for(int i = 0; i < parameters; i++)
+                        pst.setString(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+
+                    this.readRows(pst.executeQuery(), loaded);
+                }
+            }
+
+        }catch(SQLException e){
+            throw new SerializationException(e);
+        }
+    }
+
+    /**
+     * Read all rows of a result set.
+     *
+     * @param rs The result set of a statement that selects all columns.
+     * @param loaded The map to put the rows into, mapped to their primary keys.
+     * @throws SQLException If a row could not be read.
+     */
+    private void readRows(@NotNull ResultSet rs, @NotNull Map<String, Row> loaded) throws SQLException {
+        ResultSetMetaData meta = rs.getMetaData();
+        while(rs.next()){
+            Map<String, String> values = new HashMap<>();
+            for(int i = 3; i <= meta.getColumnCount(); i++)
+                values.put(SQLSerializedObject.deserializeKey(meta.getColumnName(i)), SQLSerializedObject.readColumn(rs, i));
+
+            loaded.put(rs.getString("id"), new Row(rs.getString("class"), values));
+        }
+    }
+
+    /**
+     * A fetched row.
+     *
+     * @param className The name of the java class stored in the row.
+     * @param values The column values mapped to their names.
+     */
+    private record Row(@NotNull String className, @NotNull Map<String, String> values){ }
+}
@@ -3,18 +3,22 @@ package net.configuration.serializable.impl.types;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import net.configuration.main.Main;
+import net.configuration.network.SQLBatch;
 import net.configuration.network.SQLConnection;
+import net.configuration.network.SQLTable;
+import net.configuration.network.SQLType;
 import net.configuration.serializable.api.*;
 import net.configuration.serializable.impl.NullSerializable;
-import org.apache.commons.lang3.ClassUtils;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.sql.DatabaseMetaData;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 public class SQLSerializedObject extends ByteSerializedObject {
@@ -25,35 +29,19 @@ public class SQLSerializedObject extends ByteSerializedObject {
     @NotNull private final HashMap<String, Class<?>> types = new HashMap<>();
     @NotNull private Map<String, String> foreignKeys;
     @NotNull private final Map<String, SQLSerializedObject> complexObjects = new HashMap<>();
+    @NotNull private final Map<String, String> references = new HashMap<>(); //complex objects that are not loaded yet
 
     @NotNull private final UUID primaryKey;
 
-    @NotNull
-    private static final Map<Class<?>, List<String>> sqlDataTypes = new HashMap<>();
+    private SQLBatch batch; //the pending writes of the object graph, if write-behind is enabled
+    private boolean ownsBatch;
+    private boolean persisted;
+    private SQLGraphLoader loader;
+
     @NotNull
     private static final BiMap<Character, String> characterFunction = HashBiMap.create();
 
     static{
-        sqlDataTypes.put(String.class,  List.of("LONGTEXT"));
-        sqlDataTypes.put(Boolean.class, List.of("TINYINT(128)"));
-        sqlDataTypes.put(Byte.class, List.of("TINYINT(255)"));
-        sqlDataTypes.put(Short.class, List.of("SMALLINT(255)"));
-        sqlDataTypes.put(Integer.class, List.of("INT(255)"));
-        sqlDataTypes.put(Long.class, List.of("BIGINT(255)"));
-        sqlDataTypes.put(Float.class, List.of("FLOAT(24)"));
-        sqlDataTypes.put(Double.class, List.of("FLOAT(53)"));
-        sqlDataTypes.put(Character.class, List.of("CHAR(2)"));
-        sqlDataTypes.put(boolean.class, List.of("TINYINT(128)"));
-        sqlDataTypes.put(byte.class, List.of("TINYINT(255)"));
-        sqlDataTypes.put(short.class, List.of("SMALLINT(255)"));
-        sqlDataTypes.put(int.class, List.of("INT(255)"));
-        sqlDataTypes.put(long.class, List.of("BIGINT(255)"));
-        sqlDataTypes.put(float.class, List.of("FLOAT(24)"));
-        sqlDataTypes.put(double.class, List.of("FLOAT(53)"));
-        sqlDataTypes.put(char.class, List.of("CHAR(2)"));
-        sqlDataTypes.put(Date.class, List.of("DATE"));
-        sqlDataTypes.put(java.sql.Date.class, List.of("DATE"));
-
         characterFunction.put('0', "zero");
         characterFunction.put('1', "one");
         characterFunction.put('2', "two");
@@ -74,8 +62,9 @@ public class SQLSerializedObject extends ByteSerializedObject {
      * @return True if the table could be deleted, false otherwise.
      */
     public static boolean deleteTable(@NotNull SQLConnection connection, @NotNull String tableName){
-        try(PreparedStatement pst = connection.getConnection().prepareStatement("DROP TABLE " + tableName)){
+        try(Connection con = connection.borrow(); PreparedStatement pst = con.prepareStatement("DROP TABLE " + tableName)){
             pst.executeUpdate();
+            connection.getSchema().tableDropped(tableName);
             return true;
         }catch(SQLException e){
             e.printStackTrace();
@@ -101,12 +90,47 @@ public class SQLSerializedObject extends ByteSerializedObject {
             this.connection.connect();
 
         this.primaryKey = UUID.randomUUID();
-        this.foreignKeys = this.getForeignKeys();
+        this.foreignKeys = new HashMap<>(); //a new object has no row yet, the keys are fetched when it is read back
+    }
+
+    /**
+     * Create a new object whose row is written together with the given batch instead of being written on its own.
+     *
+     * @param con The connection to the SQL database.
+     * @param clazz The type of the serialized object.
+     * @param batch The batch of the object graph this object belongs to.
+     */
+    public SQLSerializedObject(@NotNull SQLConnection con, @NotNull Class<?> clazz, @NotNull SQLBatch batch) {
+        this(con, clazz);
+        this.batch = batch;
+    }
+
+    /**
+     * Create an object from a row that was fetched by the given loader.
+     *
+     * @param con The connection to the SQL database.
+     * @param key The primary key of the row.
+     * @param tableName The table of the row.
+     * @param forClass The type of the serialized object.
+     * @param row The column values of the row.
+     * @param loader The loader of the object graph this object belongs to.
+     */
+    SQLSerializedObject(@NotNull SQLConnection con, @NotNull String key, @NotNull String tableName, @NotNull Class<?> forClass,
+                        @NotNull Map<String, String> row, @NotNull SQLGraphLoader loader) {
+        super(forClass);
+        this.primaryKey = UUID.fromString(key);
+        this.tableName = tableName;
+        this.connection = con;
+        this.persisted = true;
+        this.loader = loader;
+        this.foreignKeys = getForeignKeys(con, tableName);
+        this.data = this.applyRow(row);
     }
 
     public SQLSerializedObject(@NotNull SQLConnection con, @NotNull String key, @NotNull Class<?> forClass) {
         super(forClass);
         this.primaryKey = UUID.fromString(key);
+        this.persisted = true;
         this.tableName = TABLE_PREFIX + forClass.getSimpleName();
         this.connection = con;
         if(!this.connection.isConnected() && !this.connection.connect()) {
@@ -124,6 +148,7 @@ public class SQLSerializedObject extends ByteSerializedObject {
     public SQLSerializedObject(@NotNull SQLConnection con, @NotNull String key, @NotNull String tableName, @NotNull Class<?> forClass) {
         super(forClass);
         this.primaryKey = UUID.fromString(key);
+        this.persisted = true;
         this.tableName = tableName;
         this.connection = con;
         if(!this.connection.isConnected())
@@ -146,7 +171,7 @@ public class SQLSerializedObject extends ByteSerializedObject {
             this.connection.connect();
 
         this.primaryKey = UUID.randomUUID();
-        this.foreignKeys = this.getForeignKeys();
+        this.foreignKeys = new HashMap<>();
     }
 
     @SuppressWarnings("unused") //Called via reflection API
@@ -158,7 +183,7 @@ public class SQLSerializedObject extends ByteSerializedObject {
 
         this.tableName = TABLE_PREFIX + clazz.getSimpleName();
         this.primaryKey = UUID.randomUUID();
-        this.foreignKeys = this.getForeignKeys();
+        this.foreignKeys = new HashMap<>();
 
     }
 
@@ -171,7 +196,7 @@ public class SQLSerializedObject extends ByteSerializedObject {
 
         this.tableName = TABLE_PREFIX + "dummy";
         this.primaryKey = UUID.randomUUID();
-        this.foreignKeys = this.getForeignKeys();
+        this.foreignKeys = new HashMap<>();
     }
 
 
@@ -241,13 +266,13 @@ public class SQLSerializedObject extends ByteSerializedObject {
     @Override
     public <T extends Enum<T>> void setEnum(@NotNull String name, @NotNull T value) {
         this.data.put(name, value.name());
-        this.types.put(name, String.class);
+        this.types.put(name, Enum.class);
     }
 
 
     @Override
     public void setSerializable(@NotNull String name, @NotNull SerializableObject value) {
-        SQLSerializedObject nested = new SQLSerializedObject(this.connection, value.getClass());
+        SQLSerializedObject nested = this.createNested(value.getClass());
         value.write(nested);
         this.complexObjects.put(name, nested);
 
@@ -258,11 +283,12 @@ public class SQLSerializedObject extends ByteSerializedObject {
 
     @Override
     public <T extends SerializableObject> Optional<T> getSerializable(@NotNull String name, @NotNull Class<T> classOfT) {
-        if(!this.complexObjects.containsKey(name)){
+        SQLSerializedObject nested = this.getComplex(name);
+        if(nested == null){
             return Optional.empty();
         }
 
-        return Optional.of(Creator.getCreator(classOfT).read(this.complexObjects.get(name)));
+        return Optional.of(Creator.getCreator(classOfT).read(nested));
     }
 
     @Override
@@ -277,7 +303,7 @@ public class SQLSerializedObject extends ByteSerializedObject {
 
     @Override
     public Optional<SerializedObject> get(@NotNull String name) {
-        return Optional.ofNullable(this.complexObjects.get(name));
+        return Optional.ofNullable(this.getComplex(name));
     }
 
 
@@ -285,7 +311,7 @@ public class SQLSerializedObject extends ByteSerializedObject {
     public void setList(@NotNull String name, @NotNull Collection<? extends SerializableObject> value) {
         StringBuilder ids = new StringBuilder();
         for(var e : value){
-            SQLSerializedObject nested = new SQLSerializedObject(this.connection, e.getClass());
+            SQLSerializedObject nested = this.createNested(e.getClass());
             e.write(nested);
             nested.flush();
 
@@ -303,12 +329,7 @@ public class SQLSerializedObject extends ByteSerializedObject {
             return Optional.empty();
 
         List<SerializableObject> list = new ArrayList<>();
-        for(String e : opt.get().split(",")){
-            String[] data = e.split(":");
-            String key = data[0];
-            String table = data[1];
-
-            SQLSerializedObject nested = new SQLSerializedObject(this.connection, key, table, getClass(this.connection, table, key));
+        for(SQLSerializedObject nested : readList(opt.get(), this.getLoader())){
             SerializableObject obj = Creator.getCreator(clazz).read(nested);
             list.add(obj);
         }
@@ -319,19 +340,13 @@ public class SQLSerializedObject extends ByteSerializedObject {
 
     @Override
     public boolean isNextNull(@NotNull String name, @NotNull Class<?> type) {
-        if(type.isPrimitive())
-            type = ClassUtils.primitiveToWrapper(type);
-
         Object read = this.data.get(name);
         if(read == null)
             read = this.complexObjects.get(name);
+        if(read == null)
+            read = this.references.get(name);
 
         boolean nullValue = read == null || read.toString().equals(NullSerializable.CODON);
-
-        if(!nullValue){ //if not-null reset pointer
-            this.fieldPointer.computeIfPresent(type, (key, value) -> fieldPointer.put(key, value-1));
-        }
-
         return nullValue;
     }
 
@@ -359,8 +374,8 @@ public class SQLSerializedObject extends ByteSerializedObject {
 
             return Optional.of(classOfT.cast(elem));
 
-        }else if(this.complexObjects.containsKey(name)){
-            SQLSerializedObject nested = this.complexObjects.get(name);
+        }else if(this.complexObjects.containsKey(name) || this.references.containsKey(name)){
+            SQLSerializedObject nested = this.getComplex(name);
             Optional<?> o = nested.getSerializable(name, (Class<? extends SerializableObject>) classOfT);
             if(o.isPresent())
                 return Optional.of(o.get());
@@ -369,6 +384,17 @@ public class SQLSerializedObject extends ByteSerializedObject {
         return Optional.empty();
     }
 
+    @Override
+    protected void setPackedArray(@NotNull String name, byte @NotNull [] packed) {
+        //every value is stored in its own column, so the array is stored as base64 string
+        this.setPackedString(name, packed);
+    }
+
+    @Override
+    protected Optional<ByteBuffer> getPackedArray(@NotNull String name) {
+        return this.getPackedString(name);
+    }
+
     @Override
     public void flush() {
         super.flush();
@@ -380,6 +406,18 @@ public class SQLSerializedObject extends ByteSerializedObject {
         this.createTable();
         this.writeToTable();
 
+        if(this.batch != null){
+            //nested objects are written and read back together with the root of the graph
+            if(!this.ownsBatch)
+                return;
+
+            try{
+                this.batch.execute(this.connection);
+            }catch(SQLException e){
+                throw new SerializationException(e);
+            }
+        }
+
         this.restore();
     }
 
@@ -417,6 +455,37 @@ public class SQLSerializedObject extends ByteSerializedObject {
         return connection;
     }
 
+    /**
+     * Create a new object for a value nested in this object. If write-behind is enabled, the nested object is written
+     * with the batch of this object.
+     *
+     * @param clazz The type of the nested value.
+     * @return The new nested object.
+     */
+    @NotNull
+    private SQLSerializedObject createNested(@NotNull Class<?> clazz){
+        SQLBatch pending = this.getBatch();
+        if(pending == null)
+            return new SQLSerializedObject(this.connection, clazz);
+
+        return new SQLSerializedObject(this.connection, clazz, pending);
+    }
+
+    /**
+     * Get the batch this object is written with. If write-behind is enabled and this object does not belong to the
+     * graph of another object yet, it becomes the root of a new batch.
+     *
+     * @return The batch or null, if write-behind is disabled.
+     */
+    private SQLBatch getBatch(){
+        if(this.batch == null && this.connection.isWriteBehind()){
+            this.batch = new SQLBatch();
+            this.ownsBatch = true;
+        }
+
+        return this.batch;
+    }
+
     /**
      * Insert a complex object into this serialized object, i.e. set a reference UUID as the key to the complex object
      * entry in its table.
@@ -426,6 +495,7 @@ public class SQLSerializedObject extends ByteSerializedObject {
      * @param clazz The type of the complex object.
      */
     private void setComplex(@NotNull String name, @NotNull UUID foreignKey, @NotNull Class<?> clazz){
+        this.references.remove(name);
         this.data.put(name, foreignKey.toString());
         this.types.put(name, clazz);
     }
@@ -442,30 +512,176 @@ public class SQLSerializedObject extends ByteSerializedObject {
             this.connection.connect();
 
         Map<String, String> map = new HashMap<>();
-        try(PreparedStatement pst = this.connection.getConnection().prepareStatement("SELECT * FROM " + this.tableName
-                + " WHERE id = '" + this.primaryKey + "'")){
+        try(Connection con = this.connection.borrow(); PreparedStatement pst = con.prepareStatement(SQLTable.of(this.tableName).select())){
+            pst.setString(1, this.primaryKey.toString());
 
             ResultSet rs = pst.executeQuery();
             while(rs.next()){
                 int coulmnCnt = rs.getMetaData().getColumnCount();
                 for(int i = 3; i <= coulmnCnt; i++){
-                    String name = this.deserializeKey(rs.getMetaData().getColumnName(i));
-                    String value = rs.getString(i);
-
-                    if(this.foreignKeys.containsKey(name) && value != null){
-                        String table = this.foreignKeys.get(name);
-                        SQLSerializedObject nested = new SQLSerializedObject(this.connection, value, table, getClass(this.connection, table, value));
-                        this.complexObjects.put(name, nested);
-
-                    }else{
-                        map.put(name, value);
-                    }
+                    String name = deserializeKey(rs.getMetaData().getColumnName(i));
+                    map.put(name, readColumn(rs, i));
                 }
             }
 
         }
 
-        return map;
+        return this.applyRow(map);
+    }
+
+    /**
+     * Separate the references to complex objects from the other values of a row. The referenced objects are only
+     * registered at the loader and are loaded when they are accessed for the first time. NaN and infinite values are
+     * moved back from their companion columns.
+     *
+     * @param row The column values of the row.
+     * @return The given row without the references.
+     */
+    @NotNull
+    private Map<String, String> applyRow(@NotNull Map<String, String> row){
+        SQLType.restoreNonFinite(row);
+        for(Map.Entry<String, String> entry : this.foreignKeys.entrySet()){
+            String value = row.get(entry.getKey());
+            if(value == null)
+                continue;
+
+            row.remove(entry.getKey());
+            this.references.put(entry.getKey(), value);
+            this.getLoader().register(entry.getValue(), value);
+        }
+
+        return row;
+    }
+
+    /**
+     * Get the complex object with the given name and load it, if it is not loaded yet.
+     *
+     * @param name The name of the complex object.
+     * @return The complex object or null, if there is none with that name.
+     */
+    private SQLSerializedObject getComplex(@NotNull String name){
+        SQLSerializedObject nested = this.complexObjects.get(name);
+        if(nested == null && this.references.containsKey(name)){
+            nested = this.getLoader().load(this.foreignKeys.get(name), this.references.remove(name));
+            this.complexObjects.put(name, nested);
+        }
+
+        return nested;
+    }
+
+    /**
+     * @return The loader of the object graph this object belongs to.
+     */
+    @NotNull
+    private SQLGraphLoader getLoader(){
+        if(this.loader == null)
+            this.loader = new SQLGraphLoader(this.connection);
+
+        return this.loader;
+    }
+
+    /**
+     * Read the objects of a list that was written by {@link SQLSerializedObject#setList(String, Collection)}. The rows
+     * of all elements are fetched with one query per table.
+     *
+     * @param connection The connection to the SQL database.
+     * @param references The list entry, i.e. a comma separated list of key:table pairs.
+     * @return The objects of the list in order.
+     */
+    @NotNull
+    public static List<SQLSerializedObject> readList(@NotNull SQLConnection connection, @NotNull String references){
+        return readList(references, new SQLGraphLoader(connection));
+    }
+
+    /**
+     * Read the objects of a list entry with the given loader.
+     *
+     * @param references The list entry, i.e. a comma separated list of key:table pairs.
+     * @param loader The loader to fetch the rows with.
+     * @return The objects of the list in order.
+     */
+    @NotNull
+    private static List<SQLSerializedObject> readList(@NotNull String references, @NotNull SQLGraphLoader loader){
+        List<String[]> entries = new ArrayList<>();
+        for(String e : references.split(",")){
+            String[] entry = e.split(":");
+            loader.register(entry[1], entry[0]);
+            entries.add(entry);
+        }
+
+        List<SQLSerializedObject> list = new ArrayList<>(entries.size());
+        for(String[] entry : entries)
+            list.add(loader.load(entry[1], entry[0]));
+
+        return list;
+    }
+
+    /**
+     * Read the objects of the given class with the given keys. All rows are fetched with one query per
+     * {@link SQLTable#MAX_KEYS_PER_SELECT} keys and the nested objects of all rows are fetched together when they are
+     * accessed.
+     *
+     * @param connection The connection to the SQL database.
+     * @param forClass The type of the serialized objects.
+     * @param keys The primary keys of the objects.
+     * @return The objects mapped to their keys in the order of the given keys. Keys without a row are left out.
+     * @throws SerializationException If the rows could not be read.
+     */
+    @NotNull
+    public static Map<UUID, SQLSerializedObject> loadAll(@NotNull SQLConnection connection, @NotNull Class<?> forClass,
+                                                         @NotNull Collection<UUID> keys){
+        if(!connection.isConnected() && !connection.connect())
+            throw new SerializationException("Not connected to SQL");
+
+        String table = getTableName(forClass);
+        SQLGraphLoader loader = new SQLGraphLoader(connection);
+        keys.forEach(key -> loader.register(table, key.toString()));
+
+        Map<UUID, SQLSerializedObject> objects = new LinkedHashMap<>();
+        for(UUID key : keys)
+            loader.find(table, key.toString()).ifPresent(obj -> objects.put(key, obj));
+
+        return objects;
+    }
+
+    /**
+     * Read all objects of the given class page by page in the order of their keys. Only one page of rows is held in
+     * memory at a time, so tables of any size can be scanned. The nested objects of a page are fetched together when
+     * they are accessed.
+     *
+     * @param connection The connection to the SQL database.
+     * @param forClass The type of the serialized objects.
+     * @param pageSize The amount of rows fetched with one query, which is also used as JDBC fetch size.
+     * @param action The action to perform for each object.
+     * @throws SerializationException If the rows could not be read.
+     */
+    public static void scan(@NotNull SQLConnection connection, @NotNull Class<?> forClass, int pageSize,
+                            @NotNull Consumer<SQLSerializedObject> action){
+        if(pageSize <= 0)
+            throw new IllegalArgumentException("The page size must be positive");
+
+        if(!connection.isConnected() && !connection.connect())
+            throw new SerializationException("Not connected to SQL");
+
+        String table = getTableName(forClass);
+        try{
+            if(!connection.getSchema().exists(table))
+                return;
+
+        }catch(SQLException e){
+            throw new SerializationException(e);
+        }
+
+        String after = "";
+        while(true){
+            //a new loader for every page, so that the fetched rows of previous pages can be collected
+            List<SQLSerializedObject> page = new SQLGraphLoader(connection).loadPage(table, after, pageSize);
+            page.forEach(action);
+            if(page.size() < pageSize)
+                return;
+
+            after = page.get(page.size() - 1).getPrimaryKey().toString();
+        }
     }
 
 
@@ -481,23 +697,15 @@ public class SQLSerializedObject extends ByteSerializedObject {
             String key = this.serializeKey(entry.getKey());
             Class<?> type = this.types.get(entry.getKey());
 
-            String sqlType;
-            if(type != null){
-                if(sqlDataTypes.get(type) == null){
-                    //complex type, so use foreign key relationship
-                    fkeys.add("FOREIGN KEY (" + key + ") REFERENCES " + TABLE_PREFIX + type.getSimpleName() + "(id)");
-                    sqlType = "CHAR(36)";
-                    sql.append(", ").append(key).append(" ").append(sqlType);
-
-                }else{
-                    sqlType = "LONGTEXT";
-                    sql.append(", ").append(key).append(" ").append(sqlType);
-                }
-            }else{
-                sqlType = "LONGTEXT";
-                sql.append(", ").append(key).append(" ").append(sqlType);
+            if(this.isReference(entry.getKey())){
+                //complex type, so use foreign key relationship
+                fkeys.add("FOREIGN KEY (" + key + ") REFERENCES " + TABLE_PREFIX + type.getSimpleName() + "(id)");
             }
 
+            SQLType columnType = this.getColumnType(entry.getKey());
+            sql.append(", ").append(key).append(" ").append(columnType.getDefinition());
+            if(columnType.hasNonFiniteColumn())
+                sql.append(", ").append(SQLType.nonFiniteColumn(key)).append(" ").append(SQLType.VARCHAR.getDefinition());
         }
         sql.append(", PRIMARY KEY(id)");
         for(String e : fkeys){
@@ -506,8 +714,12 @@ public class SQLSerializedObject extends ByteSerializedObject {
         sql.append(")");
 
         //create tables for complex objects
+        SQLBatch pending = this.getBatch();
         List<SQLSerializedObject> delayed = new ArrayList<>();
         for(var e : this.complexObjects.values()){
+            if(pending != null && e.batch == null)
+                e.batch = pending;
+
             var opt = e.getForClass();
             if(opt.isPresent()){
                 if(opt.get() != this.clazz){
@@ -520,45 +732,138 @@ public class SQLSerializedObject extends ByteSerializedObject {
             }
         }
 
-        this.connection.update(sql.toString());
+        //the schema cache knows whether the table exists, so that it is not created on every flush
+        if(!this.tableExists()){
+            if(pending != null){
+                pending.addTable(this.tableName, sql.toString());
+            }else{
+                this.connection.update(sql.toString());
+                this.connection.getSchema().tableCreated(this.tableName);
+            }
+        }
 
-        //write delayed objects into table
+        //write delayed objects into table, including their own complex objects
         for(var e : delayed){
-            e.writeToTable();
-            e.restore();
+            e.flush();
         }
     }
 
     /**
-     * Insert this objects values into the corresponding SQL tables.
+     * @return True iff the table of this object is known to exist.
+     */
+    private boolean tableExists(){
+        try{
+            return this.connection.getSchema().exists(this.tableName);
+        }catch(SQLException e){
+            return false;
+        }
+    }
+
+    /**
+     * Insert this objects values into the corresponding SQL tables. If write-behind is enabled, the row is added to
+     * the batch of the object graph instead.
      */
     private void writeToTable(){
-        if(this.isPresent(this.primaryKey))
-            return;
+        if(this.batch != null){
+            if(this.persisted || this.batch.contains(this.primaryKey))
+                return;
 
-        String sql = "INSERT INTO " + this.tableName + "(types) VALUES (values)";
+        }else if(this.isPresent(this.primaryKey)){
+            return;
+        }
 
-        StringBuilder names = new StringBuilder();
-        StringBuilder values = new StringBuilder();
-        names.append(", id").append(", class");
-        values.append(", '").append(this.primaryKey).append("'").append(", '").append(this.clazz.getName()).append("'");
+        List<String> names = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        List<SQLType> columnTypes = new ArrayList<>();
+        List<UUID> references = new ArrayList<>();
+        names.add("id");
+        names.add("class");
+        values.add(this.primaryKey.toString());
+        values.add(this.clazz.getName());
+        columnTypes.add(SQLType.KEY);
+        columnTypes.add(SQLType.TEXT);
 
         for(var entry : this.data.entrySet()){
-            String name = this.serializeKey(entry.getKey());
             String value = entry.getValue();
             if(value != null && !value.equals(NullSerializable.CODON)){
-                names.append(", ").append(name);
-                values.append(", '").append(value).append("'");
+                SQLType type = this.getColumnType(entry.getKey());
+                if(!type.accepts(value)){
+                    //NaN and infinite values are kept in the companion column, the column itself stays NULL
+                    names.add(SQLType.nonFiniteColumn(this.serializeKey(entry.getKey())));
+                    values.add(value);
+                    columnTypes.add(SQLType.VARCHAR);
+                    continue;
+                }
+
+                names.add(this.serializeKey(entry.getKey()));
+                values.add(value);
+                columnTypes.add(type);
+
+                if(this.isReference(entry.getKey()))
+                    references.add(UUID.fromString(value));
             }
         }
 
+        String sql = SQLTable.of(this.tableName).insert(names);
+        if(this.batch != null){
+            this.batch.addRow(this.primaryKey, sql, values, columnTypes, references);
+            this.batch.onCommit(() -> this.persisted = true);
+        }else{
+            this.connection.update(sql, values, columnTypes);
+        }
+    }
 
-        names = new StringBuilder(names.substring(2));
-        values = new StringBuilder(values.substring(2));
+    /**
+     * @param name The name of a value.
+     * @return True iff the value is the primary key of a complex object in another table.
+     */
+    private boolean isReference(@NotNull String name){
+        Class<?> type = this.types.get(name);
+        return type != null && SQLType.of(type).isEmpty();
+    }
 
-        sql = sql.replace("types", names.toString()).replace("values", values.toString());
-        this.connection.update(sql);
+    /**
+     * Get the type of the column that stores a value. The column type is taken from the field layout of the class, so
+     * that a field declared as Object, which may hold values of different types, is stored as text. Values without a
+     * known type, e.g. null values, are stored as text as well.
+     *
+     * @param name The name of the value.
+     * @return The column type.
+     */
+    @NotNull
+    private SQLType getColumnType(@NotNull String name){
+        Class<?> type = this.types.get(name);
+        if(type == null)
+            return SQLType.TEXT;
+
+        Optional<SQLType> sqlType = SQLType.of(type);
+        if(sqlType.isEmpty())
+            return SQLType.KEY;
+
+        Optional<Class<?>> declared = this.layout.getFieldType(name);
+        if(declared.isPresent()){
+            Class<?> field = declared.get().isEnum() ? Enum.class : declared.get();
+            if(!SQLType.of(field).equals(sqlType))
+                return SQLType.TEXT;
+        }
+
+        return sqlType.get();
+    }
 
+    /**
+     * Read a column of the current row in the format of the values of this object, i.e. booleans are read as 1 or 0.
+     *
+     * @param rs The result set.
+     * @param index The index of the column, starting at 1.
+     * @return The value of the column or null, if the value is SQL NULL.
+     * @throws SQLException If the column could not be read.
+     */
+    static String readColumn(@NotNull ResultSet rs, int index) throws SQLException {
+        Object value = SQLType.read(rs, index);
+        if(value instanceof Boolean bool)
+            return bool ? "1" : "0";
+
+        return value == null ? null : value.toString();
     }
 
     /**
@@ -567,17 +872,25 @@ public class SQLSerializedObject extends ByteSerializedObject {
      */
     @NotNull
     private Map<String, String> getForeignKeys() {
+        return getForeignKeys(this.connection, this.tableName);
+    }
+
+    /**
+     * Get the foreign keys of the given table from the schema cache of the connection.
+     *
+     * @param connection The connection to the SQL database.
+     * @param tableName The name of the table.
+     * @return A map containing the column names as the keys and the referred tables as values to the keys.
+     */
+    @NotNull
+    static Map<String, String> getForeignKeys(@NotNull SQLConnection connection, @NotNull String tableName) {
         Map<String, String> map = new HashMap<>();
-        if(!this.connection.isConnected())
+        if(!connection.isConnected())
             return map;
 
         try{
-            DatabaseMetaData meta = this.connection.getConnection().getMetaData();
-            ResultSet rs = meta.getImportedKeys(this.connection.getConnection().getCatalog(), null, this.tableName);
-            while(rs.next()){
-                String table = rs.getString("PKTABLE_NAME");
-                String name = rs.getString("FKCOLUMN_NAME");
-                map.put(this.deserializeKey(name), table);
+            for(var entry : connection.getSchema().getForeignKeys(tableName).entrySet()){
+                map.put(deserializeKey(entry.getKey()), entry.getValue());
             }
 
         }catch(SQLException e){
@@ -597,7 +910,8 @@ public class SQLSerializedObject extends ByteSerializedObject {
      */
     @NotNull
     public static Class<?> getClass(@NotNull SQLConnection connection, @NotNull String table, @NotNull String key){
-        try(PreparedStatement pst = connection.getConnection().prepareStatement("SELECT class FROM " + table + " WHERE id = '" + key + "'")){
+        try(Connection con = connection.borrow(); PreparedStatement pst = con.prepareStatement(SQLTable.of(table).select("class"))){
+            pst.setString(1, key);
             ResultSet rs = pst.executeQuery();
             if(rs.next()){
                 return Class.forName(rs.getString("class"));
@@ -644,7 +958,12 @@ public class SQLSerializedObject extends ByteSerializedObject {
      * @see SQLSerializedObject#serializeKey(String)
      */
     @NotNull
-    private String deserializeKey(@NotNull String columnName){
+    static String deserializeKey(@NotNull String columnName){
+        if(columnName.endsWith(SQLType.NON_FINITE_SUFFIX)){
+            String column = columnName.substring(0, columnName.length() - SQLType.NON_FINITE_SUFFIX.length());
+            return deserializeKey(column) + SQLType.NON_FINITE_SUFFIX;
+        }
+
         if(columnName.contains("-")){
             String[] encoded = columnName.split("-");
             char[] array = new char[encoded.length];
@@ -671,8 +990,9 @@ public class SQLSerializedObject extends ByteSerializedObject {
      */
     private void restore() {
         this.complexObjects.clear();
+        this.references.clear();
         this.data.clear();
-        this.foreignKeys.clear();
+        this.loader = null; //rows fetched before the write are outdated
         try {
             this.foreignKeys = this.getForeignKeys();
             this.data = this.readFromTable();
@@ -688,7 +1008,8 @@ public class SQLSerializedObject extends ByteSerializedObject {
      * @return True iff there is a row with the given primary key uuid.
      */
     private boolean isPresent(@NotNull UUID uuid){
-        try(PreparedStatement pst = this.connection.getConnection().prepareStatement("SELECT COUNT(*) FROM " + this.tableName + " WHERE id = '" + uuid + "'")){
+        try(Connection con = this.connection.borrow(); PreparedStatement pst = con.prepareStatement(SQLTable.of(this.tableName).count())){
+            pst.setString(1, uuid.toString());
             ResultSet rs = pst.executeQuery();
             if(rs.next()){
                 return rs.getInt(1) != 0;
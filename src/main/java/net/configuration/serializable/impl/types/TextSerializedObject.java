@@ -6,6 +6,7 @@ import net.configuration.serializable.api.Creator;
 import net.configuration.serializable.api.SerializableObject;
 import net.configuration.serializable.api.SerializationException;
 import net.configuration.serializable.api.SerializedObject;
+import net.configuration.serializable.impl.BinaryWriter;
 import net.configuration.serializable.impl.NullSerializable;
 import net.configuration.serializable.impl.SerializationHelper;
 import org.jetbrains.annotations.NotNull;
@@ -14,15 +15,17 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class TextSerializedObject extends ByteSerializedObject{
 
     private static final char NESTED_BEGIN = '{';
     private static final char NESTED_END = '}';
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{(\\d+)}");
 
     @SuppressWarnings("unused")
     public TextSerializedObject(@NotNull Class<?> clazz) {
@@ -152,6 +155,17 @@ public class TextSerializedObject extends ByteSerializedObject{
         return Optional.empty();
     }
 
+    @Override
+    protected void setPackedArray(@NotNull String name, byte @NotNull [] packed) {
+        //the text representation only contains the string entries and no raw entries
+        this.setPackedString(name, packed);
+    }
+
+    @Override
+    protected Optional<ByteBuffer> getPackedArray(@NotNull String name) {
+        return this.getPackedString(name);
+    }
+
     @Override
     public String toString() {
         StringBuilder str = new StringBuilder("{");
@@ -224,22 +238,39 @@ public class TextSerializedObject extends ByteSerializedObject{
         }
 
 
-        int i = 0;
         for(String e : data.split("<br>")){
-            String[] d = e.split(":");
-            String key = d[0];
-            String value = d[1];
-
-            if(value.startsWith(String.valueOf(NESTED_BEGIN)) && value.endsWith(String.valueOf(NESTED_END)))
-                value = nestedStrings.get(i++).value;
-
-            map.put(key, value);
+            String[] d = e.split(":", 2);
+            map.put(d[0], restoreNested(d[1], nestedStrings));
         }
 
         return map;
 
     }
 
+    /**
+     * Replace the placeholders of nested strings in the given value with the nested strings themselves. A placeholder
+     * is either the whole value, for a nested object, or a part of it, for example each element of a list of objects.
+     *
+     * @param value The value with placeholders of the form {index}.
+     * @param nestedStrings The nested strings in the order of their indices.
+     * @return The value with the original nested strings.
+     */
+    @NotNull
+    private static String restoreNested(@NotNull String value, @NotNull List<Nested> nestedStrings){
+        if(value.indexOf(NESTED_BEGIN) < 0)
+            return value;
+
+        Matcher matcher = PLACEHOLDER.matcher(value);
+        StringBuilder restored = new StringBuilder();
+        while(matcher.find()){
+            String nested = nestedStrings.get(Integer.parseInt(matcher.group(1))).value;
+            matcher.appendReplacement(restored, Matcher.quoteReplacement(nested));
+        }
+        matcher.appendTail(restored);
+
+        return restored.toString();
+    }
+
     /**
      * Convert the current name - value map into a byte[] representation.
      *
@@ -247,24 +278,10 @@ public class TextSerializedObject extends ByteSerializedObject{
      * @return The byte[] representation of the map.
      */
     private static ByteBuffer convertMapToBuffer(@NotNull Map<String, String> map){
-        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
-        for(var e : map.entrySet()){
-            byte[] entry = (e.getKey() + "{;}" + e.getValue()).getBytes(StandardCharsets.UTF_8);
-            buffer.putInt(entry.length);
-            buffer.put(entry);
+        try(BinaryWriter writer = BinaryWriter.acquire()){
+            writeEntries(writer, map);
+            return ByteBuffer.wrap(writer.toByteArray());
         }
-
-        //Trim the byte array to the current size to avoid unused memory
-        int pos = buffer.position();
-        if(pos != 0){
-            byte[] flushedData = new byte[pos];
-            for(int i = 0; i < pos; i++){
-                flushedData[i] = buffer.get(i);
-            }
-            buffer = ByteBuffer.wrap(flushedData);
-        }
-
-        return buffer;
     }
 
     /**
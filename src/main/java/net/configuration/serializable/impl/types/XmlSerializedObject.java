@@ -6,7 +6,6 @@ import net.configuration.serializable.api.SerializationException;
 import net.configuration.serializable.api.SerializedObject;
 import net.configuration.serializable.impl.NullSerializable;
 import net.configuration.serializable.impl.SerializationHelper;
-import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jdom2.Document;
 import org.jdom2.Element;
@@ -284,16 +283,8 @@ public class XmlSerializedObject extends AbstractSerializedObject{
 
     @Override
     public boolean isNextNull(@NotNull String name, @NotNull Class<?> type) {
-        if(type.isPrimitive())
-            type = ClassUtils.primitiveToWrapper(type);
-
         Object read = this.get0(name);
         boolean nullValue = read == null || read.toString().equals(NullSerializable.CODON);
-
-        if(!nullValue){ //if not-null reset pointer
-            this.fieldPointer.computeIfPresent(type, (key, value) -> fieldPointer.put(key, value-1));
-        }
-
         return nullValue;
     }
 
@@ -303,7 +294,7 @@ public class XmlSerializedObject extends AbstractSerializedObject{
             return Optional.empty();
 
         List<Integer> list = new ArrayList<>();
-        String[] raw = this.get0(name).split(", ");
+        String[] raw = splitList(this.get0(name));
         for(String e : raw){
             list.add(Integer.valueOf(e));
         }
@@ -322,7 +313,7 @@ public class XmlSerializedObject extends AbstractSerializedObject{
             return Optional.empty();
 
         List<Long> list = new ArrayList<>();
-        String[] raw = this.get0(name).split(", ");
+        String[] raw = splitList(this.get0(name));
         for(String e : raw){
             list.add(Long.valueOf(e));
         }
@@ -341,7 +332,7 @@ public class XmlSerializedObject extends AbstractSerializedObject{
             return Optional.empty();
 
         List<Double> list = new ArrayList<>();
-        String[] raw = this.get0(name).split(", ");
+        String[] raw = splitList(this.get0(name));
         for(String e : raw){
             list.add(Double.valueOf(e));
         }
@@ -360,7 +351,7 @@ public class XmlSerializedObject extends AbstractSerializedObject{
             return Optional.empty();
 
         List<Byte> list = new ArrayList<>();
-        String[] raw = this.get0(name).split(", ");
+        String[] raw = splitList(this.get0(name));
         for(String e : raw){
             list.add(Byte.valueOf(e));
         }
@@ -378,7 +369,7 @@ public class XmlSerializedObject extends AbstractSerializedObject{
         if(this.doesNotContain0(name))
             return Optional.empty();
 
-        String[] raw = this.get0(name).split(", ");
+        String[] raw = splitList(this.get0(name));
         List<String> list = new ArrayList<>(Arrays.asList(raw));
 
         return Optional.of(list);
@@ -581,7 +572,8 @@ public class XmlSerializedObject extends AbstractSerializedObject{
         for(var e : list){
             str.append(", ").append(e);
         }
-        str = new StringBuilder(str.substring(2));
+        if(!str.isEmpty())
+            str.delete(0, 2);
 
         return str.toString();
     }
@@ -4,7 +4,6 @@ import net.configuration.serializable.api.*;
 import net.configuration.serializable.impl.NullSerializable;
 import net.configuration.serializable.impl.SerializationHelper;
 import org.apache.commons.io.IOUtils;
-import org.apache.commons.lang3.ClassUtils;
 import org.jetbrains.annotations.NotNull;
 import org.simpleyaml.configuration.ConfigurationSection;
 import org.simpleyaml.configuration.file.YamlConfiguration;
@@ -250,16 +249,8 @@ public class YamlSerializedObject extends AbstractSerializedObject{
 
     @Override
     public boolean isNextNull(@NotNull String name, @NotNull Class<?> type) {
-        if(type.isPrimitive())
-            type = ClassUtils.primitiveToWrapper(type);
-
         Object read = this.data.get(this.ymlPrefix + name);
         boolean nullValue = read == null || read.toString().equals(NullSerializable.CODON);
-
-        if(!nullValue){ //if not-null reset pointer
-            this.fieldPointer.computeIfPresent(type, (key, value) -> fieldPointer.put(key, value-1));
-        }
-
         return nullValue;
     }
 
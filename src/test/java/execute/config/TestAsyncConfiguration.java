@@ -0,0 +1,100 @@
+package execute.config;
+
+import net.configuration.config.Configuration;
+import net.configuration.config.FileConfiguration;
+import net.configuration.config.impl.SQLConfiguration;
+import net.configuration.network.SQLConnection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.ref.WeakReference;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestAsyncConfiguration {
+
+    @Test
+    @DisplayName("Test Coalescing Of Asynchronous Saves")
+    void testCoalescing() {
+        SQLConnection connection = new SQLConnection("jdbc:h2:mem:asyncConfig;MODE=MySQL;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1", "sa", "");
+        assertTrue(connection.connect());
+
+        //run the tasks by hand, so that the order of requests and writes is known
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        Executor executor = tasks::add;
+
+        UUID key = UUID.randomUUID();
+        SQLConfiguration config = new SQLConfiguration(connection, "async", key);
+        config.setInt("level", 1);
+        CompletableFuture<Boolean> first = config.saveAsync(executor);
+
+        //saves requested while the first one is running are merged into one
+        config.setInt("level", 2);
+        CompletableFuture<Boolean> second = config.saveAsync(executor);
+        config.setInt("level", 3);
+        CompletableFuture<Boolean> third = config.saveAsync(executor);
+        assertSame(second, third);
+        assertNotSame(first, second);
+
+        //a reload is not merged with saves and runs after them
+        CompletableFuture<Boolean> reload = config.reloadAsync(executor);
+        assertEquals(1, tasks.size());
+
+        int writes = 0;
+        while(!tasks.isEmpty()){
+            tasks.poll().run();
+            writes++;
+        }
+
+        assertEquals(3, writes);
+        assertTrue(first.join() && second.join() && reload.join());
+        assertEquals(3, new SQLConfiguration(connection, "async", key).getInt("level").orElseThrow());
+
+        connection.disconnect();
+    }
+
+    @Test
+    @DisplayName("Test Default Executor")
+    void testDefaultExecutor() throws Exception {
+        SQLConnection connection = new SQLConnection("jdbc:h2:mem:asyncDefault;MODE=MySQL;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1", "sa", "");
+        assertTrue(connection.connect());
+
+        UUID key = UUID.randomUUID();
+        SQLConfiguration config = new SQLConfiguration(connection, "async", key);
+        config.setString("name", "background");
+        assertTrue(config.saveAsync().get(10, TimeUnit.SECONDS));
+        assertEquals("background", new SQLConfiguration(connection, "async", key).getString("name").orElseThrow());
+
+        connection.disconnect();
+    }
+
+    @Test
+    @DisplayName("Test Idle Configurations Are Released")
+    void testRelease(@TempDir Path dir) throws InterruptedException {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        Configuration config = FileConfiguration.loadConfig(dir.resolve("release.properties").toFile());
+        config.setInt("level", 1);
+        CompletableFuture<Boolean> save = config.saveAsync(tasks::add);
+        while(!tasks.isEmpty())
+            tasks.poll().run();
+        assertTrue(save.join());
+
+        //nothing is queued anymore, so the configuration can be collected
+        WeakReference<Configuration> reference = new WeakReference<>(config);
+        config = null;
+        for(int i = 0; i < 50 && reference.get() != null; i++){
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertNull(reference.get());
+    }
+}
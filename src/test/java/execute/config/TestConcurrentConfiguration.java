@@ -0,0 +1,96 @@
+package execute.config;
+
+import net.configuration.config.ConcurrentConfiguration;
+import net.configuration.config.Configuration;
+import net.configuration.config.FileConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestConcurrentConfiguration {
+
+    @Test
+    @DisplayName("Test Reads While Reloading")
+    void testReload(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("concurrent.json");
+        Files.writeString(file, "{\"server\": {\"port\": 1, \"name\": \"one\"}}", StandardCharsets.UTF_8);
+        Configuration config = new ConcurrentConfiguration(FileConfiguration.loadConfig(file.toFile()));
+        assertEquals(1, config.getInt("server.port").orElseThrow());
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        List<Future<Integer>> results = new ArrayList<>();
+        for(int i = 0; i < 4; i++){
+            results.add(readers.submit(() -> {
+                int reads = 0;
+                while(running.get()){
+                    int port = config.getInt("server.port").orElseThrow();
+                    assertTrue(port == 1 || port == 2, "Unexpected port " + port);
+                    assertTrue(config.getString("server.name").isPresent());
+                    reads++;
+                }
+                return reads;
+            }));
+        }
+
+        for(int i = 0; i < 50; i++){
+            Files.writeString(file, "{\"server\": {\"port\": " + (i % 2 + 1) + ", \"name\": \"one\"}}", StandardCharsets.UTF_8);
+            assertTrue(config.reload());
+        }
+
+        running.set(false);
+        for(Future<Integer> result : results)
+            assertTrue(result.get(10, TimeUnit.SECONDS) > 0);
+        readers.shutdown();
+
+        //the last file contains port 2 and the reload published it
+        assertEquals(2, config.getInt("server.port").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Test Copy On Write")
+    void testWrite(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("concurrent.json");
+        Files.writeString(file, "{\"port\": 1, \"ids\": [1, 2]}", StandardCharsets.UTF_8);
+        Configuration config = new ConcurrentConfiguration(FileConfiguration.loadConfig(file.toFile()));
+
+        assertEquals(1, config.getInt("port").orElseThrow());
+        config.setInt("port", 3);
+        assertEquals(3, config.getInt("port").orElseThrow());
+
+        //lists are shared between readers and must not be changed
+        List<Integer> ids = config.getList("ids", Integer.class).orElseThrow();
+        assertThrows(UnsupportedOperationException.class, () -> ids.add(3));
+    }
+
+    @Test
+    @DisplayName("Test List With Null Elements")
+    void testNullElements(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("concurrent.json");
+        Files.writeString(file, "{\"port\": 1}", StandardCharsets.UTF_8);
+        Configuration loaded = FileConfiguration.loadConfig(file.toFile());
+
+        //none of the file formats reads null elements, so the wrapped configuration returns them directly
+        Configuration wrapped = (Configuration) Proxy.newProxyInstance(Configuration.class.getClassLoader(), new Class<?>[]{Configuration.class},
+                (proxy, method, args) -> method.getName().equals("getList") ? Optional.of(Arrays.asList("a", null, "c")) : method.invoke(loaded, args));
+        Configuration config = new ConcurrentConfiguration(wrapped);
+
+        List<String> names = config.getList("names", String.class).orElseThrow();
+        assertEquals(Arrays.asList("a", null, "c"), names);
+        assertThrows(UnsupportedOperationException.class, () -> names.set(1, "b"));
+    }
+}
@@ -0,0 +1,75 @@
+package execute.config;
+
+import net.configuration.config.ConfigPath;
+import net.configuration.config.Configuration;
+import net.configuration.config.FileConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestConfigPath {
+
+    private static final ConfigPath PORT = ConfigPath.of("server.network.port");
+    private static final ConfigPath NETWORK = ConfigPath.of("server.network");
+
+    @Test
+    @DisplayName("Test Path Compilation")
+    void testCompile() {
+        assertSame(PORT, ConfigPath.of("server.network.port"));
+        assertEquals(3, PORT.size());
+        assertEquals("network", PORT.getPart(1));
+        assertEquals("port", PORT.getName());
+        assertEquals("server.network.port", PORT.toString());
+
+        assertTrue(PORT.startsWith(NETWORK));
+        assertFalse(NETWORK.startsWith(PORT));
+        assertFalse(ConfigPath.of("serv").isNested());
+        assertFalse(PORT.startsWith(ConfigPath.of("serv")));
+        assertEquals(1, ConfigPath.of("server.").size());
+    }
+
+    @Test
+    @DisplayName("Test Cached Json Lookups")
+    void testJson(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("paths.json");
+        Files.writeString(file, "{\"server\": {\"network\": {\"port\": 25565}}}", StandardCharsets.UTF_8);
+        this.checkLookups(FileConfiguration.loadConfig(file.toFile()));
+    }
+
+    @Test
+    @DisplayName("Test Cached Xml Lookups")
+    void testXml(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("paths.xml");
+        Files.writeString(file, "<config><server><network><port>25565</port></network></server></config>", StandardCharsets.UTF_8);
+        this.checkLookups(FileConfiguration.loadConfig(file.toFile()));
+    }
+
+    private void checkLookups(Configuration config){
+        assertTrue(config.hasMember(PORT));
+        assertEquals(25565, config.getInt(PORT).orElseThrow());
+        assertEquals(25565, config.getInt("server.network.port").orElseThrow());
+        assertFalse(config.hasMember("server.other.port"));
+
+        //the compiled overloads read the same values as the string ones
+        assertEquals(25565, config.getInt(PORT, -1));
+        assertEquals(-1, config.getInt(ConfigPath.of("server.other.port"), -1));
+        assertEquals("25565", config.getString(PORT).orElseThrow());
+        assertEquals(25565L, config.getLong(PORT).orElseThrow());
+        assertEquals(25565, config.get(PORT, Integer.class).orElseThrow());
+
+        //writes are visible to cached paths
+        config.setInt(PORT, 25566);
+        assertEquals(25566, config.getInt(PORT).orElseThrow());
+
+        //reloading drops the unsaved value and the cached nodes of the old tree
+        assertTrue(config.reload());
+        assertEquals(25565, config.getInt(PORT).orElseThrow());
+    }
+}
@@ -0,0 +1,101 @@
+package execute.config;
+
+import net.configuration.config.ConfigurationWatcher;
+import net.configuration.config.FileConfiguration;
+import net.configuration.config.impl.PropertiesConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestConfigurationWatcher {
+
+    @Test
+    @DisplayName("Test Hot Reload")
+    void testHotReload(@TempDir Path dir) throws IOException, InterruptedException {
+        Path file = dir.resolve("watched.json");
+        Files.writeString(file, "{\"server\": {\"port\": 1, \"name\": \"one\"}}", StandardCharsets.UTF_8);
+        FileConfiguration config = FileConfiguration.loadConfig(file.toFile());
+
+        BlockingQueue<Set<String>> reloads = new LinkedBlockingQueue<>();
+        try(ConfigurationWatcher watcher = new ConfigurationWatcher(Duration.ofMillis(50))){
+            watcher.register(config, (c, changed) -> reloads.add(changed));
+
+            //a burst of writes results in one reload with the changed paths only
+            Files.writeString(file, "{\"server\": {\"port\": 2, \"name\": \"one\"}}", StandardCharsets.UTF_8);
+            Files.writeString(file, "{\"server\": {\"port\": 25, \"name\": \"one\"}}", StandardCharsets.UTF_8);
+            assertEquals(Set.of("server.port"), reloads.poll(10, TimeUnit.SECONDS));
+            assertEquals(25, config.getInt("server.port").orElseThrow());
+
+            //touching the file without changing its content does not reload it
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+            assertNull(reloads.poll(500, TimeUnit.MILLISECONDS));
+
+            watcher.unregister(config);
+            Files.writeString(file, "{\"server\": {\"port\": 3}}", StandardCharsets.UTF_8);
+            assertNull(reloads.poll(500, TimeUnit.MILLISECONDS));
+            assertEquals(25, config.getInt("server.port").orElseThrow());
+        }
+    }
+
+    @Test
+    @DisplayName("Test Reload Of Malformed File")
+    void testMalformedFile(@TempDir Path dir) throws IOException, InterruptedException {
+        Path file = dir.resolve("malformed.json");
+        Files.writeString(file, "{\"port\": 1}", StandardCharsets.UTF_8);
+        FileConfiguration config = FileConfiguration.loadConfig(file.toFile());
+
+        BlockingQueue<Set<String>> reloads = new LinkedBlockingQueue<>();
+        try(ConfigurationWatcher watcher = new ConfigurationWatcher(Duration.ofMillis(50))){
+            watcher.register(config, (c, changed) -> reloads.add(changed));
+
+            //a failed reload keeps the old values and does not notify the listener
+            Files.writeString(file, "{\"port\": ", StandardCharsets.UTF_8);
+            assertNull(reloads.poll(500, TimeUnit.MILLISECONDS));
+            assertEquals(1, config.getInt("port").orElseThrow());
+
+            //the watcher is still running and picks up the repaired file
+            Files.writeString(file, "{\"port\": 2}", StandardCharsets.UTF_8);
+            assertEquals(Set.of("port"), reloads.poll(10, TimeUnit.SECONDS));
+            assertEquals(2, config.getInt("port").orElseThrow());
+        }
+    }
+
+    @Test
+    @DisplayName("Test Reload Of Unlisted Values")
+    void testUnknownChanges(@TempDir Path dir) throws IOException, InterruptedException {
+        Path file = dir.resolve("unlisted.properties");
+        Files.writeString(file, "port=1", StandardCharsets.UTF_8);
+
+        //a configuration that does not list its values
+        FileConfiguration config = new PropertiesConfiguration(file.toFile()){
+            @Override
+            protected Map<String, String> getValues() {
+                return null;
+            }
+        };
+
+        BlockingQueue<Set<String>> reloads = new LinkedBlockingQueue<>();
+        try(ConfigurationWatcher watcher = new ConfigurationWatcher(Duration.ofMillis(50))){
+            watcher.register(config, (c, changed) -> reloads.add(changed));
+
+            Files.writeString(file, "port=2", StandardCharsets.UTF_8);
+            assertEquals(Set.of(), reloads.poll(10, TimeUnit.SECONDS));
+            assertEquals(2, config.getInt("port").orElseThrow());
+        }
+    }
+}
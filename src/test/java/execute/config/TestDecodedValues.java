@@ -0,0 +1,49 @@
+package execute.config;
+
+import net.configuration.config.Configuration;
+import net.configuration.config.FileConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestDecodedValues {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"properties", "txt", "bin", "data"})
+    @DisplayName("Test Cached Decoded Values")
+    void testCache(String extension, @TempDir Path dir) {
+        Configuration config = FileConfiguration.loadConfig(dir.resolve("decoded." + extension).toFile());
+        config.setInt("port", 25565);
+        config.setList("ids", List.of(1, 2, 3));
+
+        //repeated reads return the cached value instead of parsing the string again
+        Optional<Integer> port = config.getInt("port");
+        assertEquals(25565, port.orElseThrow());
+        assertSame(port, config.getInt("port"));
+        assertSame(config.getList("ids", Integer.class), config.getList("ids", Integer.class));
+
+        //cached lists are shared and therefore immutable
+        List<Integer> ids = config.getList("ids", Integer.class).orElseThrow();
+        assertEquals(List.of(1, 2, 3), ids);
+        assertThrows(UnsupportedOperationException.class, () -> ids.add(4));
+
+        //a write replaces the cached value
+        config.setInt("port", 25566);
+        assertEquals(25566, config.getInt("port").orElseThrow());
+        assertEquals("25566", config.getString("port").orElseThrow());
+
+        //a reload drops the unsaved value
+        assertTrue(config.save());
+        config.setInt("port", 1);
+        assertEquals(1, config.getInt("port").orElseThrow());
+        assertTrue(config.reload());
+        assertEquals(25566, config.getInt("port").orElseThrow());
+    }
+}
@@ -274,6 +274,7 @@ class TestFileConfigurations {
     private Map<SerializableType, String> getFileNames() {
         Map<SerializableType, String> fileNames = new HashMap<>();
         fileNames.put(SerializableType.BYTE, "testConfigByte.data");
+        fileNames.put(SerializableType.BINARY, "testConfigBinary.bin");
         fileNames.put(SerializableType.JSON, "testConfigJson.json");
         fileNames.put(SerializableType.PROPERTIES, "testConfigProperties.properties");
         fileNames.put(SerializableType.TEXT, "testConfigText.txt");
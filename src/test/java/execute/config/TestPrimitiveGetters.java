@@ -0,0 +1,122 @@
+package execute.config;
+
+import net.configuration.config.ConcurrentConfiguration;
+import net.configuration.config.Configuration;
+import net.configuration.config.FileConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class TestPrimitiveGetters {
+
+    private static final int ITERATIONS = 100_000;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"properties", "txt", "bin", "data", "json", "xml"})
+    @DisplayName("Test Primitive Getters With Defaults")
+    void testDefaults(String extension, @TempDir Path dir) throws IOException {
+        FileConfiguration config = load(dir, extension);
+        fill(config);
+        assertValues(config);
+
+        //missing values return the default
+        assertEquals(-1, config.getInt("missing", -1));
+        assertEquals(-2L, config.getLong("missing", -2L));
+        assertEquals(-3.5, config.getDouble("missing", -3.5));
+        assertTrue(config.getBoolean("missing", true));
+
+        //values that were read from the file
+        config.save();
+        assertTrue(config.reload());
+        assertValues(config);
+
+        //a write is visible to the next read
+        config.setInt("port", 25566);
+        assertEquals(25566, config.getInt("port", -1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"properties", "txt", "bin", "data", "json", "xml"})
+    @DisplayName("Test Primitive Getters Do Not Allocate")
+    void testAllocation(String extension, @TempDir Path dir) throws IOException {
+        FileConfiguration config = load(dir, extension);
+        fill(config);
+        config.save();
+        assertTrue(config.reload());
+
+        assertNoAllocation(config);
+    }
+
+    @Test
+    @DisplayName("Test Concurrent Primitive Getters Do Not Allocate")
+    void testConcurrentAllocation(@TempDir Path dir) throws IOException {
+        Configuration config = new ConcurrentConfiguration(load(dir, "json"));
+        fill(config);
+        assertValues(config);
+
+        assertNoAllocation(config);
+    }
+
+    private static FileConfiguration load(Path dir, String extension) throws IOException {
+        Path file = dir.resolve("primitive." + extension);
+        if(extension.equals("json"))
+            Files.writeString(file, "{}", StandardCharsets.UTF_8);
+
+        return FileConfiguration.loadConfig(file.toFile());
+    }
+
+    private static void fill(Configuration config) {
+        config.setInt("port", 25565);
+        config.setLong("seed", 123456789012L);
+        config.setDouble("ratio", 0.75);
+        config.setBoolean("debug", true);
+    }
+
+    private static void assertValues(Configuration config) {
+        assertEquals(25565, config.getInt("port", -1));
+        assertEquals(123456789012L, config.getLong("seed", -1L));
+        assertEquals(0.75, config.getDouble("ratio", -1.0));
+        assertTrue(config.getBoolean("debug", false));
+    }
+
+    /**
+     * Read the values in a loop and check that the reads allocate less than a byte per iteration. A single boxed
+     * value or optional per read would allocate at least 16 bytes per iteration.
+     */
+    private static void assertNoAllocation(Configuration config) {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+
+        long sum = readAll(config);
+        long before = bean.getCurrentThreadAllocatedBytes();
+        sum += readAll(config);
+        long allocated = bean.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(2L * ITERATIONS * (25565 + 123456789012L + 1 + 1), sum);
+        assertTrue(allocated < ITERATIONS, "Allocated " + allocated + " bytes in " + ITERATIONS + " iterations");
+    }
+
+    private static long readAll(Configuration config) {
+        long sum = 0;
+        for(int i = 0; i < ITERATIONS; i++){
+            sum += config.getInt("port", 0);
+            sum += config.getLong("seed", 0L);
+            sum += config.getDouble("ratio", 0.0) > 0.5 ? 1 : 0;
+            sum += config.getBoolean("debug", false) ? 1 : 0;
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,128 @@
+package execute.config;
+
+import net.configuration.config.impl.SQLConfiguration;
+import net.configuration.network.SQLConnection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestSQLConfiguration {
+
+    @Test
+    @DisplayName("Test Upsert Of Changed Values")
+    void testUpsert() throws SQLException {
+        SQLConnection connection = new SQLConnection("jdbc:h2:mem:sqlConfig;MODE=MySQL;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1", "sa", "");
+        connection.enablePooling(1, 2, 1000, 60000);
+        assertTrue(connection.connect());
+
+        UUID key = UUID.randomUUID();
+        SQLConfiguration config = new SQLConfiguration(connection, "config", key);
+        config.setInt("port", 25565);
+        config.setString("motd", "hello");
+        assertTrue(config.save());
+
+        //saving the same key again updates the row instead of inserting a second one
+        config.setInt("port", 25566);
+        assertTrue(config.save());
+        assertEquals(1, this.countRows(connection));
+
+        //an unchanged configuration is not written at all
+        long borrowed = connection.getPoolMetrics().orElseThrow().borrowed();
+        config.setString("motd", "hello");
+        assertTrue(config.save());
+        assertEquals(borrowed, connection.getPoolMetrics().orElseThrow().borrowed());
+
+        //values that are new to the table get their own column
+        config.setBoolean("whitelist", true);
+        assertTrue(config.save());
+
+        SQLConfiguration read = new SQLConfiguration(connection, "config", key);
+        assertEquals(25566, read.getInt("port").orElseThrow());
+        assertEquals("hello", read.getString("motd").orElseThrow());
+        assertTrue(read.getBoolean("whitelist").orElseThrow());
+        assertEquals(1, this.countRows(connection));
+
+        connection.disconnect();
+    }
+
+    @Test
+    @DisplayName("Test Non Finite Values")
+    void testNonFiniteValues() {
+        SQLConnection connection = new SQLConnection("jdbc:h2:mem:sqlConfigNonFinite;MODE=MySQL;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1", "sa", "");
+        assertTrue(connection.connect());
+
+        //DOUBLE and FLOAT columns cannot store NaN or an infinite value, so they are kept in the companion columns
+        UUID key = UUID.randomUUID();
+        SQLConfiguration config = new SQLConfiguration(connection, "measurements", key);
+        config.setDouble("ratio", Double.NaN);
+        config.setFloat("scale", Float.POSITIVE_INFINITY);
+        assertTrue(config.save());
+
+        SQLConfiguration read = new SQLConfiguration(connection, "measurements", key);
+        assertTrue(Double.isNaN(read.getDouble("ratio").orElseThrow()));
+        assertEquals(Float.POSITIVE_INFINITY, read.getFloat("scale").orElseThrow());
+
+        //a finite value clears the companion column and a new value gets its companion column as well
+        config.setDouble("ratio", 0.75);
+        config.setFloat("scale", Float.NEGATIVE_INFINITY);
+        config.setDouble("drift", Double.NEGATIVE_INFINITY);
+        assertTrue(config.save());
+
+        read = SQLConfiguration.loadAll(connection, "measurements", List.of(key)).get(key);
+        assertEquals(0.75, read.getDouble("ratio").orElseThrow());
+        assertEquals(Float.NEGATIVE_INFINITY, read.getFloat("scale").orElseThrow());
+        assertEquals(Double.NEGATIVE_INFINITY, read.getDouble("drift").orElseThrow());
+
+        connection.disconnect();
+    }
+
+    @Test
+    @DisplayName("Test Bulk Loading")
+    void testBulkLoad() {
+        SQLConnection connection = new SQLConnection("jdbc:h2:mem:sqlConfigBulk;MODE=MySQL;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1", "sa", "");
+        connection.enablePooling(1, 2, 1000, 60000);
+        assertTrue(connection.connect());
+
+        List<UUID> keys = new ArrayList<>();
+        for(int i = 0; i < 700; i++){
+            UUID key = UUID.randomUUID();
+            SQLConfiguration config = new SQLConfiguration(connection, "entities", key);
+            config.setInt("index", i);
+            assertTrue(config.save());
+            keys.add(key);
+        }
+
+        //more keys than fit into one statement, plus a key without a row
+        UUID missing = UUID.randomUUID();
+        keys.add(missing);
+        long borrowed = connection.getPoolMetrics().orElseThrow().borrowed();
+        Map<UUID, SQLConfiguration> configs = SQLConfiguration.loadAll(connection, "entities", keys);
+        assertTrue(connection.getPoolMetrics().orElseThrow().borrowed() - borrowed <= 2);
+
+        assertEquals(keys, List.copyOf(configs.keySet()));
+        for(int i = 0; i < 700; i++)
+            assertEquals(i, configs.get(keys.get(i)).getInt("index").orElseThrow());
+        assertTrue(configs.get(missing).getInt("index").isEmpty());
+
+        Set<Integer> scanned = new HashSet<>();
+        SQLConfiguration.scan(connection, "entities", 64, config -> scanned.add(config.getInt("index").orElseThrow()));
+        assertEquals(700, scanned.size());
+
+        connection.disconnect();
+    }
+
+    private int countRows(SQLConnection connection) throws SQLException {
+        try(Connection con = connection.borrow(); Statement st = con.createStatement()){
+            ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM config");
+            assertTrue(rs.next());
+            return rs.getInt(1);
+        }
+    }
+}
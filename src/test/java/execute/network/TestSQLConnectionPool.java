@@ -0,0 +1,226 @@
+package execute.network;
+
+import net.configuration.network.SQLConnection;
+import net.configuration.network.SQLConnectionPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestSQLConnectionPool {
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    @Test
+    @DisplayName("Test Borrow Timeout")
+    void testBorrowTimeout() throws SQLException {
+        try(SQLConnectionPool pool = this.createPool(new ArrayList<>(), 0, 2, 50)){
+            pool.open();
+
+            Connection first = pool.borrow();
+            Connection second = pool.borrow();
+            assertThrows(SQLTimeoutException.class, pool::borrow);
+
+            SQLConnectionPool.Metrics metrics = pool.getMetrics();
+            assertEquals(2, metrics.total());
+            assertEquals(2, metrics.active());
+            assertEquals(1, metrics.timeouts());
+
+            first.close();
+            assertTrue(first.isClosed());
+            assertThrows(SQLException.class, first::createStatement);
+
+            try(Connection third = pool.borrow()){
+                assertFalse(third.isClosed());
+            }
+            second.close();
+
+            metrics = pool.getMetrics();
+            assertEquals(2, metrics.idle());
+            assertEquals(0, metrics.active());
+            assertEquals(2, metrics.created());
+        }
+    }
+
+    @Test
+    @DisplayName("Test Validation On Borrow")
+    void testValidation() throws SQLException {
+        List<Connection> opened = new ArrayList<>();
+        try(SQLConnectionPool pool = this.createPool(opened, 1, 1, 1000)){
+            pool.open();
+            assertEquals(1, opened.size());
+
+            //the server dropped the idle connection
+            opened.get(0).close();
+
+            try(Connection con = pool.borrow(); Statement st = con.createStatement()){
+                ResultSet rs = st.executeQuery("SELECT 1");
+                assertTrue(rs.next());
+                assertEquals(1, rs.getInt(1));
+            }
+
+            SQLConnectionPool.Metrics metrics = pool.getMetrics();
+            assertEquals(1, metrics.validationFailures());
+            assertEquals(2, metrics.created());
+            assertEquals(1, metrics.destroyed());
+            assertEquals(1, metrics.total());
+        }
+    }
+
+    @Test
+    @DisplayName("Test Idle Eviction")
+    void testIdleEviction() throws SQLException, InterruptedException {
+        List<Connection> opened = new ArrayList<>();
+        try(SQLConnectionPool pool = new SQLConnectionPool(this.createFactory(opened), 1, 3, 1000, 20)){
+            pool.open();
+
+            List<Connection> borrowed = new ArrayList<>();
+            for(int i = 0; i < 3; i++)
+                borrowed.add(pool.borrow());
+
+            for(Connection con : borrowed)
+                con.close();
+
+            assertEquals(3, pool.getMetrics().idle());
+
+            Thread.sleep(50);
+            pool.evictIdle();
+
+            SQLConnectionPool.Metrics metrics = pool.getMetrics();
+            assertEquals(1, metrics.total());
+            assertEquals(1, metrics.idle());
+            assertEquals(2, metrics.destroyed());
+            assertEquals(2, opened.stream().filter(this::isClosed).count());
+        }
+
+        assertTrue(opened.stream().allMatch(this::isClosed));
+    }
+
+    @Test
+    @DisplayName("Test Rollback On Return")
+    void testRollbackOnReturn() throws SQLException {
+        try(SQLConnectionPool pool = this.createPool(new ArrayList<>(), 1, 1, 1000)){
+            pool.open();
+
+            try(Connection con = pool.borrow(); Statement st = con.createStatement()){
+                st.executeUpdate("CREATE TABLE entries(id INT)");
+            }
+
+            try(Connection con = pool.borrow(); Statement st = con.createStatement()){
+                con.setAutoCommit(false);
+                st.executeUpdate("INSERT INTO entries VALUES (1)");
+            }
+
+            try(Connection con = pool.borrow(); Statement st = con.createStatement()){
+                assertTrue(con.getAutoCommit());
+                ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM entries");
+                assertTrue(rs.next());
+                assertEquals(0, rs.getInt(1));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test Pooled SQLConnection")
+    void testPooledConnection() throws Exception {
+        SQLConnection connection = new SQLConnection(this.createUrl(), "sa", "");
+        connection.enablePooling(1, 4, 5000, 60000);
+        assertTrue(connection.connect());
+        assertTrue(connection.isConnected());
+        assertThrows(IllegalStateException.class, connection::getConnection);
+        assertThrows(IllegalStateException.class, () -> connection.enablePooling(1, 2, 0, 0));
+
+        connection.update("CREATE TABLE entries(id INT)");
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for(int i = 0; i < 64; i++){
+            int id = i;
+            futures.add(executor.submit(() -> connection.update("INSERT INTO entries VALUES (" + id + ")")));
+        }
+        for(Future<?> future : futures)
+            future.get();
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        try(Connection con = connection.borrow(); Statement st = con.createStatement()){
+            ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM entries");
+            assertTrue(rs.next());
+            assertEquals(64, rs.getInt(1));
+        }
+
+        SQLConnectionPool.Metrics metrics = connection.getPoolMetrics().orElseThrow();
+        assertTrue(metrics.total() <= 4);
+        assertEquals(0, metrics.active());
+        assertEquals(0, metrics.timeouts());
+
+        connection.disconnect();
+        assertFalse(connection.isConnected());
+        assertEquals(0, connection.getPoolMetrics().orElseThrow().total());
+    }
+
+    @Test
+    @DisplayName("Test Single SQLConnection Reconnect")
+    void testSingleConnection() throws SQLException {
+        SQLConnection connection = new SQLConnection(this.createUrl(), "sa", "");
+        assertTrue(connection.connect());
+        assertTrue(connection.getPoolMetrics().isEmpty());
+
+        Connection shared = connection.getConnection();
+        try(Connection con = connection.borrow()){
+            assertFalse(con.isClosed());
+        }
+        assertFalse(shared.isClosed());
+
+        shared.close();
+        try(Connection con = connection.borrow(); Statement st = con.createStatement()){
+            assertTrue(st.executeQuery("SELECT 1").next());
+        }
+        assertNotSame(shared, connection.getConnection());
+
+        connection.disconnect();
+        assertFalse(connection.isConnected());
+    }
+
+    private SQLConnectionPool createPool(List<Connection> opened, int minSize, int maxSize, long borrowTimeout){
+        return new SQLConnectionPool(this.createFactory(opened), minSize, maxSize, borrowTimeout, 60000);
+    }
+
+    private SQLConnectionPool.ConnectionFactory createFactory(List<Connection> opened){
+        String url = this.createUrl();
+        return () -> {
+            Connection con = DriverManager.getConnection(url, "sa", "");
+            synchronized(opened){
+                opened.add(con);
+            }
+            return con;
+        };
+    }
+
+    private String createUrl(){
+        return "jdbc:h2:mem:pool" + DATABASES.incrementAndGet() + ";DB_CLOSE_DELAY=-1";
+    }
+
+    private boolean isClosed(Connection con){
+        try{
+            return con.isClosed();
+        }catch(SQLException e){
+            return false;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package execute.network;
+
+import net.configuration.network.SQLConnection;
+import net.configuration.network.SQLSchema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestSQLSchema {
+
+    @Test
+    @DisplayName("Test Schema Metadata Cache")
+    void testSchemaCache() throws SQLException {
+        SQLConnection connection = new SQLConnection("jdbc:h2:mem:schema;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1", "sa", "");
+        connection.enablePooling(1, 2, 1000, 60000);
+        assertTrue(connection.connect());
+
+        SQLSchema schema = connection.getSchema();
+        assertFalse(schema.exists("parent"));
+
+        connection.update("CREATE TABLE parent(id CHAR(36) NOT NULL, name VARCHAR(64), PRIMARY KEY(id))");
+        connection.update("CREATE TABLE child(id CHAR(36) NOT NULL, parent CHAR(36), PRIMARY KEY(id), "
+                + "FOREIGN KEY (parent) REFERENCES parent(id))");
+
+        //the table names are cached, so tables created without notifying the cache are unknown
+        assertFalse(schema.exists("parent"));
+        schema.tableCreated("parent");
+        schema.tableCreated("child");
+        assertTrue(schema.exists("parent"));
+        assertTrue(schema.exists("CHILD"));
+
+        assertEquals(Map.of("parent", "parent"), schema.getForeignKeys("child"));
+        assertEquals(List.of("id", "name"), List.copyOf(schema.getColumns("parent").keySet()));
+        assertEquals(Types.VARCHAR, schema.getColumns("parent").get("name"));
+
+        //cached lookups need no connection
+        long borrowed = connection.getPoolMetrics().orElseThrow().borrowed();
+        assertTrue(schema.exists("child"));
+        assertEquals(Map.of("parent", "parent"), schema.getForeignKeys("child"));
+        assertEquals(2, schema.getColumns("parent").size());
+        assertEquals(borrowed, connection.getPoolMetrics().orElseThrow().borrowed());
+
+        connection.update("ALTER TABLE parent ADD COLUMN age INT");
+        schema.tableCreated("parent");
+        assertEquals(3, schema.getColumns("parent").size());
+
+        connection.update("DROP TABLE child");
+        schema.tableDropped("child");
+        assertFalse(schema.exists("child"));
+        assertTrue(schema.getForeignKeys("child").isEmpty());
+
+        connection.disconnect();
+    }
+}
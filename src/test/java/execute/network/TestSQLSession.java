@@ -0,0 +1,95 @@
+package execute.network;
+
+import execute.serializable.complex.TestObject;
+import net.configuration.config.impl.SQLConfiguration;
+import net.configuration.network.SQLConnection;
+import net.configuration.network.SQLSession;
+import net.configuration.serializable.api.Creator;
+import net.configuration.serializable.api.SerializationException;
+import net.configuration.serializable.impl.types.SQLSerializedObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestSQLSession {
+
+    @Test
+    @DisplayName("Test Unit Of Work")
+    void testCommit() throws SQLException {
+        SQLConnection connection = this.createConnection("sessionCommit");
+        String table = SQLSerializedObject.getTableName(TestObject.class);
+
+        UUID key = UUID.randomUUID();
+        SQLConfiguration config = new SQLConfiguration(connection, "settings", key);
+        TestObject object = new TestObject(4F);
+        SQLSerializedObject written;
+        try(SQLSession session = connection.openSession()){
+            written = session.persist(object);
+            session.persist(new TestObject(5F));
+            config.setString("owner", written.getPrimaryKey().toString());
+            session.save(config);
+
+            //nothing is written before the commit
+            assertEquals(0, this.countRows(connection, "settings"));
+            session.commit();
+        }
+
+        //two objects with one nested object each
+        assertEquals(4, this.countRows(connection, table));
+        assertEquals(1, this.countRows(connection, "settings"));
+
+        SQLSerializedObject read = new SQLSerializedObject(connection, written.getPrimaryKey().toString(), TestObject.class);
+        assertEquals(object, Creator.getCreator(TestObject.class).read(read));
+        assertEquals(written.getPrimaryKey().toString(), new SQLConfiguration(connection, "settings", key).getString("owner").orElseThrow());
+
+        connection.disconnect();
+    }
+
+    @Test
+    @DisplayName("Test Atomicity Of A Failed Commit")
+    void testRollback() throws SQLException {
+        SQLConnection connection = this.createConnection("sessionRollback");
+        String table = SQLSerializedObject.getTableName(TestObject.class);
+
+        try(SQLSession session = connection.openSession()){
+            session.persist(new TestObject(1F));
+            session.getBatch().addRow(UUID.randomUUID(), "INSERT INTO " + table + "(id, class) VALUES (?, NULL)",
+                    List.of(UUID.randomUUID().toString()), List.of(), List.of());
+
+            assertThrows(SerializationException.class, session::commit);
+        }
+
+        assertEquals(0, this.countRows(connection, table));
+
+        //closing without a commit discards the registered objects
+        try(SQLSession session = connection.openSession()){
+            session.persist(new TestObject(2F));
+        }
+        assertEquals(0, this.countRows(connection, table));
+
+        connection.disconnect();
+    }
+
+    private SQLConnection createConnection(String name){
+        SQLConnection connection = new SQLConnection("jdbc:h2:mem:" + name
+                + ";MODE=MySQL;DATABASE_TO_UPPER=FALSE;NON_KEYWORDS=ARRAY,VALUE;DB_CLOSE_DELAY=-1", "sa", "");
+        assertTrue(connection.connect());
+        return connection;
+    }
+
+    private int countRows(SQLConnection connection, String table) throws SQLException {
+        try(Connection con = connection.borrow(); Statement st = con.createStatement()){
+            ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM " + table);
+            assertTrue(rs.next());
+            return rs.getInt(1);
+        }
+    }
+}
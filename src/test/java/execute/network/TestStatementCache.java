@@ -0,0 +1,87 @@
+package execute.network;
+
+import net.configuration.network.SQLConnection;
+import net.configuration.network.SQLTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestStatementCache {
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Test Prepared Statement Reuse")
+    void testStatementReuse(boolean pooled) throws SQLException {
+        SQLConnection connection = this.createConnection(pooled);
+        SQLTable table = SQLTable.of("entries");
+        connection.update("CREATE TABLE entries(id CHAR(36) NOT NULL, content VARCHAR(255), PRIMARY KEY(id))");
+
+        PreparedStatement first;
+        try(Connection con = connection.borrow(); PreparedStatement pst = con.prepareStatement(table.count())){
+            pst.setString(1, "a");
+            assertTrue(pst.executeQuery().next());
+            first = pst.unwrap(PreparedStatement.class);
+        }
+
+        try(Connection con = connection.borrow(); PreparedStatement pst = con.prepareStatement(table.count())){
+            assertSame(first, pst.unwrap(PreparedStatement.class));
+
+            //a statement that is in use is not handed out twice
+            try(PreparedStatement other = con.prepareStatement(table.count())){
+                assertNotSame(first, other.unwrap(PreparedStatement.class));
+            }
+        }
+
+        connection.disconnect();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Test Parameter Escaping")
+    void testParameterEscaping(boolean pooled) throws SQLException {
+        SQLConnection connection = this.createConnection(pooled);
+        SQLTable table = SQLTable.of("quotes");
+        connection.update("CREATE TABLE quotes(id CHAR(36) NOT NULL, content VARCHAR(255), PRIMARY KEY(id))");
+
+        String value = "it's a 'quoted' value; DROP TABLE quotes";
+        connection.update(table.insert(List.of("id", "content")), "1", value);
+
+        try(Connection con = connection.borrow(); PreparedStatement pst = con.prepareStatement(table.select("content"))){
+            pst.setString(1, "1");
+            ResultSet rs = pst.executeQuery();
+            assertTrue(rs.next());
+            assertEquals(value, rs.getString(1));
+        }
+
+        connection.update(table.delete(), "1");
+        try(Connection con = connection.borrow(); PreparedStatement pst = con.prepareStatement(table.count())){
+            pst.setString(1, "1");
+            ResultSet rs = pst.executeQuery();
+            assertTrue(rs.next());
+            assertEquals(0, rs.getInt(1));
+        }
+
+        connection.disconnect();
+    }
+
+    private SQLConnection createConnection(boolean pooled){
+        SQLConnection connection = new SQLConnection("jdbc:h2:mem:statements" + DATABASES.incrementAndGet()
+                + ";DB_CLOSE_DELAY=-1", "sa", "");
+        if(pooled)
+            connection.enablePooling(1, 2, 1000, 60000);
+
+        assertTrue(connection.connect());
+        return connection;
+    }
+}
@@ -0,0 +1,299 @@
+package execute.serializable.complex;
+
+import net.configuration.network.SQLConnection;
+import net.configuration.serializable.api.Creator;
+import net.configuration.serializable.api.SerializableObject;
+import net.configuration.serializable.api.SerializationAPI;
+import net.configuration.serializable.api.SerializedObject;
+import net.configuration.serializable.impl.SimpleCreatorImpl;
+import net.configuration.serializable.impl.types.SQLSerializedObject;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestSQLWriteBehind {
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Test Object Graph Serialization")
+    void testGraphSerialization(boolean writeBehind) throws SQLException {
+        SQLConnection connection = this.createConnection(writeBehind, false);
+
+        List<TestObject> list = new ArrayList<>();
+        for(int i = 0; i < 100; i++)
+            list.add(new TestObject((float) i));
+
+        Inventory inventory = new Inventory("it's a graph", new TestObject(7F), list);
+        SQLSerializedObject obj = new SQLSerializedObject(connection, Inventory.class);
+        inventory.write(obj);
+        obj.flush();
+
+        assertEquals(inventory, Creator.getCreator(Inventory.class).read(obj));
+
+        //every element and the single object reference one nested object
+        String table = SQLSerializedObject.getTableName(TestObject.class);
+        assertEquals(2 * 101, this.countRows(connection, table));
+        assertEquals(1, this.countRows(connection, SQLSerializedObject.getTableName(Inventory.class)));
+
+        //flushing again does not write the rows twice
+        obj.flush();
+        assertEquals(2 * 101, this.countRows(connection, table));
+
+        SQLSerializedObject read = new SQLSerializedObject(connection, obj.getPrimaryKey().toString(), Inventory.class);
+        assertEquals(inventory, Creator.getCreator(Inventory.class).read(read));
+
+        connection.disconnect();
+    }
+
+    @Test
+    @DisplayName("Test Lazy Batched Graph Loading")
+    void testGraphLoading() throws SQLException {
+        SQLConnection connection = this.createConnection(true, true);
+
+        List<TestObject> list = new ArrayList<>();
+        for(int i = 0; i < 100; i++)
+            list.add(new TestObject((float) i));
+
+        Inventory inventory = new Inventory("loaded", new TestObject(3F), list);
+        SQLSerializedObject obj = new SQLSerializedObject(connection, Inventory.class);
+        inventory.write(obj);
+        obj.flush();
+        String key = obj.getPrimaryKey().toString();
+
+        //nested objects are not read before they are accessed and the foreign keys are cached since the write
+        long before = connection.getPoolMetrics().orElseThrow().borrowed();
+        SQLSerializedObject read = new SQLSerializedObject(connection, key, Inventory.class);
+        assertEquals(1, connection.getPoolMetrics().orElseThrow().borrowed() - before);
+
+        //the single object, its nested object, the list elements and their nested objects are fetched by one query
+        //each, plus the foreign keys of their table, instead of several queries per object
+        before = connection.getPoolMetrics().orElseThrow().borrowed();
+        assertEquals(inventory, Creator.getCreator(Inventory.class).read(read));
+        assertEquals(5, connection.getPoolMetrics().orElseThrow().borrowed() - before);
+
+        connection.disconnect();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Test Typed SQL Columns")
+    void testTypedColumns(boolean writeBehind) throws SQLException {
+        SQLConnection connection = this.createConnection(writeBehind, false);
+
+        TestObject object = new TestObject(2.5F);
+        SQLSerializedObject obj = new SQLSerializedObject(connection, TestObject.class);
+        object.write(obj);
+        obj.flush();
+
+        //numbers and booleans are stored in native columns, complex objects as keys and strings as text
+        Map<String, Integer> columns = connection.getSchema().getColumns(SQLSerializedObject.getTableName(TestObject.class));
+        assertEquals(Types.BOOLEAN, columns.get("boolValue"));
+        assertEquals(Types.CHAR, columns.get("execute"));
+        assertTrue(columns.containsValue(Types.INTEGER));
+        assertTrue(columns.containsValue(Types.VARCHAR));
+
+        SQLSerializedObject read = new SQLSerializedObject(connection, obj.getPrimaryKey().toString(), TestObject.class);
+        assertEquals(object, Creator.getCreator(TestObject.class).read(read));
+
+        connection.disconnect();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Test Non Finite Values")
+    void testNonFiniteValues(boolean writeBehind) throws SQLException {
+        SQLConnection connection = this.createConnection(writeBehind, false);
+
+        List<Measurement> measurements = List.of(
+                new Measurement(Double.NaN, 1F),
+                new Measurement(Double.POSITIVE_INFINITY, Float.NaN),
+                new Measurement(Double.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY),
+                new Measurement(0.75, Float.POSITIVE_INFINITY)
+        );
+
+        List<UUID> keys = new ArrayList<>();
+        for(Measurement measurement : measurements){
+            SQLSerializedObject obj = new SQLSerializedObject(connection, Measurement.class);
+            measurement.write(obj);
+            obj.flush();
+            keys.add(obj.getPrimaryKey());
+        }
+
+        //the values stay in their native columns, NaN and infinite values are kept in the companion columns
+        Map<String, Integer> columns = connection.getSchema().getColumns(SQLSerializedObject.getTableName(Measurement.class));
+        assertEquals(Types.DOUBLE, columns.get("ratio"));
+        assertTrue(columns.containsKey("ratio__nonfinite"));
+        assertTrue(columns.containsKey("scale__nonfinite"));
+
+        Map<UUID, SQLSerializedObject> loaded = SQLSerializedObject.loadAll(connection, Measurement.class, keys);
+        for(int i = 0; i < keys.size(); i++){
+            SQLSerializedObject read = new SQLSerializedObject(connection, keys.get(i).toString(), Measurement.class);
+            assertEquals(measurements.get(i), Creator.getCreator(Measurement.class).read(read));
+            assertEquals(measurements.get(i), Creator.getCreator(Measurement.class).read(loaded.get(keys.get(i))));
+        }
+
+        connection.disconnect();
+    }
+
+    @Test
+    @DisplayName("Test Bulk Loading")
+    void testBulkLoad() {
+        SQLConnection connection = this.createConnection(true, false);
+
+        Map<UUID, TestObject> objects = new LinkedHashMap<>();
+        for(int i = 0; i < 50; i++){
+            TestObject object = new TestObject((float) i);
+            SQLSerializedObject obj = new SQLSerializedObject(connection, TestObject.class);
+            object.write(obj);
+            obj.flush();
+            objects.put(obj.getPrimaryKey(), object);
+        }
+
+        Map<UUID, SQLSerializedObject> loaded = SQLSerializedObject.loadAll(connection, TestObject.class, objects.keySet());
+        assertEquals(List.copyOf(objects.keySet()), List.copyOf(loaded.keySet()));
+        for(var entry : loaded.entrySet())
+            assertEquals(objects.get(entry.getKey()), Creator.getCreator(TestObject.class).read(entry.getValue()));
+
+        //every object references a nested object of the same table
+        AtomicInteger scanned = new AtomicInteger();
+        SQLSerializedObject.scan(connection, TestObject.class, 16, obj -> {
+            if(objects.containsKey(obj.getPrimaryKey()))
+                assertEquals(objects.get(obj.getPrimaryKey()), Creator.getCreator(TestObject.class).read(obj));
+
+            scanned.incrementAndGet();
+        });
+        assertEquals(2 * 50, scanned.get());
+
+        connection.disconnect();
+    }
+
+    private SQLConnection createConnection(boolean writeBehind, boolean pooled){
+        SQLConnection connection = new SQLConnection("jdbc:h2:mem:writeBehind" + DATABASES.incrementAndGet()
+                + ";MODE=MySQL;DATABASE_TO_UPPER=FALSE;NON_KEYWORDS=ARRAY,VALUE;DB_CLOSE_DELAY=-1", "sa", "");
+        connection.setWriteBehind(writeBehind);
+        if(pooled)
+            connection.enablePooling(1, 2, 1000, 60000);
+
+        assertTrue(connection.connect());
+        return connection;
+    }
+
+    private int countRows(SQLConnection connection, String table) throws SQLException {
+        try(Connection con = connection.borrow(); Statement st = con.createStatement()){
+            ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM " + table);
+            assertTrue(rs.next());
+            return rs.getInt(1);
+        }
+    }
+
+    public static class Measurement implements SerializableObject {
+
+        @SerializationAPI
+        @SuppressWarnings("unused")
+        private static final Creator<Measurement> CREATOR = new SimpleCreatorImpl<>(Measurement.class);
+
+        private double ratio;
+        private float scale;
+
+        @SuppressWarnings("unused")
+        private Measurement(){}
+
+        public Measurement(double ratio, float scale){
+            this.ratio = ratio;
+            this.scale = scale;
+        }
+
+        @Override
+        public void write(@NotNull SerializedObject dest) {
+            dest.setDouble("ratio", ratio);
+            dest.setFloat("scale", scale);
+        }
+
+        @Override
+        public @NotNull Measurement read(@NotNull SerializedObject src) {
+            ratio = src.getDouble("ratio").orElse(-1.0);
+            scale = src.getFloat("scale").orElse(-1F);
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Measurement that)) return false;
+            return Double.compare(ratio, that.ratio) == 0 && Float.compare(scale, that.scale) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ratio, scale);
+        }
+    }
+
+    public static class Inventory implements SerializableObject {
+
+        @SerializationAPI
+        @SuppressWarnings("unused")
+        private static final Creator<Inventory> CREATOR = new SimpleCreatorImpl<>(Inventory.class);
+
+        private String name;
+        private TestObject single;
+        private List<TestObject> items;
+
+        @SuppressWarnings("unused")
+        private Inventory(){}
+
+        public Inventory(String name, TestObject single, List<TestObject> items){
+            this.name = name;
+            this.single = single;
+            this.items = items;
+        }
+
+        @Override
+        public void write(@NotNull SerializedObject dest) {
+            dest.setString("name", name);
+            dest.setSerializable("single", single);
+            dest.setList("items", items);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public @NotNull Inventory read(@NotNull SerializedObject src) {
+            name = src.getString("name").orElse(null);
+            single = src.getSerializable("single", TestObject.class).orElse(null);
+            items = (List<TestObject>) (List<?>) new ArrayList<>(src.getList("items", TestObject.class).orElse(List.of()));
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Inventory inventory)) return false;
+            return Objects.equals(name, inventory.name) && Objects.equals(single, inventory.single)
+                    && Objects.equals(items, inventory.items);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, single, items);
+        }
+    }
+}
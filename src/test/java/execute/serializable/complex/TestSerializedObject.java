@@ -194,4 +194,34 @@ class TestSerializedObject {
 
     }
 
+    @ParameterizedTest
+    @EnumSource(value = SerializableType.class, names = {"BYTE", "BINARY"})
+    @DisplayName("Test Deeply Nested Serialization")
+    void testDeepNesting(SerializableType type){
+        int depth = 16;
+        int[] sizes = new int[depth + 1];
+        SerializedObject obj = null;
+        for(int i = 0; i <= depth; i++){
+            SerializedObject next = type.createEmpty();
+            next.setInt("level", i);
+            if(obj != null)
+                next.set("next", obj);
+
+            next.flush();
+            sizes[i] = next.toByteArray().length;
+            obj = next;
+        }
+
+        //every level adds the same constant overhead
+        assertTrue(sizes[depth] - sizes[depth - 1] <= 2 * (sizes[2] - sizes[1]));
+
+        //read again
+        SerializedObject read = SerializedObject.createFromByteArray(type, Object.class, obj.toByteArray());
+        for(int i = depth; i > 0; i--){
+            assertEquals(i, read.getInt("level").orElseThrow());
+            read = read.get("next").orElseThrow();
+        }
+        assertEquals(0, read.getInt("level").orElseThrow());
+    }
+
 }
@@ -1,15 +1,18 @@
 package execute.serializable.complex;
 
-import net.configuration.serializable.api.Creator;
-import net.configuration.serializable.api.SerializableType;
-import net.configuration.serializable.api.SerializationException;
-import net.configuration.serializable.api.SerializedObject;
+import net.configuration.serializable.api.*;
+import net.configuration.serializable.impl.SimpleCreatorImpl;
 import net.configuration.serializable.impl.types.SQLSerializedObject;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
 import java.io.*;
+import java.nio.channels.Channels;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -56,4 +59,138 @@ class TestSerializedObjectStreams {
         }
     }
 
+    @ParameterizedTest
+    @EnumSource(value = SerializableType.class, names = {"BYTE", "BINARY", "JSON", "XML", "TEXT", "PROPERTIES"})
+    @DisplayName("Test Large Stream Serialization")
+    void testLargeStreamSerialization(SerializableType type) {
+        //larger than the former 1MB read limit
+        String value = "x".repeat(3 * (1 << 20));
+        SerializedObject obj = type.createEmpty(TestObject.class);
+        obj.setString("a", value);
+        obj.flush();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        obj.writeToStream(out);
+        byte[] data = out.toByteArray();
+
+        SerializedObject read = SerializedObject.readFromStream(type, TestObject.class, new ByteArrayInputStream(data));
+        assertEquals(value, read.getString("a").orElse(null));
+
+        read = SerializedObject.readFromChannel(type, TestObject.class, Channels.newChannel(new ByteArrayInputStream(data)));
+        assertEquals(value, read.getString("a").orElse(null));
+
+        assertThrows(SerializationException.class, () -> SerializedObject.readFromStream(type, TestObject.class, new ByteArrayInputStream(new byte[0])));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SerializableType.class, names = {"BYTE", "BINARY", "JSON", "XML", "TEXT", "PROPERTIES"})
+    @DisplayName("Test Primitive Array Stream Serialization")
+    void testPrimitiveArrayStreamSerialization(SerializableType type) {
+        double[] values = new double[100_000];
+        for(int i = 0; i < values.length; i++){
+            values[i] = i / 3D;
+        }
+
+        SerializedObject obj = type.createEmpty(TestObject.class);
+        obj.setDoubleArray("values", values);
+        obj.setLongArray("ids", new long[]{1L, -2L, Long.MAX_VALUE});
+        obj.flush();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        obj.writeToStream(out);
+
+        SerializedObject read = SerializedObject.readFromStream(type, TestObject.class, new ByteArrayInputStream(out.toByteArray()));
+        assertArrayEquals(values, read.getDoubleArray("values").orElse(null));
+        assertArrayEquals(new long[]{1L, -2L, Long.MAX_VALUE}, read.getLongArray("ids").orElse(null));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SerializableType.class, names = {"BYTE", "BINARY", "JSON", "XML", "TEXT", "PROPERTIES"})
+    @DisplayName("Test Map Stream Serialization")
+    void testMapStreamSerialization(SerializableType type) {
+        Map<Integer, String> map = new HashMap<>();
+        for(int i = 0; i < 100; i++){
+            map.put(i, "value-" + i);
+        }
+
+        //the map is written into a field of type Map, not a list of tuples
+        SerializedObject obj = type.createEmpty(MapHolder.class);
+        obj.setMap("map", map);
+        obj.flush();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        obj.writeToStream(out);
+
+        SerializedObject read = SerializedObject.readFromStream(type, MapHolder.class, new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(map, read.getMap("map", Integer.class, String.class).orElse(null));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SerializableType.class, names = {"BYTE", "BINARY", "JSON", "XML", "TEXT", "PROPERTIES"})
+    @DisplayName("Test Deeply Nested Stream Serialization")
+    void testNestedStreamSerialization(SerializableType type) {
+        Chain chain = new Chain(8);
+        SerializedObject obj = type.createEmpty(Chain.class);
+        chain.write(obj);
+        obj.flush();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        obj.writeToStream(out);
+
+        SerializedObject read = SerializedObject.readFromStream(type, Chain.class, new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(chain, Creator.getCreator(Chain.class).read(read));
+    }
+
+    @SuppressWarnings("unused")
+    private static class MapHolder {
+        private Map<Integer, String> map;
+    }
+
+    public static class Chain implements SerializableObject {
+
+        @SerializationAPI
+        @SuppressWarnings("unused")
+        private static final Creator<Chain> CREATOR = new SimpleCreatorImpl<>(Chain.class);
+
+        private int depth;
+        private String name;
+        private Chain next;
+
+        @SuppressWarnings("unused")
+        private Chain(){}
+
+        public Chain(int depth){
+            this.depth = depth;
+            this.name = "link: " + depth;
+            this.next = depth > 1 ? new Chain(depth - 1) : null;
+        }
+
+        @Override
+        public void write(@NotNull SerializedObject dest) {
+            dest.setInt("depth", depth);
+            dest.setString("name", name);
+            dest.setObject("next", next);
+        }
+
+        @Override
+        public @NotNull Chain read(@NotNull SerializedObject src) {
+            depth = src.getInt("depth").orElse(-1);
+            name = src.getString("name").orElse(null);
+            next = src.getObject("next", Chain.class).orElse(null);
+
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) return true;
+            if(!(o instanceof Chain chain)) return false;
+            return depth == chain.depth && Objects.equals(name, chain.name) && Objects.equals(next, chain.next);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(depth, name, next);
+        }
+    }
 }
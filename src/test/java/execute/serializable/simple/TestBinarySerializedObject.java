@@ -0,0 +1,152 @@
+package execute.serializable.simple;
+
+import execute.serializable.complex.TestObject;
+import net.configuration.serializable.api.Creator;
+import net.configuration.serializable.api.SerializableType;
+import net.configuration.serializable.api.SerializationException;
+import net.configuration.serializable.api.SerializedObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestBinarySerializedObject {
+
+    @Test
+    @DisplayName("Test Binary Primitive Round Trip")
+    void testPrimitiveRoundTrip(){
+        SerializedObject obj = SerializableType.BINARY.createEmpty();
+        obj.setInt("minInt", Integer.MIN_VALUE);
+        obj.setInt("maxInt", Integer.MAX_VALUE);
+        obj.setLong("minLong", Long.MIN_VALUE);
+        obj.setLong("small", -3L);
+        obj.setDouble("nan", Double.NaN);
+        obj.setFloat("float", -0.0F);
+        obj.setChar("char", '€');
+        obj.setString("string", "Hällo Wörld");
+        obj.setBoolean("bool", true);
+        obj.setIntList("ints", List.of(-1, 0, 300, Integer.MIN_VALUE));
+        obj.setNull("null");
+        obj.flush();
+
+        SerializedObject read = SerializedObject.createFromByteArray(SerializableType.BINARY, Object.class, obj.toByteArray());
+        assertEquals(Integer.MIN_VALUE, read.getInt("minInt").orElseThrow());
+        assertEquals(Integer.MAX_VALUE, read.getInt("maxInt").orElseThrow());
+        assertEquals(Long.MIN_VALUE, read.getLong("minLong").orElseThrow());
+        assertEquals(-3L, read.getLong("small").orElseThrow());
+        assertTrue(Double.isNaN(read.getDouble("nan").orElseThrow()));
+        assertEquals(Float.floatToRawIntBits(-0.0F), Float.floatToRawIntBits(read.getFloat("float").orElseThrow()));
+        assertEquals('€', read.getChar("char").orElseThrow());
+        assertEquals("Hällo Wörld", read.getString("string").orElseThrow());
+        assertTrue(read.getBoolean("bool").orElseThrow());
+        assertEquals(List.of(-1, 0, 300, Integer.MIN_VALUE), read.getIntList("ints").orElseThrow());
+        assertTrue(read.getNull("null").isPresent());
+    }
+
+    @Test
+    @DisplayName("Test Binary Payload Size")
+    void testPayloadSize(){
+        TestObject a = new TestObject(1F);
+
+        SerializedObject bin = SerializableType.BINARY.createEmpty(TestObject.class);
+        a.write(bin);
+        bin.flush();
+
+        SerializedObject bytes = SerializableType.BYTE.createEmpty(TestObject.class);
+        a.write(bytes);
+        bytes.flush();
+
+        byte[] data = bin.toByteArray();
+        assertTrue(data.length < bytes.toByteArray().length);
+
+        SerializedObject read = SerializedObject.createFromByteArray(SerializableType.BINARY, TestObject.class, data);
+        assertEquals(a, Creator.getCreator(TestObject.class).read(read));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SerializableType.class, names = {"BYTE", "BINARY"})
+    @DisplayName("Test Large Stream Round Trip")
+    void testLargeStream(SerializableType type){
+        //larger than a read chunk, so the read buffer has unused capacity after the data
+        TestObject a = new TestObject(1F);
+        String large = "x".repeat(20_000);
+
+        SerializedObject obj = type.createEmpty(TestObject.class);
+        obj.setString("large", large);
+        obj.setSerializable("nested", a);
+        obj.setInt("last", 7);
+        obj.flush();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        obj.writeToStream(out);
+        SerializedObject read = SerializedObject.readFromStream(type, TestObject.class, new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(large, read.getString("large").orElseThrow());
+        assertEquals(a, read.getSerializable("nested", TestObject.class).orElseThrow());
+        assertEquals(7, read.getInt("last").orElseThrow());
+        assertArrayEquals(out.toByteArray(), read.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Test Binary Corrupt List Size")
+    void testCorruptListSize(){
+        SerializedObject obj = SerializableType.BINARY.createEmpty();
+        obj.setLongList("longs", List.of(5L));
+        obj.flush();
+
+        //replace the list size of one with a huge varint and drop the element
+        byte[] data = obj.toByteArray();
+        byte[] corrupt = Arrays.copyOf(data, data.length + 3);
+        System.arraycopy(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07}, 0, corrupt, data.length - 2, 5);
+
+        SerializationException e = assertThrows(SerializationException.class, () ->
+                SerializedObject.createFromByteArray(SerializableType.BINARY, Object.class, corrupt).getLongList("longs"));
+        assertTrue(e.getMessage().startsWith("Invalid element count"));
+    }
+
+    @Test
+    @DisplayName("Test Binary Object List")
+    void testObjectList(){
+        SerializedObject obj = SerializableType.BINARY.createEmpty(TestObject.class);
+        assertThrows(SerializationException.class, () -> obj.setList("list", Arrays.asList(new TestObject(1F), null)));
+
+        obj.setList("list", List.of(new TestObject(1F), new TestObject(2)));
+        obj.flush();
+
+        //the encoded list is never exposed as a raw value
+        SerializedObject read = SerializedObject.createFromByteArray(SerializableType.BINARY, TestObject.class, obj.toByteArray());
+        assertTrue(read.getRawObject("list", Object.class).isEmpty());
+        assertTrue(read.getRawObject("list", TestObject.class).isEmpty());
+        assertEquals(List.of(new TestObject(1F), new TestObject(2)), read.getList("list", TestObject.class).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Test Byte Overwrite Nested Object")
+    void testOverwriteNested(){
+        SerializedObject obj = SerializableType.BYTE.createEmpty(TestObject.class);
+        obj.setSerializable("value", new TestObject(1F));
+        obj.setSerializable("other", new TestObject(2));
+        obj.setInt("value", 5);
+        obj.setNull("other");
+        obj.flush();
+
+        SerializedObject scalars = SerializableType.BYTE.createEmpty(TestObject.class);
+        scalars.setInt("value", 5);
+        scalars.setNull("other");
+        scalars.flush();
+
+        //only the scalar value and the null marker are written
+        assertArrayEquals(scalars.toByteArray(), obj.toByteArray());
+        for(SerializedObject read : List.of(obj, SerializedObject.createFromByteArray(SerializableType.BYTE, TestObject.class, obj.toByteArray()))){
+            assertEquals(5, read.getInt("value").orElseThrow());
+            assertTrue(read.isNextNull("other", TestObject.class));
+        }
+    }
+
+}
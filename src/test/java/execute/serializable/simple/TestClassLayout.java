@@ -0,0 +1,35 @@
+package execute.serializable.simple;
+
+import execute.serializable.complex.TestObject;
+import net.configuration.serializable.impl.ClassLayout;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.shadow.com.univocity.parsers.conversions.EnumSelector;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestClassLayout {
+
+    @Test
+    @DisplayName("Test Shared Class Layout")
+    void testClassLayout(){
+        ClassLayout layout = ClassLayout.of(TestObject.class);
+        assertSame(layout, ClassLayout.of(TestObject.class));
+
+        //static and ignored fields are not part of the layout
+        assertEquals(-1, layout.getSlot(int.class));
+        assertTrue(layout.getIgnoredFields().containsKey("ignoreValue"));
+
+        assertEquals("intValue", layout.getFieldName(layout.getSlot(Integer.class), 0));
+        assertEquals("e", layout.getFieldName(layout.getSlot(Float.class), 0));
+        assertEquals("selector", layout.getFieldName(layout.getSlot(EnumSelector.class), 0));
+        assertEquals("list", layout.getFieldName(layout.getSlot(List.class), 0));
+        assertEquals("complex", layout.getFieldName(layout.getSlot(TestObject.class), 0));
+        assertEquals(ClassLayout.SLOT_STRING, layout.getSlot(String.class));
+        assertFalse(layout.hasFields(ClassLayout.SLOT_STRING));
+        assertTrue(layout.hasFields(ClassLayout.SLOT_INT));
+    }
+
+}
@@ -0,0 +1,175 @@
+package execute.serializable.simple;
+
+import net.configuration.serializable.api.*;
+import net.configuration.serializable.impl.CreatorRegistry;
+import net.configuration.serializable.impl.SimpleCreatorImpl;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestCreatorRegistry {
+
+    @Test
+    @DisplayName("Test Default Constructor")
+    void testDefaultConstructor(){
+        SerializedObject src = createSource(7);
+
+        Creator<DefaultConstructor> creator = Creator.getCreator(DefaultConstructor.class);
+        assertSame(creator, Creator.getCreator(DefaultConstructor.class));
+        assertEquals(7, creator.read(src).value);
+        assertEquals(7, CreatorRegistry.read(DefaultConstructor.class, src).value);
+        assertEquals(0, CreatorRegistry.newInstance(DefaultConstructor.class).value);
+    }
+
+    @Test
+    @DisplayName("Test Serialized Constructor")
+    void testSerializedConstructor(){
+        SerializedObject src = createSource(7);
+        assertEquals(7, CreatorRegistry.read(SerializedConstructor.class, src).value);
+
+        SerializationException e = assertThrows(SerializationException.class, () -> CreatorRegistry.newInstance(SerializedConstructor.class));
+        assertTrue(e.getMessage().startsWith("Could not find default constructor"));
+    }
+
+    @Test
+    @DisplayName("Test Missing Creator")
+    void testMissingCreator(){
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> Creator.getCreator(SerializedConstructor.class));
+        assertInstanceOf(IllegalAccessException.class, e.getCause());
+        assertTrue(e.getCause().getMessage().contains(SerializedConstructor.class.getName()));
+
+        //the stored error is attached to every later lookup as well
+        IllegalArgumentException again = assertThrows(IllegalArgumentException.class, () -> Creator.getCreator(SerializedConstructor.class));
+        assertSame(e.getCause(), again.getCause());
+
+        SerializationException read = assertThrows(SerializationException.class, () -> CreatorRegistry.read(NoConstructor.class, createSource(7)));
+        assertTrue(read.getMessage().startsWith("Could not find matching constructor"));
+    }
+
+    @Test
+    @DisplayName("Test Throwing Initializer")
+    void testThrowingInitializer(){
+        SerializedObject src = createSource(7);
+
+        //exceptions are wrapped with their cause
+        SerializationException e = assertThrows(SerializationException.class, () -> CreatorRegistry.newInstance(ThrowingConstructor.class));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        e = assertThrows(SerializationException.class, () -> CreatorRegistry.read(ThrowingConstructor.class, src));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+
+        //throwables that are neither exceptions nor errors are wrapped as well
+        e = assertThrows(SerializationException.class, () -> CreatorRegistry.newInstance(ThrowingThrowable.class));
+        assertEquals(Throwable.class, e.getCause().getClass());
+
+        //errors and serialization exceptions are rethrown unchanged
+        assertThrows(AssertionError.class, () -> CreatorRegistry.newInstance(ThrowingError.class));
+        assertThrows(AssertionError.class, () -> CreatorRegistry.read(ThrowingError.class, src));
+        e = assertThrows(SerializationException.class, () -> CreatorRegistry.read(ThrowingRead.class, src));
+        assertSame(ThrowingRead.ERROR, e);
+    }
+
+    private static SerializedObject createSource(int value){
+        SerializedObject src = SerializableType.JSON.createEmpty();
+        src.setInt("value", value);
+        return src;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> void sneakyThrow(Throwable t) throws E {
+        throw (E) t;
+    }
+
+    private static class DefaultConstructor implements SerializableObject {
+
+        @SerializationAPI
+        @SuppressWarnings("unused")
+        private static final Creator<DefaultConstructor> CREATOR = new SimpleCreatorImpl<>(DefaultConstructor.class);
+
+        private int value;
+
+        @Override
+        public void write(@NotNull SerializedObject dest) {
+            dest.setInt("value", value);
+        }
+
+        @Override
+        public @NotNull DefaultConstructor read(@NotNull SerializedObject src) {
+            this.value = src.getInt("value").orElse(0);
+            return this;
+        }
+    }
+
+    private static class SerializedConstructor implements SerializableObject {
+
+        private final int value;
+
+        @SuppressWarnings("unused") //Called via reflection API
+        private SerializedConstructor(@NotNull SerializedObject src){
+            this.value = src.getInt("value").orElse(0);
+        }
+
+        @Override
+        public void write(@NotNull SerializedObject dest) {
+            dest.setInt("value", value);
+        }
+
+        @Override
+        public @NotNull SerializedConstructor read(@NotNull SerializedObject src) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class NoConstructor implements SerializableObject {
+
+        @SuppressWarnings("unused")
+        private NoConstructor(int value){}
+
+        @Override
+        public void write(@NotNull SerializedObject dest) {}
+
+        @Override
+        public @NotNull NoConstructor read(@NotNull SerializedObject src) {
+            return this;
+        }
+    }
+
+    private static class ThrowingConstructor extends NoConstructor {
+
+        private ThrowingConstructor(){
+            super(0);
+            throw new IllegalStateException("Initializer failed");
+        }
+    }
+
+    private static class ThrowingThrowable extends NoConstructor {
+
+        private ThrowingThrowable(){
+            super(0);
+            TestCreatorRegistry.<RuntimeException>sneakyThrow(new Throwable("Initializer failed"));
+        }
+    }
+
+    private static class ThrowingError extends NoConstructor {
+
+        private ThrowingError(){
+            super(0);
+            throw new AssertionError("Initializer failed");
+        }
+    }
+
+    private static class ThrowingRead extends NoConstructor {
+
+        private static final SerializationException ERROR = new SerializationException("Read failed");
+
+        private ThrowingRead(){
+            super(0);
+        }
+
+        @Override
+        public @NotNull NoConstructor read(@NotNull SerializedObject src) {
+            throw ERROR;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -440,6 +441,50 @@ class TestSerializedObject {
         }
     }
 
+    @ParameterizedTest
+    @EnumSource(SerializableType.class)
+    @DisplayName("Test Primitive Array Serialization")
+    void testPrimitiveArraySerialization(SerializableType type){
+        SerializedObject obj = type.createEmpty();
+
+        int[] a = new int[]{Integer.MIN_VALUE, -1, 0, 300, Integer.MAX_VALUE};
+        long[] b = new long[]{Long.MIN_VALUE, 7L << 40, Long.MAX_VALUE};
+        double[] c = new double[]{Math.PI, -0.0, Double.NaN, Double.MAX_VALUE};
+        byte[] d = new byte[]{Byte.MIN_VALUE, 0, Byte.MAX_VALUE};
+
+        obj.setIntArray(a);
+        obj.setIntArray("a", a);
+        obj.setLongArray("b", b);
+        obj.setDoubleArray("c", c);
+        obj.setByteArray("d", d);
+        obj.setIntArray("empty", new int[0]);
+        obj.setObject("boxed", new Integer[]{4, -2});
+
+        obj.flush();
+
+        //read data again, both directly and from the serialized bytes
+        //text and properties objects cannot be restored from their byte array
+        List<SerializedObject> reads = new ArrayList<>(List.of(obj));
+        if(type != SerializableType.TEXT && type != SerializableType.PROPERTIES){
+            reads.add(SerializedObject.createFromByteArray(type, Object.class, obj.toByteArray()));
+        }
+
+        for(SerializedObject read : reads){
+            assertArrayEquals(a, read.getIntArray().orElse(null));
+            assertArrayEquals(a, read.getIntArray("a").orElse(null));
+            assertArrayEquals(b, read.getLongArray("b").orElse(null));
+            assertArrayEquals(c, read.getDoubleArray("c").orElse(null));
+            assertArrayEquals(d, read.getByteArray("d").orElse(null));
+            assertArrayEquals(new int[0], read.getIntArray("empty").orElse(null));
+            assertTrue(read.getIntArray("missing").isEmpty());
+            assertArrayEquals(new Integer[]{4, -2}, read.getArray("boxed", Integer.class).orElse(null));
+        }
+
+        if(obj instanceof SQLSerializedObject sql){
+            assertTrue(SQLSerializedObject.deleteTable(sql.getConnection(), sql.getTableName()));
+        }
+    }
+
     @ParameterizedTest
     @EnumSource(SerializableType.class)
     @DisplayName("Test Map Serialization")
@@ -488,4 +533,23 @@ class TestSerializedObject {
         }
 
     }
+
+    @ParameterizedTest
+    @EnumSource(value = SerializableType.class, names = {"BYTE", "BINARY"})
+    @DisplayName("Test Large Object Serialization")
+    void testLargeSerialization(SerializableType type){
+        SerializedObject small = type.createEmpty();
+        small.setInt("a", 1);
+        small.flush();
+        assertTrue(small.toByteArray().length < 64);
+
+        //larger than the former fixed 1MB buffer
+        String value = "x".repeat(3 * (1 << 20));
+        SerializedObject obj = type.createEmpty();
+        obj.setString("a", value);
+        obj.flush();
+
+        SerializedObject read = SerializedObject.createFromByteArray(type, Object.class, obj.toByteArray());
+        assertEquals(value, read.getString("a").orElse(null));
+    }
 }